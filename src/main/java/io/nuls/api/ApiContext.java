@@ -99,6 +99,64 @@ public class ApiContext {
     public static boolean syncCoinBase;
 
     public static List<String> syncAddress = new ArrayList<>();
+    //同步区块时预取的区块数量，小于等于1时不预取
+    public static int syncPrefetchCount = 8;
+    //追块时一起提交的最大区块数量，小于等于1时逐块提交
+    public static int syncBatchSize = 50;
+    //账户缓存的最大数量
+    public static int accountCacheSize = 5000;
+    //账户缓存已满时，查询未命中的账户在第二次未命中时才放入缓存
+    public static boolean accountCacheSecondHitAdmission = true;
+    //账户资产缓存的最大数量
+    public static int ledgerCacheSize = 20000;
+    //生成新一轮时，是否用委托表的扫描结果校验增量维护的委托总额
+    public static boolean roundConsistencyCheck;
+    //交易关系表的分片函数和分片数量，与数据库中记录的不同时，后台重新分片
+    public static String txRelationShardFunction = "JAVA_HASH";
+    public static int txRelationShardCount = 128;
+    //rpc请求按方法分组执行，各组的线程数和等待队列长度，慢方法不会占满快方法的线程
+    public static int rpcFastThreads = 4;
+    public static int rpcDefaultThreads = 16;
+    public static int rpcSlowThreads = 8;
+    public static int rpcQueueSize = 2000;
+    //只读缓存的rpc方法
+    public static Set<String> rpcFastMethods = new HashSet<>(Arrays.asList("getBestBlockHeader,getInfo,getChainInfo,getCoinInfo,getOtherChainList,getBestRoundInfo,getConsensusNodeCount,getTotalSupply,getCirculation,getDestroy".split(",")));
+    //合约验证和历史查询等耗时的rpc方法
+    public static Set<String> rpcSlowMethods = new HashSet<>(Arrays.asList("validateContractCreate,validateContractCall,validateContractDelete,imputedContractCreateGas,imputedContractCallGas,invokeView,previewCall,uploadContractJar,getAccountTxs,queryAccountTxs,getAcctTxs,getTxList,getCoinRanking,getAssetRanking,getTokenTransfers,getToken721Transfers,getToken1155Transfers".split(",")));
+    //批量请求的最大调用数，以及同一批同时执行的调用数
+    public static int rpcBatchMaxSize = 100;
+    public static int rpcBatchParallelism = 8;
+    //rpc响应缓存的最大数量，为0时不缓存
+    public static int rpcCacheSize = 2000;
+    //结果只随最新区块变化，可以缓存响应的rpc方法
+    public static Set<String> rpcCacheMethods = new HashSet<>(Arrays.asList("getBestBlockHeader,getInfo,getCoinInfo,getConsensusNodes,getBestRoundItemList,getNrc20List,getBlockHeaderList".split(",")));
+    //rpc响应超过这个字节数并且客户端接受gzip时压缩，小于等于0时不压缩
+    public static int rpcGzipThreshold = 8192;
+    //广播和验证交易的rpc方法在独立的优先线程池中执行，不受过载保护限制
+    public static int rpcPriorityThreads = 4;
+    public static Set<String> rpcPriorityMethods = new HashSet<>(Arrays.asList("broadcastTx,validateTx,broadcastTxWithNoContractValidation,broadcastTxWithoutAnyValidation,sendCrossTx".split(",")));
+    //每个客户端ip每秒补充的令牌数和最多积累的令牌数，慢方法每次调用扣10个，快方法和优先方法扣1个，其它扣2个，批量请求整批最多扣rpcRateBurst个
+    //rpcRateLimit小于等于0时不限速(默认)，部署在反向代理之后时要同时配置rpcClientIpHeader，否则所有客户端共用代理地址的令牌桶
+    public static int rpcRateLimit = 0;
+    public static int rpcRateBurst = 200;
+    //令牌桶数量超过这个值时清理空闲的客户端
+    public static int rpcRateLimitMaxClients = 100000;
+    //不限速的客户端ip
+    public static Set<String> rpcRateLimitWhitelist = new HashSet<>(Arrays.asList("127.0.0.1"));
+    //从这个请求头取客户端ip，用于部署在反向代理之后，为空时使用连接的地址；从右往左取第一个不是受信任代理的地址，客户端自己填的地址不可信
+    public static String rpcClientIpHeader;
+    //受信任的反向代理地址，不为空时只有这些地址直接连接时才读取rpcClientIpHeader
+    public static Set<String> rpcTrustedProxies = new HashSet<>();
+    //方法所在组的等待队列或Grizzly的工作队列达到这个长度时直接拒绝新请求，小于等于0时不检查
+    public static int rpcShedQueueSize = 500;
+    //iplookup使用的地址段文件，为空时使用jar包中的中国大陆IPv4地址段，文件修改后自动重新加载
+    public static String ipLookupFile;
+    //Server-Sent Events订阅的最大连接数，每个连接缓冲的最大事件数(超过时断开)，每个连接最多订阅的地址数
+    public static int sseMaxSubscribers = 1000;
+    public static int sseBufferSize = 256;
+    public static int sseMaxAddresses = 100;
+    //并发查询账本余额和token余额的线程数，广播交易和多地址查询各用一个这个大小的线程池
+    public static int balanceQueryThreads = 16;
     //开发者节点地址
     public static Set<String> DEVELOPER_NODE_ADDRESS = new HashSet<>();
     //大使节点地址
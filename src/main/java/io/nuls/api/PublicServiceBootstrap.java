@@ -152,6 +152,51 @@ public class PublicServiceBootstrap extends RpcModule {
         ApiContext.connectTimeOut = apiConfig.getConnectTimeOut();
         ApiContext.socketTimeout = apiConfig.getSocketTimeout();
         ApiContext.syncCoinBase = apiConfig.isSyncCoinBase();
+        ApiContext.syncPrefetchCount = apiConfig.getSyncPrefetchCount();
+        ApiContext.syncBatchSize = apiConfig.getSyncBatchSize();
+        ApiContext.accountCacheSize = apiConfig.getAccountCacheSize();
+        ApiContext.accountCacheSecondHitAdmission = apiConfig.isAccountCacheSecondHitAdmission();
+        ApiContext.ledgerCacheSize = apiConfig.getLedgerCacheSize();
+        ApiContext.roundConsistencyCheck = apiConfig.isRoundConsistencyCheck();
+        ApiContext.txRelationShardFunction = apiConfig.getTxRelationShardFunction();
+        ApiContext.txRelationShardCount = apiConfig.getTxRelationShardCount();
+        ApiContext.rpcFastThreads = apiConfig.getRpcFastThreads();
+        ApiContext.rpcDefaultThreads = apiConfig.getRpcDefaultThreads();
+        ApiContext.rpcSlowThreads = apiConfig.getRpcSlowThreads();
+        ApiContext.rpcQueueSize = apiConfig.getRpcQueueSize();
+        ApiContext.rpcBatchMaxSize = apiConfig.getRpcBatchMaxSize();
+        ApiContext.rpcBatchParallelism = apiConfig.getRpcBatchParallelism();
+        ApiContext.rpcCacheSize = apiConfig.getRpcCacheSize();
+        ApiContext.rpcGzipThreshold = apiConfig.getRpcGzipThreshold();
+        ApiContext.rpcPriorityThreads = apiConfig.getRpcPriorityThreads();
+        ApiContext.rpcRateLimit = apiConfig.getRpcRateLimit();
+        ApiContext.rpcRateBurst = apiConfig.getRpcRateBurst();
+        ApiContext.rpcRateLimitMaxClients = apiConfig.getRpcRateLimitMaxClients();
+        ApiContext.rpcClientIpHeader = apiConfig.getRpcClientIpHeader();
+        ApiContext.rpcShedQueueSize = apiConfig.getRpcShedQueueSize();
+        ApiContext.ipLookupFile = apiConfig.getIpLookupFile();
+        ApiContext.sseMaxSubscribers = apiConfig.getSseMaxSubscribers();
+        ApiContext.sseBufferSize = apiConfig.getSseBufferSize();
+        ApiContext.sseMaxAddresses = apiConfig.getSseMaxAddresses();
+        ApiContext.balanceQueryThreads = apiConfig.getBalanceQueryThreads();
+        if (StringUtils.isNotBlank(apiConfig.getRpcCacheMethods())) {
+            ApiContext.rpcCacheMethods = new HashSet(Arrays.asList(apiConfig.getRpcCacheMethods().split(",")));
+        }
+        if (StringUtils.isNotBlank(apiConfig.getRpcFastMethods())) {
+            ApiContext.rpcFastMethods = new HashSet(Arrays.asList(apiConfig.getRpcFastMethods().split(",")));
+        }
+        if (StringUtils.isNotBlank(apiConfig.getRpcSlowMethods())) {
+            ApiContext.rpcSlowMethods = new HashSet(Arrays.asList(apiConfig.getRpcSlowMethods().split(",")));
+        }
+        if (StringUtils.isNotBlank(apiConfig.getRpcPriorityMethods())) {
+            ApiContext.rpcPriorityMethods = new HashSet(Arrays.asList(apiConfig.getRpcPriorityMethods().split(",")));
+        }
+        if (StringUtils.isNotBlank(apiConfig.getRpcRateLimitWhitelist())) {
+            ApiContext.rpcRateLimitWhitelist = new HashSet(Arrays.asList(apiConfig.getRpcRateLimitWhitelist().split(",")));
+        }
+        if (StringUtils.isNotBlank(apiConfig.getRpcTrustedProxies())) {
+            ApiContext.rpcTrustedProxies = new HashSet(Arrays.asList(apiConfig.getRpcTrustedProxies().split(",")));
+        }
         if (StringUtils.isNotBlank(apiConfig.getSyncAddress())) {
             for (String address : apiConfig.getSyncAddress().split(",")) {
                 ApiContext.syncAddress.add(address);
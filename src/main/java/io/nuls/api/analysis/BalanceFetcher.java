@@ -0,0 +1,119 @@
+package io.nuls.api.analysis;
+
+import io.nuls.api.model.rpc.BalanceInfo;
+import io.nuls.api.utils.DBUtil;
+import io.nuls.core.basic.Result;
+
+import java.math.BigInteger;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 从账本模块和合约模块并发查询余额
+ * 节点没有批量查询余额的接口，一批地址的查询由CoalescingLoader并发执行；同一时刻对同一地址资产的多个查询合并为一次rpc调用
+ * 合并的查询共用同一个结果，返回给每个调用者的是副本
+ * 接收未确认交易(广播交易)时的余额查询使用单独的线程池，不会排在接口的多地址查询后面
+ * Concurrent, de-duplicated and coalesced balance lookups against the ledger and contract modules
+ */
+public class BalanceFetcher {
+
+    private static final Executor QUERY_EXECUTOR = CoalescingLoader.newExecutor("rpc-fanout");
+
+    private static final Executor BROADCAST_EXECUTOR = CoalescingLoader.newExecutor("rpc-broadcast");
+
+    private static final CoalescingLoader<BalanceInfo> BALANCE_LOADER = new CoalescingLoader<>(QUERY_EXECUTOR);
+
+    private static final CoalescingLoader<BigInteger> TOKEN_BALANCE_LOADER = new CoalescingLoader<>(QUERY_EXECUTOR);
+
+    private static final CoalescingLoader<BalanceInfo> BROADCAST_BALANCE_LOADER = new CoalescingLoader<>(BROADCAST_EXECUTOR);
+
+    /**
+     * 查询单个地址资产的余额，与正在进行的相同查询合并
+     *
+     * @return 查询失败时返回null
+     */
+    public static BalanceInfo getBalance(int chainId, String address, int assetChainId, int assetId) {
+        return copy(CoalescingLoader.join(fetch(BALANCE_LOADER, chainId, address, assetChainId, assetId)));
+    }
+
+    private static BalanceInfo copy(BalanceInfo balanceInfo) {
+        return balanceInfo == null ? null : balanceInfo.copy();
+    }
+
+    private static CompletableFuture<BalanceInfo> fetch(CoalescingLoader<BalanceInfo> loader, int chainId, String address, int assetChainId, int assetId) {
+        return loader.load(chainId + "-" + DBUtil.getAccountAssetKey(address, assetChainId, assetId),
+                () -> WalletRpcHandler.getAccountBalance(chainId, address, assetChainId, assetId));
+    }
+
+    private static CompletableFuture<BigInteger> fetchToken(int chainId, String contractAddress, String address) {
+        return TOKEN_BALANCE_LOADER.load(chainId + "-" + address + contractAddress, () -> {
+            Result<BigInteger> result = WalletRpcHandler.tokenBalance(chainId, contractAddress, address);
+            return result == null ? null : result.getData();
+        });
+    }
+
+    /**
+     * 一批地址资产或token的余额查询，相同的只查询一次
+     */
+    public static class Batch {
+
+        private final int chainId;
+
+        private final CoalescingLoader<BalanceInfo> loader;
+
+        private final Map<String, CompletableFuture<BalanceInfo>> futureMap = new LinkedHashMap<>();
+
+        private final Map<String, CompletableFuture<BigInteger>> tokenFutureMap = new LinkedHashMap<>();
+
+        public Batch(int chainId) {
+            this(chainId, false);
+        }
+
+        /**
+         * @param broadcast 接收未确认交易时的查询，使用单独的线程池
+         */
+        public Batch(int chainId, boolean broadcast) {
+            this.chainId = chainId;
+            this.loader = broadcast ? BROADCAST_BALANCE_LOADER : BALANCE_LOADER;
+        }
+
+        /**
+         * 加入后立即开始查询
+         */
+        public Batch add(String address, int assetChainId, int assetId) {
+            futureMap.computeIfAbsent(DBUtil.getAccountAssetKey(address, assetChainId, assetId),
+                    k -> fetch(loader, chainId, address, assetChainId, assetId));
+            return this;
+        }
+
+        /**
+         * 查询地址在合约中的可用token余额
+         */
+        public Batch addToken(String contractAddress, String address) {
+            tokenFutureMap.computeIfAbsent(address + contractAddress, k -> fetchToken(chainId, contractAddress, address));
+            return this;
+        }
+
+        /**
+         * 等待全部资产余额查询完成
+         *
+         * @return key为DBUtil.getAccountAssetKey，查询失败的值为null
+         */
+        public Map<String, BalanceInfo> get() {
+            Map<String, BalanceInfo> result = CoalescingLoader.joinAll(futureMap);
+            result.replaceAll((k, v) -> copy(v));
+            return result;
+        }
+
+        /**
+         * 等待全部token余额查询完成
+         *
+         * @return key为地址加合约地址(与AccountTokenInfo的key相同)，查询失败的值为null
+         */
+        public Map<String, BigInteger> getTokens() {
+            return CoalescingLoader.joinAll(tokenFutureMap);
+        }
+    }
+}
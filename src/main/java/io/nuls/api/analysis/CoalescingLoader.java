@@ -0,0 +1,85 @@
+package io.nuls.api.analysis;
+
+import io.nuls.api.ApiContext;
+import io.nuls.api.utils.LoggerUtil;
+import org.glassfish.jersey.internal.guava.ThreadFactoryBuilder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * 并发执行按key查询的rpc调用，同一时刻相同key的查询合并为一次调用
+ * 查询在构造时指定的有界线程池中执行，队列满时在调用线程中执行，共用一个线程池的查询总并发不会超过线程数
+ * Coalesces concurrent lookups for the same key and runs them on a bounded executor
+ */
+public class CoalescingLoader<V> {
+
+    private final Executor executor;
+
+    private final Map<String, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public CoalescingLoader(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * 创建有界线程池，可以由多个CoalescingLoader共用
+     */
+    public static Executor newExecutor(String name) {
+        int threads = Math.max(1, ApiContext.balanceQueryThreads);
+        return new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(1024),
+                new ThreadFactoryBuilder().setNameFormat(name + "-%d").setDaemon(true).build(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * 开始查询，key相同的查询正在进行时返回它的结果
+     */
+    public CompletableFuture<V> load(String key, Supplier<V> loader) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            return existing;
+        }
+        executor.execute(() -> {
+            V value = null;
+            try {
+                value = loader.get();
+            } catch (Exception e) {
+                LoggerUtil.commonLog.error(e);
+            } finally {
+                inFlight.remove(key, future);
+                future.complete(value);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * @return 查询失败时返回null
+     */
+    public static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LoggerUtil.commonLog.error(e);
+        }
+        return null;
+    }
+
+    /**
+     * 等待一批查询完成，保持加入的顺序
+     */
+    public static <V> Map<String, V> joinAll(Map<String, CompletableFuture<V>> futureMap) {
+        Map<String, V> result = new LinkedHashMap<>(futureMap.size() * 2);
+        for (Map.Entry<String, CompletableFuture<V>> entry : futureMap.entrySet()) {
+            result.put(entry.getKey(), join(entry.getValue()));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,158 @@
+package io.nuls.api.cache;
+
+import io.nuls.api.model.po.AgentInfo;
+
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 共识节点缓存
+ * 除了按txHash存储，还按打包地址和创建地址建立索引，查询时只比较同一地址下的少量节点，不再遍历所有节点；
+ * 共识锁定总额随节点的增删改增量维护
+ * Agent cache keyed by txHash, with secondary indexes by packing address and agent address,
+ * the consensus coin total is maintained incrementally as agents are added, replaced and removed
+ */
+public class AgentCache {
+
+    private final Map<String, AgentInfo> agentMap = new ConcurrentHashMap<>();
+    //key=packingAddress, value=该打包地址下的所有节点(key=txHash)
+    private final Map<String, Map<String, AgentInfo>> packingAddressIndex = new ConcurrentHashMap<>();
+    //key=agentAddress, value=该创建地址下的所有节点(key=txHash)
+    private final Map<String, Map<String, AgentInfo>> agentAddressIndex = new ConcurrentHashMap<>();
+    //未注销节点的保证金和委托金额之和
+    private volatile BigInteger consensusCoinTotal = BigInteger.ZERO;
+
+    public AgentInfo get(String txHash) {
+        return agentMap.get(txHash);
+    }
+
+    public Collection<AgentInfo> values() {
+        return agentMap.values();
+    }
+
+    public int size() {
+        return agentMap.size();
+    }
+
+    /**
+     * 新增或替换节点，同时更新索引和共识锁定总额
+     */
+    public synchronized void put(AgentInfo agentInfo) {
+        AgentInfo old = agentMap.put(agentInfo.getTxHash(), agentInfo);
+        if (old != null) {
+            unindex(old);
+        }
+        index(agentInfo);
+        consensusCoinTotal = consensusCoinTotal.subtract(consensusCoin(old)).add(consensusCoin(agentInfo));
+    }
+
+    /**
+     * 批量新增或替换节点，整批在同一个锁内完成
+     */
+    public synchronized void putAll(Collection<AgentInfo> agentInfos) {
+        for (AgentInfo agentInfo : agentInfos) {
+            put(agentInfo);
+        }
+    }
+
+    public synchronized AgentInfo remove(String txHash) {
+        AgentInfo old = agentMap.remove(txHash);
+        if (old != null) {
+            unindex(old);
+            consensusCoinTotal = consensusCoinTotal.subtract(consensusCoin(old));
+        }
+        return old;
+    }
+
+    public synchronized void clear() {
+        agentMap.clear();
+        packingAddressIndex.clear();
+        agentAddressIndex.clear();
+        consensusCoinTotal = BigInteger.ZERO;
+    }
+
+    /**
+     * 打包地址对应的最新创建的节点
+     */
+    public AgentInfo getLatestByPackingAddress(String packingAddress) {
+        return latest(packingAddressIndex.get(packingAddress), false);
+    }
+
+    /**
+     * 创建地址对应的最新创建的节点
+     */
+    public AgentInfo getLatestByAgentAddress(String agentAddress) {
+        return latest(agentAddressIndex.get(agentAddress), false);
+    }
+
+    /**
+     * 创建地址对应的最新创建的、未停止的节点
+     */
+    public AgentInfo getLatestAliveByAgentAddress(String agentAddress) {
+        return latest(agentAddressIndex.get(agentAddress), true);
+    }
+
+    public BigInteger getConsensusCoinTotal() {
+        return consensusCoinTotal;
+    }
+
+    private void index(AgentInfo agentInfo) {
+        if (agentInfo.getPackingAddress() != null) {
+            packingAddressIndex.computeIfAbsent(agentInfo.getPackingAddress(), k -> new ConcurrentHashMap<>()).put(agentInfo.getTxHash(), agentInfo);
+        }
+        if (agentInfo.getAgentAddress() != null) {
+            agentAddressIndex.computeIfAbsent(agentInfo.getAgentAddress(), k -> new ConcurrentHashMap<>()).put(agentInfo.getTxHash(), agentInfo);
+        }
+    }
+
+    private void unindex(AgentInfo agentInfo) {
+        unindex(packingAddressIndex, agentInfo.getPackingAddress(), agentInfo.getTxHash());
+        unindex(agentAddressIndex, agentInfo.getAgentAddress(), agentInfo.getTxHash());
+    }
+
+    private static void unindex(Map<String, Map<String, AgentInfo>> index, String address, String txHash) {
+        if (address == null) {
+            return;
+        }
+        Map<String, AgentInfo> map = index.get(address);
+        if (map == null) {
+            return;
+        }
+        map.remove(txHash);
+        if (map.isEmpty()) {
+            index.remove(address);
+        }
+    }
+
+    private static AgentInfo latest(Map<String, AgentInfo> map, boolean aliveOnly) {
+        if (map == null) {
+            return null;
+        }
+        AgentInfo agentInfo = null;
+        for (AgentInfo agent : map.values()) {
+            if (aliveOnly && agent.getStatus() == 2) {
+                continue;
+            }
+            if (null == agentInfo || agent.getCreateTime() > agentInfo.getCreateTime()) {
+                agentInfo = agent;
+            }
+        }
+        return agentInfo;
+    }
+
+    private static BigInteger consensusCoin(AgentInfo agentInfo) {
+        if (agentInfo == null || agentInfo.getDeleteHash() != null) {
+            return BigInteger.ZERO;
+        }
+        BigInteger total = BigInteger.ZERO;
+        if (agentInfo.getDeposit() != null) {
+            total = total.add(agentInfo.getDeposit());
+        }
+        if (agentInfo.getTotalDeposit() != null) {
+            total = total.add(agentInfo.getTotalDeposit());
+        }
+        return total;
+    }
+}
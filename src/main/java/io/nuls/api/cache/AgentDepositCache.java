@@ -0,0 +1,138 @@
+package io.nuls.api.cache;
+
+import io.nuls.api.constant.ApiConstant;
+import io.nuls.api.model.po.DepositInfo;
+
+import java.math.BigInteger;
+import java.util.*;
+
+/**
+ * 各共识节点的委托总额，随区块入库增量维护
+ * 同时保留最近若干高度的委托变化，可以还原出最近一轮开始时的委托总额，生成新一轮时不再扫描委托表
+ * Per-agent deposit totals maintained incrementally as blocks are stored. The recent changes are kept as well,
+ * so the totals at the start of the current round can be restored without scanning the deposit table
+ */
+public class AgentDepositCache {
+
+    //key=agentHash, value=height高度处理完成后的委托总额
+    private final Map<String, BigInteger> depositMap = new HashMap<>();
+    //最近的委托变化，用于还原更早高度的委托总额
+    private final List<DepositChange> changeList = new ArrayList<>();
+    //可以查询的最低高度
+    private long floorHeight;
+    //已经处理到的高度
+    private long height;
+
+    private boolean ready;
+
+    /**
+     * 用指定高度上有效的委托列表初始化
+     *
+     * @param height      委托列表对应的高度
+     * @param depositList 在height高度上有效的委托
+     */
+    public synchronized void init(long height, List<DepositInfo> depositList) {
+        depositMap.clear();
+        changeList.clear();
+        for (DepositInfo depositInfo : depositList) {
+            depositMap.merge(depositInfo.getAgentHash(), depositInfo.getAmount(), BigInteger::add);
+        }
+        this.floorHeight = height;
+        this.height = height;
+        this.ready = true;
+    }
+
+    /**
+     * 区块入库时记录委托变化：新的委托增加，被取消的委托在取消的高度减少
+     *
+     * @param height          本次入库的最后一个区块高度
+     * @param depositInfoList 本次入库的委托和取消委托记录
+     */
+    public synchronized void apply(long height, Collection<DepositInfo> depositInfoList) {
+        if (!ready) {
+            return;
+        }
+        if (height <= this.height) {
+            //重复入库的高度，数据已经不可信
+            invalidate();
+            return;
+        }
+        Map<String, DepositInfo> deposits = new LinkedHashMap<>();
+        for (DepositInfo depositInfo : depositInfoList) {
+            if (depositInfo.getType() == ApiConstant.JOIN_CONSENSUS) {
+                deposits.put(depositInfo.getKey(), depositInfo);
+            }
+        }
+        for (DepositInfo depositInfo : deposits.values()) {
+            if (depositInfo.isNew()) {
+                addChange(depositInfo.getBlockHeight(), depositInfo.getAgentHash(), depositInfo.getAmount());
+            }
+            if (depositInfo.getDeleteHeight() > 0) {
+                addChange(depositInfo.getDeleteHeight(), depositInfo.getAgentHash(), depositInfo.getAmount().negate());
+            }
+        }
+        this.height = height;
+    }
+
+    /**
+     * 查询startHeight高度处理完成后各节点的委托总额
+     *
+     * @return 无法还原该高度时返回null
+     */
+    public synchronized Map<String, BigInteger> getAgentDeposits(long startHeight) {
+        if (!ready || startHeight < floorHeight || startHeight > height) {
+            return null;
+        }
+        Map<String, BigInteger> map = new HashMap<>(depositMap);
+        for (DepositChange change : changeList) {
+            if (change.height > startHeight) {
+                map.merge(change.agentHash, change.amount.negate(), BigInteger::add);
+            }
+        }
+        return map;
+    }
+
+    /**
+     * 之后只会查询不低于height的高度，丢弃更早的变化记录
+     */
+    public synchronized void trim(long height) {
+        if (!ready || height <= floorHeight) {
+            return;
+        }
+        changeList.removeIf(change -> change.height <= height);
+        floorHeight = Math.min(height, this.height);
+    }
+
+    /**
+     * 回滚或入库失败后调用，下次生成新一轮时重新从数据库初始化
+     */
+    public synchronized void invalidate() {
+        ready = false;
+        depositMap.clear();
+        changeList.clear();
+    }
+
+    public synchronized boolean isReady() {
+        return ready;
+    }
+
+    private void addChange(long height, String agentHash, BigInteger amount) {
+        depositMap.merge(agentHash, amount, BigInteger::add);
+        changeList.add(new DepositChange(height, agentHash, amount));
+    }
+
+    private static class DepositChange {
+
+        private long height;
+
+        private String agentHash;
+
+        private BigInteger amount;
+
+        DepositChange(long height, String agentHash, BigInteger amount) {
+            this.height = height;
+            this.agentHash = agentHash;
+            this.amount = amount;
+        }
+    }
+}
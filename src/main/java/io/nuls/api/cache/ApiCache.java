@@ -1,11 +1,14 @@
 package io.nuls.api.cache;
 
+import io.nuls.api.ApiContext;
+import io.nuls.api.manager.CacheManager;
 import io.nuls.api.model.po.*;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 public class ApiCache {
@@ -20,11 +23,21 @@ public class ApiCache {
 
     private CurrentRound currentRound;
 
-    private Map<String, AccountInfo> accountMap = new ConcurrentHashMap<>();
+    private LruCache<String, AccountInfo> accountCache = new LruCache<>(ApiContext.accountCacheSize, ApiContext.accountCacheSecondHitAdmission);
 
-    private Map<String, AccountLedgerInfo> ledgerMap = new ConcurrentHashMap<>();
+    private LruCache<String, AccountLedgerInfo> ledgerCache = new LruCache<>(ApiContext.ledgerCacheSize, false);
 
-    private Map<String, AgentInfo> agentMap = new ConcurrentHashMap<>();
+    private AgentCache agentCache = new AgentCache();
+
+    private AgentDepositCache agentDepositCache = new AgentDepositCache();
+
+    private BlockRewardWindow rewardWindow = new BlockRewardWindow();
+
+    private PendingTxPool pendingTxPool = new PendingTxPool();
+
+    private volatile TxRelationShardInfo txRelationShardInfo;
+    //交易关系的写入、回滚和重新分片的复制互斥
+    private final ReentrantLock txRelationLock = new ReentrantLock();
 
     private Map<String, AliasInfo> aliasMap = new ConcurrentHashMap<>();
 
@@ -39,19 +52,19 @@ public class ApiCache {
     }
 
     public void addAccountInfo(AccountInfo accountInfo) {
-        accountMap.put(accountInfo.getAddress(), accountInfo);
+        accountCache.put(accountInfo.getAddress(), accountInfo);
     }
 
     public AccountInfo getAccountInfo(String address) {
-        return accountMap.get(address);
+        return accountCache.get(address);
     }
 
     public AccountLedgerInfo getAccountLedgerInfo(String key) {
-        return ledgerMap.get(key);
+        return ledgerCache.get(key);
     }
 
     public void addAccountLedgerInfo(AccountLedgerInfo ledgerInfo) {
-        ledgerMap.put(ledgerInfo.getKey(), ledgerInfo);
+        ledgerCache.put(ledgerInfo.getKey(), ledgerInfo);
     }
 
     public List<Nrc20Info> getNrc20InfoList() {
@@ -91,11 +104,11 @@ public class ApiCache {
     }
 
     public void addAgentInfo(AgentInfo agentInfo) {
-        agentMap.put(agentInfo.getTxHash(), agentInfo);
+        agentCache.put(agentInfo);
     }
 
     public AgentInfo getAgentInfo(String agentHash) {
-        return agentMap.get(agentHash);
+        return agentCache.get(agentHash);
     }
 
     public void addAlias(AliasInfo aliasInfo) {
@@ -123,6 +136,7 @@ public class ApiCache {
 
     public void setBestHeader(BlockHeaderInfo bestHeader) {
         this.bestHeader = bestHeader;
+        CacheManager.increaseBestHeaderVersion();
     }
 
     public CurrentRound getCurrentRound() {
@@ -133,28 +147,40 @@ public class ApiCache {
         this.currentRound = currentRound;
     }
 
-    public Map<String, AccountInfo> getAccountMap() {
-        return accountMap;
+    public LruCache<String, AccountInfo> getAccountCache() {
+        return accountCache;
+    }
+
+    public LruCache<String, AccountLedgerInfo> getLedgerCache() {
+        return ledgerCache;
+    }
+
+    public AgentCache getAgentCache() {
+        return agentCache;
+    }
+
+    public AgentDepositCache getAgentDepositCache() {
+        return agentDepositCache;
     }
 
-    public void setAccountMap(Map<String, AccountInfo> accountMap) {
-        this.accountMap = accountMap;
+    public BlockRewardWindow getRewardWindow() {
+        return rewardWindow;
     }
 
-    public Map<String, AccountLedgerInfo> getLedgerMap() {
-        return ledgerMap;
+    public PendingTxPool getPendingTxPool() {
+        return pendingTxPool;
     }
 
-    public void setLedgerMap(Map<String, AccountLedgerInfo> ledgerMap) {
-        this.ledgerMap = ledgerMap;
+    public TxRelationShardInfo getTxRelationShardInfo() {
+        return txRelationShardInfo;
     }
 
-    public Map<String, AgentInfo> getAgentMap() {
-        return agentMap;
+    public void setTxRelationShardInfo(TxRelationShardInfo txRelationShardInfo) {
+        this.txRelationShardInfo = txRelationShardInfo;
     }
 
-    public void setAgentMap(Map<String, AgentInfo> agentMap) {
-        this.agentMap = agentMap;
+    public ReentrantLock getTxRelationLock() {
+        return txRelationLock;
     }
 
     public Map<String, AliasInfo> getAliasMap() {
@@ -0,0 +1,115 @@
+package io.nuls.api.cache;
+
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 最近24小时的出块奖励，随区块入库增量维护，统计时不再扫描区块头
+ * 只保留距最新区块24小时以内的区块，回滚后失效，下次统计时从数据库重新初始化
+ * Block rewards of the last 24 hours maintained incrementally as blocks are stored,
+ * invalidated on rollback and reloaded from the database on the next query
+ */
+public class BlockRewardWindow {
+
+    public static final long WINDOW_SECONDS = 24 * 60 * 60;
+
+    //key=height
+    private final TreeMap<Long, BlockReward> rewardMap = new TreeMap<>();
+
+    private BigInteger totalReward = BigInteger.ZERO;
+
+    private boolean ready;
+    //每次失效后加1，避免失效前从数据库读到的数据覆盖回来
+    private long version;
+
+    /**
+     * 区块入库后调用，按高度去重
+     *
+     * @param createTime 区块时间，单位秒
+     */
+    public synchronized void add(long height, long createTime, BigInteger reward) {
+        put(height, createTime, reward);
+        evict(createTime - WINDOW_SECONDS);
+    }
+
+    /**
+     * 用从数据库读到的区块奖励初始化
+     *
+     * @param version    开始读数据库之前调用getVersion得到的版本
+     * @param rewardList 从数据库读到的区块奖励
+     * @return 读数据库期间发生了回滚时返回false
+     */
+    public synchronized boolean init(long version, Map<Long, BlockReward> rewardList) {
+        if (version != this.version) {
+            return false;
+        }
+        for (Map.Entry<Long, BlockReward> entry : rewardList.entrySet()) {
+            put(entry.getKey(), entry.getValue().createTime, entry.getValue().reward);
+        }
+        ready = true;
+        return true;
+    }
+
+    /**
+     * 查询createTime不早于sinceTime的区块奖励之和
+     *
+     * @return 未初始化时返回null
+     */
+    public synchronized BigInteger getReward(long sinceTime) {
+        if (!ready) {
+            return null;
+        }
+        evict(sinceTime);
+        return totalReward;
+    }
+
+    public synchronized void invalidate() {
+        rewardMap.clear();
+        totalReward = BigInteger.ZERO;
+        ready = false;
+        version++;
+    }
+
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    public synchronized boolean isReady() {
+        return ready;
+    }
+
+    private void put(long height, long createTime, BigInteger reward) {
+        if (reward == null) {
+            reward = BigInteger.ZERO;
+        }
+        BlockReward old = rewardMap.put(height, new BlockReward(createTime, reward));
+        if (old != null) {
+            totalReward = totalReward.subtract(old.reward);
+        }
+        totalReward = totalReward.add(reward);
+    }
+
+    private void evict(long sinceTime) {
+        while (!rewardMap.isEmpty()) {
+            Map.Entry<Long, BlockReward> first = rewardMap.firstEntry();
+            if (first.getValue().createTime >= sinceTime) {
+                break;
+            }
+            rewardMap.pollFirstEntry();
+            totalReward = totalReward.subtract(first.getValue().reward);
+        }
+    }
+
+    public static class BlockReward {
+
+        private long createTime;
+
+        private BigInteger reward;
+
+        public BlockReward(long createTime, BigInteger reward) {
+            this.createTime = createTime;
+            this.reward = reward;
+        }
+    }
+}
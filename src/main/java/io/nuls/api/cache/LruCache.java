@@ -0,0 +1,139 @@
+package io.nuls.api.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 线程安全的有界LRU缓存
+ * 同步写入的数据总是放入缓存，查询未命中时读到的数据按准入策略决定是否放入：
+ * 开启二次准入时，只有在最近未命中过一次的key再次未命中时才放入，避免一次性查询的地址把同步中频繁使用的地址挤出缓存
+ * Thread safe bounded LRU cache. Values written through by the sync are always cached, values loaded on a read miss
+ * are only admitted on their second recent miss when second-hit admission is enabled,
+ * so one-off lookups don't push the hot addresses out of the cache
+ */
+public class LruCache<K, V> {
+
+    private final int maxSize;
+
+    private final boolean secondHitAdmission;
+
+    private final LinkedHashMap<K, V> map;
+    //最近未命中过一次的key，只记录key
+    private final LinkedHashMap<K, Boolean> doorkeeper;
+
+    private final AtomicLong hitCount = new AtomicLong();
+
+    private final AtomicLong missCount = new AtomicLong();
+
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    private final AtomicLong rejectCount = new AtomicLong();
+
+    public LruCache(int maxSize, boolean secondHitAdmission) {
+        this.maxSize = Math.max(maxSize, 1);
+        this.secondHitAdmission = secondHitAdmission;
+        this.map = new LinkedHashMap<K, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                if (size() > LruCache.this.maxSize) {
+                    evictionCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+        this.doorkeeper = new LinkedHashMap<K, Boolean>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Boolean> eldest) {
+                return size() > LruCache.this.maxSize;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        V value = map.get(key);
+        if (value == null) {
+            missCount.incrementAndGet();
+        } else {
+            hitCount.incrementAndGet();
+        }
+        return value;
+    }
+
+    /**
+     * 写入缓存，同步和回滚保存数据后调用，总是放入缓存
+     * Write through, always cached
+     */
+    public synchronized void put(K key, V value) {
+        doorkeeper.remove(key);
+        map.put(key, value);
+    }
+
+    /**
+     * 查询未命中后，从数据库读到的数据按准入策略放入缓存
+     * Offer a value loaded after a read miss, cached according to the admission policy
+     *
+     * @return 是否放入了缓存
+     */
+    public synchronized boolean admit(K key, V value) {
+        if (secondHitAdmission && map.size() >= maxSize && doorkeeper.put(key, Boolean.TRUE) == null) {
+            rejectCount.incrementAndGet();
+            return false;
+        }
+        put(key, value);
+        return true;
+    }
+
+    public synchronized V remove(K key) {
+        return map.remove(key);
+    }
+
+    public synchronized boolean containsKey(K key) {
+        return map.containsKey(key);
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+
+    public synchronized void clear() {
+        map.clear();
+        doorkeeper.clear();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    public long getRejectCount() {
+        return rejectCount.get();
+    }
+
+    /**
+     * 命中率，没有查询时为0
+     */
+    public double getHitRate() {
+        long hit = getHitCount();
+        long total = hit + getMissCount();
+        return total == 0 ? 0 : (double) hit / total;
+    }
+
+    @Override
+    public String toString() {
+        return "size:" + size() + ", maxSize:" + maxSize + ", hit:" + getHitCount() + ", miss:" + getMissCount()
+                + ", hitRate:" + String.format("%.4f", getHitRate()) + ", eviction:" + getEvictionCount() + ", reject:" + getRejectCount();
+    }
+}
@@ -0,0 +1,215 @@
+package io.nuls.api.cache;
+
+import io.nuls.api.model.po.TxRelationInfo;
+import org.bson.types.ObjectId;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * 未确认交易池，按交易hash和地址索引，交易广播10分钟后过期
+ * 过期用时间轮实现：每10秒一格，交易放入过期时间所在的格，推进时只处理经过的格，不扫描整个池
+ * 写入(广播、确认、过期)互斥，查询不加锁；数据库中的未确认交易表只用于重启后恢复
+ * In-memory pending transaction pool indexed by hash and address, expired through a timing wheel
+ */
+public class PendingTxPool {
+
+    public static final long TTL = 10 * 60 * 1000L;
+
+    private static final long TICK = 10 * 1000L;
+    //比TTL多一格，同一格中只会有同一轮的交易
+    private static final int WHEEL_SIZE = (int) (TTL / TICK) + 1;
+
+    private final Map<String, PendingTx> txMap = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<PendingTx>> addressIndex = new ConcurrentHashMap<>();
+
+    private final List<Set<PendingTx>> wheel = new ArrayList<>(WHEEL_SIZE);
+    //已经处理完的最后一格
+    private long expiredTick = -1;
+
+    public PendingTxPool() {
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel.add(new HashSet<>());
+        }
+    }
+
+    /**
+     * @return 交易已存在或已过期时返回false
+     */
+    public synchronized boolean add(PendingTx tx, long now) {
+        if (tx.getExpireTime() <= now || txMap.containsKey(tx.getTxHash())) {
+            return false;
+        }
+        txMap.put(tx.getTxHash(), tx);
+        for (PendingRelation relation : tx.getRelations()) {
+            addressIndex.computeIfAbsent(relation.getInfo().getAddress(), k -> ConcurrentHashMap.newKeySet()).add(tx);
+        }
+        wheel.get(slot(tx.getExpireTime())).add(tx);
+        return true;
+    }
+
+    /**
+     * 交易已确认或验证失败时移除
+     *
+     * @return 不在池中时返回null
+     */
+    public synchronized PendingTx remove(String txHash) {
+        PendingTx tx = txMap.remove(txHash);
+        if (tx != null) {
+            unindex(tx);
+            wheel.get(slot(tx.getExpireTime())).remove(tx);
+        }
+        return tx;
+    }
+
+    private void unindex(PendingTx tx) {
+        for (PendingRelation relation : tx.getRelations()) {
+            addressIndex.computeIfPresent(relation.getInfo().getAddress(), (k, set) -> {
+                set.remove(tx);
+                return set.isEmpty() ? null : set;
+            });
+        }
+    }
+
+    /**
+     * 推进时间轮，移除已经过期的交易
+     *
+     * @return 本次移除的交易
+     */
+    public synchronized List<PendingTx> expire(long now) {
+        long currentTick = now / TICK;
+        if (expiredTick < 0) {
+            expiredTick = currentTick - WHEEL_SIZE;
+        }
+        //当前格中可能还有没到期的交易，只处理到上一格
+        long fromTick = Math.max(expiredTick + 1, currentTick - WHEEL_SIZE);
+        List<PendingTx> expiredList = new ArrayList<>();
+        for (long tick = fromTick; tick < currentTick; tick++) {
+            Iterator<PendingTx> iterator = wheel.get((int) (tick % WHEEL_SIZE)).iterator();
+            while (iterator.hasNext()) {
+                PendingTx tx = iterator.next();
+                if (tx.getExpireTime() <= now) {
+                    iterator.remove();
+                    txMap.remove(tx.getTxHash());
+                    unindex(tx);
+                    expiredList.add(tx);
+                }
+            }
+        }
+        expiredTick = Math.max(expiredTick, currentTick - 1);
+        return expiredList;
+    }
+
+    private static int slot(long expireTime) {
+        return (int) ((expireTime / TICK) % WHEEL_SIZE);
+    }
+
+    public boolean contains(String txHash) {
+        return txMap.containsKey(txHash);
+    }
+
+    public PendingTx get(String txHash) {
+        return txMap.get(txHash);
+    }
+
+    public Collection<PendingTx> getAll() {
+        return txMap.values();
+    }
+
+    public int size() {
+        return txMap.size();
+    }
+
+    /**
+     * 地址的未确认交易关系，按createTime、txHash、id倒序，与已确认交易关系的查询顺序相同
+     * 时间轮还没推进到的过期交易在这里过滤掉
+     */
+    public List<PendingRelation> getRelations(String address, Predicate<TxRelationInfo> filter, long now) {
+        Set<PendingTx> set = addressIndex.get(address);
+        if (set == null) {
+            return Collections.emptyList();
+        }
+        List<PendingRelation> list = new ArrayList<>();
+        for (PendingTx tx : set) {
+            if (tx.getExpireTime() <= now) {
+                continue;
+            }
+            for (PendingRelation relation : tx.getRelations()) {
+                if (address.equals(relation.getInfo().getAddress()) && filter.test(relation.getInfo())) {
+                    list.add(relation);
+                }
+            }
+        }
+        list.sort(PendingRelation.DESCENDING);
+        return list;
+    }
+
+    public static class PendingTx {
+
+        private final String txHash;
+
+        private final String txHex;
+        //广播的时间
+        private final long time;
+
+        private final List<PendingRelation> relations;
+
+        public PendingTx(String txHash, String txHex, long time, List<PendingRelation> relations) {
+            this.txHash = txHash;
+            this.txHex = txHex;
+            this.time = time;
+            this.relations = relations;
+        }
+
+        public String getTxHash() {
+            return txHash;
+        }
+
+        public String getTxHex() {
+            return txHex;
+        }
+
+        public long getTime() {
+            return time;
+        }
+
+        public long getExpireTime() {
+            return time + TTL;
+        }
+
+        public List<PendingRelation> getRelations() {
+            return relations;
+        }
+    }
+
+    /**
+     * 未确认的交易关系，id与数据库中保存的_id相同，用于游标翻页
+     */
+    public static class PendingRelation {
+
+        static final Comparator<PendingRelation> DESCENDING = Comparator
+                .comparingLong((PendingRelation r) -> r.getInfo().getCreateTime())
+                .thenComparing(r -> r.getInfo().getTxHash())
+                .thenComparing(PendingRelation::getId)
+                .reversed();
+
+        private final ObjectId id;
+
+        private final TxRelationInfo info;
+
+        public PendingRelation(ObjectId id, TxRelationInfo info) {
+            this.id = id;
+            this.info = info;
+        }
+
+        public ObjectId getId() {
+            return id;
+        }
+
+        public TxRelationInfo getInfo() {
+            return info;
+        }
+    }
+}
@@ -31,6 +31,11 @@ public interface DBTableConstant {
     //交易关系记录表
     String TX_RELATION_TABLE = "tx_relation_table_";
 
+    //交易关系表的分片记录
+    String TX_RELATION_SHARD_TABLE = "tx_relation_shard_table";
+    //每个地址的交易关系计数，按交易类型和资产分类
+    String TX_RELATION_COUNT_TABLE = "tx_relation_count_table_";
+
     String CROSS_TX_RELATION_TABLE = "cross_tx_relation_table_";
     //交易关系记录表
     String TX_UNCONFIRM_RELATION_TABLE = "tx_unconfirm_relation_table_";
@@ -76,6 +76,72 @@ public class ApiConfig implements ModuleConfig {
 
     private String syncAddress;
 
+    private int syncPrefetchCount = 8;
+
+    private int syncBatchSize = 50;
+
+    private int accountCacheSize = 5000;
+
+    private boolean accountCacheSecondHitAdmission = true;
+
+    private int ledgerCacheSize = 20000;
+
+    private boolean roundConsistencyCheck;
+
+    private String txRelationShardFunction = "JAVA_HASH";
+
+    private int txRelationShardCount = 128;
+
+    private int rpcFastThreads = 4;
+
+    private int rpcDefaultThreads = 16;
+
+    private int rpcSlowThreads = 8;
+
+    private int rpcQueueSize = 2000;
+
+    private String rpcFastMethods;
+
+    private String rpcSlowMethods;
+
+    private int rpcBatchMaxSize = 100;
+
+    private int rpcBatchParallelism = 8;
+
+    private int rpcCacheSize = 2000;
+
+    private String rpcCacheMethods;
+
+    private int rpcGzipThreshold = 8192;
+
+    private int rpcPriorityThreads = 4;
+
+    private String rpcPriorityMethods;
+
+    private int rpcRateLimit = 0;
+
+    private int rpcRateBurst = 200;
+
+    private int rpcRateLimitMaxClients = 100000;
+
+    private String rpcRateLimitWhitelist;
+
+    private String rpcClientIpHeader;
+
+    private String rpcTrustedProxies;
+
+    private int rpcShedQueueSize = 500;
+
+    private String ipLookupFile;
+
+    private int sseMaxSubscribers = 1000;
+
+    private int sseBufferSize = 256;
+
+    private int sseMaxAddresses = 100;
+
+    private int balanceQueryThreads = 16;
+
     public String getEncoding() {
         return encoding;
     }
@@ -299,4 +365,268 @@ public class ApiConfig implements ModuleConfig {
     public void setSyncAddress(String syncAddress) {
         this.syncAddress = syncAddress;
     }
+
+    public int getSyncPrefetchCount() {
+        return syncPrefetchCount;
+    }
+
+    public void setSyncPrefetchCount(int syncPrefetchCount) {
+        this.syncPrefetchCount = syncPrefetchCount;
+    }
+
+    public int getSyncBatchSize() {
+        return syncBatchSize;
+    }
+
+    public void setSyncBatchSize(int syncBatchSize) {
+        this.syncBatchSize = syncBatchSize;
+    }
+
+    public int getAccountCacheSize() {
+        return accountCacheSize;
+    }
+
+    public void setAccountCacheSize(int accountCacheSize) {
+        this.accountCacheSize = accountCacheSize;
+    }
+
+    public boolean isAccountCacheSecondHitAdmission() {
+        return accountCacheSecondHitAdmission;
+    }
+
+    public void setAccountCacheSecondHitAdmission(boolean accountCacheSecondHitAdmission) {
+        this.accountCacheSecondHitAdmission = accountCacheSecondHitAdmission;
+    }
+
+    public int getLedgerCacheSize() {
+        return ledgerCacheSize;
+    }
+
+    public void setLedgerCacheSize(int ledgerCacheSize) {
+        this.ledgerCacheSize = ledgerCacheSize;
+    }
+
+    public boolean isRoundConsistencyCheck() {
+        return roundConsistencyCheck;
+    }
+
+    public void setRoundConsistencyCheck(boolean roundConsistencyCheck) {
+        this.roundConsistencyCheck = roundConsistencyCheck;
+    }
+
+    public String getTxRelationShardFunction() {
+        return txRelationShardFunction;
+    }
+
+    public void setTxRelationShardFunction(String txRelationShardFunction) {
+        this.txRelationShardFunction = txRelationShardFunction;
+    }
+
+    public int getTxRelationShardCount() {
+        return txRelationShardCount;
+    }
+
+    public void setTxRelationShardCount(int txRelationShardCount) {
+        this.txRelationShardCount = txRelationShardCount;
+    }
+
+    public int getRpcFastThreads() {
+        return rpcFastThreads;
+    }
+
+    public void setRpcFastThreads(int rpcFastThreads) {
+        this.rpcFastThreads = rpcFastThreads;
+    }
+
+    public int getRpcDefaultThreads() {
+        return rpcDefaultThreads;
+    }
+
+    public void setRpcDefaultThreads(int rpcDefaultThreads) {
+        this.rpcDefaultThreads = rpcDefaultThreads;
+    }
+
+    public int getRpcSlowThreads() {
+        return rpcSlowThreads;
+    }
+
+    public void setRpcSlowThreads(int rpcSlowThreads) {
+        this.rpcSlowThreads = rpcSlowThreads;
+    }
+
+    public int getRpcQueueSize() {
+        return rpcQueueSize;
+    }
+
+    public void setRpcQueueSize(int rpcQueueSize) {
+        this.rpcQueueSize = rpcQueueSize;
+    }
+
+    public String getRpcFastMethods() {
+        return rpcFastMethods;
+    }
+
+    public void setRpcFastMethods(String rpcFastMethods) {
+        this.rpcFastMethods = rpcFastMethods;
+    }
+
+    public String getRpcSlowMethods() {
+        return rpcSlowMethods;
+    }
+
+    public void setRpcSlowMethods(String rpcSlowMethods) {
+        this.rpcSlowMethods = rpcSlowMethods;
+    }
+
+    public int getRpcBatchMaxSize() {
+        return rpcBatchMaxSize;
+    }
+
+    public void setRpcBatchMaxSize(int rpcBatchMaxSize) {
+        this.rpcBatchMaxSize = rpcBatchMaxSize;
+    }
+
+    public int getRpcBatchParallelism() {
+        return rpcBatchParallelism;
+    }
+
+    public void setRpcBatchParallelism(int rpcBatchParallelism) {
+        this.rpcBatchParallelism = rpcBatchParallelism;
+    }
+
+    public int getRpcCacheSize() {
+        return rpcCacheSize;
+    }
+
+    public void setRpcCacheSize(int rpcCacheSize) {
+        this.rpcCacheSize = rpcCacheSize;
+    }
+
+    public String getRpcCacheMethods() {
+        return rpcCacheMethods;
+    }
+
+    public void setRpcCacheMethods(String rpcCacheMethods) {
+        this.rpcCacheMethods = rpcCacheMethods;
+    }
+
+    public int getRpcGzipThreshold() {
+        return rpcGzipThreshold;
+    }
+
+    public void setRpcGzipThreshold(int rpcGzipThreshold) {
+        this.rpcGzipThreshold = rpcGzipThreshold;
+    }
+
+    public int getRpcPriorityThreads() {
+        return rpcPriorityThreads;
+    }
+
+    public void setRpcPriorityThreads(int rpcPriorityThreads) {
+        this.rpcPriorityThreads = rpcPriorityThreads;
+    }
+
+    public String getRpcPriorityMethods() {
+        return rpcPriorityMethods;
+    }
+
+    public void setRpcPriorityMethods(String rpcPriorityMethods) {
+        this.rpcPriorityMethods = rpcPriorityMethods;
+    }
+
+    public int getRpcRateLimit() {
+        return rpcRateLimit;
+    }
+
+    public void setRpcRateLimit(int rpcRateLimit) {
+        this.rpcRateLimit = rpcRateLimit;
+    }
+
+    public int getRpcRateBurst() {
+        return rpcRateBurst;
+    }
+
+    public void setRpcRateBurst(int rpcRateBurst) {
+        this.rpcRateBurst = rpcRateBurst;
+    }
+
+    public int getRpcRateLimitMaxClients() {
+        return rpcRateLimitMaxClients;
+    }
+
+    public void setRpcRateLimitMaxClients(int rpcRateLimitMaxClients) {
+        this.rpcRateLimitMaxClients = rpcRateLimitMaxClients;
+    }
+
+    public String getRpcRateLimitWhitelist() {
+        return rpcRateLimitWhitelist;
+    }
+
+    public void setRpcRateLimitWhitelist(String rpcRateLimitWhitelist) {
+        this.rpcRateLimitWhitelist = rpcRateLimitWhitelist;
+    }
+
+    public String getRpcClientIpHeader() {
+        return rpcClientIpHeader;
+    }
+
+    public void setRpcClientIpHeader(String rpcClientIpHeader) {
+        this.rpcClientIpHeader = rpcClientIpHeader;
+    }
+
+    public String getRpcTrustedProxies() {
+        return rpcTrustedProxies;
+    }
+
+    public void setRpcTrustedProxies(String rpcTrustedProxies) {
+        this.rpcTrustedProxies = rpcTrustedProxies;
+    }
+
+    public int getRpcShedQueueSize() {
+        return rpcShedQueueSize;
+    }
+
+    public void setRpcShedQueueSize(int rpcShedQueueSize) {
+        this.rpcShedQueueSize = rpcShedQueueSize;
+    }
+
+    public String getIpLookupFile() {
+        return ipLookupFile;
+    }
+
+    public void setIpLookupFile(String ipLookupFile) {
+        this.ipLookupFile = ipLookupFile;
+    }
+
+    public int getSseMaxSubscribers() {
+        return sseMaxSubscribers;
+    }
+
+    public void setSseMaxSubscribers(int sseMaxSubscribers) {
+        this.sseMaxSubscribers = sseMaxSubscribers;
+    }
+
+    public int getSseBufferSize() {
+        return sseBufferSize;
+    }
+
+    public void setSseBufferSize(int sseBufferSize) {
+        this.sseBufferSize = sseBufferSize;
+    }
+
+    public int getSseMaxAddresses() {
+        return sseMaxAddresses;
+    }
+
+    public void setSseMaxAddresses(int sseMaxAddresses) {
+        this.sseMaxAddresses = sseMaxAddresses;
+    }
+
+    public int getBalanceQueryThreads() {
+        return balanceQueryThreads;
+    }
+
+    public void setBalanceQueryThreads(int balanceQueryThreads) {
+        this.balanceQueryThreads = balanceQueryThreads;
+    }
 }
@@ -4,6 +4,7 @@ import io.nuls.api.model.po.AccountLedgerInfo;
 import io.nuls.api.model.po.PageInfo;
 import io.nuls.api.model.po.mini.MiniAccountInfo;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -15,6 +16,11 @@ public interface AccountLedgerService {
 
     void saveLedgerList(int chainId, Map<String, AccountLedgerInfo> accountLedgerInfoMap);
 
+    /**
+     * 从缓存中移除指定的资产记录，下次查询时重新从数据库读取
+     */
+    void removeCache(int chainId, Collection<String> keys);
+
     PageInfo<MiniAccountInfo> getAssetRanking(int chainId, int assetChainId, int assetId, int pageNumber, int pageSize);
 
     List<AccountLedgerInfo> getAccountLedgerInfoList(int chainId, String address);
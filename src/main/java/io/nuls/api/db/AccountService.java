@@ -4,6 +4,7 @@ import io.nuls.api.model.po.*;
 import io.nuls.api.model.po.mini.MiniAccountInfo;
 
 import java.math.BigInteger;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -13,6 +14,8 @@ public interface AccountService {
 
     AccountInfo getAccountInfo(int chainId, String address);
 
+    Map<String, AccountInfo> getAccountInfoMap(int chainId, Collection<String> addresses);
+
     MiniAccountInfo getMiniAccountInfo(int chainId, String address);
 
     void saveAccounts(int chainId, Map<String, AccountInfo> accountInfoMap);
@@ -21,6 +24,8 @@ public interface AccountService {
 
     PageInfo<TxRelationInfo> getAccountTxs(int chainId, String address, int pageIndex, int pageSize, int type, long startHeight, long endHeight, int assetChainId, int assetId);
 
+    CursorPageInfo<TxRelationInfo> getAccountTxsByCursor(int chainId, String address, PageCursor cursor, int pageSize, int type, long startHeight, long endHeight, int assetChainId, int assetId);
+
     PageInfo<TxRelationInfo> queryAccountTxs(int chainId, String address, int pageIndex, int assetChainId, int assetId);
 
     PageInfo<TxRelationInfo> getAcctTxs(int chainId, int assetChainId, int assetId, String address, int type, long startTime, long endTime, int pageIndex, int pageSize);
@@ -18,6 +18,8 @@ public interface BlockService {
 
     void saveBLockHeaderInfo(int chainId, BlockHeaderInfo blockHeaderInfo);
 
+    void saveBlockHeaderList(int chainId, List<BlockHeaderInfo> headerList);
+
     PageInfo<MiniBlockHeaderInfo> pageQuery(int chainId, int pageIndex, int pageSize, String packingAddress, boolean filterEmptyBlocks);
 
     List<MiniBlockHeaderInfo> getBlockList(int chainId, long startTime, long endTime);
@@ -30,6 +32,8 @@ public interface BlockService {
 
     void saveBlockHexInfo(int chainId, BlockHexInfo hexInfo);
 
+    void saveBlockHexList(int chainId, List<BlockHexInfo> hexInfoList);
+
     BlockHexInfo getBlockHexInfo(int chainId, long height);
 
     BlockHexInfo getBlockHexInfo(int chainId, String hash);
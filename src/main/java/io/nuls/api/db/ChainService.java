@@ -29,5 +29,7 @@ public interface ChainService {
 
     SyncInfo saveNewSyncInfo(int chainId, long newHeight, BlockHeaderInfo headerInfo);
 
+    SyncInfo saveNewSyncInfo(int chainId, List<BlockHeaderInfo> headerList);
+
     void updateStep(SyncInfo syncInfo);
 }
@@ -1,6 +1,7 @@
 package io.nuls.api.db;
 
 import io.nuls.api.ApiContext;
+import io.nuls.api.cache.AgentDepositCache;
 import io.nuls.api.cache.ApiCache;
 import io.nuls.api.constant.ApiConstant;
 import io.nuls.api.db.mongo.MongoAgentServiceImpl;
@@ -38,34 +39,84 @@ public class RoundManager {
     @Autowired
     private MongoBlockServiceImpl mongoBlockServiceImpl;
 
+    //批量提交窗口内修改过的出块记录，窗口入库时和轮次一起写入
+    private Map<String, PocRoundItem> pendingItemMap = new LinkedHashMap<>();
+
     public void process(int chainId, BlockInfo blockInfo) {
+        process(chainId, blockInfo, false);
+    }
+
+    /**
+     * @param defer 批量提交窗口内的区块，轮次的修改只记录在缓存中，由flushPending在窗口入库时写入数据库
+     */
+    public void process(int chainId, BlockInfo blockInfo, boolean defer) {
         ApiCache apiCache = CacheManager.getCache(chainId);
         CurrentRound currentRound = apiCache.getCurrentRound();
 
         if (null == currentRound.getItemList()) {
-            PocRound round = null;
-            long roundIndex = blockInfo.getHeader().getRoundIndex();
-            while (round == null && blockInfo.getHeader().getHeight() > 1) {
-                round = mongoRoundServiceImpl.getRound(chainId, roundIndex--);
-            }
-            if (round != null) {
-                CurrentRound preRound = new CurrentRound();
-                preRound.initByPocRound(round);
-                List<PocRoundItem> list = mongoRoundServiceImpl.getRoundItemList(chainId, round.getIndex());
-                preRound.setItemList(list);
-                preRound.setStartBlockHeader(mongoBlockServiceImpl.getBlockHeader(chainId, round.getStartHeight()));
-                preRound.setPackerOrder(round.getMemberCount());
+            CurrentRound preRound = loadRound(chainId, blockInfo.getHeader().getRoundIndex(), 1, blockInfo.getHeader().getHeight());
+            if (preRound != null) {
                 apiCache.setCurrentRound(preRound);
             }
         }
         if (blockInfo.getHeader().getRoundIndex() == apiCache.getCurrentRound().getIndex()) {
-            processCurrentRound(chainId, blockInfo);
+            processCurrentRound(chainId, blockInfo, defer);
         } else {
             processNextRound(chainId, blockInfo);
         }
     }
 
-    private void processCurrentRound(int chainId, BlockInfo blockInfo) {
+    /**
+     * 从数据库读取roundIndex及之前最近的一个轮次
+     */
+    private CurrentRound loadRound(int chainId, long roundIndex, long minHeight, long height) {
+        PocRound round = null;
+        while (round == null && height > minHeight && roundIndex >= 0) {
+            round = mongoRoundServiceImpl.getRound(chainId, roundIndex--);
+        }
+        if (round == null) {
+            return null;
+        }
+        CurrentRound preRound = new CurrentRound();
+        preRound.initByPocRound(round);
+        List<PocRoundItem> list = mongoRoundServiceImpl.getRoundItemList(chainId, round.getIndex());
+        preRound.setItemList(list);
+        preRound.setStartBlockHeader(mongoBlockServiceImpl.getBlockHeader(chainId, round.getStartHeight()));
+        preRound.setPackerOrder(round.getMemberCount());
+        return preRound;
+    }
+
+    /**
+     * 批量提交的窗口入库时，把窗口内累计的轮次修改写入数据库
+     */
+    public void flushPending(int chainId) {
+        if (pendingItemMap.isEmpty()) {
+            return;
+        }
+        CurrentRound currentRound = CacheManager.getCache(chainId).getCurrentRound();
+        for (PocRoundItem item : pendingItemMap.values()) {
+            mongoRoundServiceImpl.updateRoundItem(chainId, item);
+        }
+        pendingItemMap.clear();
+        this.mongoRoundServiceImpl.updateRound(chainId, currentRound.toPocRound());
+        ApiContext.addAndRemoveLastRound(currentRound);
+    }
+
+    /**
+     * 窗口处理或入库失败时丢弃还没写入的轮次修改，缓存的轮次从数据库重新读取
+     */
+    public void discardPending(int chainId) {
+        pendingItemMap.clear();
+        ApiCache apiCache = CacheManager.getCache(chainId);
+        CurrentRound currentRound = apiCache.getCurrentRound();
+        if (currentRound.getItemList() == null) {
+            return;
+        }
+        CurrentRound round = loadRound(chainId, currentRound.getIndex(), 0, Long.MAX_VALUE);
+        apiCache.setCurrentRound(round != null ? round : new CurrentRound());
+    }
+
+    private void processCurrentRound(int chainId, BlockInfo blockInfo, boolean defer) {
         ApiCache apiCache = CacheManager.getCache(chainId);
         CurrentRound currentRound = apiCache.getCurrentRound();
         int indexOfRound = blockInfo.getHeader().getPackingIndexOfRound();
@@ -73,18 +124,26 @@ public class RoundManager {
         currentRound.setPackerOrder(indexOfRound < currentRound.getMemberCount() ? indexOfRound + 1 : indexOfRound);
         PocRoundItem item = currentRound.getItemList().get(indexOfRound - 1);
         BlockHeaderInfo header = blockInfo.getHeader();
+        //出块记录已经是这个区块时(中断后重新同步)，不再重复计数
+        boolean counted = item.getBlockHeight() == header.getHeight() && header.getHash().equals(item.getBlockHash());
         item.setTime(header.getCreateTime());
         item.setBlockHeight(header.getHeight());
         item.setBlockHash(header.getHash());
         item.setTxCount(header.getTxCount());
         item.setReward(header.getReward());
 
-        currentRound.setProducedBlockCount(currentRound.getProducedBlockCount() + 1);
+        if (!counted) {
+            currentRound.setProducedBlockCount(currentRound.getProducedBlockCount() + 1);
+            this.fillPunishCount(blockInfo.getTxList(), currentRound, true);
+        }
         currentRound.setEndHeight(blockInfo.getHeader().getHeight());
         currentRound.setLostRate(DoubleUtils.div(header.getPackingIndexOfRound() - currentRound.getProducedBlockCount(), header.getPackingIndexOfRound()));
-        this.fillPunishCount(blockInfo.getTxList(), currentRound, true);
 
         apiCache.setCurrentRound(currentRound);
+        if (defer) {
+            pendingItemMap.put(item.getId(), item);
+            return;
+        }
         mongoRoundServiceImpl.updateRoundItem(chainId, item);
         this.mongoRoundServiceImpl.updateRound(chainId, currentRound.toPocRound());
         ApiContext.addAndRemoveLastRound(currentRound);
@@ -118,19 +177,11 @@ public class RoundManager {
             startHeight = startHeight - 1;
         }
         List<AgentInfo> agentList = mongoAgentServiceImpl.getAgentList(chainId, startHeight);
-        List<DepositInfo> depositList = mongoDepositServiceImpl.getDepositList(chainId, startHeight);
+        Map<String, BigInteger> depositMap = getAgentDeposits(chainId, startHeight, blockInfo.getHeader().getHeight() - 1);
         Map<String, AgentInfo> map = new HashMap<>();
-        Map<String, BigInteger> depositMap = new HashMap<>();
         for (AgentInfo agent : agentList) {
             map.put(agent.getTxHash(), agent);
         }
-        for (DepositInfo deposit : depositList) {
-            BigInteger agentDeposit = depositMap.get(deposit.getAgentHash());
-            if (null == agentDeposit) {
-                agentDeposit = BigInteger.ZERO;
-            }
-            depositMap.put(deposit.getAgentHash(), agentDeposit.add(deposit.getAmount()));
-        }
         List<AgentSorter> sorterList = new ArrayList<>();
         for (AgentInfo agent : map.values()) {
             BigInteger totalDeposit = depositMap.get(agent.getTxHash());
@@ -236,6 +287,62 @@ public class RoundManager {
     }
 
 
+    /**
+     * 查询startHeight高度时各节点的委托总额
+     * 优先使用增量维护的委托缓存，缓存不可用时扫描委托表，并用当前高度的委托重新初始化缓存
+     *
+     * @param currentHeight 数据库中已入库的最新高度
+     */
+    private Map<String, BigInteger> getAgentDeposits(int chainId, long startHeight, long currentHeight) {
+        AgentDepositCache depositCache = CacheManager.getCache(chainId).getAgentDepositCache();
+        Map<String, BigInteger> cacheMap = depositCache.getAgentDeposits(startHeight);
+        if (cacheMap != null && !ApiContext.roundConsistencyCheck) {
+            depositCache.trim(currentHeight);
+            return cacheMap;
+        }
+        Map<String, BigInteger> depositMap = sumDeposits(mongoDepositServiceImpl.getDepositList(chainId, startHeight));
+        if (cacheMap != null) {
+            if (sameDeposits(cacheMap, depositMap)) {
+                depositCache.trim(currentHeight);
+                return depositMap;
+            }
+            LoggerUtil.commonLog.error("-----agent deposit cache mismatch at height:" + startHeight + ", cache:" + cacheMap + ", db:" + depositMap);
+            depositCache.invalidate();
+        }
+        if (!depositCache.isReady()) {
+            depositCache.init(currentHeight, mongoDepositServiceImpl.getDepositList(chainId, currentHeight));
+        }
+        return depositMap;
+    }
+
+    private Map<String, BigInteger> sumDeposits(List<DepositInfo> depositList) {
+        Map<String, BigInteger> depositMap = new HashMap<>();
+        for (DepositInfo deposit : depositList) {
+            BigInteger agentDeposit = depositMap.get(deposit.getAgentHash());
+            if (null == agentDeposit) {
+                agentDeposit = BigInteger.ZERO;
+            }
+            depositMap.put(deposit.getAgentHash(), agentDeposit.add(deposit.getAmount()));
+        }
+        return depositMap;
+    }
+
+    /**
+     * 比较两份委托总额，总额为0的节点和不存在的节点视为相同
+     */
+    private boolean sameDeposits(Map<String, BigInteger> map1, Map<String, BigInteger> map2) {
+        Set<String> keySet = new HashSet<>(map1.keySet());
+        keySet.addAll(map2.keySet());
+        for (String key : keySet) {
+            BigInteger value1 = map1.getOrDefault(key, BigInteger.ZERO);
+            BigInteger value2 = map2.getOrDefault(key, BigInteger.ZERO);
+            if (value1.compareTo(value2) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public void rollback(int chainId, BlockInfo blockInfo) {
         ApiCache apiCache = CacheManager.getCache(chainId);
         CurrentRound currentRound = apiCache.getCurrentRound();
@@ -308,6 +415,10 @@ public class RoundManager {
             apiCache.setCurrentRound(preRound);
         }
         PocRoundItem item = currentRound.getItemList().get(indexOfRound);
+        //出块记录不是这个区块时，这个区块对轮次的修改没有写入过(批量提交的窗口在轮次写入前中断)，不需要回滚
+        if (item.getBlockHeight() != blockInfo.getHeader().getHeight()) {
+            return;
+        }
         item.setBlockHeight(0);
         item.setReward(BigInteger.ZERO);
         item.setTxCount(0);
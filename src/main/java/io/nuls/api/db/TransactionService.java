@@ -8,6 +8,8 @@ import java.util.Set;
 
 public interface TransactionService {
 
+    void initCache();
+
     void saveTxList(int chainId, List<TransactionInfo> txList);
 
     void saveCoinDataList(int chainId, List<CoinDataInfo> coinDataList);
@@ -30,6 +32,8 @@ public interface TransactionService {
 
     void rollbackTxRelationList(int chainId, Set<TxRelationInfo> relationInfos);
 
+    Long getTxRelationCount(int chainId, String address, int type, int assetChainId, int assetId);
+
     void rollbackCrossTxRelationList(int chainId, Set<String> txHashList);
 
     void rollbackTx(int chainId, List<String> txHashList);
@@ -37,4 +41,6 @@ public interface TransactionService {
     void saveUnConfirmTx(int chainId, TransactionInfo tx, String txHex);
 
     void deleteUnConfirmTx(int chainId, String txHash);
+
+    void deleteUnConfirmTxs(int chainId, List<String> txHashList);
 }
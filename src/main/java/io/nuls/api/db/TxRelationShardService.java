@@ -0,0 +1,23 @@
+package io.nuls.api.db;
+
+import io.nuls.api.model.po.TxRelationShardInfo;
+
+import java.util.List;
+
+public interface TxRelationShardService {
+
+    void initCache();
+
+    void initShardInfo(int chainId);
+
+    TxRelationShardInfo getShardInfo(int chainId);
+
+    void createTables(List<String> tables);
+
+    /**
+     * 复制一批旧表的数据到新的分片表，全部复制完成后切换
+     *
+     * @return 没有在重新分片或者已经切换完成时返回true
+     */
+    boolean reshard(int chainId);
+}
@@ -2,8 +2,9 @@ package io.nuls.api.db.mongo;
 
 import com.mongodb.client.model.*;
 import io.nuls.api.ApiContext;
-import io.nuls.api.analysis.WalletRpcHandler;
+import io.nuls.api.analysis.BalanceFetcher;
 import io.nuls.api.cache.ApiCache;
+import io.nuls.api.cache.LruCache;
 import io.nuls.api.constant.DBTableConstant;
 import io.nuls.api.db.AccountLedgerService;
 import io.nuls.api.db.AccountService;
@@ -24,7 +25,7 @@ import java.math.RoundingMode;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
 import java.util.ArrayList;
-import java.util.LinkedList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -36,17 +37,12 @@ public class MongoAccountLedgerServiceImpl implements AccountLedgerService {
     @Autowired
     private AccountService accountService;
 
-    private List<String> keyList = new LinkedList<>();
-
-    private static int cacheSize = 20000;
-
     public void initCache() {
         for (ApiCache apiCache : CacheManager.getApiCaches().values()) {
-            List<Document> documentList = mongoDBService.pageQuery(DBTableConstant.ACCOUNT_LEDGER_TABLE + apiCache.getChainInfo().getChainId(), 0, cacheSize);
+            List<Document> documentList = mongoDBService.pageQuery(DBTableConstant.ACCOUNT_LEDGER_TABLE + apiCache.getChainInfo().getChainId(), 0, ApiContext.ledgerCacheSize);
             for (Document document : documentList) {
                 AccountLedgerInfo ledgerInfo = DocumentTransferTool.toInfo(document, "key", AccountLedgerInfo.class);
                 apiCache.addAccountLedgerInfo(ledgerInfo);
-                keyList.add(ledgerInfo.getKey());
             }
         }
     }
@@ -60,16 +56,18 @@ public class MongoAccountLedgerServiceImpl implements AccountLedgerService {
                 return null;
             }
             accountLedgerInfo = DocumentTransferTool.toInfo(document, "key", AccountLedgerInfo.class);
-            while (keyList.size() >= cacheSize) {
-                key = keyList.remove(0);
-                apiCache.getLedgerMap().remove(key);
-            }
-            apiCache.addAccountLedgerInfo(accountLedgerInfo);
-            keyList.add(accountLedgerInfo.getKey());
+            apiCache.getLedgerCache().admit(key, accountLedgerInfo);
         }
         return accountLedgerInfo.copy();
     }
 
+    public void removeCache(int chainId, Collection<String> keys) {
+        LruCache<String, AccountLedgerInfo> ledgerCache = CacheManager.getCache(chainId).getLedgerCache();
+        for (String key : keys) {
+            ledgerCache.remove(key);
+        }
+    }
+
     public void saveLedgerList(int chainId, Map<String, AccountLedgerInfo> accountLedgerInfoMap) {
         if (accountLedgerInfoMap.isEmpty()) {
             return;
@@ -99,11 +97,10 @@ public class MongoAccountLedgerServiceImpl implements AccountLedgerService {
             mongoDBService.bulkWrite(DBTableConstant.ACCOUNT_LEDGER_TABLE + chainId, modelList, options);
         }
 
+        //和数据库在同一个step里写入缓存，频繁变动的地址资产保持在缓存中
         ApiCache apiCache = CacheManager.getCache(chainId);
         for (AccountLedgerInfo ledgerInfo : accountLedgerInfoMap.values()) {
-            if (apiCache.getLedgerMap().containsKey(ledgerInfo.getKey())) {
-                apiCache.addAccountLedgerInfo(ledgerInfo);
-            }
+            apiCache.addAccountLedgerInfo(ledgerInfo);
         }
     }
 
@@ -143,13 +140,30 @@ public class MongoAccountLedgerServiceImpl implements AccountLedgerService {
         long totalCount = mongoDBService.getCount(DBTableConstant.ACCOUNT_LEDGER_TABLE + chainId, filter);
         Bson sort = Sorts.descending("totalBalance");
         List<Document> documentList = mongoDBService.pageQuery(DBTableConstant.ACCOUNT_LEDGER_TABLE + chainId, filter, sort, pageNumber, pageSize);
+        //一页的余额并发查询，账户信息一次批量读取
+        List<AccountLedgerInfo> ledgerInfoList = new ArrayList<>();
+        List<String> addressList = new ArrayList<>();
+        BalanceFetcher.Batch batch = new BalanceFetcher.Batch(chainId);
+        for (Document document : documentList) {
+            AccountLedgerInfo ledgerInfo = DocumentTransferTool.toInfo(document, "key", AccountLedgerInfo.class);
+            ledgerInfoList.add(ledgerInfo);
+            addressList.add(ledgerInfo.getAddress());
+            batch.add(ledgerInfo.getAddress(), ledgerInfo.getChainId(), ledgerInfo.getAssetId());
+        }
+        Map<String, AccountInfo> accountInfoMap = accountService.getAccountInfoMap(chainId, addressList);
+        Map<String, BalanceInfo> balanceMap = batch.get();
         List<MiniAccountInfo> list = new ArrayList<>();
-        for (int i = 0; i < documentList.size(); i++) {
-            AccountLedgerInfo ledgerInfo = DocumentTransferTool.toInfo(documentList.get(i), "key", AccountLedgerInfo.class);
-            MiniAccountInfo accountInfo = accountService.getMiniAccountInfo(chainId, ledgerInfo.getAddress());
+        for (AccountLedgerInfo ledgerInfo : ledgerInfoList) {
+            AccountInfo info = accountInfoMap.get(ledgerInfo.getAddress());
+            if (info == null) {
+                continue;
+            }
+            MiniAccountInfo accountInfo = new MiniAccountInfo(info);
             accountInfo.setTotalBalance(ledgerInfo.getTotalBalance());
-            BalanceInfo balanceInfo = WalletRpcHandler.getAccountBalance(chainId, accountInfo.getAddress(), ledgerInfo.getChainId(), ledgerInfo.getAssetId());
-            accountInfo.setLocked(balanceInfo.getConsensusLock().add(balanceInfo.getTimeLock()));
+            BalanceInfo balanceInfo = balanceMap.get(ledgerInfo.getKey());
+            if (balanceInfo != null) {
+                accountInfo.setLocked(balanceInfo.getConsensusLock().add(balanceInfo.getTimeLock()));
+            }
             accountInfo.setDecimal(assetInfo.getDecimals());
 
             BigDecimal b1 = new BigDecimal(accountInfo.getTotalBalance());
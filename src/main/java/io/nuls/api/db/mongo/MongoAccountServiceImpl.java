@@ -2,12 +2,17 @@ package io.nuls.api.db.mongo;
 
 import com.mongodb.BasicDBObject;
 import com.mongodb.client.model.*;
+import io.nuls.api.ApiContext;
 import io.nuls.api.cache.ApiCache;
+import io.nuls.api.cache.PendingTxPool;
 import io.nuls.api.constant.ApiConstant;
 import io.nuls.api.db.AccountService;
+import io.nuls.api.db.TransactionService;
 import io.nuls.api.manager.CacheManager;
 import io.nuls.api.model.po.AccountInfo;
 import io.nuls.api.model.po.ActiveAddressVo;
+import io.nuls.api.model.po.CursorPageInfo;
+import io.nuls.api.model.po.PageCursor;
 import io.nuls.api.model.po.PageInfo;
 import io.nuls.api.model.po.TxRelationInfo;
 import io.nuls.api.model.po.mini.MiniAccountInfo;
@@ -16,11 +21,14 @@ import io.nuls.api.utils.DocumentTransferTool;
 import io.nuls.core.core.annotation.Autowired;
 import io.nuls.core.core.annotation.Component;
 import io.nuls.core.model.BigIntegerUtils;
+import io.nuls.core.rpc.util.NulsDateUtils;
 import org.bson.Document;
 import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
 
 import java.math.BigInteger;
 import java.util.*;
+import java.util.function.Predicate;
 
 import static io.nuls.api.constant.DBTableConstant.*;
 
@@ -29,51 +37,71 @@ public class MongoAccountServiceImpl implements AccountService {
 
     @Autowired
     private MongoDBService mongoDBService;
-
-    private static List<String> addressList = Collections.synchronizedList(new ArrayList<>());
-
-    public static int cacheSize = 5000;
+    @Autowired
+    private TransactionService transactionService;
 
     public void initCache() {
         for (ApiCache apiCache : CacheManager.getApiCaches().values()) {
-            List<Document> documentList = mongoDBService.pageQuery(ACCOUNT_TABLE + apiCache.getChainInfo().getChainId(), 0, cacheSize);
+            List<Document> documentList = mongoDBService.pageQuery(ACCOUNT_TABLE + apiCache.getChainInfo().getChainId(), 0, ApiContext.accountCacheSize);
             for (int i = 0; i < documentList.size(); i++) {
                 Document document = documentList.get(i);
                 AccountInfo accountInfo = DocumentTransferTool.toInfo(document, "address", AccountInfo.class);
                 apiCache.addAccountInfo(accountInfo);
-                addressList.add(accountInfo.getAddress());
             }
         }
     }
 
     public AccountInfo getAccountInfo(int chainId, String address) {
+        AccountInfo accountInfo = loadAccountInfo(chainId, address);
+        if (accountInfo == null) {
+            return null;
+        }
+        return accountInfo.copy();
+    }
+
+    /**
+     * 批量查询账户，缓存未命中的地址用一次$in查询从数据库读取
+     *
+     * @return 不存在的地址不在结果中
+     */
+    public Map<String, AccountInfo> getAccountInfoMap(int chainId, Collection<String> addresses) {
+        Map<String, AccountInfo> accountInfoMap = new HashMap<>();
         ApiCache apiCache = CacheManager.getCache(chainId);
         if (apiCache == null) {
-            return null;
+            return accountInfoMap;
         }
-        AccountInfo accountInfo = apiCache.getAccountInfo(address);
-        if (accountInfo == null) {
-            Document document = mongoDBService.findOne(ACCOUNT_TABLE + chainId, Filters.eq("_id", address));
-            if (document == null) {
-                return null;
+        Set<String> missSet = new HashSet<>();
+        for (String address : addresses) {
+            AccountInfo accountInfo = apiCache.getAccountInfo(address);
+            if (accountInfo != null) {
+                accountInfoMap.put(address, accountInfo.copy());
+            } else {
+                missSet.add(address);
             }
-            accountInfo = DocumentTransferTool.toInfo(document, "address", AccountInfo.class);
-
-            while (addressList.size() >= cacheSize) {
-                if (addressList.get(0) == null) {
-                    addressList.remove(0);
-                } else {
-                    address = addressList.remove(0);
-                    apiCache.getAccountMap().remove(address);
-                }
+        }
+        if (!missSet.isEmpty()) {
+            for (Document document : mongoDBService.query(ACCOUNT_TABLE + chainId, Filters.in("_id", missSet))) {
+                AccountInfo accountInfo = DocumentTransferTool.toInfo(document, "address", AccountInfo.class);
+                apiCache.getAccountCache().admit(accountInfo.getAddress(), accountInfo);
+                accountInfoMap.put(accountInfo.getAddress(), accountInfo.copy());
             }
-            apiCache.addAccountInfo(accountInfo);
-            addressList.add(accountInfo.getAddress());
         }
-        return accountInfo.copy();
+        return accountInfoMap;
     }
 
     public MiniAccountInfo getMiniAccountInfo(int chainId, String address) {
+        AccountInfo accountInfo = loadAccountInfo(chainId, address);
+        if (accountInfo == null) {
+            return null;
+        }
+        return new MiniAccountInfo(accountInfo);
+    }
+
+    /**
+     * 先从缓存中查询，未命中时从数据库读取，按缓存的准入策略放入缓存
+     * 返回的是缓存中的对象，不能直接修改
+     */
+    private AccountInfo loadAccountInfo(int chainId, String address) {
         ApiCache apiCache = CacheManager.getCache(chainId);
         if (apiCache == null) {
             return null;
@@ -85,19 +113,9 @@ public class MongoAccountServiceImpl implements AccountService {
                 return null;
             }
             accountInfo = DocumentTransferTool.toInfo(document, "address", AccountInfo.class);
-            while (addressList.size() >= cacheSize) {
-                if (addressList.get(0) == null) {
-                    addressList.remove(0);
-                } else {
-                    address = addressList.remove(0);
-                    apiCache.getAccountMap().remove(address);
-                }
-            }
-            apiCache.addAccountInfo(accountInfo);
-            addressList.add(accountInfo.getAddress());
+            apiCache.getAccountCache().admit(address, accountInfo);
         }
-
-        return new MiniAccountInfo(accountInfo);
+        return accountInfo;
     }
 
 
@@ -131,19 +149,10 @@ public class MongoAccountServiceImpl implements AccountService {
             mongoDBService.bulkWrite(ACCOUNT_TABLE + chainId, modelList, options);
         }
 
+        //写入缓存，同步中频繁变动的地址保持在缓存中
         ApiCache apiCache = CacheManager.getCache(chainId);
         for (AccountInfo accountInfo : accountInfoMap.values()) {
-            if (apiCache.getAccountMap().containsKey(accountInfo.getAddress())) {
-                apiCache.addAccountInfo(accountInfo);
-            }
-//            else {
-//                while (addressList.size() >= cacheSize) {
-//                    String address = addressList.remove(0);
-//                    apiCache.getAccountMap().remove(address);
-//                }
-//                apiCache.addAccountInfo(accountInfo);
-//                addressList.add(accountInfo.getAddress());
-//            }
+            apiCache.addAccountInfo(accountInfo);
         }
     }
 
@@ -159,6 +168,115 @@ public class MongoAccountServiceImpl implements AccountService {
     }
 
     public PageInfo<TxRelationInfo> getAccountTxs(int chainId, String address, int pageIndex, int pageSize, int type, long startHeight, long endHeight, int assetChainId, int assetId) {
+        int start = (pageIndex - 1) * pageSize;
+        int end = pageIndex * pageSize;
+        String relationTable = DBUtil.getTxRelationTable(chainId, address);
+
+        Bson filter = accountTxsFilter(address, type, startHeight, endHeight, assetChainId, assetId);
+        List<PendingTxPool.PendingRelation> pendingList = CacheManager.getCache(chainId).getPendingTxPool()
+                .getRelations(address, accountTxsPredicate(type, startHeight, endHeight, assetChainId, assetId), NulsDateUtils.getCurrentTimeMillis());
+        long unConfirmCount = pendingList.size();
+        //只按类型和资产过滤时总数从计数表读取
+        Long confirmCount = null;
+        if (startHeight < 0 && endHeight <= 0) {
+            confirmCount = transactionService.getTxRelationCount(chainId, address, type, assetChainId, assetId);
+        }
+        if (confirmCount == null) {
+            confirmCount = mongoDBService.getCount(relationTable, filter);
+        }
+        List<TxRelationInfo> txRelationInfoList;
+        if (end <= unConfirmCount) {
+            txRelationInfoList = unConfirmLimitQuery(pendingList, start, pageSize);
+        } else if (start > unConfirmCount || unConfirmCount == 0) {
+            start = (int) (start - unConfirmCount);
+            txRelationInfoList = confirmLimitQuery(relationTable, filter, start, pageSize);
+        } else {
+            txRelationInfoList = relationLimitQuery(pendingList, relationTable, filter, start, pageSize);
+        }
+
+        PageInfo<TxRelationInfo> pageInfo = new PageInfo<>(pageIndex, pageSize, unConfirmCount + confirmCount, txRelationInfoList);
+        return pageInfo;
+    }
+
+    /**
+     * 按游标翻页查询账户交易，先返回未确认的关系，再返回已确认的关系，排序与getAccountTxs相同
+     * 每页从游标记录的(createTime, txHash)之后开始查询，走address+createTime索引，不再skip前面的记录
+     * Keyset pagination over the account's unconfirmed then confirmed relations
+     */
+    public CursorPageInfo<TxRelationInfo> getAccountTxsByCursor(int chainId, String address, PageCursor cursor, int pageSize, int type, long startHeight, long endHeight, int assetChainId, int assetId) {
+        String relationTable = DBUtil.getTxRelationTable(chainId, address);
+        Bson filter = accountTxsFilter(address, type, startHeight, endHeight, assetChainId, assetId);
+        List<TxRelationInfo> txRelationInfoList = new ArrayList<>();
+        Document last = null;
+        int lastStatus = ApiConstant.TX_UNCONFIRM;
+        if (cursor == null || !cursor.isConfirmed()) {
+            List<PendingTxPool.PendingRelation> pendingList = CacheManager.getCache(chainId).getPendingTxPool()
+                    .getRelations(address, accountTxsPredicate(type, startHeight, endHeight, assetChainId, assetId), NulsDateUtils.getCurrentTimeMillis());
+            for (PendingTxPool.PendingRelation relation : pendingList) {
+                if (txRelationInfoList.size() == pageSize) {
+                    break;
+                }
+                TxRelationInfo info = relation.getInfo();
+                if (cursor == null || isAfterCursor(info, relation.getId(), cursor)) {
+                    txRelationInfoList.add(info);
+                    last = new Document("createTime", info.getCreateTime()).append("txHash", info.getTxHash()).append("_id", relation.getId());
+                }
+            }
+        }
+        if (txRelationInfoList.size() < pageSize) {
+            //未确认的关系已经取完，已确认的部分从头开始
+            PageCursor confirmCursor = cursor != null && cursor.isConfirmed() ? cursor : null;
+            List<Document> docsList = seekQuery(relationTable, filter, confirmCursor, pageSize - txRelationInfoList.size());
+            if (!docsList.isEmpty()) {
+                lastStatus = ApiConstant.TX_CONFIRM;
+            }
+            last = addRelations(txRelationInfoList, docsList, ApiConstant.TX_CONFIRM, last);
+        }
+        String nextCursor = null;
+        if (txRelationInfoList.size() == pageSize && last != null) {
+            nextCursor = new PageCursor(lastStatus, last.getLong("createTime"), last.getString("txHash"), last.getObjectId("_id").toHexString()).encode();
+        }
+        return new CursorPageInfo<>(pageSize, nextCursor, txRelationInfoList);
+    }
+
+    /**
+     * 按(createTime, txHash, _id)倒序，从游标记录之后开始查询
+     */
+    private List<Document> seekQuery(String collName, Bson filter, PageCursor cursor, int pageSize) {
+        if (cursor != null) {
+            Bson seek = Filters.or(Filters.lt("createTime", cursor.getCreateTime()),
+                    Filters.and(Filters.eq("createTime", cursor.getCreateTime()), Filters.lt("txHash", cursor.getTxHash())),
+                    Filters.and(Filters.eq("createTime", cursor.getCreateTime()), Filters.eq("txHash", cursor.getTxHash()), Filters.lt("_id", new ObjectId(cursor.getId()))));
+            filter = Filters.and(filter, seek);
+        }
+        return this.mongoDBService.limitQuery(collName, filter, Sorts.descending("createTime", "txHash", "_id"), 0, pageSize);
+    }
+
+    /**
+     * 与seekQuery的条件相同：(createTime, txHash, id)小于游标记录
+     */
+    private static boolean isAfterCursor(TxRelationInfo info, ObjectId id, PageCursor cursor) {
+        if (info.getCreateTime() != cursor.getCreateTime()) {
+            return info.getCreateTime() < cursor.getCreateTime();
+        }
+        int result = info.getTxHash().compareTo(cursor.getTxHash());
+        if (result != 0) {
+            return result < 0;
+        }
+        return id.compareTo(new ObjectId(cursor.getId())) < 0;
+    }
+
+    private Document addRelations(List<TxRelationInfo> txRelationInfoList, List<Document> docsList, int status, Document last) {
+        for (Document document : docsList) {
+            TxRelationInfo txRelationInfo = TxRelationInfo.toInfo(document);
+            txRelationInfo.setStatus(status);
+            txRelationInfoList.add(txRelationInfo);
+            last = document;
+        }
+        return last;
+    }
+
+    private Bson accountTxsFilter(String address, int type, long startHeight, long endHeight, int assetChainId, int assetId) {
         List<Bson> filters = new ArrayList<>();
         filters.add(Filters.eq("address", address));
         if (type > 0) {
@@ -174,26 +292,17 @@ public class MongoAccountServiceImpl implements AccountService {
         if (endHeight > 0) {
             filters.add(Filters.lte("height", endHeight));
         }
+        return Filters.and(filters);
+    }
 
-        int start = (pageIndex - 1) * pageSize;
-        int end = pageIndex * pageSize;
-        int index = DBUtil.getShardNumber(address);
-
-        Bson filter = Filters.and(filters);
-        long unConfirmCount = mongoDBService.getCount(TX_UNCONFIRM_RELATION_TABLE + chainId, filter);
-        long confirmCount = mongoDBService.getCount(TX_RELATION_TABLE + chainId + "_" + index, filter);
-        List<TxRelationInfo> txRelationInfoList;
-        if (end <= unConfirmCount) {
-            txRelationInfoList = unConfirmLimitQuery(chainId, filter, start, pageSize);
-        } else if (start > unConfirmCount || unConfirmCount == 0) {
-            start = (int) (start - unConfirmCount);
-            txRelationInfoList = confirmLimitQuery(chainId, index, filter, start, pageSize);
-        } else {
-            txRelationInfoList = relationLimitQuery(chainId, index, filter, filter, start, pageSize);
-        }
-
-        PageInfo<TxRelationInfo> pageInfo = new PageInfo<>(pageIndex, pageSize, unConfirmCount + confirmCount, txRelationInfoList);
-        return pageInfo;
+    /**
+     * 未确认交易池中的过滤条件，与accountTxsFilter相同(地址由交易池索引)
+     */
+    private static Predicate<TxRelationInfo> accountTxsPredicate(int type, long startHeight, long endHeight, int assetChainId, int assetId) {
+        return info -> (type <= 0 || info.getType() == type)
+                && (assetChainId <= 0 || assetId <= 0 || (info.getChainId() == assetChainId && info.getAssetId() == assetId))
+                && (startHeight < 0 || info.getHeight() >= startHeight)
+                && (endHeight <= 0 || info.getHeight() <= endHeight);
     }
 
     public PageInfo<TxRelationInfo> queryAccountTxs(int chainId, String address, int pageIndex, int assetChainId, int assetId) {
@@ -207,11 +316,18 @@ public class MongoAccountServiceImpl implements AccountService {
         }
 
         int start = (pageIndex - 1) * 10;
-        int index = DBUtil.getShardNumber(address);
+        String relationTable = DBUtil.getTxRelationTable(chainId, address);
 
         Bson filter = Filters.and(filters);
-        long confirmCount = mongoDBService.getCount(TX_RELATION_TABLE + chainId + "_" + index, filter);
-        List<TxRelationInfo> txRelationInfoList = confirmLimitQuery(chainId, index, filter, start, 10);
+        Long confirmCount = null;
+        Long transferCount = transactionService.getTxRelationCount(chainId, address, 2, assetChainId, assetId);
+        if (transferCount != null) {
+            confirmCount = transferCount + transactionService.getTxRelationCount(chainId, address, 10, assetChainId, assetId);
+        }
+        if (confirmCount == null) {
+            confirmCount = mongoDBService.getCount(relationTable, filter);
+        }
+        List<TxRelationInfo> txRelationInfoList = confirmLimitQuery(relationTable, filter, start, 10);
         PageInfo<TxRelationInfo> pageInfo = new PageInfo<>(pageIndex, 10, confirmCount, txRelationInfoList);
         return pageInfo;
     }
@@ -239,38 +355,65 @@ public class MongoAccountServiceImpl implements AccountService {
         Bson filter = Filters.and(filters);
         int start = (pageIndex - 1) * pageSize;
         int end = pageIndex * pageSize;
-        int index = DBUtil.getShardNumber(address);
+        String relationTable = DBUtil.getTxRelationTable(chainId, address);
 
-        long unConfirmCount = mongoDBService.getCount(TX_UNCONFIRM_RELATION_TABLE + chainId, addressFilter);
-        long confirmCount = mongoDBService.getCount(TX_RELATION_TABLE + chainId + "_" + index, filter);
+        //未确认的总数只按地址统计
+        List<PendingTxPool.PendingRelation> pendingList = CacheManager.getCache(chainId).getPendingTxPool()
+                .getRelations(address, info -> true, NulsDateUtils.getCurrentTimeMillis());
+        long unConfirmCount = pendingList.size();
+        //只按类型和资产过滤时总数从计数表读取
+        Long confirmCount = null;
+        if (startTime <= 0 && endTime <= 0) {
+            confirmCount = transactionService.getTxRelationCount(chainId, address, type, assetChainId, assetId);
+        }
+        if (confirmCount == null) {
+            confirmCount = mongoDBService.getCount(relationTable, filter);
+        }
         List<TxRelationInfo> txRelationInfoList;
         if (end <= unConfirmCount) {
-            txRelationInfoList = unConfirmLimitQuery(chainId, filter, start, pageSize);
+            txRelationInfoList = unConfirmLimitQuery(filterPending(pendingList, type, startTime, endTime, assetChainId, assetId), start, pageSize);
         } else if (start - 1 > unConfirmCount) {
             start = start - 1;
             start = (int) (start - unConfirmCount);
-            txRelationInfoList = confirmLimitQuery(chainId, index, filter, start, pageSize);
+            txRelationInfoList = confirmLimitQuery(relationTable, filter, start, pageSize);
         } else {
-            txRelationInfoList = relationLimitQuery(chainId, index, addressFilter, filter, start, pageSize);
+            txRelationInfoList = relationLimitQuery(pendingList, relationTable, filter, start, pageSize);
         }
 
         PageInfo<TxRelationInfo> pageInfo = new PageInfo<>(pageIndex, pageSize, unConfirmCount + confirmCount, txRelationInfoList);
         return pageInfo;
     }
 
-    private List<TxRelationInfo> unConfirmLimitQuery(int chainId, Bson filter, int start, int pageSize) {
-        List<Document> docsList = this.mongoDBService.limitQuery(TX_UNCONFIRM_RELATION_TABLE + chainId, filter, Sorts.descending("createTime"), start, pageSize);
+    /**
+     * getAcctTxs中按时间过滤未确认的关系
+     */
+    private static List<PendingTxPool.PendingRelation> filterPending(List<PendingTxPool.PendingRelation> pendingList, int type, long startTime, long endTime, int assetChainId, int assetId) {
+        List<PendingTxPool.PendingRelation> list = new ArrayList<>();
+        for (PendingTxPool.PendingRelation relation : pendingList) {
+            TxRelationInfo info = relation.getInfo();
+            if ((type <= 0 || info.getType() == type)
+                    && (assetChainId <= 0 || assetId <= 0 || (info.getChainId() == assetChainId && info.getAssetId() == assetId))
+                    && (startTime <= 0 || info.getCreateTime() >= startTime)
+                    && (endTime <= 0 || info.getCreateTime() <= endTime)) {
+                list.add(relation);
+            }
+        }
+        return list;
+    }
+
+    /**
+     * 交易池中的关系在放入时已经设置为未确认状态
+     */
+    private List<TxRelationInfo> unConfirmLimitQuery(List<PendingTxPool.PendingRelation> pendingList, int start, int pageSize) {
         List<TxRelationInfo> txRelationInfoList = new ArrayList<>();
-        for (Document document : docsList) {
-            TxRelationInfo txRelationInfo = TxRelationInfo.toInfo(document);
-            txRelationInfo.setStatus(0);
-            txRelationInfoList.add(txRelationInfo);
+        for (int i = start; i < pendingList.size() && i < start + pageSize; i++) {
+            txRelationInfoList.add(pendingList.get(i).getInfo());
         }
         return txRelationInfoList;
     }
 
-    private List<TxRelationInfo> confirmLimitQuery(int chainId, int index, Bson filter, int start, int pageSize) {
-        List<Document> docsList = this.mongoDBService.limitQuery(TX_RELATION_TABLE + chainId + "_" + index, filter, Sorts.descending("createTime"), start, pageSize);
+    private List<TxRelationInfo> confirmLimitQuery(String relationTable, Bson filter, int start, int pageSize) {
+        List<Document> docsList = this.mongoDBService.limitQuery(relationTable, filter, Sorts.descending("createTime"), start, pageSize);
         List<TxRelationInfo> txRelationInfoList = new ArrayList<>();
         for (Document document : docsList) {
             TxRelationInfo txRelationInfo = TxRelationInfo.toInfo(document);
@@ -280,16 +423,10 @@ public class MongoAccountServiceImpl implements AccountService {
         return txRelationInfoList;
     }
 
-    private List<TxRelationInfo> relationLimitQuery(int chainId, int index, Bson filter1, Bson filter2, int start, int pageSize) {
-        List<Document> docsList = this.mongoDBService.limitQuery(TX_UNCONFIRM_RELATION_TABLE + chainId, filter1, Sorts.descending("createTime"), start, pageSize);
-        List<TxRelationInfo> txRelationInfoList = new ArrayList<>();
-        for (Document document : docsList) {
-            TxRelationInfo txRelationInfo = TxRelationInfo.toInfo(document);
-            txRelationInfo.setStatus(ApiConstant.TX_UNCONFIRM);
-            txRelationInfoList.add(txRelationInfo);
-        }
+    private List<TxRelationInfo> relationLimitQuery(List<PendingTxPool.PendingRelation> pendingList, String relationTable, Bson filter, int start, int pageSize) {
+        List<TxRelationInfo> txRelationInfoList = unConfirmLimitQuery(pendingList, start, pageSize);
         pageSize = pageSize - txRelationInfoList.size();
-        docsList = this.mongoDBService.limitQuery(TX_RELATION_TABLE + chainId + "_" + index, filter2, Sorts.descending("createTime"), 0, pageSize);
+        List<Document> docsList = this.mongoDBService.limitQuery(relationTable, filter, Sorts.descending("createTime"), 0, pageSize);
         for (Document document : docsList) {
             TxRelationInfo txRelationInfo = TxRelationInfo.toInfo(document);
             txRelationInfo.setStatus(ApiConstant.TX_CONFIRM);
@@ -318,23 +455,12 @@ public class MongoAccountServiceImpl implements AccountService {
     }
 
     public BigInteger getAllAccountBalance(int chainId) {
-        boolean query = true;
-        BigInteger totalBalance = BigInteger.ZERO;
-        List<Document> documentList;
-        int i = 1;
         BasicDBObject fields = new BasicDBObject();
         fields.append("totalBalance", 1);
-        while (query) {
-            documentList = mongoDBService.pageQuery(ACCOUNT_TABLE + chainId, null, fields, Sorts.descending("totalBalance"), i, 1000);
-            for (Document document : documentList) {
-                totalBalance = totalBalance.add(new BigInteger(document.getString("totalBalance")));
-            }
-            if (documentList.size() < 1000) {
-                query = false;
-            }
-            i++;
-        }
-        return totalBalance;
+        BigInteger[] totalBalance = {BigInteger.ZERO};
+        mongoDBService.forEach(ACCOUNT_TABLE + chainId, null, fields,
+                document -> totalBalance[0] = totalBalance[0].add(new BigInteger(document.getString("totalBalance"))));
+        return totalBalance[0];
     }
 
     public BigInteger getAccountTotalBalance(int chainId, String address) {
@@ -350,29 +476,23 @@ public class MongoAccountServiceImpl implements AccountService {
         BulkWriteOptions options = new BulkWriteOptions();
         options.ordered(false);
         List<WriteModel<Document>> modelList = new ArrayList<>();
-
-        boolean query = true;
-        int i = 1;
-        while (query) {
-            List<Document> documentList = mongoDBService.pageQuery(ACCOUNT_TABLE + chainId, i, 1000);
-            for (Document document : documentList) {
-                AccountInfo accountInfo = DocumentTransferTool.toInfo(document, "address", AccountInfo.class);
-                accountInfo.setLastDayReward(accountInfo.getTodayReward());
-                accountInfo.setTodayReward(BigInteger.ZERO);
-                updateCacheAccount(chainId, accountInfo);
-
-                document = DocumentTransferTool.toDocument(accountInfo, "address");
-                document.put("totalBalance", BigIntegerUtils.bigIntegerToString(accountInfo.getTotalBalance(), 32));
-                modelList.add(new ReplaceOneModel<>(Filters.eq("_id", accountInfo.getAddress()), document));
+        //按_id顺序遍历，更新后的文档不会被游标重复读到
+        mongoDBService.forEach(ACCOUNT_TABLE + chainId, null, null, Sorts.ascending("_id"), MongoDBService.DEFAULT_BATCH_SIZE, document -> {
+            AccountInfo accountInfo = DocumentTransferTool.toInfo(document, "address", AccountInfo.class);
+            accountInfo.setLastDayReward(accountInfo.getTodayReward());
+            accountInfo.setTodayReward(BigInteger.ZERO);
+            updateCacheAccount(chainId, accountInfo);
+
+            document = DocumentTransferTool.toDocument(accountInfo, "address");
+            document.put("totalBalance", BigIntegerUtils.bigIntegerToString(accountInfo.getTotalBalance(), 32));
+            modelList.add(new ReplaceOneModel<>(Filters.eq("_id", accountInfo.getAddress()), document));
+            if (modelList.size() >= MongoDBService.DEFAULT_BATCH_SIZE) {
+                mongoDBService.bulkWrite(ACCOUNT_TABLE + chainId, modelList, options);
+                modelList.clear();
             }
-
+        });
+        if (!modelList.isEmpty()) {
             mongoDBService.bulkWrite(ACCOUNT_TABLE + chainId, modelList, options);
-            modelList.clear();
-
-            if (documentList.size() < 1000) {
-                query = false;
-            }
-            i++;
         }
     }
 
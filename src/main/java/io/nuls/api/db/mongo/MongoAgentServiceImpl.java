@@ -71,16 +71,7 @@ public class MongoAgentServiceImpl implements AgentService {
     }
 
     public AgentInfo getAgentByPackingAddress(int chainID, String packingAddress) {
-        Collection<AgentInfo> agentInfos = CacheManager.getCache(chainID).getAgentMap().values();
-        AgentInfo agentInfo = null;
-        for (AgentInfo agent : agentInfos) {
-            if (!agent.getPackingAddress().equals(packingAddress)) {
-                continue;
-            }
-            if (null == agentInfo || agent.getCreateTime() > agentInfo.getCreateTime()) {
-                agentInfo = agent;
-            }
-        }
+        AgentInfo agentInfo = CacheManager.getCache(chainID).getAgentCache().getLatestByPackingAddress(packingAddress);
         if (agentInfo == null) {
             return null;
         }
@@ -88,16 +79,7 @@ public class MongoAgentServiceImpl implements AgentService {
     }
 
     public AgentInfo getAgentByAgentAddress(int chainID, String agentAddress) {
-        Collection<AgentInfo> agentInfos = CacheManager.getCache(chainID).getAgentMap().values();
-        AgentInfo agentInfo = null;
-        for (AgentInfo agent : agentInfos) {
-            if (!agentAddress.equals(agent.getAgentAddress())) {
-                continue;
-            }
-            if (null == agentInfo || agent.getCreateTime() > agentInfo.getCreateTime()) {
-                agentInfo = agent;
-            }
-        }
+        AgentInfo agentInfo = CacheManager.getCache(chainID).getAgentCache().getLatestByAgentAddress(agentAddress);
         if (agentInfo == null) {
             return null;
         }
@@ -106,19 +88,7 @@ public class MongoAgentServiceImpl implements AgentService {
 
     @Override
     public AgentInfo getAliveAgentByAgentAddress(int chainID, String agentAddress) {
-        Collection<AgentInfo> agentInfos = CacheManager.getCache(chainID).getAgentMap().values();
-        AgentInfo agentInfo = null;
-        for (AgentInfo agent : agentInfos) {
-            if (!agentAddress.equals(agent.getAgentAddress())) {
-                continue;
-            }
-            if (agent.getStatus() == 2) {
-                continue;
-            }
-            if (null == agentInfo || agent.getCreateTime() > agentInfo.getCreateTime()) {
-                agentInfo = agent;
-            }
-        }
+        AgentInfo agentInfo = CacheManager.getCache(chainID).getAgentCache().getLatestAliveByAgentAddress(agentAddress);
         if (agentInfo == null) {
             return null;
         }
@@ -144,9 +114,7 @@ public class MongoAgentServiceImpl implements AgentService {
         options.ordered(false);
         mongoDBService.bulkWrite(AGENT_TABLE + chainID, modelList, options);
         ApiCache cache = CacheManager.getCache(chainID);
-        for (AgentInfo agentInfo : agentInfoList) {
-            cache.addAgentInfo(agentInfo);
-        }
+        cache.getAgentCache().putAll(agentInfoList);
     }
 
     public void rollbackAgentList(int chainId, List<AgentInfo> agentInfoList) {
@@ -159,7 +127,7 @@ public class MongoAgentServiceImpl implements AgentService {
         for (AgentInfo agentInfo : agentInfoList) {
             if (agentInfo.isNew()) {
                 modelList.add(new DeleteOneModel(Filters.eq("_id", agentInfo.getTxHash())));
-                apiCache.getAgentMap().remove(agentInfo.getTxHash());
+                apiCache.getAgentCache().remove(agentInfo.getTxHash());
             } else {
                 Document document = DocumentTransferTool.toDocument(agentInfo, "txHash");
                 modelList.add(new ReplaceOneModel<>(Filters.eq("_id", agentInfo.getTxHash()), document));
@@ -173,7 +141,7 @@ public class MongoAgentServiceImpl implements AgentService {
 
     public List<AgentInfo> getAgentList(int chainId, long startHeight) {
         ApiCache apiCache = CacheManager.getCache(chainId);
-        Collection<AgentInfo> agentInfos = apiCache.getAgentMap().values();
+        Collection<AgentInfo> agentInfos = apiCache.getAgentCache().values();
         List<AgentInfo> resultList = new ArrayList<>();
         for (AgentInfo agent : agentInfos) {
             if (agent.getDeleteHash() != null && agent.getDeleteHeight() <= startHeight) {
@@ -267,7 +235,7 @@ public class MongoAgentServiceImpl implements AgentService {
 
     public long agentsCount(int chainId, long startHeight) {
         ApiCache apiCache = CacheManager.getCache(chainId);
-        Collection<AgentInfo> agentInfos = apiCache.getAgentMap().values();
+        Collection<AgentInfo> agentInfos = apiCache.getAgentCache().values();
         long count = 0;
         for (AgentInfo agent : agentInfos) {
             if (agent.getDeleteHash() != null && agent.getDeleteHeight() <= startHeight) {
@@ -284,14 +252,7 @@ public class MongoAgentServiceImpl implements AgentService {
     }
 
     public BigInteger getConsensusCoinTotal(int chainId) {
-        BigInteger total = BigInteger.ZERO;
-
         ApiCache apiCache = CacheManager.getCache(chainId);
-        for (AgentInfo agentInfo : apiCache.getAgentMap().values()) {
-            if (agentInfo.getDeleteHash() == null) {
-                total = total.add(agentInfo.getDeposit()).add(agentInfo.getTotalDeposit());
-            }
-        }
-        return total;
+        return apiCache.getAgentCache().getConsensusCoinTotal();
     }
 }
@@ -1,12 +1,15 @@
 package io.nuls.api.db.mongo;
 
 import com.mongodb.BasicDBObject;
+import com.mongodb.client.model.Accumulators;
+import com.mongodb.client.model.Aggregates;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.InsertOneModel;
 import com.mongodb.client.model.Sorts;
 import com.mongodb.client.model.WriteModel;
 import io.nuls.api.ApiContext;
 import io.nuls.api.cache.ApiCache;
+import io.nuls.api.cache.BlockRewardWindow;
 import io.nuls.api.constant.config.ApiConfig;
 import io.nuls.api.db.AgentService;
 import io.nuls.api.db.BlockService;
@@ -22,7 +25,10 @@ import org.bson.conversions.Bson;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static io.nuls.api.constant.DBTableConstant.BLOCK_HEADER_TABLE;
 import static io.nuls.api.constant.DBTableConstant.BLOCK_HEX_TABLE;
@@ -75,11 +81,33 @@ public class MongoBlockServiceImpl implements BlockService {
         mongoDBService.insertOne(BLOCK_HEADER_TABLE + chainId, document);
     }
 
+    public void saveBlockHeaderList(int chainId, List<BlockHeaderInfo> headerList) {
+        if (headerList.size() == 1) {
+            saveBLockHeaderInfo(chainId, headerList.get(0));
+            return;
+        }
+        List<Document> documentList = new ArrayList<>();
+        for (BlockHeaderInfo headerInfo : headerList) {
+            Document document = DocumentTransferTool.toDocument(headerInfo, "height");
+            document.remove("mainVersion");
+            documentList.add(document);
+        }
+        mongoDBService.insertMany(BLOCK_HEADER_TABLE + chainId, documentList);
+    }
+
     public void saveBlockHexInfo(int chainId, BlockHexInfo hexInfo) {
         Document document = DocumentTransferTool.toDocument(hexInfo, "height");
         mongoDBService.insertOne(BLOCK_HEX_TABLE + chainId, document);
     }
 
+    public void saveBlockHexList(int chainId, List<BlockHexInfo> hexInfoList) {
+        if (hexInfoList.size() == 1) {
+            saveBlockHexInfo(chainId, hexInfoList.get(0));
+            return;
+        }
+        mongoDBService.insertMany(BLOCK_HEX_TABLE + chainId, DocumentTransferTool.toDocumentList(hexInfoList, "height"));
+    }
+
     public BlockHexInfo getBlockHexInfo(int chainId, long height) {
         Document document = mongoDBService.findOne(BLOCK_HEX_TABLE + chainId, Filters.eq("_id", height));
         if (document == null) {
@@ -105,16 +133,35 @@ public class MongoBlockServiceImpl implements BlockService {
     @Override
     public BigInteger getLast24HourRewards(int chainId) {
         long time = System.currentTimeMillis() / 1000;
-        time = time - 24 * 60 * 60;
+        time = time - BlockRewardWindow.WINDOW_SECONDS;
+        ApiCache apiCache = CacheManager.getCache(chainId);
+        if (apiCache == null) {
+            return BigInteger.ZERO;
+        }
+        BlockRewardWindow rewardWindow = apiCache.getRewardWindow();
+        BigInteger reward = rewardWindow.getReward(time);
+        if (reward != null) {
+            return reward;
+        }
+        //区块入库时增量维护，只有启动后和回滚后才需要从数据库加载一次
+        long version = rewardWindow.getVersion();
         Bson filter = Filters.gte("createTime", time);
         BasicDBObject fields = new BasicDBObject();
-        fields.append("reward", 1);
-        BigInteger reward = BigInteger.ZERO;
-        List<Document> docsList = this.mongoDBService.query(BLOCK_HEADER_TABLE + chainId, filter, fields);
-        for (Document document : docsList) {
-            reward = reward.add(new BigInteger(document.getString("reward")));
+        fields.append("createTime", 1).append("reward", 1);
+        Map<Long, BlockRewardWindow.BlockReward> rewardMap = new HashMap<>();
+        BigInteger[] total = {BigInteger.ZERO};
+        this.mongoDBService.forEach(BLOCK_HEADER_TABLE + chainId, filter, fields, document -> {
+            BigInteger value = new BigInteger(document.getString("reward"));
+            rewardMap.put(document.getLong("_id"), new BlockRewardWindow.BlockReward(document.getLong("createTime"), value));
+            total[0] = total[0].add(value);
+        });
+        if (rewardWindow.init(version, rewardMap)) {
+            reward = rewardWindow.getReward(time);
+            if (reward != null) {
+                return reward;
+            }
         }
-        return reward;
+        return total[0];
     }
 
     public void saveList(int chainId, List<BlockHeaderInfo> blockHeaderInfos) {
@@ -212,15 +259,14 @@ public class MongoBlockServiceImpl implements BlockService {
         if (!CacheManager.isChainExist(chainId)) {
             return 0;
         }
-        BasicDBObject fields = new BasicDBObject();
-        fields.append("txCount", 1);
+        //在数据库端按_id范围累加txCount，只返回一条结果
         Bson filter = Filters.and(Filters.gt("_id", startHeight), Filters.lte("_id", endHeight));
-        List<Document> docsList = this.mongoDBService.query(BLOCK_HEADER_TABLE + chainId, filter, fields, Sorts.descending("_id"));
-        int count = 0;
-        for (Document document : docsList) {
-            count += document.getInteger("txCount");
+        List<Bson> pipeline = Arrays.asList(Aggregates.match(filter), Aggregates.group(null, Accumulators.sum("txCount", "$txCount")));
+        List<Document> docsList = this.mongoDBService.aggregate(BLOCK_HEADER_TABLE + chainId, pipeline);
+        if (docsList.isEmpty()) {
+            return 0;
         }
-        return count;
+        return ((Number) docsList.get(0).get("txCount")).intValue();
     }
 
     public long getMaxHeight(int chainId, long endTime) {
@@ -232,6 +278,7 @@ public class MongoBlockServiceImpl implements BlockService {
         mongoDBService.delete(BLOCK_HEX_TABLE + chainId, Filters.eq("_id", height));
         ApiCache apiCache = CacheManager.getCache(chainId);
         apiCache.setBestHeader(null);
+        apiCache.getRewardWindow().invalidate();
     }
 
 }
@@ -17,6 +17,7 @@ import org.bson.conversions.Bson;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static io.nuls.api.constant.DBTableConstant.*;
@@ -150,21 +151,35 @@ public class MongoChainServiceImpl implements ChainService {
     }
 
     public SyncInfo saveNewSyncInfo(int chainId, long newHeight, BlockHeaderInfo headerInfo) {
+        return saveNewSyncInfo(chainId, Collections.singletonList(headerInfo));
+    }
+
+    /**
+     * 多个连续区块一起提交时共用一条同步记录，bestHeight为最后一个区块的高度
+     * Consecutive blocks committed together share one sync record, bestHeight is the height of the last block
+     */
+    public SyncInfo saveNewSyncInfo(int chainId, List<BlockHeaderInfo> headerList) {
         Bson query = Filters.eq("_id", chainId);
         Document document = mongoDBService.findOne(SYNC_INFO_TABLE, query);
-        SyncInfo syncInfo;
+        SyncInfo syncInfo = null;
         boolean isNew = false;
-        if (document == null) {
-            isNew = true;
-            syncInfo = new SyncInfo(chainId, newHeight, headerInfo);
-        } else {
+        if (document != null) {
             syncInfo = DocumentTransferTool.toInfo(document, "chainId", SyncInfo.class);
+        }
+        for (BlockHeaderInfo headerInfo : headerList) {
+            if (syncInfo == null) {
+                isNew = true;
+                syncInfo = new SyncInfo(chainId, headerInfo.getHeight(), headerInfo);
+                continue;
+            }
             syncInfo.setVersion(headerInfo.getMainVersion());
             syncInfo.setBestHeight(headerInfo.getHeight());
             BigInteger reward = headerInfo.getReward() == null ? BigInteger.ZERO : headerInfo.getReward();
             BigInteger totalFee = headerInfo.getTotalFee() == null ? BigInteger.ZERO : headerInfo.getTotalFee();
             syncInfo.setTotalSupply(syncInfo.getTotalSupply().add(reward).subtract(totalFee));
         }
+        syncInfo.setStep(0);
+        syncInfo.setBatchCount(headerList.size());
         document = DocumentTransferTool.toDocument(syncInfo, "chainId");
         if (isNew) {
             mongoDBService.insertOne(SYNC_INFO_TABLE, document);
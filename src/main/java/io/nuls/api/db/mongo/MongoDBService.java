@@ -51,6 +51,9 @@ import static io.nuls.api.constant.DBTableConstant.TEST_TABLE;
 @Order(Integer.MAX_VALUE)
 public class MongoDBService implements InitializingBean {
 
+    //流式查询时每批从数据库读取的数量
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
     private MongoClient client;
     private MongoDatabase db;
 
@@ -306,6 +309,42 @@ public class MongoDBService implements InitializingBean {
         return list;
     }
 
+    /**
+     * 流式遍历查询结果，游标每次从数据库取batchSize条，取到一条就交给visitor处理，不会把整个结果集放进内存
+     * Stream the matching documents to the visitor batch by batch instead of materializing the whole result set
+     *
+     * @param filter     查询条件，为null时查询所有
+     * @param fields     返回的字段，为null时返回所有字段
+     * @param sort       排序，为null时不排序
+     * @param batchSize  每批读取的数量，小于等于0时使用驱动默认值
+     * @param visitor    处理每一条文档
+     */
+    public void forEach(String collName, Bson filter, Bson fields, Bson sort, int batchSize, Consumer<Document> visitor) {
+        MongoCollection<Document> collection = getCollection(collName);
+        FindIterable<Document> iterable = filter == null ? collection.find() : collection.find(filter);
+        if (fields != null) {
+            iterable = iterable.projection(fields);
+        }
+        if (sort != null) {
+            iterable = iterable.sort(sort);
+        }
+        if (batchSize > 0) {
+            iterable = iterable.batchSize(batchSize);
+        }
+        MongoCursor<Document> documentMongoCursor = iterable.iterator();
+        try {
+            while (documentMongoCursor.hasNext()) {
+                visitor.accept(documentMongoCursor.next());
+            }
+        } finally {
+            documentMongoCursor.close();
+        }
+    }
+
+    public void forEach(String collName, Bson filter, Bson fields, Consumer<Document> visitor) {
+        forEach(collName, filter, fields, null, DEFAULT_BATCH_SIZE, visitor);
+    }
+
 
     public long updateOne(String collName, Bson var1, Document docs) {
         return this.updateOne(collName, var1, "$set", docs);
@@ -472,6 +511,17 @@ public class MongoDBService implements InitializingBean {
         return client.startSession();
     }
 
+    /**
+     * 在数据库端执行聚合管道，只返回聚合后的结果
+     * Run an aggregation pipeline on the server, only the aggregated documents are transferred
+     */
+    public List<Document> aggregate(String collName, List<Bson> pipeline) {
+        MongoCollection<Document> collection = getCollection(collName);
+        List<Document> list = new ArrayList<>();
+        collection.aggregate(pipeline).into(list);
+        return list;
+    }
+
     public Long getMax(String collName, String field, Bson filter) {
         MongoCollection<Document> collection = getCollection(collName);
         MongoCursor<Document> documentMongoCursor = collection.find(filter).sort(Sorts.descending(field)).limit(1).iterator();
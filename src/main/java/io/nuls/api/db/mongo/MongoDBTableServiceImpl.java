@@ -17,8 +17,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
-import static io.nuls.api.constant.DBTableConstant.TX_RELATION_SHARDING_COUNT;
-
 @Component
 public class MongoDBTableServiceImpl implements DBTableService {
 
@@ -38,6 +36,8 @@ public class MongoDBTableServiceImpl implements DBTableService {
     private TransactionService transactionService;
     @Autowired
     private ContractService contractService;
+    @Autowired
+    private TxRelationShardService txRelationShardService;
 
     public List<ChainInfo> getChainList() {
         return chainService.getChainInfoList();
@@ -46,6 +46,7 @@ public class MongoDBTableServiceImpl implements DBTableService {
     public void initCache() {
 //        LoggerUtil.commonLog.info("init cache 1......");
         chainService.initCache();
+        txRelationShardService.initCache();
 //        LoggerUtil.commonLog.info("init cache 2......");
         accountService.initCache();
 //        LoggerUtil.commonLog.info("init cache 3......");
@@ -55,7 +56,7 @@ public class MongoDBTableServiceImpl implements DBTableService {
 //        LoggerUtil.commonLog.info("init cache 5......");
         agentService.initCache();
 //        LoggerUtil.commonLog.info("init cache 6......");
-//        transactionService.initCache();
+        transactionService.initCache();
 //        contractService.initCache();
 //        LoggerUtil.commonLog.info("init cache 7......");
     }
@@ -89,6 +90,8 @@ public class MongoDBTableServiceImpl implements DBTableService {
 
         chainInfo.setSeeds(seedNodes);
         chainService.addCacheChain(chainInfo, configInfo);
+        //交易关系表按分片记录创建
+        txRelationShardService.initShardInfo(chainInfo.getChainId());
 //        transactionService.addCache(chainInfo.getChainId());
     }
 
@@ -119,19 +122,12 @@ public class MongoDBTableServiceImpl implements DBTableService {
         mongoDBService.createCollection(DBTableConstant.TOKEN721_TRANSFER_TABLE + chainId);
         mongoDBService.createCollection(DBTableConstant.TOKEN721_IDS_TABLE + chainId);
 
-        for (int i = 0; i < TX_RELATION_SHARDING_COUNT; i++) {
-            mongoDBService.createCollection(DBTableConstant.TX_RELATION_TABLE + chainId + "_" + i);
-        }
+        mongoDBService.createCollection(DBTableConstant.TX_RELATION_COUNT_TABLE + chainId);
     }
 
     private void initTablesIndex(int chainId) {
-        //交易关系表
-        for (int i = 0; i < TX_RELATION_SHARDING_COUNT; i++) {
-            mongoDBService.createIndex(DBTableConstant.TX_RELATION_TABLE + chainId + "_" + i, Indexes.ascending("address"));
-            mongoDBService.createIndex(DBTableConstant.TX_RELATION_TABLE + chainId + "_" + i, Indexes.ascending("address", "type"));
-            mongoDBService.createIndex(DBTableConstant.TX_RELATION_TABLE + chainId + "_" + i, Indexes.ascending("txHash"));
-            mongoDBService.createIndex(DBTableConstant.TX_RELATION_TABLE + chainId + "_" + i, Indexes.descending("createTime"));
-        }
+        //未确认交易关系表
+        mongoDBService.createIndex(DBTableConstant.TX_UNCONFIRM_RELATION_TABLE + chainId, Indexes.ascending("address"));
         //账户信息表
         mongoDBService.createIndex(DBTableConstant.ACCOUNT_TABLE + chainId, Indexes.descending("totalBalance"));
         mongoDBService.createIndex(DBTableConstant.ACCOUNT_LEDGER_TABLE + chainId, Indexes.descending("address"));
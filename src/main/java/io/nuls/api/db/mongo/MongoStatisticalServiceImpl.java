@@ -22,6 +22,7 @@ package io.nuls.api.db.mongo;
 
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.Sorts;
+import io.nuls.api.db.BlockService;
 import io.nuls.api.db.StatisticalService;
 import io.nuls.api.model.po.ChainStatisticalInfo;
 import io.nuls.api.model.po.KeyValue;
@@ -45,6 +46,8 @@ import static io.nuls.api.constant.DBTableConstant.*;
 public class MongoStatisticalServiceImpl implements StatisticalService {
     @Autowired
     private MongoDBService mongoDBService;
+    @Autowired
+    private BlockService blockService;
 
     public long getBestId(int chainId) {
         Document document = mongoDBService.findOne(STATISTICAL_TABLE + chainId, Filters.eq("_id", LAST_STATISTICAL_TIME));
@@ -73,9 +76,20 @@ public class MongoStatisticalServiceImpl implements StatisticalService {
         mongoDBService.insertOne(STATISTICAL_TABLE + chainId, document);
     }
 
+    /**
+     * 统计区块时间在[start, end]之间的区块打包的交易数
+     * 先按区块时间换算出高度范围，再由BlockService在数据库端累加区块头的txCount，交易表的createTime没有索引，不再对它计数
+     */
     public long calcTxCount(int chainId, long start, long end) {
-        long count = this.mongoDBService.getCount(TX_TABLE + chainId, and(gte("createTime", start), lte("createTime", end)));
-        return count;
+        Long endHeight = mongoDBService.getMax(BLOCK_HEADER_TABLE + chainId, "_id", lte("createTime", end));
+        if (endHeight == null) {
+            return 0;
+        }
+        Long startHeight = mongoDBService.getMax(BLOCK_HEADER_TABLE + chainId, "_id", lt("createTime", start));
+        if (startHeight == null) {
+            startHeight = -1L;
+        }
+        return blockService.getBlockPackageTxCount(chainId, startHeight, endHeight);
     }
 
     /**
@@ -1,17 +1,21 @@
 package io.nuls.api.db.mongo;
 
 import com.mongodb.BasicDBObject;
-import com.mongodb.client.model.Filters;
-import com.mongodb.client.model.InsertManyOptions;
-import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.*;
 import io.nuls.api.ApiContext;
 import io.nuls.api.analysis.AnalysisHandler;
+import io.nuls.api.analysis.BalanceFetcher;
 import io.nuls.api.analysis.WalletRpcHandler;
+import io.nuls.api.cache.ApiCache;
+import io.nuls.api.cache.PendingTxPool;
+import io.nuls.api.constant.ApiConstant;
 import io.nuls.api.constant.DBTableConstant;
 import io.nuls.api.db.TransactionService;
+import io.nuls.api.manager.CacheManager;
 import io.nuls.api.model.po.*;
 import io.nuls.api.model.po.mini.MiniTransactionInfo;
 import io.nuls.api.model.rpc.BalanceInfo;
+import io.nuls.api.utils.DBUtil;
 import io.nuls.api.utils.DocumentTransferTool;
 import io.nuls.base.basic.AddressTool;
 import io.nuls.core.basic.InitializingBean;
@@ -22,9 +26,11 @@ import io.nuls.core.core.annotation.Component;
 import io.nuls.core.rpc.util.NulsDateUtils;
 import org.bson.Document;
 import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
 
 import java.math.BigInteger;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.mongodb.client.model.Filters.*;
 import static io.nuls.api.constant.DBTableConstant.*;
@@ -32,32 +38,24 @@ import static io.nuls.api.constant.DBTableConstant.*;
 @Component
 public class MongoTransactionServiceImpl implements TransactionService, InitializingBean {
 
+    //每次保存交易关系时最多初始化的地址计数
+    private static final int COUNT_INIT_PER_SAVE = 20;
+
+    private static final int COUNT_INIT_QUEUE_SIZE = 1000;
+
     @Autowired
     private MongoDBService mongoDBService;
 
     @Autowired
     private MongoBlockServiceImpl mongoBlockServiceImpl;
 
-    Map<String, List<Document>> relationMap;
-    Map<String, List<String>> deleteRelationMap;
-    Set<String> txUnConfirmHashSet;
+    //等待初始化交易关系计数的地址，由同步线程在下次保存交易关系时初始化，key=chainId
+    private final Map<Integer, Set<String>> countInitMap = new ConcurrentHashMap<>();
 
     //    Map<String, List<DeleteManyModel<Document>>> deleteRelationMap;
 //
     @Override
     public void afterPropertiesSet() {
-        relationMap = new HashMap<>();
-        for (int i = 0; i < TX_RELATION_SHARDING_COUNT; i++) {
-            List<Document> documentList = new ArrayList<>();
-            relationMap.put("relation_" + i, documentList);
-        }
-
-        deleteRelationMap = new HashMap<>();
-        for (int i = 0; i < TX_RELATION_SHARDING_COUNT; i++) {
-            List<String> modelList = new ArrayList<>();
-            deleteRelationMap.put("relation_" + i, modelList);
-        }
-        txUnConfirmHashSet = new HashSet<>();
 //        deleteRelationMap = new HashMap<>();
 //        for (int i = 0; i < TX_RELATION_SHARDING_COUNT; i++) {
 //            List<DeleteManyModel<Document>> modelList = new ArrayList<>();
@@ -65,7 +63,31 @@ public class MongoTransactionServiceImpl implements TransactionService, Initiali
 //        }
     }
 
+    /**
+     * 从数据库中的未确认交易表恢复未确认交易池
+     */
     public void initCache() {
+        long now = NulsDateUtils.getCurrentTimeMillis();
+        for (ApiCache apiCache : CacheManager.getApiCaches().values()) {
+            int chainId = apiCache.getChainInfo().getChainId();
+            Map<String, List<PendingTxPool.PendingRelation>> relationMap = new HashMap<>();
+            for (Document document : mongoDBService.query(TX_UNCONFIRM_RELATION_TABLE + chainId)) {
+                TxRelationInfo relationInfo = TxRelationInfo.toInfo(document);
+                relationInfo.setStatus(ApiConstant.TX_UNCONFIRM);
+                relationMap.computeIfAbsent(relationInfo.getTxHash(), k -> new ArrayList<>())
+                        .add(new PendingTxPool.PendingRelation(document.getObjectId("_id"), relationInfo));
+            }
+            List<String> expiredList = new ArrayList<>();
+            for (Document document : mongoDBService.query(TX_UNCONFIRM_TABLE + chainId)) {
+                TxHexInfo hexInfo = DocumentTransferTool.toInfo(document, "txHash", TxHexInfo.class);
+                List<PendingTxPool.PendingRelation> relations = relationMap.getOrDefault(hexInfo.getTxHash(), new ArrayList<>());
+                PendingTxPool.PendingTx tx = new PendingTxPool.PendingTx(hexInfo.getTxHash(), hexInfo.getTxHex(), hexInfo.getTime(), relations);
+                if (!apiCache.getPendingTxPool().add(tx, now)) {
+                    expiredList.add(hexInfo.getTxHash());
+                }
+            }
+            deleteUnConfirmTxs(chainId, expiredList);
+        }
 //        txCountMap = new HashMap<>();
 //        for (ApiCache apiCache : CacheManager.getApiCaches().values()) {
 //            long totalCount = mongoDBService.getCount(TX_TABLE + apiCache.getChainInfo().getChainId());
@@ -119,10 +141,12 @@ public class MongoTransactionServiceImpl implements TransactionService, Initiali
 
         List<Document> documentList = new ArrayList<>();
 
+        PendingTxPool pendingTxPool = CacheManager.getCache(chainId).getPendingTxPool();
+        List<String> confirmedList = new ArrayList<>();
         int i = 0;
         for (TransactionInfo txInfo : txList) {
-            if (txUnConfirmHashSet.contains(txInfo.getHash())) {
-                deleteUnConfirmTx(chainId, txInfo.getHash());
+            if (pendingTxPool.remove(txInfo.getHash()) != null) {
+                confirmedList.add(txInfo.getHash());
             }
             documentList.add(txInfo.toDocument());
             i++;
@@ -135,6 +159,7 @@ public class MongoTransactionServiceImpl implements TransactionService, Initiali
         if (documentList.size() != 0) {
             mongoDBService.insertMany(TX_TABLE + chainId, documentList, options);
         }
+        deleteUnConfirmTxs(chainId, confirmedList);
 //        time2 = System.currentTimeMillis();
 //        System.out.println("-----------insertMany, use: " + (time2 - time1));
     }
@@ -156,34 +181,49 @@ public class MongoTransactionServiceImpl implements TransactionService, Initiali
         if (relationInfos.isEmpty()) {
             return;
         }
-        relationMapClear();
-
-        for (TxRelationInfo relationInfo : relationInfos) {
-            Document document = relationInfo.toDocument();
-            int i = Math.abs(relationInfo.getAddress().hashCode()) % TX_RELATION_SHARDING_COUNT;
-            List<Document> documentList = relationMap.get("relation_" + i);
-            documentList.add(document);
+        ApiCache apiCache = CacheManager.getCache(chainId);
+        apiCache.getTxRelationLock().lock();
+        try {
+            TxRelationShardInfo shardInfo = apiCache.getTxRelationShardInfo();
+            //计数要在关系入库之前更新，中断后回滚时计数和关系一起减掉
+            initTxRelationCount(chainId);
+            updateTxRelationCount(chainId, relationInfos, 1);
+
+            Map<String, List<Document>> relationMap = new HashMap<>();
+            Map<String, List<Document>> nextRelationMap = new HashMap<>();
+            for (TxRelationInfo relationInfo : relationInfos) {
+                Document document = relationInfo.toDocument();
+                relationMap.computeIfAbsent(shardInfo.getTable(relationInfo.getAddress()), k -> new ArrayList<>()).add(document);
+                if (shardInfo.isResharding()) {
+                    //两套表使用相同的_id，后台复制时按_id覆盖
+                    document.put("_id", new ObjectId());
+                    nextRelationMap.computeIfAbsent(shardInfo.getNextTable(relationInfo.getAddress()), k -> new ArrayList<>()).add(new Document(document));
+                }
+            }
+            //先写新的分片，后台任务从旧表读到的记录在新表中一定已经存在
+            insertRelations(nextRelationMap);
+            insertRelations(relationMap);
+        } finally {
+            apiCache.getTxRelationLock().unlock();
         }
+    }
 
+    private void insertRelations(Map<String, List<Document>> relationMap) {
         InsertManyOptions options = new InsertManyOptions();
         options.ordered(false);
 
         List<Document> saveList = new ArrayList();
-        for (int i = 0; i < TX_RELATION_SHARDING_COUNT; i++) {
+        for (Map.Entry<String, List<Document>> entry : relationMap.entrySet()) {
             saveList.clear();
-            List<Document> documentList = relationMap.get("relation_" + i);
-            if (documentList.size() == 0) {
-                continue;
-            }
-            for (Document document : documentList) {
+            for (Document document : entry.getValue()) {
                 saveList.add(document);
                 if (saveList.size() == 1000) {
-                    mongoDBService.insertMany(TX_RELATION_TABLE + chainId + "_" + i, saveList, options);
+                    mongoDBService.insertMany(entry.getKey(), saveList, options);
                     saveList.clear();
                 }
             }
             if (saveList.size() != 0) {
-                mongoDBService.insertMany(TX_RELATION_TABLE + chainId + "_" + i, saveList, options);
+                mongoDBService.insertMany(entry.getKey(), saveList, options);
             }
         }
     }
@@ -285,12 +325,13 @@ public class MongoTransactionServiceImpl implements TransactionService, Initiali
 
     @Override
     public List<TxHexInfo> getUnConfirmList(int chainId) {
-        List<Document> docList = mongoDBService.query(TX_UNCONFIRM_TABLE + chainId);
         List<TxHexInfo> txHexInfoList = new ArrayList<>();
-        for (Document document : docList) {
-            TxHexInfo txHexInfo = DocumentTransferTool.toInfo(document, "txHash", TxHexInfo.class);
+        for (PendingTxPool.PendingTx tx : CacheManager.getCache(chainId).getPendingTxPool().getAll()) {
+            TxHexInfo txHexInfo = new TxHexInfo();
+            txHexInfo.setTxHash(tx.getTxHash());
+            txHexInfo.setTxHex(tx.getTxHex());
+            txHexInfo.setTime(tx.getTime());
             txHexInfoList.add(txHexInfo);
-            txUnConfirmHashSet.add(txHexInfo.getTxHash());
         }
         return txHexInfoList;
     }
@@ -363,23 +404,128 @@ public class MongoTransactionServiceImpl implements TransactionService, Initiali
         if (relationInfos.isEmpty()) {
             return;
         }
-        relationRollbackClear();
+        ApiCache apiCache = CacheManager.getCache(chainId);
+        apiCache.getTxRelationLock().lock();
+        try {
+            TxRelationShardInfo shardInfo = apiCache.getTxRelationShardInfo();
+            Map<String, List<String>> deleteRelationMap = new HashMap<>();
+            for (TxRelationInfo relationInfo : relationInfos) {
+                deleteRelationMap.computeIfAbsent(shardInfo.getTable(relationInfo.getAddress()), k -> new ArrayList<>()).add(relationInfo.getTxHash());
+                if (shardInfo.isResharding()) {
+                    deleteRelationMap.computeIfAbsent(shardInfo.getNextTable(relationInfo.getAddress()), k -> new ArrayList<>()).add(relationInfo.getTxHash());
+                }
+            }
+            for (Map.Entry<String, List<String>> entry : deleteRelationMap.entrySet()) {
+                mongoDBService.delete(entry.getKey(), Filters.in("txHash", entry.getValue()));
+            }
+            updateTxRelationCount(chainId, relationInfos, -1);
+        } finally {
+            apiCache.getTxRelationLock().unlock();
+        }
+    }
 
-        for (TxRelationInfo relationInfo : relationInfos) {
-            int i = Math.abs(relationInfo.getAddress().hashCode()) % TX_RELATION_SHARDING_COUNT;
-            List<String> list = deleteRelationMap.get("relation_" + i);
-            list.add(relationInfo.getTxHash());
+    /**
+     * 查询地址的已确认交易关系数，不按类型或资产过滤时参数传0
+     * 地址的计数还没有初始化时返回null，由调用方精确计数，并在下次保存交易关系时初始化
+     */
+    public Long getTxRelationCount(int chainId, String address, int type, int assetChainId, int assetId) {
+        Document document = mongoDBService.findOne(TX_RELATION_COUNT_TABLE + chainId, Filters.eq("_id", address));
+        if (document == null) {
+            Set<String> addressSet = countInitMap.computeIfAbsent(chainId, k -> ConcurrentHashMap.newKeySet());
+            if (addressSet.size() < COUNT_INIT_QUEUE_SIZE) {
+                addressSet.add(address);
+            }
+            return null;
+        }
+        Object value;
+        String key = countKey(type, assetChainId, assetId);
+        if (key == null) {
+            value = document.get("total");
+        } else {
+            Document counts = (Document) document.get("counts");
+            value = counts == null ? null : counts.get(key);
+        }
+        if (value == null) {
+            return 0L;
         }
+        return Math.max(0L, ((Number) value).longValue());
+    }
 
-        for (int i = 0; i < TX_RELATION_SHARDING_COUNT; i++) {
-            List<String> list = deleteRelationMap.get("relation_" + i);
-            if (list.size() == 0) {
-                continue;
+    /**
+     * 在数据库端按类型和资产分组统计等待初始化的地址的交易关系数
+     * 在同步线程里、本次的关系入库之前执行，之后的变化都由updateTxRelationCount增量维护
+     */
+    private void initTxRelationCount(int chainId) {
+        Set<String> addressSet = countInitMap.get(chainId);
+        if (addressSet == null || addressSet.isEmpty()) {
+            return;
+        }
+        List<WriteModel<Document>> modelList = new ArrayList<>();
+        Iterator<String> iterator = addressSet.iterator();
+        while (iterator.hasNext() && modelList.size() < COUNT_INIT_PER_SAVE) {
+            String address = iterator.next();
+            iterator.remove();
+            List<Bson> pipeline = Arrays.asList(Aggregates.match(Filters.eq("address", address)),
+                    Aggregates.group(new Document("type", "$type").append("chainId", "$chainId").append("assetId", "$assetId"), Accumulators.sum("count", 1L)));
+            List<Document> groupList = mongoDBService.aggregate(DBUtil.getTxRelationTable(chainId, address), pipeline);
+            long total = 0;
+            Map<String, Long> countMap = new HashMap<>();
+            for (Document group : groupList) {
+                Document id = (Document) group.get("_id");
+                long count = ((Number) group.get("count")).longValue();
+                int type = id.getInteger("type");
+                int assetChainId = id.getInteger("chainId");
+                int assetId = id.getInteger("assetId");
+                total += count;
+                countMap.merge(countKey(type, 0, 0), count, Long::sum);
+                countMap.merge(countKey(0, assetChainId, assetId), count, Long::sum);
+                countMap.merge(countKey(type, assetChainId, assetId), count, Long::sum);
             }
-            mongoDBService.delete(TX_RELATION_TABLE + chainId + "_" + i, Filters.in("txHash", list));
+            Document document = new Document("_id", address).append("total", total).append("counts", new Document(new HashMap<>(countMap)));
+            modelList.add(new ReplaceOneModel<>(Filters.eq("_id", address), document, new ReplaceOptions().upsert(true)));
+        }
+        if (!modelList.isEmpty()) {
+            mongoDBService.bulkWrite(TX_RELATION_COUNT_TABLE + chainId, modelList, new BulkWriteOptions().ordered(false));
+        }
+    }
+
+    /**
+     * 增量更新已初始化地址的交易关系计数，保存时sign=1，回滚时sign=-1
+     */
+    private void updateTxRelationCount(int chainId, Set<TxRelationInfo> relationInfos, int sign) {
+        Map<String, Map<String, Object>> incMap = new HashMap<>();
+        for (TxRelationInfo relationInfo : relationInfos) {
+            Map<String, Object> inc = incMap.computeIfAbsent(relationInfo.getAddress(), k -> new HashMap<>());
+            inc.merge("total", (long) sign, (a, b) -> (Long) a + (Long) b);
+            inc.merge("counts." + countKey(relationInfo.getType(), 0, 0), (long) sign, (a, b) -> (Long) a + (Long) b);
+            inc.merge("counts." + countKey(0, relationInfo.getChainId(), relationInfo.getAssetId()), (long) sign, (a, b) -> (Long) a + (Long) b);
+            inc.merge("counts." + countKey(relationInfo.getType(), relationInfo.getChainId(), relationInfo.getAssetId()), (long) sign, (a, b) -> (Long) a + (Long) b);
+        }
+        List<WriteModel<Document>> modelList = new ArrayList<>();
+        for (Map.Entry<String, Map<String, Object>> entry : incMap.entrySet()) {
+            //不upsert，未初始化的地址查询时再从关系表统计
+            modelList.add(new UpdateOneModel<>(Filters.eq("_id", entry.getKey()), new Document("$inc", new Document(entry.getValue()))));
+        }
+        if (!modelList.isEmpty()) {
+            mongoDBService.bulkWrite(TX_RELATION_COUNT_TABLE + chainId, modelList, new BulkWriteOptions().ordered(false));
         }
     }
 
+    /**
+     * 计数的key，type和资产都为0时返回null，表示总数
+     */
+    private static String countKey(int type, int assetChainId, int assetId) {
+        boolean hasAsset = assetChainId > 0 && assetId > 0;
+        if (type > 0 && hasAsset) {
+            return "t" + type + "_a" + assetChainId + "_" + assetId;
+        } else if (type > 0) {
+            return "t" + type;
+        } else if (hasAsset) {
+            return "a" + assetChainId + "_" + assetId;
+        }
+        return null;
+    }
+
     @Override
     public void rollbackCrossTxRelationList(int chainId, Set<String> txHashList) {
         if (txHashList.isEmpty()) {
@@ -460,51 +606,80 @@ public class MongoTransactionServiceImpl implements TransactionService, Initiali
             processCoinBaseTx(chainId, tx, txRelationInfoSet);
         }
 
+        //关系生成后统一查询余额，相同的地址资产只查一次，不同的地址并发查询
+        BalanceFetcher.Batch batch = new BalanceFetcher.Batch(chainId, true);
+        for (TxRelationInfo relationInfo : txRelationInfoSet) {
+            batch.add(relationInfo.getAddress(), relationInfo.getChainId(), relationInfo.getAssetId());
+        }
+        Map<String, BalanceInfo> balanceMap = batch.get();
+        for (TxRelationInfo relationInfo : txRelationInfoSet) {
+            BalanceInfo balanceInfo = balanceMap.get(DBUtil.getAccountAssetKey(relationInfo.getAddress(), relationInfo.getChainId(), relationInfo.getAssetId()));
+            relationInfo.setBalance(balanceInfo == null ? BigInteger.ZERO : balanceInfo.getTotalBalance());
+        }
+
+        //先放入交易池，查询立即可见，再写入数据库用于重启后恢复
+        List<PendingTxPool.PendingRelation> relations = new ArrayList<>();
         List<Document> documentList = new ArrayList<>();
         for (TxRelationInfo relationInfo : txRelationInfoSet) {
-            documentList.add(relationInfo.toDocument());
+            relationInfo.setStatus(ApiConstant.TX_UNCONFIRM);
+            ObjectId id = new ObjectId();
+            relations.add(new PendingTxPool.PendingRelation(id, relationInfo));
+            documentList.add(relationInfo.toDocument().append("_id", id));
+        }
+        long now = NulsDateUtils.getCurrentTimeMillis();
+        PendingTxPool.PendingTx pendingTx = new PendingTxPool.PendingTx(tx.getHash(), txHex, now, relations);
+        if (!CacheManager.getCache(chainId).getPendingTxPool().add(pendingTx, now)) {
+            return;
+        }
+        if (!documentList.isEmpty()) {
+            mongoDBService.insertMany(TX_UNCONFIRM_RELATION_TABLE + chainId, documentList);
         }
-        mongoDBService.insertMany(TX_UNCONFIRM_RELATION_TABLE + chainId, documentList);
         TxHexInfo hexInfo = new TxHexInfo();
         hexInfo.setTxHash(tx.getHash());
         hexInfo.setTxHex(txHex);
-        hexInfo.setTime(NulsDateUtils.getCurrentTimeMillis());
+        hexInfo.setTime(now);
 
         Document document = DocumentTransferTool.toDocument(hexInfo, "txHash");
         mongoDBService.insertOne(TX_UNCONFIRM_TABLE + chainId, document);
-        txUnConfirmHashSet.add(hexInfo.getTxHash());
     }
 
     @Override
     public void deleteUnConfirmTx(int chainId, String txHash) {
-        Bson filter1 = Filters.eq("_id", txHash);
-        Bson filter2 = Filters.eq("txHash", txHash);
-        mongoDBService.delete(TX_UNCONFIRM_TABLE + chainId, filter1);
-        mongoDBService.delete(TX_UNCONFIRM_RELATION_TABLE + chainId, filter2);
-        txUnConfirmHashSet.remove(txHash);
+        CacheManager.getCache(chainId).getPendingTxPool().remove(txHash);
+        deleteUnConfirmTxs(chainId, Collections.singletonList(txHash));
+    }
+
+    /**
+     * 从数据库中批量删除已经移出交易池的未确认交易
+     */
+    @Override
+    public void deleteUnConfirmTxs(int chainId, List<String> txHashList) {
+        if (txHashList.isEmpty()) {
+            return;
+        }
+        mongoDBService.delete(TX_UNCONFIRM_TABLE + chainId, Filters.in("_id", txHashList));
+        mongoDBService.delete(TX_UNCONFIRM_RELATION_TABLE + chainId, Filters.in("txHash", txHashList));
     }
 
+    //以下生成的关系余额为空，由saveUnConfirmTx统一查询后填入
     private void processCoinBaseTx(int chainId, TransactionInfo tx, Set<TxRelationInfo> txRelationInfoSet) {
         if (tx.getCoinTos() == null || tx.getCoinTos().isEmpty()) {
             return;
         }
         for (CoinToInfo output : tx.getCoinTos()) {
-            BalanceInfo balanceInfo = WalletRpcHandler.getAccountBalance(chainId, output.getAddress(), output.getChainId(), output.getAssetsId());
-            txRelationInfoSet.add(new TxRelationInfo(output, tx, balanceInfo.getTotalBalance()));
+            txRelationInfoSet.add(new TxRelationInfo(output, tx, null));
         }
     }
 
     private void processTransferTx(int chainId, TransactionInfo tx, Set<TxRelationInfo> txRelationInfoSet) {
         if (tx.getCoinFroms() != null) {
             for (CoinFromInfo input : tx.getCoinFroms()) {
-                BalanceInfo balanceInfo = WalletRpcHandler.getAccountBalance(chainId, input.getAddress(), input.getChainId(), input.getAssetsId());
-                txRelationInfoSet.add(new TxRelationInfo(input, tx, balanceInfo.getTotalBalance()));
+                txRelationInfoSet.add(new TxRelationInfo(input, tx, null));
             }
         }
         if (tx.getCoinTos() != null) {
             for (CoinToInfo output : tx.getCoinTos()) {
-                BalanceInfo balanceInfo = WalletRpcHandler.getAccountBalance(chainId, output.getAddress(), output.getChainId(), output.getAssetsId());
-                txRelationInfoSet.add(new TxRelationInfo(output, tx, balanceInfo.getTotalBalance()));
+                txRelationInfoSet.add(new TxRelationInfo(output, tx, null));
             }
         }
     }
@@ -515,8 +690,7 @@ public class MongoTransactionServiceImpl implements TransactionService, Initiali
                 if (chainId != AddressTool.getChainIdByAddress(input.getAddress())) {
                     continue;
                 }
-                BalanceInfo balanceInfo = WalletRpcHandler.getAccountBalance(chainId, input.getAddress(), input.getChainId(), input.getAssetsId());
-                txRelationInfoSet.add(new TxRelationInfo(input, tx, balanceInfo.getTotalBalance()));
+                txRelationInfoSet.add(new TxRelationInfo(input, tx, null));
             }
         }
         if (tx.getCoinTos() != null) {
@@ -524,8 +698,7 @@ public class MongoTransactionServiceImpl implements TransactionService, Initiali
                 if (chainId != AddressTool.getChainIdByAddress(output.getAddress())) {
                     continue;
                 }
-                BalanceInfo balanceInfo = WalletRpcHandler.getAccountBalance(chainId, output.getAddress(), output.getChainId(), output.getAssetsId());
-                txRelationInfoSet.add(new TxRelationInfo(output, tx, balanceInfo.getTotalBalance()));
+                txRelationInfoSet.add(new TxRelationInfo(output, tx, null));
             }
         }
     }
@@ -533,34 +706,29 @@ public class MongoTransactionServiceImpl implements TransactionService, Initiali
     private void processAliasTx(int chainId, TransactionInfo tx, Set<TxRelationInfo> txRelationInfoSet) {
         if (tx.getCoinFroms() != null) {
             for (CoinFromInfo input : tx.getCoinFroms()) {
-                BalanceInfo balanceInfo = WalletRpcHandler.getAccountBalance(chainId, input.getAddress(), input.getChainId(), input.getAssetsId());
-                txRelationInfoSet.add(new TxRelationInfo(input, tx, balanceInfo.getTotalBalance()));
+                txRelationInfoSet.add(new TxRelationInfo(input, tx, null));
             }
         }
         if (tx.getCoinTos() != null) {
             for (CoinToInfo output : tx.getCoinTos()) {
-                BalanceInfo balanceInfo = WalletRpcHandler.getAccountBalance(chainId, output.getAddress(), output.getChainId(), output.getAssetsId());
-                txRelationInfoSet.add(new TxRelationInfo(output, tx, balanceInfo.getTotalBalance()));
+                txRelationInfoSet.add(new TxRelationInfo(output, tx, null));
             }
         }
     }
 
     private void processCreateAgentTx(int chainId, TransactionInfo tx, Set<TxRelationInfo> txRelationInfoSet) {
         CoinFromInfo input = tx.getCoinFroms().get(0);
-        BalanceInfo balanceInfo = WalletRpcHandler.getAccountBalance(chainId, input.getAddress(), input.getChainId(), input.getAssetsId());
-        txRelationInfoSet.add(new TxRelationInfo(input, tx, tx.getFee().getValue(), balanceInfo.getTotalBalance()));
+        txRelationInfoSet.add(new TxRelationInfo(input, tx, tx.getFee().getValue(), null));
     }
 
     private void processDepositTx(int chainId, TransactionInfo tx, Set<TxRelationInfo> txRelationInfoSet) {
         CoinFromInfo input = tx.getCoinFroms().get(0);
-        BalanceInfo balanceInfo = WalletRpcHandler.getAccountBalance(chainId, input.getAddress(), input.getChainId(), input.getAssetsId());
-        txRelationInfoSet.add(new TxRelationInfo(input, tx, tx.getFee().getValue(), balanceInfo.getTotalBalance()));
+        txRelationInfoSet.add(new TxRelationInfo(input, tx, tx.getFee().getValue(), null));
     }
 
     private void processCancelDepositTx(int chainId, TransactionInfo tx, Set<TxRelationInfo> txRelationInfoSet) {
         CoinFromInfo input = tx.getCoinFroms().get(0);
-        BalanceInfo balanceInfo = WalletRpcHandler.getAccountBalance(chainId, input.getAddress(), input.getChainId(), input.getAssetsId());
-        txRelationInfoSet.add(new TxRelationInfo(input, tx, tx.getFee().getValue(), balanceInfo.getTotalBalance()));
+        txRelationInfoSet.add(new TxRelationInfo(input, tx, tx.getFee().getValue(), null));
     }
 
     private void processStopAgentTx(int chainId, TransactionInfo tx, Set<TxRelationInfo> txRelationInfoSet) {
@@ -572,22 +740,19 @@ public class MongoTransactionServiceImpl implements TransactionService, Initiali
                 break;
             }
         }
-        BalanceInfo balanceInfo = WalletRpcHandler.getAccountBalance(chainId, agentOutput.getAddress(), agentOutput.getChainId(), agentOutput.getAssetsId());
-        txRelationInfoSet.add(new TxRelationInfo(agentOutput, tx, tx.getFee().getValue(), balanceInfo.getTotalBalance()));
+        txRelationInfoSet.add(new TxRelationInfo(agentOutput, tx, tx.getFee().getValue(), null));
         //处理其他委托的地址相关数据
         for (int i = 0; i < tx.getCoinTos().size(); i++) {
             CoinToInfo output = tx.getCoinTos().get(i);
             if (!output.getAddress().equals(agentOutput.getAddress())) {
-                balanceInfo = WalletRpcHandler.getAccountBalance(chainId, output.getAddress(), output.getChainId(), output.getAssetsId());
-                txRelationInfoSet.add(new TxRelationInfo(output, tx, BigInteger.ZERO, balanceInfo.getTotalBalance()));
+                txRelationInfoSet.add(new TxRelationInfo(output, tx, BigInteger.ZERO, null));
             }
         }
     }
 
     private void processCreateContract(int chainId, TransactionInfo tx, Set<TxRelationInfo> txRelationInfoSet) {
         CoinFromInfo input = tx.getCoinFroms().get(0);
-        BalanceInfo balanceInfo = WalletRpcHandler.getAccountBalance(chainId, input.getAddress(), input.getChainId(), input.getAssetsId());
-        txRelationInfoSet.add(new TxRelationInfo(input, tx, tx.getFee().getValue(), balanceInfo.getTotalBalance()));
+        txRelationInfoSet.add(new TxRelationInfo(input, tx, tx.getFee().getValue(), null));
     }
 
     private void processCallContract(int chainId, TransactionInfo tx, Set<TxRelationInfo> txRelationInfoSet) {
@@ -596,22 +761,7 @@ public class MongoTransactionServiceImpl implements TransactionService, Initiali
 
     private void processDeleteContract(int chainId, TransactionInfo tx, Set<TxRelationInfo> txRelationInfoSet) {
         CoinFromInfo input = tx.getCoinFroms().get(0);
-        BalanceInfo balanceInfo = WalletRpcHandler.getAccountBalance(chainId, input.getAddress(), input.getChainId(), input.getAssetsId());
-        txRelationInfoSet.add(new TxRelationInfo(input, tx, tx.getFee().getValue(), balanceInfo.getTotalBalance()));
-    }
-
-    private void relationMapClear() {
-        for (int i = 0; i < TX_RELATION_SHARDING_COUNT; i++) {
-            List list = relationMap.get("relation_" + i);
-            list.clear();
-        }
-    }
-
-    private void relationRollbackClear() {
-        for (int i = 0; i < TX_RELATION_SHARDING_COUNT; i++) {
-            List list = deleteRelationMap.get("relation_" + i);
-            list.clear();
-        }
+        txRelationInfoSet.add(new TxRelationInfo(input, tx, tx.getFee().getValue(), null));
     }
 
 }
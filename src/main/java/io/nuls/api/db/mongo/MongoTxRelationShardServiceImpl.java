@@ -0,0 +1,206 @@
+package io.nuls.api.db.mongo;
+
+import com.mongodb.client.model.*;
+import io.nuls.api.ApiContext;
+import io.nuls.api.cache.ApiCache;
+import io.nuls.api.db.ChainService;
+import io.nuls.api.db.TxRelationShardService;
+import io.nuls.api.manager.CacheManager;
+import io.nuls.api.model.po.SyncInfo;
+import io.nuls.api.model.po.TxRelationShardInfo;
+import io.nuls.api.utils.DocumentTransferTool;
+import io.nuls.api.utils.LoggerUtil;
+import io.nuls.api.utils.ShardFunction;
+import io.nuls.core.core.annotation.Autowired;
+import io.nuls.core.core.annotation.Component;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static io.nuls.api.constant.DBTableConstant.TX_RELATION_SHARDING_COUNT;
+import static io.nuls.api.constant.DBTableConstant.TX_RELATION_SHARD_TABLE;
+
+/**
+ * 交易关系表的分片管理
+ * 配置的分片方式和当前记录不一致时登记新的分片方式，同步线程从此同时写入两套表，
+ * 后台任务按_id顺序分批把登记高度以前的数据复制到新表，复制完成后切换分片记录，旧表保留不删除
+ * Manages the shard map of the tx relation tables and migrates the data online when the configured layout changes
+ */
+@Component
+public class MongoTxRelationShardServiceImpl implements TxRelationShardService {
+
+    //重新分片时每批复制的记录数
+    private static final int COPY_BATCH_SIZE = 1000;
+
+    @Autowired
+    private MongoDBService mongoDBService;
+    @Autowired
+    private ChainService chainService;
+
+    public void initCache() {
+        for (ApiCache apiCache : CacheManager.getApiCaches().values()) {
+            initShardInfo(apiCache.getChainInfo().getChainId());
+        }
+    }
+
+    public void initShardInfo(int chainId) {
+        ApiCache apiCache = CacheManager.getCache(chainId);
+        ShardFunction function = ShardFunction.of(ApiContext.txRelationShardFunction);
+        int shardCount = ApiContext.txRelationShardCount;
+
+        TxRelationShardInfo shardInfo = getShardInfo(chainId);
+        if (shardInfo == null) {
+            shardInfo = new TxRelationShardInfo();
+            shardInfo.setChainId(chainId);
+            if (chainService.getSyncInfo(chainId) == null) {
+                //还没有同步过区块，直接使用配置的分片方式
+                boolean legacy = function == ShardFunction.JAVA_HASH && shardCount == TX_RELATION_SHARDING_COUNT;
+                shardInfo.setVersion(legacy ? 0 : 1);
+                shardInfo.setFunction(function.name());
+                shardInfo.setShardCount(shardCount);
+            } else {
+                //升级前已经同步的数据按原来的方式分片
+                shardInfo.setVersion(0);
+                shardInfo.setFunction(ShardFunction.JAVA_HASH.name());
+                shardInfo.setShardCount(TX_RELATION_SHARDING_COUNT);
+            }
+            saveShardInfo(shardInfo);
+        }
+        createTables(shardInfo.getTables());
+        createTables(shardInfo.getNextTables());
+        apiCache.setTxRelationShardInfo(shardInfo);
+
+        if (shardInfo.isResharding()) {
+            if (ShardFunction.of(shardInfo.getNextFunction()) != function || shardInfo.getNextShardCount() != shardCount) {
+                LoggerUtil.commonLog.warn("tx relation resharding to {}/{} is in progress, the configured layout {}/{} is applied after it finished",
+                        shardInfo.getNextFunction(), shardInfo.getNextShardCount(), function.name(), shardCount);
+            }
+        } else if (!shardInfo.isLayout(function, shardCount)) {
+            startReshard(apiCache, function, shardCount);
+        }
+    }
+
+    /**
+     * 登记新的分片方式，登记之后保存的交易关系同时写入新表
+     */
+    private void startReshard(ApiCache apiCache, ShardFunction function, int shardCount) {
+        ReentrantLock lock = apiCache.getTxRelationLock();
+        lock.lock();
+        try {
+            TxRelationShardInfo shardInfo = apiCache.getTxRelationShardInfo();
+            SyncInfo syncInfo = chainService.getSyncInfo(shardInfo.getChainId());
+            shardInfo.setNextVersion(shardInfo.getVersion() + 1);
+            shardInfo.setNextShardCount(shardCount);
+            shardInfo.setReshardHeight(syncInfo == null ? -1 : syncInfo.getBestHeight());
+            shardInfo.setCopyShard(0);
+            shardInfo.setCopyId(null);
+            shardInfo.setNextFunction(function.name());
+            createTables(shardInfo.getNextTables());
+            saveShardInfo(shardInfo);
+            LoggerUtil.commonLog.info("tx relation resharding registered, chainId:{}, from {}/{} to {}/{}, height:{}", shardInfo.getChainId(),
+                    shardInfo.getFunction(), shardInfo.getShardCount(), function.name(), shardCount, shardInfo.getReshardHeight());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean reshard(int chainId) {
+        ApiCache apiCache = CacheManager.getCache(chainId);
+        if (apiCache == null || apiCache.getTxRelationShardInfo() == null) {
+            return true;
+        }
+        ReentrantLock lock = apiCache.getTxRelationLock();
+        while (true) {
+            lock.lock();
+            try {
+                TxRelationShardInfo shardInfo = apiCache.getTxRelationShardInfo();
+                if (!shardInfo.isResharding()) {
+                    return true;
+                }
+                if (shardInfo.getCopyShard() >= shardInfo.getShardCount()) {
+                    cutover(apiCache, shardInfo);
+                    return true;
+                }
+                copyBatch(shardInfo);
+                saveShardInfo(shardInfo);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 复制当前旧表的下一批数据，按_id覆盖写入，重复复制没有影响
+     * 调用方持有交易关系锁，期间不会有新的写入或回滚
+     */
+    private void copyBatch(TxRelationShardInfo shardInfo) {
+        String table = shardInfo.getTable(shardInfo.getCopyShard());
+        Bson filter = Filters.lte("height", shardInfo.getReshardHeight());
+        if (shardInfo.getCopyId() != null) {
+            filter = Filters.and(filter, Filters.gt("_id", new ObjectId(shardInfo.getCopyId())));
+        }
+        List<Document> documentList = mongoDBService.limitQuery(table, filter, Sorts.ascending("_id"), 0, COPY_BATCH_SIZE);
+
+        Map<String, List<WriteModel<Document>>> modelMap = new HashMap<>();
+        for (Document document : documentList) {
+            String nextTable = shardInfo.getNextTable(document.getString("address"));
+            modelMap.computeIfAbsent(nextTable, k -> new ArrayList<>())
+                    .add(new ReplaceOneModel<>(Filters.eq("_id", document.get("_id")), document, new ReplaceOptions().upsert(true)));
+        }
+        BulkWriteOptions options = new BulkWriteOptions().ordered(false);
+        for (Map.Entry<String, List<WriteModel<Document>>> entry : modelMap.entrySet()) {
+            mongoDBService.bulkWrite(entry.getKey(), entry.getValue(), options);
+        }
+
+        if (documentList.size() < COPY_BATCH_SIZE) {
+            shardInfo.setCopyShard(shardInfo.getCopyShard() + 1);
+            shardInfo.setCopyId(null);
+            LoggerUtil.commonLog.info("tx relation resharding, chainId:{}, table {} copied", shardInfo.getChainId(), table);
+        } else {
+            shardInfo.setCopyId(documentList.get(documentList.size() - 1).getObjectId("_id").toHexString());
+        }
+    }
+
+    /**
+     * 先保存新的分片记录再替换缓存，查询从此只读新表
+     */
+    private void cutover(ApiCache apiCache, TxRelationShardInfo shardInfo) {
+        TxRelationShardInfo newInfo = shardInfo.cutover();
+        saveShardInfo(newInfo);
+        apiCache.setTxRelationShardInfo(newInfo);
+        LoggerUtil.commonLog.info("tx relation resharding finished, chainId:{}, now {}/{} version {}, the tables of version {} can be dropped",
+                newInfo.getChainId(), newInfo.getFunction(), newInfo.getShardCount(), newInfo.getVersion(), shardInfo.getVersion());
+    }
+
+    public TxRelationShardInfo getShardInfo(int chainId) {
+        Document document = mongoDBService.findOne(TX_RELATION_SHARD_TABLE, Filters.eq("_id", chainId));
+        if (document == null) {
+            return null;
+        }
+        return DocumentTransferTool.toInfo(document, "chainId", TxRelationShardInfo.class);
+    }
+
+    private void saveShardInfo(TxRelationShardInfo shardInfo) {
+        Document document = DocumentTransferTool.toDocument(shardInfo, "chainId");
+        mongoDBService.getCollection(TX_RELATION_SHARD_TABLE)
+                .replaceOne(Filters.eq("_id", shardInfo.getChainId()), document, new ReplaceOptions().upsert(true));
+    }
+
+    public void createTables(List<String> tables) {
+        for (String table : tables) {
+            mongoDBService.createCollection(table);
+            mongoDBService.createIndex(table, Indexes.ascending("address"));
+            mongoDBService.createIndex(table, Indexes.ascending("address", "type"));
+            mongoDBService.createIndex(table, Indexes.ascending("txHash"));
+            mongoDBService.createIndex(table, Indexes.descending("createTime"));
+            //按游标翻页查询账户交易
+            mongoDBService.createIndex(table, Indexes.compoundIndex(Indexes.ascending("address"), Indexes.descending("createTime", "txHash", "_id")));
+        }
+    }
+}
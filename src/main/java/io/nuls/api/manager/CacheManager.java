@@ -8,6 +8,7 @@ import io.nuls.api.model.po.CoinContextInfo;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class CacheManager {
 
@@ -23,6 +24,10 @@ public class CacheManager {
      * 缓存所有已注册跨链的资产信息
      */
     private static Map<String, AssetInfo> assetInfoMap = new ConcurrentHashMap<>();
+    /**
+     * 任意一条链的最新区块变化(新区块或回滚)时加1，rpc响应缓存按这个版本失效
+     */
+    private static final AtomicLong bestHeaderVersion = new AtomicLong();
 
 
     public static void addApiCache(int chainID, ApiCache apiCache) {
@@ -74,6 +79,14 @@ public class CacheManager {
         CacheManager.assetInfoMap = assetInfoMap;
     }
 
+    public static long getBestHeaderVersion() {
+        return bestHeaderVersion.get();
+    }
+
+    public static void increaseBestHeaderVersion() {
+        bestHeaderVersion.incrementAndGet();
+    }
+
     public static AssetInfo getRegisteredAsset(String key) {
         return assetInfoMap.get(key);
     }
@@ -18,7 +18,7 @@ public class ScheduleManager {
 
     public void start() {
         LoggerUtil.commonLog.info("init tasks......");
-        ScheduledExecutorService executorService = Executors.newScheduledThreadPool(9);
+        ScheduledExecutorService executorService = Executors.newScheduledThreadPool(10);
         executorService.scheduleAtFixedRate(new DeleteTxsTask(ApiContext.defaultChainId), 2, 60, TimeUnit.SECONDS);
         executorService.scheduleAtFixedRate(new QueryChainInfoTask(ApiContext.defaultChainId), 2, 60, TimeUnit.SECONDS);
         executorService.scheduleAtFixedRate(new SyncBlockTask(ApiContext.defaultChainId), 5, 10, TimeUnit.SECONDS);
@@ -28,6 +28,8 @@ public class ScheduleManager {
         executorService.scheduleAtFixedRate(new StatisticalRewardTask(ApiContext.defaultChainId), 1, 60, TimeUnit.MINUTES);
         executorService.scheduleAtFixedRate(new GetGlobalInfoTask(ApiContext.defaultChainId), 5, 10, TimeUnit.SECONDS);
         executorService.scheduleAtFixedRate(new LastDayRewardStatTask(ApiContext.defaultChainId), 0, 1, TimeUnit.HOURS);
+        executorService.scheduleWithFixedDelay(new TxRelationReshardTask(ApiContext.defaultChainId), 1, 10, TimeUnit.MINUTES);
+        executorService.scheduleWithFixedDelay(new IpTableReloadTask(), 1, 1, TimeUnit.MINUTES);
 
         MongoAgentServiceImpl mongoAgentService = SpringLiteContext.getBean(MongoAgentServiceImpl.class);
         MongoAccountLedgerServiceImpl accountLedgerService = SpringLiteContext.getBean(MongoAccountLedgerServiceImpl.class);
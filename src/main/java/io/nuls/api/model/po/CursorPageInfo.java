@@ -0,0 +1,50 @@
+package io.nuls.api.model.po;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 按游标翻页的结果，nextCursor为null时表示没有更多数据
+ */
+public class CursorPageInfo<T> {
+
+    private int pageSize;
+
+    private String nextCursor;
+
+    private List<T> list;
+
+    public CursorPageInfo() {
+        list = new ArrayList<>();
+    }
+
+    public CursorPageInfo(int pageSize, String nextCursor, List<T> list) {
+        this.pageSize = pageSize;
+        this.nextCursor = nextCursor;
+        this.list = list;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getList() {
+        return list;
+    }
+
+    public void setList(List<T> list) {
+        this.list = list;
+    }
+}
@@ -0,0 +1,80 @@
+package io.nuls.api.model.po;
+
+import io.nuls.api.constant.ApiConstant;
+import org.bson.types.ObjectId;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 按游标翻页时的位置，记录上一页最后一条记录的(createTime, txHash)以及它属于未确认还是已确认的关系
+ * 同一笔交易和同一地址可能有多条关系记录(不同资产)，再用记录的_id区分
+ * 对调用方是一个不透明的字符串，下一页从这条记录之后继续查询，不再按页码skip
+ * Position of a keyset page: (createTime, txHash, _id) of the last record returned and whether it was
+ * an unconfirmed or a confirmed relation. Opaque to the caller, encoded as a url safe base64 string
+ */
+public class PageCursor {
+
+    private static final String SEPARATOR = ":";
+
+    private int status;
+
+    private long createTime;
+
+    private String txHash;
+
+    private String id;
+
+    public PageCursor(int status, long createTime, String txHash, String id) {
+        this.status = status;
+        this.createTime = createTime;
+        this.txHash = txHash;
+        this.id = id;
+    }
+
+    /**
+     * @param cursor 上一页返回的nextCursor，为空时表示第一页
+     * @return 第一页返回null
+     * @throws IllegalArgumentException 游标格式不正确
+     */
+    public static PageCursor parse(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        String[] parts = value.split(SEPARATOR);
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("invalid cursor");
+        }
+        int status = Integer.parseInt(parts[0]);
+        if ((status != ApiConstant.TX_UNCONFIRM && status != ApiConstant.TX_CONFIRM) || !ObjectId.isValid(parts[3])) {
+            throw new IllegalArgumentException("invalid cursor");
+        }
+        return new PageCursor(status, Long.parseLong(parts[1]), parts[2], parts[3]);
+    }
+
+    public String encode() {
+        String value = status + SEPARATOR + createTime + SEPARATOR + txHash + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isConfirmed() {
+        return status == ApiConstant.TX_CONFIRM;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public long getCreateTime() {
+        return createTime;
+    }
+
+    public String getTxHash() {
+        return txHash;
+    }
+
+    public String getId() {
+        return id;
+    }
+}
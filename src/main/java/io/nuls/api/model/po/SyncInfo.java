@@ -13,6 +13,8 @@ public class SyncInfo {
     private BigInteger totalSupply = BigInteger.ZERO;
 
     private int step;
+    //本次一起提交的区块数量，批量同步时一个窗口共用一个step标记，0或1表示单个区块提交
+    private int batchCount;
 
     public SyncInfo() {
     }
@@ -68,4 +70,12 @@ public class SyncInfo {
     public void setTotalSupply(BigInteger totalSupply) {
         this.totalSupply = totalSupply;
     }
+
+    public int getBatchCount() {
+        return batchCount;
+    }
+
+    public void setBatchCount(int batchCount) {
+        this.batchCount = batchCount;
+    }
 }
@@ -0,0 +1,181 @@
+package io.nuls.api.model.po;
+
+import io.nuls.api.utils.ShardFunction;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.nuls.api.constant.DBTableConstant.TX_RELATION_TABLE;
+
+/**
+ * 交易关系表的分片记录，每条链一条
+ * version为0时使用原来的表名tx_relation_table_{chainId}_{i}，之后的版本为tx_relation_table_{chainId}_v{version}_{i}
+ * 重新分片期间next*字段记录新的分片方式，新写入的关系同时写入两套表，旧表的数据由后台任务复制完成后切换
+ * Shard map of the tx relation tables of a chain. While resharding the next layout is written alongside the current one
+ */
+public class TxRelationShardInfo {
+
+    private int chainId;
+
+    private int version;
+
+    private String function;
+
+    private int shardCount;
+
+    private int nextVersion;
+    //为null时表示没有在重新分片
+    private String nextFunction;
+
+    private int nextShardCount;
+    //不超过这个高度的关系由后台任务从旧表复制，之后的关系同时写入两套表
+    private long reshardHeight;
+    //正在复制的旧表序号
+    private int copyShard;
+    //当前旧表中已复制的最后一条记录的_id
+    private String copyId;
+
+    public String getTable(String address) {
+        return tableName(chainId, version, ShardFunction.of(function).shard(address, shardCount));
+    }
+
+    public String getTable(int index) {
+        return tableName(chainId, version, index);
+    }
+
+    public List<String> getTables() {
+        return tableNames(chainId, version, shardCount);
+    }
+
+    public boolean isResharding() {
+        return nextFunction != null;
+    }
+
+    /**
+     * 重新分片期间地址在新分片方式下的表，没有在重新分片时返回null
+     */
+    public String getNextTable(String address) {
+        if (!isResharding()) {
+            return null;
+        }
+        return tableName(chainId, nextVersion, ShardFunction.of(nextFunction).shard(address, nextShardCount));
+    }
+
+    public List<String> getNextTables() {
+        if (!isResharding()) {
+            return new ArrayList<>();
+        }
+        return tableNames(chainId, nextVersion, nextShardCount);
+    }
+
+    public boolean isLayout(ShardFunction shardFunction, int count) {
+        return ShardFunction.of(function) == shardFunction && shardCount == count;
+    }
+
+    /**
+     * 复制完成后切换到新的分片方式
+     */
+    public TxRelationShardInfo cutover() {
+        TxRelationShardInfo info = new TxRelationShardInfo();
+        info.setChainId(chainId);
+        info.setVersion(nextVersion);
+        info.setFunction(nextFunction);
+        info.setShardCount(nextShardCount);
+        return info;
+    }
+
+    private static String tableName(int chainId, int version, int index) {
+        if (version == 0) {
+            return TX_RELATION_TABLE + chainId + "_" + index;
+        }
+        return TX_RELATION_TABLE + chainId + "_v" + version + "_" + index;
+    }
+
+    private static List<String> tableNames(int chainId, int version, int count) {
+        List<String> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            list.add(tableName(chainId, version, i));
+        }
+        return list;
+    }
+
+    public int getChainId() {
+        return chainId;
+    }
+
+    public void setChainId(int chainId) {
+        this.chainId = chainId;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public void setVersion(int version) {
+        this.version = version;
+    }
+
+    public String getFunction() {
+        return function;
+    }
+
+    public void setFunction(String function) {
+        this.function = function;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public void setShardCount(int shardCount) {
+        this.shardCount = shardCount;
+    }
+
+    public int getNextVersion() {
+        return nextVersion;
+    }
+
+    public void setNextVersion(int nextVersion) {
+        this.nextVersion = nextVersion;
+    }
+
+    public String getNextFunction() {
+        return nextFunction;
+    }
+
+    public void setNextFunction(String nextFunction) {
+        this.nextFunction = nextFunction;
+    }
+
+    public int getNextShardCount() {
+        return nextShardCount;
+    }
+
+    public void setNextShardCount(int nextShardCount) {
+        this.nextShardCount = nextShardCount;
+    }
+
+    public long getReshardHeight() {
+        return reshardHeight;
+    }
+
+    public void setReshardHeight(long reshardHeight) {
+        this.reshardHeight = reshardHeight;
+    }
+
+    public int getCopyShard() {
+        return copyShard;
+    }
+
+    public void setCopyShard(int copyShard) {
+        this.copyShard = copyShard;
+    }
+
+    public String getCopyId() {
+        return copyId;
+    }
+
+    public void setCopyId(String copyId) {
+        this.copyId = copyId;
+    }
+}
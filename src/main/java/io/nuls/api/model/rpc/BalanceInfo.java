@@ -73,4 +73,16 @@ public class BalanceInfo {
     public void setNonceType(int nonceType) {
         this.nonceType = nonceType;
     }
+
+    public BalanceInfo copy() {
+        BalanceInfo balanceInfo = new BalanceInfo();
+        balanceInfo.totalBalance = this.totalBalance;
+        balanceInfo.balance = this.balance;
+        balanceInfo.timeLock = this.timeLock;
+        balanceInfo.consensusLock = this.consensusLock;
+        balanceInfo.freeze = this.freeze;
+        balanceInfo.nonce = this.nonce;
+        balanceInfo.nonceType = this.nonceType;
+        return balanceInfo;
+    }
 }
@@ -21,6 +21,7 @@
 package io.nuls.api.rpc.controller;
 
 import io.nuls.api.ApiContext;
+import io.nuls.api.analysis.BalanceFetcher;
 import io.nuls.api.analysis.WalletRpcHandler;
 import io.nuls.api.cache.ApiCache;
 import io.nuls.api.constant.config.ApiConfig;
@@ -29,6 +30,7 @@ import io.nuls.api.manager.CacheManager;
 import io.nuls.api.model.po.*;
 import io.nuls.api.model.po.mini.MiniAccountInfo;
 import io.nuls.api.model.rpc.*;
+import io.nuls.api.utils.DBUtil;
 import io.nuls.api.utils.LoggerUtil;
 import io.nuls.api.utils.VerifyUtils;
 import io.nuls.base.basic.AddressTool;
@@ -40,9 +42,12 @@ import io.nuls.core.model.StringUtils;
 import io.nuls.core.parse.MapUtils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -200,6 +205,90 @@ public class AccountController {
         return result;
     }
 
+    /**
+     * 按游标翻页查询账户交易，参数与getAccountTxs相同，只是把页码换成上一页返回的nextCursor，第一页传空字符串
+     * 深翻页时不再skip前面的记录
+     */
+    @RpcMethod("getAccountTxsByCursor")
+    public RpcResult getAccountTxsByCursor(List<Object> params) {
+        VerifyUtils.verifyParams(params, 7);
+        int chainId, assetChainId, assetId, pageSize, type;
+        String address;
+        long startHeight, endHeight;
+        PageCursor cursor;
+        try {
+            chainId = (int) params.get(0);
+        } catch (Exception e) {
+            return RpcResult.paramError("[chainId] is inValid");
+        }
+        try {
+            cursor = PageCursor.parse((String) params.get(1));
+        } catch (Exception e) {
+            return RpcResult.paramError("[cursor] is inValid");
+        }
+        try {
+            pageSize = (int) params.get(2);
+        } catch (Exception e) {
+            return RpcResult.paramError("[pageSize] is inValid");
+        }
+        try {
+            address = (String) params.get(3);
+        } catch (Exception e) {
+            return RpcResult.paramError("[address] is inValid");
+        }
+        try {
+            type = (int) params.get(4);
+        } catch (Exception e) {
+            return RpcResult.paramError("[type] is inValid");
+        }
+        try {
+            startHeight = Long.parseLong("" + params.get(5));
+        } catch (Exception e) {
+            return RpcResult.paramError("[startHeight] is invalid");
+        }
+        try {
+            endHeight = Long.parseLong("" + params.get(6));
+        } catch (Exception e) {
+            return RpcResult.paramError("[endHeight] is invalid");
+        }
+        try {
+            assetChainId = (int) params.get(7);
+        } catch (Exception e) {
+            return RpcResult.paramError("[assetChainId] is invalid");
+        }
+        try {
+            assetId = (int) params.get(8);
+        } catch (Exception e) {
+            return RpcResult.paramError("[assetId] is invalid");
+        }
+        if (!AddressTool.validAddress(chainId, address)) {
+            return RpcResult.paramError("[address] is inValid");
+        }
+        if (pageSize <= 0 || pageSize > 100) {
+            pageSize = 10;
+        }
+        RpcResult result = new RpcResult();
+        try {
+            if (CacheManager.isChainExist(chainId)) {
+                CursorPageInfo<TxRelationInfo> pageInfo = accountService.getAccountTxsByCursor(chainId, address, cursor, pageSize, type, startHeight, endHeight, assetChainId, assetId);
+                result.setResult(new CursorPageInfo<>(pageSize, pageInfo.getNextCursor(), pageInfo.getList().stream().map(d -> {
+                    Map res = MapUtils.beanToMap(d);
+                    AssetInfo assetInfo = CacheManager.getAssetInfoMap().get(d.getChainId() + "-" + d.getAssetId());
+                    if (assetInfo != null) {
+                        res.put("symbol", assetInfo.getSymbol());
+                        res.put("decimals", assetInfo.getDecimals());
+                    }
+                    return res;
+                }).collect(Collectors.toList())));
+            } else {
+                result.setResult(new CursorPageInfo<>());
+            }
+        } catch (Exception e) {
+            LoggerUtil.commonLog.error(e);
+        }
+        return result;
+    }
+
     /**
      * 查询账户普通转账和跨链转账交易
      *
@@ -638,7 +727,7 @@ public class AccountController {
             AssetInfo defaultAsset = apiCache.getChainInfo().getDefaultAsset();
             assetId = defaultAsset.getAssetId();
         }
-        BalanceInfo balanceInfo = WalletRpcHandler.getAccountBalance(chainId, address, assetChainId, assetId);
+        BalanceInfo balanceInfo = BalanceFetcher.getBalance(chainId, address, assetChainId, assetId);
         if (assetChainId == ApiContext.defaultChainId && assetId == ApiContext.defaultAssetId) {
             AccountInfo accountInfo = accountService.getAccountInfo(chainId, address);
             if (accountInfo != null) {
@@ -685,16 +774,26 @@ public class AccountController {
             assetId = defaultAsset.getAssetId();
         }
 
-        String[] addressList = address.split(",");
+        //余额并发查询，账户信息一次批量读取
+        Set<String> addressSet = new LinkedHashSet<>(Arrays.asList(address.split(",")));
+        //一次查询的地址数和批量请求的调用数使用同一个上限
+        if (addressSet.size() > ApiContext.rpcBatchMaxSize) {
+            return RpcResult.paramError("[address] is too many, max size: " + ApiContext.rpcBatchMaxSize);
+        }
+        BalanceFetcher.Batch batch = new BalanceFetcher.Batch(chainId);
+        for (String addr : addressSet) {
+            batch.add(addr, assetChainId, assetId);
+        }
+        Map<String, AccountInfo> accountInfoMap = accountService.getAccountInfoMap(chainId, addressSet);
+        Map<String, BalanceInfo> balanceMap = batch.get();
         Map<String, BalanceInfo> balanceInfoList = new HashMap<>();
-        for (int i = 0; i < addressList.length; i++) {
-            address = addressList[i];
-            BalanceInfo balanceInfo = WalletRpcHandler.getAccountBalance(chainId, address, assetChainId, assetId);
-            AccountInfo accountInfo = accountService.getAccountInfo(chainId, address);
-            if (accountInfo != null) {
+        for (String addr : addressSet) {
+            BalanceInfo balanceInfo = balanceMap.get(DBUtil.getAccountAssetKey(addr, assetChainId, assetId));
+            AccountInfo accountInfo = accountInfoMap.get(addr);
+            if (balanceInfo != null && accountInfo != null) {
                 balanceInfo.setConsensusLock(accountInfo.getConsensusLock());
             }
-            balanceInfoList.put(address, balanceInfo);
+            balanceInfoList.put(addr, balanceInfo);
         }
         return RpcResult.success(balanceInfoList);
     }
@@ -752,8 +851,13 @@ public class AccountController {
             return RpcResult.dataNotFound();
         }
         List<AccountLedgerInfo> list = accountLedgerService.getAccountLedgerInfoList(chainId, address);
+        BalanceFetcher.Batch batch = new BalanceFetcher.Batch(chainId);
+        for (AccountLedgerInfo ledgerInfo : list) {
+            batch.add(address, ledgerInfo.getChainId(), ledgerInfo.getAssetId());
+        }
+        Map<String, BalanceInfo> balanceMap = batch.get();
         for (AccountLedgerInfo ledgerInfo : list) {
-            BalanceInfo balanceInfo = WalletRpcHandler.getAccountBalance(chainId, address, ledgerInfo.getChainId(), ledgerInfo.getAssetId());
+            BalanceInfo balanceInfo = balanceMap.get(DBUtil.getAccountAssetKey(address, ledgerInfo.getChainId(), ledgerInfo.getAssetId()));
             ledgerInfo.setBalance(balanceInfo.getBalance());
             ledgerInfo.setTimeLock(balanceInfo.getTimeLock());
             ledgerInfo.setConsensusLock(balanceInfo.getConsensusLock());
@@ -791,8 +895,13 @@ public class AccountController {
             return RpcResult.dataNotFound();
         }
         List<AccountLedgerInfo> list = accountLedgerService.getAccountCrossLedgerInfoList(chainId, address);
+        BalanceFetcher.Batch batch = new BalanceFetcher.Batch(chainId);
+        for (AccountLedgerInfo ledgerInfo : list) {
+            batch.add(address, ledgerInfo.getChainId(), ledgerInfo.getAssetId());
+        }
+        Map<String, BalanceInfo> balanceMap = batch.get();
         for (AccountLedgerInfo ledgerInfo : list) {
-            BalanceInfo balanceInfo = WalletRpcHandler.getAccountBalance(chainId, address, ledgerInfo.getChainId(), ledgerInfo.getAssetId());
+            BalanceInfo balanceInfo = balanceMap.get(DBUtil.getAccountAssetKey(address, ledgerInfo.getChainId(), ledgerInfo.getAssetId()));
             ledgerInfo.setBalance(balanceInfo.getBalance());
             ledgerInfo.setTimeLock(balanceInfo.getTimeLock());
             ledgerInfo.setConsensusLock(balanceInfo.getConsensusLock());
@@ -31,14 +31,14 @@ import io.nuls.api.model.po.BlockInfo;
 import io.nuls.api.model.po.PageInfo;
 import io.nuls.api.model.po.mini.MiniBlockHeaderInfo;
 import io.nuls.api.model.rpc.RpcResult;
-import io.nuls.api.utils.VerifyUtils;
+import io.nuls.api.rpc.jsonRpc.RpcParam;
+import io.nuls.api.rpc.jsonRpc.RpcParamType;
 import io.nuls.core.basic.Result;
 import io.nuls.core.constant.CommonCodeConstanst;
 import io.nuls.core.constant.ErrorCode;
 import io.nuls.core.core.annotation.Autowired;
 import io.nuls.core.core.annotation.Controller;
 import io.nuls.core.core.annotation.RpcMethod;
-import io.nuls.core.model.StringUtils;
 
 import java.util.List;
 
@@ -54,14 +54,9 @@ public class BlockController {
     private ApiConfig apiConfig;
 
     @RpcMethod("getBestBlockHeader")
+    @RpcParam(name = "chainId", type = RpcParamType.INT)
     public RpcResult getBestInfo(List<Object> params) {
-        VerifyUtils.verifyParams(params, 1);
-        int chainId;
-        try {
-            chainId = (int) params.get(0);
-        } catch (Exception e) {
-            return RpcResult.paramError("[chainId] is inValid");
-        }
+        int chainId = (int) params.get(0);
 
         if (!CacheManager.isChainExist(chainId)) {
             return RpcResult.dataNotFound();
@@ -75,24 +70,11 @@ public class BlockController {
     }
 
     @RpcMethod("getHeaderByHeight")
+    @RpcParam(name = "chainId", type = RpcParamType.INT)
+    @RpcParam(name = "height", type = RpcParamType.LONG, min = 0)
     public RpcResult getHeaderByHeight(List<Object> params) {
-        VerifyUtils.verifyParams(params, 2);
-        int chainId;
-        long height;
-        try {
-            chainId = (int) params.get(0);
-        } catch (Exception e) {
-            return RpcResult.paramError("[chainId] is invalid");
-        }
-        try {
-            height = Long.parseLong("" + params.get(1));
-        } catch (Exception e) {
-            return RpcResult.paramError("[height] is invalid");
-        }
-
-        if (height < 0) {
-            return RpcResult.paramError("[height] is invalid");
-        }
+        int chainId = (int) params.get(0);
+        long height = (long) params.get(1);
 
         if (!CacheManager.isChainExist(chainId)) {
             return RpcResult.dataNotFound();
@@ -105,23 +87,11 @@ public class BlockController {
     }
 
     @RpcMethod("getHeaderByHash")
+    @RpcParam(name = "chainId", type = RpcParamType.INT)
+    @RpcParam(name = "hash", type = RpcParamType.STRING)
     public RpcResult getHeaderByHash(List<Object> params) {
-        VerifyUtils.verifyParams(params, 2);
-        int chainId;
-        String hash;
-        try {
-            chainId = (int) params.get(0);
-        } catch (Exception e) {
-            return RpcResult.paramError("[chainId] is invalid");
-        }
-        try {
-            hash = (String) params.get(1);
-        } catch (Exception e) {
-            return RpcResult.paramError("[hash] is invalid");
-        }
-        if (StringUtils.isBlank(hash)) {
-            return RpcResult.paramError("[hash] is required");
-        }
+        int chainId = (int) params.get(0);
+        String hash = (String) params.get(1);
 
         if (!CacheManager.isChainExist(chainId)) {
             return RpcResult.dataNotFound();
@@ -134,23 +104,11 @@ public class BlockController {
     }
 
     @RpcMethod("getBlockByHash")
+    @RpcParam(name = "chainId", type = RpcParamType.INT)
+    @RpcParam(name = "hash", type = RpcParamType.STRING)
     public RpcResult getBlockByHash(List<Object> params) {
-        VerifyUtils.verifyParams(params, 2);
-        int chainId;
-        String hash;
-        try {
-            chainId = (int) params.get(0);
-        } catch (Exception e) {
-            return RpcResult.paramError("[chainId] is invalid");
-        }
-        try {
-            hash = (String) params.get(1);
-        } catch (Exception e) {
-            return RpcResult.paramError("[hash] is invalid");
-        }
-        if (StringUtils.isBlank(hash)) {
-            return RpcResult.paramError("[hash] is required");
-        }
+        int chainId = (int) params.get(0);
+        String hash = (String) params.get(1);
         if (!CacheManager.isChainExist(chainId)) {
             return RpcResult.dataNotFound();
         }
@@ -173,23 +131,11 @@ public class BlockController {
     }
 
     @RpcMethod("getBlockByHeight")
+    @RpcParam(name = "chainId", type = RpcParamType.INT)
+    @RpcParam(name = "height", type = RpcParamType.LONG, min = 0)
     public RpcResult getBlockByHeight(List<Object> params) {
-        VerifyUtils.verifyParams(params, 2);
-        int chainId;
-        long height;
-        try {
-            chainId = (int) params.get(0);
-        } catch (Exception e) {
-            return RpcResult.paramError("[chainId] is invalid");
-        }
-        try {
-            height = Long.parseLong("" + params.get(1));
-        } catch (Exception e) {
-            return RpcResult.paramError("[height] is invalid");
-        }
-        if (height < 0) {
-            return RpcResult.paramError("[height] is invalid");
-        }
+        int chainId = (int) params.get(0);
+        long height = (long) params.get(1);
         if (!CacheManager.isChainExist(chainId)) {
             return RpcResult.dataNotFound();
         }
@@ -212,38 +158,17 @@ public class BlockController {
     }
 
     @RpcMethod("getBlockHeaderList")
+    @RpcParam(name = "chainId", type = RpcParamType.INT)
+    @RpcParam(name = "pageNumber", type = RpcParamType.INT)
+    @RpcParam(name = "pageSize", type = RpcParamType.INT)
+    @RpcParam(name = "filterEmptyBlocks", type = RpcParamType.BOOLEAN)
+    @RpcParam(name = "packingAddress", type = RpcParamType.STRING, required = false)
     public RpcResult getBlockHeaderList(List<Object> params) {
-        VerifyUtils.verifyParams(params, 3);
-        int chainId, pageNumber, pageSize;
-        boolean filterEmptyBlocks;
-        String packingAddress = null;
-        try {
-            chainId = (int) params.get(0);
-        } catch (Exception e) {
-            return RpcResult.paramError("[chainId] is invalid");
-        }
-        try {
-            pageNumber = (int) params.get(1);
-        } catch (Exception e) {
-            return RpcResult.paramError("[pageNumber] is invalid");
-        }
-        try {
-            pageSize = (int) params.get(2);
-        } catch (Exception e) {
-            return RpcResult.paramError("[pageSize] is invalid");
-        }
-        try {
-            filterEmptyBlocks = (boolean) params.get(3);
-        } catch (Exception e) {
-            return RpcResult.paramError("[filterEmptyBlocks] is invalid");
-        }
-        try {
-            if (params.size() > 4) {
-                packingAddress = (String) params.get(4);
-            }
-        } catch (Exception e) {
-            return RpcResult.paramError("[packingAddress] is invalid");
-        }
+        int chainId = (int) params.get(0);
+        int pageNumber = (int) params.get(1);
+        int pageSize = (int) params.get(2);
+        boolean filterEmptyBlocks = (boolean) params.get(3);
+        String packingAddress = params.size() > 4 ? (String) params.get(4) : null;
 
         if (pageNumber <= 0) {
             pageNumber = 1;
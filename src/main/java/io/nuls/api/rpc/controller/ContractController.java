@@ -1,5 +1,6 @@
 package io.nuls.api.rpc.controller;
 
+import io.nuls.api.analysis.BalanceFetcher;
 import io.nuls.api.analysis.WalletRpcHandler;
 import io.nuls.api.cache.ApiCache;
 import io.nuls.api.constant.ApiConstant;
@@ -246,8 +247,17 @@ public class ContractController {
         }
         if (pageInfo != null && pageInfo.getList() != null && pageInfo.getList().size() > 0) {
             List<AccountTokenInfo> list = pageInfo.getList();
+            //各合约的可用余额并发查询
+            BalanceFetcher.Batch batch = new BalanceFetcher.Batch(chainId);
             for (AccountTokenInfo tokenInfo : list) {
-                BigInteger available = WalletRpcHandler.tokenBalance(chainId, tokenInfo.getContractAddress(), tokenInfo.getAddress()).getData();
+                batch.addToken(tokenInfo.getContractAddress(), tokenInfo.getAddress());
+            }
+            Map<String, BigInteger> availableMap = batch.getTokens();
+            for (AccountTokenInfo tokenInfo : list) {
+                BigInteger available = availableMap.get(tokenInfo.getAddress() + tokenInfo.getContractAddress());
+                if (available == null) {
+                    continue;
+                }
                 BigInteger total = tokenInfo.getBalance();
                 BigInteger locked = total.subtract(available);
                 tokenInfo.setLockedBalance(locked);
@@ -0,0 +1,20 @@
+package io.nuls.api.rpc.controller;
+
+import io.nuls.api.model.rpc.RpcResult;
+import io.nuls.api.rpc.jsonRpc.RpcMetrics;
+import io.nuls.core.core.annotation.Controller;
+import io.nuls.core.core.annotation.RpcMethod;
+
+import java.util.List;
+
+@Controller
+public class RpcMetricsController {
+
+    /**
+     * 各rpc方法的调用数、错误数、正在执行的数量和延迟分位数(毫秒)，以及线程池队列和响应缓存的统计
+     */
+    @RpcMethod("getRpcMetrics")
+    public RpcResult getRpcMetrics(List<Object> params) {
+        return RpcResult.success(RpcMetrics.getSnapshot());
+    }
+}
@@ -0,0 +1,90 @@
+package io.nuls.api.rpc.jsonRpc;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.nuls.api.ApiContext;
+import io.nuls.core.parse.JSONUtils;
+import org.glassfish.grizzly.http.server.Request;
+import org.glassfish.grizzly.http.server.Response;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 用Jackson把rpc结果直接序列化到Grizzly的响应输出流，不再先生成完整的字符串
+ * 先缓冲不超过rpcGzipThreshold字节，超过时如果客户端接受gzip就压缩输出，否则直接输出
+ * Streams rpc results to the response with a Jackson generator, gzip encoded above a size threshold
+ */
+public class JsonResponseWriter {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    public static boolean acceptsGzip(Request request) {
+        String acceptEncoding = request.getHeader("Accept-Encoding");
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
+
+    public static void write(Response response, boolean acceptsGzip, Object value) throws IOException {
+        ThresholdOutputStream out = new ThresholdOutputStream(response, acceptsGzip && ApiContext.rpcGzipThreshold > 0);
+        JSONUtils.getInstance().writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(out, value);
+        out.finish();
+    }
+
+    private static class ThresholdOutputStream extends OutputStream {
+
+        private final Response response;
+
+        private final boolean gzip;
+
+        private final int threshold;
+
+        private ByteArrayOutputStream buffer;
+        //超过阈值后的实际输出，之前为null
+        private OutputStream out;
+
+        ThresholdOutputStream(Response response, boolean gzip) {
+            this.response = response;
+            this.gzip = gzip;
+            this.threshold = gzip ? ApiContext.rpcGzipThreshold : BUFFER_SIZE;
+            this.buffer = new ByteArrayOutputStream(Math.min(threshold, BUFFER_SIZE));
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (out != null) {
+                out.write(b, off, len);
+                return;
+            }
+            buffer.write(b, off, len);
+            if (buffer.size() > threshold) {
+                OutputStream target = response.getOutputStream();
+                if (gzip) {
+                    response.setHeader("Content-Encoding", "gzip");
+                    response.setHeader("Vary", "Accept-Encoding");
+                    target = new GZIPOutputStream(target, BUFFER_SIZE);
+                }
+                buffer.writeTo(target);
+                buffer = null;
+                out = target;
+            }
+        }
+
+        void finish() throws IOException {
+            if (out == null) {
+                response.setContentLength(buffer.size());
+                buffer.writeTo(response.getOutputStream());
+                buffer = null;
+                return;
+            }
+            if (out instanceof GZIPOutputStream) {
+                ((GZIPOutputStream) out).finish();
+            }
+        }
+    }
+}
@@ -20,9 +20,18 @@
 
 package io.nuls.api.rpc.jsonRpc;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import io.nuls.api.ApiContext;
+import io.nuls.api.manager.CacheManager;
 import io.nuls.api.model.rpc.RpcResult;
 import io.nuls.api.model.rpc.RpcResultError;
 import io.nuls.api.rpc.rest.IpLookupController;
+import io.nuls.api.rpc.rest.MetricsController;
+import io.nuls.api.rpc.rest.SubscribeController;
 import io.nuls.api.rpc.rest.TvlController;
 import io.nuls.api.utils.AssetTool;
 import io.nuls.api.utils.LoggerUtil;
@@ -34,11 +43,13 @@ import org.glassfish.grizzly.http.server.Request;
 import org.glassfish.grizzly.http.server.Response;
 
 import javax.ws.rs.core.MediaType;
-import java.io.IOException;
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 所有该端口的请求都发送到这里统一处理，在此类中封装JSON-RPC 2.0规范的框架
@@ -47,6 +58,18 @@ import java.util.Map;
  */
 public class JsonRpcHandler extends HttpHandler {
 
+    private final RpcDispatcher dispatcher;
+
+    private final RpcResponseCache responseCache;
+
+    private final RpcAdmission admission;
+
+    public JsonRpcHandler(RpcDispatcher dispatcher, RpcResponseCache responseCache, RpcAdmission admission) {
+        this.dispatcher = dispatcher;
+        this.responseCache = responseCache;
+        this.admission = admission;
+    }
+
     @Override
     public void service(Request request, Response response) throws Exception {
 
@@ -67,6 +90,14 @@ public class JsonRpcHandler extends HttpHandler {
                 TvlController.doGet(response);
                 return;
             }
+            if (request.getRequestURI().endsWith("nuls/metrics") || request.getRequestURI().endsWith("nuls/metrics/")) {
+                MetricsController.doGet(response);
+                return;
+            }
+            if (request.getRequestURI().endsWith("nuls/subscribe") || request.getRequestURI().endsWith("nuls/subscribe/")) {
+                SubscribeController.doGet(request, response);
+                return;
+            }
             if (request.getRequestURI().endsWith("iplookup") || request.getRequestURI().endsWith("iplookup/")) {
                 IpLookupController.doGet(request, response);
                 return;
@@ -98,86 +129,257 @@ public class JsonRpcHandler extends HttpHandler {
                 return;
             }
         }
-        String content = "";
         if (!request.getMethod().equals(Method.POST)) {
 //            LoggerUtil.commonLog.warn("the request is not POST!, remoteHost:" + request.getRemoteAddr());
-//            try {
-//                content = getParam(request);
-//            } catch (IOException e) {
-            //   LoggerUtil.commonLog.error(e);
-//            }
-//            LoggerUtil.commonLog.warn(content);
             response.getWriter().write(JSONUtils.obj2json(responseError("-32600", "", "0")));
             return;
         }
 
-        try {
-            content = getParam(request);
-        } catch (IOException e) {
-            LoggerUtil.commonLog.error(e);
+        // 在Grizzly的工作线程中只从输入流解析请求，挂起响应后交给方法所在组的线程池执行
+        boolean batch = false;
+        List<Map> paramList;
+        ObjectMapper mapper = JSONUtils.getInstance();
+        try (JsonParser parser = mapper.getFactory().createParser(request.getInputStream())) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                response.getWriter().write(JSONUtils.obj2json(responseError("-32700", "", "0")));
+                return;
+            }
+            batch = token == JsonToken.START_ARRAY;
+            if (batch) {
+                // 处理批量请求
+                paramList = mapper.readValue(parser, new TypeReference<List<Map>>() {
+                });
+            } else {
+                // 处理单个请求
+                paramList = Collections.singletonList(mapper.readValue(parser, Map.class));
+            }
+        } catch (Exception e) {
+            if (batch) {
+                LoggerUtil.commonLog.error(e);
+            } else {
+                LoggerUtil.commonLog.error("------remote host : " + request.getRemoteHost());
+                LoggerUtil.commonLog.error(e.getMessage());
+            }
+            response.getWriter().write(JSONUtils.obj2json(responseError("-32700", "the request is not a json-rpc 2.0 request", "0")));
+            return;
+        }
+
+        if (batch && paramList.size() > ApiContext.rpcBatchMaxSize) {
+            response.getWriter().write(JSONUtils.obj2json(responseError("-32600", "the batch request is too large, max size: " + ApiContext.rpcBatchMaxSize, "0")));
+            return;
+        }
+
+        boolean gzip = JsonResponseWriter.acceptsGzip(request);
+        String clientIp = getClientIp(request);
+        if (batch) {
+            response.suspend();
+            new BatchExecution(paramList, response, gzip, clientIp).start();
             return;
         }
-        if (StringUtils.isBlank(content)) {
-            response.getWriter().write(JSONUtils.obj2json(responseError("-32700", "", "0")));
+        Map<String, Object> jsonRpcParam = paramList.get(0);
+        RpcDispatcher.Group group = dispatcher.getGroup(jsonRpcParam);
+        RpcResult rejected = admit(clientIp, group, jsonRpcParam);
+        if (rejected != null) {
+            JsonResponseWriter.write(response, gzip, rejected);
             return;
         }
-        content = content.trim();
+        response.suspend();
+        boolean accepted = dispatcher.execute(group, () -> {
+            try {
+                JsonResponseWriter.write(response, gzip, handle(jsonRpcParam));
+            } catch (Exception e) {
+                LoggerUtil.commonLog.error(e);
+            } finally {
+                response.resume();
+            }
+        });
+        if (!accepted) {
+            try {
+                JsonResponseWriter.write(response, gzip, responseBusy(jsonRpcParam));
+            } finally {
+                response.resume();
+            }
+        }
+    }
+
+    public static String getClientIp(Request request) {
+        if (StringUtils.isNotBlank(ApiContext.rpcClientIpHeader)) {
+            return resolveClientIp(request.getHeader(ApiContext.rpcClientIpHeader), request.getRemoteAddr(), ApiContext.rpcTrustedProxies);
+        }
+        return request.getRemoteAddr();
+    }
+
+    /**
+     * 请求头前面的地址是客户端自己填的，只有代理追加的地址可信，所以从右往左取第一个不是受信任代理的地址
+     * 配置了受信任代理而直接连接的不是其中之一时，请求头可能是伪造的，使用连接的地址
+     *
+     * @param forwarded 代理追加客户端地址的请求头，例如X-Forwarded-For: client, proxy1, proxy2
+     */
+    static String resolveClientIp(String forwarded, String remoteAddr, Set<String> trustedProxies) {
+        if (StringUtils.isBlank(forwarded) || (!trustedProxies.isEmpty() && !trustedProxies.contains(remoteAddr))) {
+            return remoteAddr;
+        }
+        String[] arr = forwarded.split(",");
+        String ip = remoteAddr;
+        for (int i = arr.length - 1; i >= 0; i--) {
+            String value = arr[i].trim();
+            if (value.isEmpty()) {
+                continue;
+            }
+            ip = value;
+            if (!trustedProxies.contains(ip)) {
+                break;
+            }
+        }
+        return ip;
+    }
 
-        String responseResult = null;
+    /**
+     * @return 准入时返回null，否则返回拒绝的响应
+     */
+    private RpcResult admit(String clientIp, RpcDispatcher.Group group, Map<String, Object> jsonRpcParam) {
+        RpcAdmission.Decision decision = admission.admit(clientIp, group);
+        if (decision == RpcAdmission.Decision.OVERLOADED) {
+            return responseBusy(jsonRpcParam);
+        }
+        if (decision == RpcAdmission.Decision.RATE_LIMITED) {
+            return responseRateLimited(jsonRpcParam);
+        }
+        return null;
+    }
+
+    private RpcResult responseRateLimited(Map<String, Object> jsonRpcParam) {
+        String id = jsonRpcParam == null ? "0" : jsonRpcParam.get("id") + "";
+        RpcMetrics.countError("-32005");
+        return responseError("-32005", "Request rate limit exceeded", id);
+    }
+
+    private RpcResult handle(Map<String, Object> jsonRpcParam) {
+        long startNanos = System.nanoTime();
+        Object method = jsonRpcParam == null ? null : jsonRpcParam.get("method");
+        RpcMetrics.MethodMetrics metrics = RpcMetrics.start(method instanceof String ? (String) method : null);
+        RpcResult result;
         try {
-            do {
-                if (content.startsWith("[")) {
-                    // 处理批量请求
-                    List<Map> paramList;
-                    try {
-                        paramList = JSONUtils.json2list(content, Map.class);
-                    } catch (Exception e) {
-                        LoggerUtil.commonLog.error(e);
-                        responseResult = JSONUtils.obj2json(responseError("-32700", "the request is not a json-rpc 2.0 request", "0"));
-                        break;
-                    }
-
-                    List<RpcResult> list = new ArrayList<>();
-                    for (Map<String, Object> map : paramList) {
-                        list.add(doHandler(map, response));
-                    }
-                    if (list.isEmpty()) {
-                        responseResult = JSONUtils.obj2json(responseError("-32603", "Internal error!", "0"));
-                        break;
-                    }
-                    if (list.size() == 1) {
-                        responseResult = JSONUtils.obj2json(list.get(0));
-                        break;
-                    }
-                    if (list.size() > 1) {
-                        responseResult = JSONUtils.obj2json(list);
-                        break;
-                    }
-                } else {
-                    // 处理单个请求
-                    Map<String, Object> jsonRpcParam = null;
-                    try {
-
-                        jsonRpcParam = JSONUtils.json2map(content);
-                    } catch (Exception e) {
-                        LoggerUtil.commonLog.error("------remote host : " + request.getRemoteHost());
-                        LoggerUtil.commonLog.error(e.getMessage());
-                        responseResult = JSONUtils.obj2json(responseError("-32700", "the request is not a json-rpc 2.0 request", "0"));
-                        break;
-                    }
-                    RpcResult result = doHandler(jsonRpcParam, response);
-                    responseResult = JSONUtils.obj2json(result);
-                }
-            } while (false);
+            result = doHandler(jsonRpcParam);
         } catch (Exception e) {
             LoggerUtil.commonLog.error(e);
-            responseResult = JSONUtils.obj2json(responseError("-32603", "Internal error!", "0"));
-        } finally {
-            response.getWriter().write(responseResult);
+            result = responseError("-32603", "Internal error!", "0");
+        }
+        RpcMetrics.finish(metrics, startNanos, result.getError() == null ? null : result.getError().getCode());
+        return result;
+    }
+
+    /**
+     * 批量请求中的各个调用分别在自己方法所在组的线程池中并发执行，同一批同时执行的不超过rpcBatchParallelism个
+     * 限速的令牌在开始前整批一次扣除，被限速时整批都返回限速错误
+     * 一个调用完成后再提交下一个，不占用等待线程，结果按请求顺序放回，全部完成后写响应
+     * Fans the entries of a batch out to their group executors with a per-batch parallelism cap
+     */
+    private class BatchExecution {
+
+        private final List<Map> paramList;
+
+        private final Response response;
+
+        private final boolean gzip;
+
+        private final String clientIp;
+
+        private final RpcResult[] results;
+
+        private final RpcDispatcher.Group[] groups;
+
+        private final AtomicInteger nextIndex = new AtomicInteger();
+
+        private final AtomicInteger remaining;
+
+        BatchExecution(List<Map> paramList, Response response, boolean gzip, String clientIp) {
+            this.paramList = paramList;
+            this.response = response;
+            this.gzip = gzip;
+            this.clientIp = clientIp;
+            this.results = new RpcResult[paramList.size()];
+            this.groups = new RpcDispatcher.Group[paramList.size()];
+            this.remaining = new AtomicInteger(paramList.size());
+        }
+
+        void start() {
+            if (paramList.isEmpty()) {
+                finish();
+                return;
+            }
+            for (int i = 0; i < groups.length; i++) {
+                groups[i] = dispatcher.getGroup(paramList.get(i));
+            }
+            if (!admission.admitBatch(clientIp, Arrays.asList(groups))) {
+                for (int i = 0; i < results.length; i++) {
+                    results[i] = responseRateLimited(paramList.get(i));
+                }
+                finish();
+                return;
+            }
+            int parallelism = Math.min(Math.max(1, ApiContext.rpcBatchParallelism), paramList.size());
+            for (int i = 0; i < parallelism; i++) {
+                submitNext();
+            }
+        }
+
+        private void submitNext() {
+            int index = nextIndex.getAndIncrement();
+            if (index >= paramList.size()) {
+                return;
+            }
+            Map<String, Object> jsonRpcParam = paramList.get(index);
+            RpcDispatcher.Group group = groups[index];
+            //令牌已经在start中扣除，这里只做过载检查
+            RpcResult rejected = admit(null, group, jsonRpcParam);
+            if (rejected != null) {
+                results[index] = rejected;
+                complete();
+                return;
+            }
+            boolean accepted = dispatcher.execute(group, () -> {
+                try {
+                    results[index] = handle(jsonRpcParam);
+                } finally {
+                    complete();
+                }
+            });
+            if (!accepted) {
+                results[index] = responseBusy(jsonRpcParam);
+                complete();
+            }
+        }
+
+        private void complete() {
+            if (remaining.decrementAndGet() == 0) {
+                finish();
+            } else {
+                submitNext();
+            }
+        }
+
+        private void finish() {
+            try {
+                Object responseResult;
+                if (results.length == 0) {
+                    responseResult = responseError("-32603", "Internal error!", "0");
+                } else if (results.length == 1) {
+                    responseResult = results[0];
+                } else {
+                    responseResult = Arrays.asList(results);
+                }
+                JsonResponseWriter.write(response, gzip, responseResult);
+            } catch (Exception e) {
+                LoggerUtil.commonLog.error(e);
+            } finally {
+                response.resume();
+            }
         }
     }
 
-    private RpcResult doHandler(Map<String, Object> jsonRpcParam, Response response) throws Exception {
+    private RpcResult doHandler(Map<String, Object> jsonRpcParam) throws Exception {
         String method = (String) jsonRpcParam.get("method");
         String id = jsonRpcParam.get("id") + "";
         if (!"2.0".equals(jsonRpcParam.get("jsonrpc"))) {
@@ -191,28 +393,42 @@ public class JsonRpcHandler extends HttpHandler {
             return responseError("-32601", "Can't find the method", id);
         }
 
-        RpcResult result = invoker.invoke(jsonRpcParam.get("params"));
+        RpcResult result;
+        if (responseCache.isCacheable(method)) {
+            result = invokeCached(method, invoker, jsonRpcParam.get("params"));
+        } else {
+            result = invoker.invoke(jsonRpcParam.get("params"));
+        }
         result.setId(id);
         return result;
     }
 
-    private String getParam(Request request) throws IOException {
-        int contentLength = request.getContentLength();
-        byte buffer[] = new byte[contentLength];
-        for (int i = 0; i < contentLength; ) {
-
-            int readlen = request.getInputStream().read(buffer, i,
-                    contentLength - i);
-            if (readlen == -1) {
-                break;
-            }
-            i += readlen;
+    /**
+     * 命中时直接输出缓存的result，不再调用方法，也不再序列化
+     */
+    private RpcResult invokeCached(String method, RpcMethodInvoker invoker, Object params) throws Exception {
+        String key = responseCache.getKey(method, params);
+        String json = responseCache.get(key);
+        if (json != null) {
+            return RpcResult.success(new RawValue(json));
         }
-        return new String(buffer, "UTF-8");
+        long version = CacheManager.getBestHeaderVersion();
+        RpcResult result = invoker.invoke(params);
+        if (result.getError() != null) {
+            return result;
+        }
+        json = JSONUtils.obj2json(result.getResult());
+        responseCache.put(key, version, json);
+        return RpcResult.success(new RawValue(json));
     }
 
+    private RpcResult responseBusy(Map<String, Object> jsonRpcParam) {
+        String id = jsonRpcParam == null ? "0" : jsonRpcParam.get("id") + "";
+        RpcMetrics.countError("-32000");
+        return responseError("-32000", "Server busy, try again later", id);
+    }
 
-    private RpcResult responseError(String code, String message, String id) throws Exception {
+    private RpcResult responseError(String code, String message, String id) {
         RpcResult result = new RpcResult();
         RpcResultError error = new RpcResultError();
         error.setCode(code);
@@ -36,6 +36,8 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
 
 
 /**
@@ -45,14 +47,19 @@ public class JsonRpcServer {
 
     private HttpServer httpServer;
 
+    private RpcDispatcher dispatcher;
+
     public void startServer(String ip, int port) {
         initRpcMethodHandlers();
         this.httpServer = new HttpServer();
         NetworkListener listener = new NetworkListener("NULS-RPC", ip, port);
         TCPNIOTransport transport = listener.getTransport();
+        //worker队列由这里创建，供监控读取队列长度
+        BlockingQueue<Runnable> workerQueue = new LinkedBlockingQueue<>(2000);
         ThreadPoolConfig workerPool = ThreadPoolConfig.defaultConfig()
                 .setCorePoolSize(8)
                 .setMaxPoolSize(8)
+                .setQueue(workerQueue)
                 .setQueueLimit(2000)
                 .setThreadFactory((new ThreadFactoryBuilder()).setNameFormat("grizzly-http-server-%d").build());
         transport.configureBlocking(false);
@@ -64,7 +71,11 @@ public class JsonRpcServer {
         httpServer.addListener(listener);
 
         ServerConfiguration config = httpServer.getServerConfiguration();
-        config.addHttpHandler(new JsonRpcHandler());
+        dispatcher = new RpcDispatcher();
+        RpcResponseCache responseCache = new RpcResponseCache();
+        RpcAdmission admission = new RpcAdmission(dispatcher, workerQueue);
+        RpcMetrics.init(dispatcher, workerQueue, responseCache, admission);
+        config.addHttpHandler(new JsonRpcHandler(dispatcher, responseCache, admission));
         config.setDefaultQueryEncoding(Charsets.UTF8_CHARSET);
 
         try {
@@ -97,6 +108,7 @@ public class JsonRpcServer {
                     continue;
                 }
                 JsonRpcContext.RPC_METHOD_INVOKER_MAP.put(methodCmd, new RpcMethodInvoker(bean, method));
+                RpcMetrics.register(methodCmd);
             }
 
         }
@@ -108,6 +120,7 @@ public class JsonRpcServer {
             handler.destroy();
         }
         httpServer.shutdown();
+        dispatcher.shutdown();
     }
 
 }
@@ -0,0 +1,120 @@
+package io.nuls.api.rpc.jsonRpc;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 无锁的延迟直方图，单位微秒
+ * 小于16的值每个值一个桶，之后每个2的幂区间再分成8个桶，相对误差不超过12.5%，与HdrHistogram的分桶方式相同
+ * Lock-free log-linear latency histogram in microseconds, 8 sub-buckets per power of two
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    //小于这个值时每个值一个桶
+    private static final int LINEAR_LIMIT = SUB_BUCKET_COUNT * 2;
+    //大于等于2^41微秒(约25天)的值都记在最后一个桶，这个桶没有上界
+    private static final int MAX_BITS = 40;
+
+    private static final int BUCKET_COUNT = LINEAR_LIMIT + (MAX_BITS - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    private final LongAdder totalCount = new LongAdder();
+
+    private final LongAdder totalMicros = new LongAdder();
+
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    public void record(long micros) {
+        if (micros < 0) {
+            micros = 0;
+        }
+        counts.incrementAndGet(bucketIndex(micros));
+        totalCount.increment();
+        totalMicros.add(micros);
+        maxMicros.accumulateAndGet(micros, Math::max);
+    }
+
+    static int bucketIndex(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int msb = 63 - Long.numberOfLeadingZeros(value);
+        if (msb >= MAX_BITS + 1) {
+            return BUCKET_COUNT - 1;
+        }
+        int sub = (int) ((value >>> (msb - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1));
+        return LINEAR_LIMIT + (msb - SUB_BUCKET_BITS - 1) * SUB_BUCKET_COUNT + sub;
+    }
+
+    /**
+     * 桶内的最大值
+     */
+    static long bucketUpperBound(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        if (index >= BUCKET_COUNT - 1) {
+            return Long.MAX_VALUE;
+        }
+        int msb = (index - LINEAR_LIMIT) / SUB_BUCKET_COUNT + SUB_BUCKET_BITS + 1;
+        int sub = (index - LINEAR_LIMIT) % SUB_BUCKET_COUNT;
+        long width = 1L << (msb - SUB_BUCKET_BITS);
+        return (1L << msb) + (sub + 1) * width - 1;
+    }
+
+    /**
+     * @param quantile 0到1之间
+     * @return 分位数所在桶的上界，没有记录时返回0
+     */
+    public long getQuantile(double quantile) {
+        long total = 0;
+        long[] snapshot = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(quantile * total));
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            count += snapshot[i];
+            if (count >= target) {
+                return Math.min(bucketUpperBound(i), maxMicros.get());
+            }
+        }
+        return maxMicros.get();
+    }
+
+    /**
+     * 不超过upperMicros的记录数，用于输出Prometheus的累计桶，跨越边界的桶计入下一个边界
+     */
+    public long getCountAtMost(long upperMicros) {
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (bucketUpperBound(i) > upperMicros) {
+                break;
+            }
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    public long getTotalMicros() {
+        return totalMicros.sum();
+    }
+
+    public long getMaxMicros() {
+        return maxMicros.get();
+    }
+}
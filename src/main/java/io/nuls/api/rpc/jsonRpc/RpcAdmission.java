@@ -0,0 +1,195 @@
+package io.nuls.api.rpc.jsonRpc;
+
+import io.nuls.api.ApiContext;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * rpc请求的准入控制，在提交到线程池之前执行
+ * 1.按客户端ip限速：每个ip一个令牌桶，每秒补充rpcRateLimit个令牌，最多积累rpcRateBurst个，每个调用按方法所在组扣除令牌，批量请求整批一次扣除
+ * 2.过载保护：方法所在组的等待队列或Grizzly的工作队列达到rpcShedQueueSize时直接拒绝，不再排队
+ * 优先组的方法(广播、验证交易)只扣一个令牌，也不受过载保护限制，在自己的线程池中执行
+ * Per-client token bucket rate limiting and queue based load shedding for json-rpc calls, lock-free on the hot path
+ */
+public class RpcAdmission {
+
+    public enum Decision {
+        ACCEPT,
+        RATE_LIMITED,
+        OVERLOADED
+    }
+
+    private final RpcDispatcher dispatcher;
+
+    private final Queue<Runnable> workerQueue;
+
+    private final Map<String, TokenBucket> bucketMap = new ConcurrentHashMap<>();
+    //令牌桶数量达到上限并且清理不出空位时，新客户端共用这一个桶
+    private final TokenBucket overflowBucket = new TokenBucket(System.nanoTime());
+    //同一时间只有一个线程清理空闲的令牌桶
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    private final LongAdder acceptedCount = new LongAdder();
+
+    private final LongAdder rateLimitedCount = new LongAdder();
+
+    private final LongAdder overloadedCount = new LongAdder();
+
+    public RpcAdmission(RpcDispatcher dispatcher, Queue<Runnable> workerQueue) {
+        this.dispatcher = dispatcher;
+        this.workerQueue = workerQueue;
+    }
+
+    public Decision admit(String clientIp, RpcDispatcher.Group group) {
+        if (group != RpcDispatcher.Group.PRIORITY && isOverloaded(group)) {
+            overloadedCount.increment();
+            return Decision.OVERLOADED;
+        }
+        if (!tryCharge(clientIp, getCost(group))) {
+            rateLimitedCount.increment();
+            return Decision.RATE_LIMITED;
+        }
+        acceptedCount.increment();
+        return Decision.ACCEPT;
+    }
+
+    /**
+     * 批量请求执行前一次扣除所有调用的令牌，最多扣rpcRateBurst个，令牌桶是满的时整批都能执行
+     * 之后各个调用用admit(null, group)只做过载检查
+     *
+     * @return 被限速时返回false
+     */
+    public boolean admitBatch(String clientIp, List<RpcDispatcher.Group> groupList) {
+        int cost = 0;
+        for (RpcDispatcher.Group group : groupList) {
+            cost += getCost(group);
+        }
+        if (!tryCharge(clientIp, Math.min(cost, Math.max(1, ApiContext.rpcRateBurst)))) {
+            rateLimitedCount.increment();
+            return false;
+        }
+        return true;
+    }
+
+    private boolean tryCharge(String clientIp, int cost) {
+        if (ApiContext.rpcRateLimit <= 0 || clientIp == null || ApiContext.rpcRateLimitWhitelist.contains(clientIp)) {
+            return true;
+        }
+        return getBucket(clientIp).tryAcquire(cost);
+    }
+
+    private boolean isOverloaded(RpcDispatcher.Group group) {
+        int limit = ApiContext.rpcShedQueueSize;
+        if (limit <= 0) {
+            return false;
+        }
+        return dispatcher.getQueueSize(group) >= limit || (workerQueue != null && workerQueue.size() >= limit);
+    }
+
+    /**
+     * 每个调用扣除的令牌数
+     */
+    static int getCost(RpcDispatcher.Group group) {
+        switch (group) {
+            case SLOW:
+                return 10;
+            case DEFAULT:
+                return 2;
+            default:
+                return 1;
+        }
+    }
+
+    TokenBucket getBucket(String clientIp) {
+        TokenBucket bucket = bucketMap.get(clientIp);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (bucketMap.size() >= ApiContext.rpcRateLimitMaxClients) {
+            sweep();
+            //并发新建时可能略微超过上限，但不会一直增长
+            if (bucketMap.size() >= ApiContext.rpcRateLimitMaxClients) {
+                return overflowBucket;
+            }
+        }
+        return bucketMap.computeIfAbsent(clientIp, k -> new TokenBucket(System.nanoTime()));
+    }
+
+    /**
+     * 令牌已经补满的桶和新建的桶没有区别，可以删除
+     */
+    private void sweep() {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = System.nanoTime();
+            Iterator<TokenBucket> iterator = bucketMap.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().isFull(now)) {
+                    iterator.remove();
+                }
+            }
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    public int getClientCount() {
+        return bucketMap.size();
+    }
+
+    public long getAcceptedCount() {
+        return acceptedCount.sum();
+    }
+
+    public long getRateLimitedCount() {
+        return rateLimitedCount.sum();
+    }
+
+    public long getOverloadedCount() {
+        return overloadedCount.sum();
+    }
+
+    /**
+     * 用GCRA算法实现的令牌桶，只保存理论上令牌补满的时间，一次CAS完成扣除
+     */
+    static class TokenBucket {
+
+        private final AtomicLong fullTime;
+
+        TokenBucket(long now) {
+            this.fullTime = new AtomicLong(now);
+        }
+
+        boolean tryAcquire(int cost) {
+            return tryAcquire(cost, System.nanoTime(), ApiContext.rpcRateLimit, ApiContext.rpcRateBurst);
+        }
+
+        boolean tryAcquire(int cost, long now, int rate, int burst) {
+            long interval = 1000000000L / Math.max(1, rate);
+            long burstNanos = interval * Math.max(1, burst);
+            while (true) {
+                long current = fullTime.get();
+                long next = (current - now > 0 ? current : now) + interval * cost;
+                if (next - now > burstNanos) {
+                    return false;
+                }
+                if (fullTime.compareAndSet(current, next)) {
+                    return true;
+                }
+            }
+        }
+
+        boolean isFull(long now) {
+            return fullTime.get() - now <= 0;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package io.nuls.api.rpc.jsonRpc;
+
+import io.nuls.api.ApiContext;
+import org.glassfish.jersey.internal.guava.ThreadFactoryBuilder;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * rpc请求按方法分组，在各组独立的线程池中执行
+ * Grizzly的工作线程只负责解析请求，挂起响应后交给这里执行，慢方法占满自己的线程池也不会影响只读缓存的快方法
+ * Runs json-rpc handlers on a bounded executor per method group, so slow methods cannot starve cheap cached ones
+ */
+public class RpcDispatcher {
+
+    public enum Group {
+        //只读缓存
+        FAST,
+        DEFAULT,
+        //合约验证和历史查询等
+        SLOW,
+        //广播和验证交易，负载高时也不排在其它请求后面
+        PRIORITY
+    }
+
+    private final Map<Group, ThreadPoolExecutor> executorMap = new EnumMap<>(Group.class);
+
+    public RpcDispatcher() {
+        executorMap.put(Group.FAST, createExecutor("rpc-fast-%d", ApiContext.rpcFastThreads));
+        executorMap.put(Group.DEFAULT, createExecutor("rpc-default-%d", ApiContext.rpcDefaultThreads));
+        executorMap.put(Group.SLOW, createExecutor("rpc-slow-%d", ApiContext.rpcSlowThreads));
+        executorMap.put(Group.PRIORITY, createExecutor("rpc-priority-%d", ApiContext.rpcPriorityThreads));
+    }
+
+    private ThreadPoolExecutor createExecutor(String nameFormat, int threads) {
+        threads = Math.max(1, threads);
+        return new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, ApiContext.rpcQueueSize)),
+                new ThreadFactoryBuilder().setNameFormat(nameFormat).build(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public Group getGroup(String method) {
+        if (ApiContext.rpcPriorityMethods.contains(method)) {
+            return Group.PRIORITY;
+        }
+        if (ApiContext.rpcSlowMethods.contains(method)) {
+            return Group.SLOW;
+        }
+        if (ApiContext.rpcFastMethods.contains(method)) {
+            return Group.FAST;
+        }
+        return Group.DEFAULT;
+    }
+
+    public Group getGroup(Map jsonRpcParam) {
+        Object method = jsonRpcParam == null ? null : jsonRpcParam.get("method");
+        return getGroup(String.valueOf(method));
+    }
+
+    /**
+     * @return 线程池的等待队列已满时返回false
+     */
+    public boolean execute(Group group, Runnable task) {
+        try {
+            executorMap.get(group).execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    public int getActiveCount(Group group) {
+        return executorMap.get(group).getActiveCount();
+    }
+
+    public int getQueueSize(Group group) {
+        return executorMap.get(group).getQueue().size();
+    }
+
+    public void shutdown() {
+        for (ThreadPoolExecutor executor : executorMap.values()) {
+            executor.shutdown();
+        }
+    }
+}
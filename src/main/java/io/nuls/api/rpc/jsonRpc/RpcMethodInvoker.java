@@ -27,38 +27,85 @@ import io.nuls.api.utils.LoggerUtil;
 import io.nuls.core.exception.NulsException;
 import io.nuls.core.model.StringUtils;
 
+import java.lang.invoke.*;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.List;
-import java.util.Map;
 
 /**
+ * 启动时为每个rpc方法生成一次调用入口，优先用LambdaMetafactory生成直接调用，避免每次请求反射调用
+ * 方法声明了{@link RpcParam}时先统一转换和校验参数
+ *
  * @author Niels
  */
 public class RpcMethodInvoker {
 
+    /**
+     * 生成的调用入口，参数为请求中的params
+     */
+    interface Invocation {
+        RpcResult invoke(Object params) throws Exception;
+    }
+
     private Object bean;
 
     private Method method;
 
+    private Invocation invocation;
+
+    private RpcParamBinder paramBinder;
+
     public RpcMethodInvoker(Object bean, Method method) {
         this.bean = bean;
         this.method = method;
+        this.paramBinder = RpcParamBinder.of(method);
+        this.invocation = createInvocation(bean, method);
+    }
+
+    private static Invocation createInvocation(Object bean, Method method) {
+        if (method.getParameterCount() == 1 && method.getReturnType() == RpcResult.class) {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                MethodHandle target = lookup.unreflect(method);
+                CallSite callSite = LambdaMetafactory.metafactory(lookup, "invoke",
+                        MethodType.methodType(Invocation.class, method.getDeclaringClass()),
+                        MethodType.methodType(RpcResult.class, Object.class),
+                        target,
+                        MethodType.methodType(RpcResult.class, method.getParameterTypes()[0]));
+                return (Invocation) callSite.getTarget().invoke(bean);
+            } catch (Throwable e) {
+                LoggerUtil.commonLog.warn("rpc method {} falls back to reflection: {}", method.getName(), e.getMessage());
+            }
+        }
+        return params -> {
+            try {
+                return (RpcResult) method.invoke(bean, params);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof Exception) {
+                    throw (Exception) cause;
+                }
+                throw e;
+            }
+        };
     }
 
     public RpcResult invoke(Object object) {
         RpcResult result = null;
         try {
-            result = (RpcResult) method.invoke(bean, object);
+            if (paramBinder != null) {
+                object = paramBinder.bind(object);
+            }
+            result = invocation.invoke(object);
         } catch (Exception e) {
 
             LoggerUtil.commonLog.error("\n" + method.toString());
-            if (e.getCause() instanceof JsonRpcException) {
-                JsonRpcException jsonRpcException = (JsonRpcException) e.getCause();
+            if (e instanceof JsonRpcException) {
+                JsonRpcException jsonRpcException = (JsonRpcException) e;
                 result = new RpcResult();
                 result.setError(jsonRpcException.getError());
 
-            } else if (e.getCause() instanceof NulsException) {
-                NulsException nulsException = (NulsException) e.getCause();
+            } else if (e instanceof NulsException) {
+                NulsException nulsException = (NulsException) e;
                 result = new RpcResult();
                 String error = null;
                 String customMessage = nulsException.getCustomMessage();
@@ -69,12 +116,12 @@ public class RpcMethodInvoker {
                 rpcResultError.setData(error);
                 result.setError(rpcResultError);
             } else {
-                LoggerUtil.commonLog.error(e.getCause());
+                LoggerUtil.commonLog.error(e);
                 result = new RpcResult();
                 RpcResultError error = new RpcResultError();
                 error.setMessage("system error");
                 error.setCode("-32603");
-                error.setData(e.getCause().getMessage());
+                error.setData(e.getMessage());
                 result.setError(error);
             }
         }
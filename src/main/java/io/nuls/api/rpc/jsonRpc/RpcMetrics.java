@@ -0,0 +1,228 @@
+package io.nuls.api.rpc.jsonRpc;
+
+import io.nuls.api.rpc.sse.SubscriptionManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * rpc方法的调用统计：每个方法的调用数、错误数、正在执行的数量和延迟直方图，按错误码统计的错误数，以及线程池的队列长度
+ * 只统计已注册的方法，不存在的方法只按错误码计数，避免任意方法名撑大统计表
+ * Per-method rpc counters, in-flight gauges and latency histograms, exported as a map or in Prometheus text format
+ */
+public class RpcMetrics {
+
+    //Prometheus累计桶的上界，单位秒
+    private static final double[] LATENCY_BUCKETS = {0.001, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10};
+
+    private static final Map<String, MethodMetrics> METHOD_METRICS = new ConcurrentHashMap<>();
+
+    private static final Map<String, LongAdder> ERROR_COUNTS = new ConcurrentHashMap<>();
+
+    private static RpcDispatcher dispatcher;
+
+    private static Queue<Runnable> workerQueue;
+
+    private static RpcResponseCache responseCache;
+
+    private static RpcAdmission admission;
+
+    public static void init(RpcDispatcher rpcDispatcher, Queue<Runnable> grizzlyWorkerQueue, RpcResponseCache rpcResponseCache, RpcAdmission rpcAdmission) {
+        dispatcher = rpcDispatcher;
+        workerQueue = grizzlyWorkerQueue;
+        responseCache = rpcResponseCache;
+        admission = rpcAdmission;
+    }
+
+    public static void register(String method) {
+        METHOD_METRICS.putIfAbsent(method, new MethodMetrics());
+    }
+
+    /**
+     * @return 方法没有注册时返回null，不需要统计
+     */
+    public static MethodMetrics start(String method) {
+        if (method == null) {
+            return null;
+        }
+        MethodMetrics metrics = METHOD_METRICS.get(method);
+        if (metrics != null) {
+            metrics.inFlight.incrementAndGet();
+        }
+        return metrics;
+    }
+
+    /**
+     * @param errorCode 成功时为null
+     */
+    public static void finish(MethodMetrics metrics, long startNanos, String errorCode) {
+        if (metrics != null) {
+            metrics.inFlight.decrementAndGet();
+            metrics.count.increment();
+            metrics.latency.record((System.nanoTime() - startNanos) / 1000);
+            if (errorCode != null) {
+                metrics.errors.increment();
+            }
+        }
+        if (errorCode != null) {
+            countError(errorCode);
+        }
+    }
+
+    public static void countError(String errorCode) {
+        ERROR_COUNTS.computeIfAbsent(errorCode, k -> new LongAdder()).increment();
+    }
+
+    /**
+     * rpc方法getRpcMetrics返回的统计，延迟单位毫秒
+     */
+    public static Map<String, Object> getSnapshot() {
+        Map<String, Object> methods = new TreeMap<>();
+        for (Map.Entry<String, MethodMetrics> entry : METHOD_METRICS.entrySet()) {
+            MethodMetrics metrics = entry.getValue();
+            long count = metrics.count.sum();
+            if (count == 0 && metrics.inFlight.get() == 0) {
+                continue;
+            }
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("count", count);
+            map.put("errors", metrics.errors.sum());
+            map.put("inFlight", metrics.inFlight.get());
+            map.put("avg", count == 0 ? 0 : metrics.latency.getTotalMicros() / count / 1000.0);
+            map.put("p50", metrics.latency.getQuantile(0.5) / 1000.0);
+            map.put("p90", metrics.latency.getQuantile(0.9) / 1000.0);
+            map.put("p99", metrics.latency.getQuantile(0.99) / 1000.0);
+            map.put("max", metrics.latency.getMaxMicros() / 1000.0);
+            methods.put(entry.getKey(), map);
+        }
+        Map<String, Object> errors = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> entry : ERROR_COUNTS.entrySet()) {
+            errors.put(entry.getKey(), entry.getValue().sum());
+        }
+        Map<String, Object> executors = new LinkedHashMap<>();
+        if (dispatcher != null) {
+            for (RpcDispatcher.Group group : RpcDispatcher.Group.values()) {
+                Map<String, Object> map = new LinkedHashMap<>();
+                map.put("active", dispatcher.getActiveCount(group));
+                map.put("queue", dispatcher.getQueueSize(group));
+                executors.put(group.name().toLowerCase(), map);
+            }
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("methods", methods);
+        result.put("errors", errors);
+        result.put("executors", executors);
+        result.put("workerQueue", workerQueue == null ? 0 : workerQueue.size());
+        result.put("sseSubscribers", SubscriptionManager.getSubscriberCount());
+        if (responseCache != null) {
+            Map<String, Object> cache = new LinkedHashMap<>();
+            cache.put("size", responseCache.getCache().size());
+            cache.put("hits", responseCache.getCache().getHitCount());
+            cache.put("misses", responseCache.getCache().getMissCount());
+            cache.put("evictions", responseCache.getCache().getEvictionCount());
+            result.put("responseCache", cache);
+        }
+        if (admission != null) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("accepted", admission.getAcceptedCount());
+            map.put("rateLimited", admission.getRateLimitedCount());
+            map.put("overloaded", admission.getOverloadedCount());
+            map.put("clients", admission.getClientCount());
+            result.put("admission", map);
+        }
+        return result;
+    }
+
+    /**
+     * Prometheus文本格式的统计
+     */
+    public static String toPrometheus() {
+        StringBuilder sb = new StringBuilder();
+        List<String> methodNames = new ArrayList<>(METHOD_METRICS.keySet());
+        Collections.sort(methodNames);
+
+        sb.append("# TYPE nuls_rpc_requests_total counter\n");
+        for (String method : methodNames) {
+            long count = METHOD_METRICS.get(method).count.sum();
+            if (count > 0) {
+                sb.append("nuls_rpc_requests_total{method=\"").append(method).append("\"} ").append(count).append('\n');
+            }
+        }
+        sb.append("# TYPE nuls_rpc_method_errors_total counter\n");
+        for (String method : methodNames) {
+            long errors = METHOD_METRICS.get(method).errors.sum();
+            if (errors > 0) {
+                sb.append("nuls_rpc_method_errors_total{method=\"").append(method).append("\"} ").append(errors).append('\n');
+            }
+        }
+        sb.append("# TYPE nuls_rpc_in_flight gauge\n");
+        for (String method : methodNames) {
+            int inFlight = METHOD_METRICS.get(method).inFlight.get();
+            if (inFlight > 0) {
+                sb.append("nuls_rpc_in_flight{method=\"").append(method).append("\"} ").append(inFlight).append('\n');
+            }
+        }
+        sb.append("# TYPE nuls_rpc_latency_seconds histogram\n");
+        for (String method : methodNames) {
+            LatencyHistogram latency = METHOD_METRICS.get(method).latency;
+            long count = latency.getCount();
+            if (count == 0) {
+                continue;
+            }
+            for (double bucket : LATENCY_BUCKETS) {
+                sb.append("nuls_rpc_latency_seconds_bucket{method=\"").append(method).append("\",le=\"").append(bucket).append("\"} ")
+                        .append(latency.getCountAtMost((long) (bucket * 1000000))).append('\n');
+            }
+            sb.append("nuls_rpc_latency_seconds_bucket{method=\"").append(method).append("\",le=\"+Inf\"} ").append(count).append('\n');
+            sb.append("nuls_rpc_latency_seconds_sum{method=\"").append(method).append("\"} ").append(latency.getTotalMicros() / 1000000.0).append('\n');
+            sb.append("nuls_rpc_latency_seconds_count{method=\"").append(method).append("\"} ").append(count).append('\n');
+        }
+        sb.append("# TYPE nuls_rpc_errors_total counter\n");
+        for (Map.Entry<String, LongAdder> entry : new TreeMap<>(ERROR_COUNTS).entrySet()) {
+            sb.append("nuls_rpc_errors_total{code=\"").append(entry.getKey()).append("\"} ").append(entry.getValue().sum()).append('\n');
+        }
+        if (dispatcher != null) {
+            sb.append("# TYPE nuls_rpc_executor_active gauge\n");
+            for (RpcDispatcher.Group group : RpcDispatcher.Group.values()) {
+                sb.append("nuls_rpc_executor_active{group=\"").append(group.name().toLowerCase()).append("\"} ").append(dispatcher.getActiveCount(group)).append('\n');
+            }
+            sb.append("# TYPE nuls_rpc_executor_queue gauge\n");
+            for (RpcDispatcher.Group group : RpcDispatcher.Group.values()) {
+                sb.append("nuls_rpc_executor_queue{group=\"").append(group.name().toLowerCase()).append("\"} ").append(dispatcher.getQueueSize(group)).append('\n');
+            }
+        }
+        sb.append("# TYPE nuls_rpc_worker_queue gauge\n");
+        sb.append("nuls_rpc_worker_queue ").append(workerQueue == null ? 0 : workerQueue.size()).append('\n');
+        sb.append("# TYPE nuls_sse_subscribers gauge\n");
+        sb.append("nuls_sse_subscribers ").append(SubscriptionManager.getSubscriberCount()).append('\n');
+        if (responseCache != null) {
+            sb.append("# TYPE nuls_rpc_cache_hits_total counter\n");
+            sb.append("nuls_rpc_cache_hits_total ").append(responseCache.getCache().getHitCount()).append('\n');
+            sb.append("# TYPE nuls_rpc_cache_misses_total counter\n");
+            sb.append("nuls_rpc_cache_misses_total ").append(responseCache.getCache().getMissCount()).append('\n');
+        }
+        if (admission != null) {
+            sb.append("# TYPE nuls_rpc_admission_total counter\n");
+            sb.append("nuls_rpc_admission_total{result=\"accepted\"} ").append(admission.getAcceptedCount()).append('\n');
+            sb.append("nuls_rpc_admission_total{result=\"rate_limited\"} ").append(admission.getRateLimitedCount()).append('\n');
+            sb.append("nuls_rpc_admission_total{result=\"overloaded\"} ").append(admission.getOverloadedCount()).append('\n');
+            sb.append("# TYPE nuls_rpc_rate_limit_clients gauge\n");
+            sb.append("nuls_rpc_rate_limit_clients ").append(admission.getClientCount()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    public static class MethodMetrics {
+
+        private final LongAdder count = new LongAdder();
+
+        private final LongAdder errors = new LongAdder();
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private final LatencyHistogram latency = new LatencyHistogram();
+    }
+}
@@ -0,0 +1,30 @@
+package io.nuls.api.rpc.jsonRpc;
+
+import java.lang.annotation.*;
+
+/**
+ * 声明rpc方法的一个参数，按声明顺序对应params数组中的位置
+ * 启动时和方法一起注册，调用前统一转换和校验，方法中可以直接强转params中的值
+ * Declares one positional parameter of an rpc method, converted and validated before the method is called
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Repeatable(RpcParams.class)
+public @interface RpcParam {
+
+    String name();
+
+    RpcParamType type();
+
+    /**
+     * 必填参数不能缺少或为null，字符串参数不能为空白
+     * 非必填参数只能声明在必填参数之后，缺少时绑定为null
+     */
+    boolean required() default true;
+
+    /**
+     * 数字参数的最小值
+     */
+    long min() default Long.MIN_VALUE;
+}
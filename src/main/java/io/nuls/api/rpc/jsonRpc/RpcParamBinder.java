@@ -0,0 +1,119 @@
+package io.nuls.api.rpc.jsonRpc;
+
+import io.nuls.api.exception.JsonRpcException;
+import io.nuls.api.model.rpc.RpcErrorCode;
+import io.nuls.api.model.rpc.RpcResultError;
+import io.nuls.core.model.StringUtils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 按方法上声明的{@link RpcParam}转换和校验params，启动时为每个方法生成一次
+ * 校验失败时抛出JsonRpcException，返回统一格式的参数错误
+ * Converts and validates the positional params of an rpc method against its declared schema
+ */
+public class RpcParamBinder {
+
+    private final RpcParam[] schema;
+    //必填参数的数量
+    private final int requiredCount;
+
+    private RpcParamBinder(RpcParam[] schema) {
+        int count = 0;
+        for (RpcParam param : schema) {
+            if (!param.required()) {
+                break;
+            }
+            count++;
+        }
+        for (int i = count; i < schema.length; i++) {
+            if (schema[i].required()) {
+                throw new IllegalArgumentException("required rpc param [" + schema[i].name() + "] is declared after an optional one");
+            }
+        }
+        this.schema = schema;
+        this.requiredCount = count;
+    }
+
+    /**
+     * @return 方法没有声明参数时返回null
+     */
+    public static RpcParamBinder of(Method method) {
+        RpcParam[] schema = method.getAnnotationsByType(RpcParam.class);
+        if (schema.length == 0) {
+            return null;
+        }
+        return new RpcParamBinder(schema);
+    }
+
+    /**
+     * @return 转换后的参数，声明以外的参数原样保留
+     */
+    public List<Object> bind(Object params) {
+        if (params != null && !(params instanceof List)) {
+            throw paramError("params must be an array");
+        }
+        List<Object> list = (List<Object>) params;
+        if (list == null || list.size() < requiredCount) {
+            throw paramError("Incorrect number of parameters");
+        }
+        List<Object> result = new ArrayList<>(list.size());
+        for (int i = 0; i < list.size(); i++) {
+            Object value = list.get(i);
+            if (i < schema.length) {
+                value = convert(schema[i], value);
+            }
+            result.add(value);
+        }
+        return result;
+    }
+
+    private Object convert(RpcParam param, Object value) {
+        if (value == null) {
+            if (param.required()) {
+                throw paramError("[" + param.name() + "] is required");
+            }
+            return null;
+        }
+        Object result;
+        try {
+            switch (param.type()) {
+                case INT:
+                    result = value instanceof Integer ? value : Integer.parseInt(value.toString());
+                    break;
+                case LONG:
+                    result = value instanceof Long ? value : Long.parseLong(value.toString());
+                    break;
+                case BOOLEAN:
+                    if (value instanceof Boolean) {
+                        result = value;
+                    } else if ("true".equalsIgnoreCase(value.toString()) || "false".equalsIgnoreCase(value.toString())) {
+                        result = Boolean.parseBoolean(value.toString());
+                    } else {
+                        throw paramError("[" + param.name() + "] is invalid");
+                    }
+                    break;
+                default:
+                    if (!(value instanceof String)) {
+                        throw paramError("[" + param.name() + "] is invalid");
+                    }
+                    if (param.required() && StringUtils.isBlank((String) value)) {
+                        throw paramError("[" + param.name() + "] is required");
+                    }
+                    result = value;
+            }
+        } catch (NumberFormatException e) {
+            throw paramError("[" + param.name() + "] is invalid");
+        }
+        if (result instanceof Number && ((Number) result).longValue() < param.min()) {
+            throw paramError("[" + param.name() + "] is invalid");
+        }
+        return result;
+    }
+
+    private static JsonRpcException paramError(String data) {
+        return new JsonRpcException(new RpcResultError(RpcErrorCode.PARAMS_ERROR, data));
+    }
+}
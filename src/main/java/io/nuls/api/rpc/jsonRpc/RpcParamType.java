@@ -0,0 +1,15 @@
+package io.nuls.api.rpc.jsonRpc;
+
+/**
+ * rpc参数的类型，绑定时转换成对应的Java类型
+ */
+public enum RpcParamType {
+    //Integer，数字或数字字符串
+    INT,
+    //Long，数字或数字字符串
+    LONG,
+    //Boolean，true/false或对应的字符串
+    BOOLEAN,
+    //String
+    STRING
+}
@@ -0,0 +1,14 @@
+package io.nuls.api.rpc.jsonRpc;
+
+import java.lang.annotation.*;
+
+/**
+ * {@link RpcParam}的容器
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface RpcParams {
+
+    RpcParam[] value();
+}
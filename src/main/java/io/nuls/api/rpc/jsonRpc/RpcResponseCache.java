@@ -0,0 +1,93 @@
+package io.nuls.api.rpc.jsonRpc;
+
+import io.nuls.api.ApiContext;
+import io.nuls.api.cache.LruCache;
+import io.nuls.api.manager.CacheManager;
+import io.nuls.core.parse.JSONUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 只读rpc方法的响应缓存，key为方法名和规范化后的参数，value为已经序列化的result
+ * 每条记录带有生成时的最新区块版本，任意链有新区块或回滚后版本变化，旧记录不再命中
+ * Response cache of read-only rpc methods, entries are versioned by the best header and hold the serialized result
+ */
+public class RpcResponseCache {
+
+    private final LruCache<String, CachedResult> cache;
+
+    public RpcResponseCache() {
+        cache = new LruCache<>(Math.max(1, ApiContext.rpcCacheSize), false);
+    }
+
+    public boolean isCacheable(String method) {
+        return ApiContext.rpcCacheSize > 0 && ApiContext.rpcCacheMethods.contains(method);
+    }
+
+    public String getKey(String method, Object params) throws Exception {
+        return method + ":" + JSONUtils.obj2json(canonicalize(params));
+    }
+
+    /**
+     * @return 没有缓存或者缓存已过期时返回null
+     */
+    public String get(String key) {
+        CachedResult cachedResult = cache.get(key);
+        if (cachedResult == null) {
+            return null;
+        }
+        if (cachedResult.version != CacheManager.getBestHeaderVersion()) {
+            cache.remove(key);
+            return null;
+        }
+        return cachedResult.json;
+    }
+
+    /**
+     * @param version 调用方法之前取得的最新区块版本，调用期间区块有变化时这条记录不会命中
+     */
+    public void put(String key, long version, String json) {
+        cache.put(key, new CachedResult(version, json));
+    }
+
+    public LruCache<String, CachedResult> getCache() {
+        return cache;
+    }
+
+    /**
+     * 对象参数按key排序，使字段顺序不同的相同参数得到相同的key
+     */
+    private static Object canonicalize(Object params) {
+        if (params instanceof Map) {
+            Map<String, Object> sortedMap = new TreeMap<>();
+            for (Object entry : ((Map) params).entrySet()) {
+                Map.Entry mapEntry = (Map.Entry) entry;
+                sortedMap.put(String.valueOf(mapEntry.getKey()), canonicalize(mapEntry.getValue()));
+            }
+            return sortedMap;
+        }
+        if (params instanceof List) {
+            List<Object> list = new ArrayList<>();
+            for (Object value : (List) params) {
+                list.add(canonicalize(value));
+            }
+            return list;
+        }
+        return params;
+    }
+
+    public static class CachedResult {
+
+        private final long version;
+
+        private final String json;
+
+        CachedResult(long version, String json) {
+            this.version = version;
+            this.json = json;
+        }
+    }
+}
@@ -1,37 +1,40 @@
 package io.nuls.api.rpc.rest;
 
-import io.nuls.api.cache.ApiCache;
-import io.nuls.api.manager.CacheManager;
-import io.nuls.api.rpc.rest.model.IpEntity;
-import io.nuls.api.rpc.rest.utils.*;
+import io.nuls.api.ApiContext;
+import io.nuls.api.rpc.jsonRpc.JsonRpcHandler;
 import io.nuls.api.utils.LoggerUtil;
 import io.nuls.core.log.Log;
-import io.nuls.core.model.DoubleUtils;
+import io.nuls.core.model.StringUtils;
 import io.nuls.core.parse.JSONUtils;
-import org.bouncycastle.util.IPAddress;
 import org.glassfish.grizzly.http.server.Request;
 import org.glassfish.grizzly.http.server.Response;
 
-import java.io.IOException;
-import java.math.BigDecimal;
-import java.math.BigInteger;
-import java.util.*;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
+ * 判断客户端ip是否属于中国大陆
+ * 地址段默认从jar包中的ip/china-ip.txt加载，配置了ipLookupFile时从该文件加载，文件修改后由IpTableReloadTask重新加载并整体替换
+ *
  * @author Niels
  */
-public class IpLookupController implements Runnable {
+public class IpLookupController {
 
-    private static List<IpEntity> IP_LIST = new ArrayList<>();
+    private static final String DEFAULT_RESOURCE = "/ip/china-ip.txt";
+
+    private static volatile IpRangeTable ipTable;
+    //已加载的外部文件的修改时间
+    private static long fileModified;
 
     static {
-        IpLookupController runner = new IpLookupController();
-        new Thread(runner).start();
+        reload();
     }
 
     public static void doGet(Request request, Response response) {
 
-        String ip = getIp(request);
+        String ip = JsonRpcHandler.getClientIp(request);
         Map<String, Object> result = new HashMap<>();
         result.put("success", true);
         if (isChinaIp(ip)) {
@@ -47,8173 +50,41 @@ public class IpLookupController implements Runnable {
     }
 
     private static boolean isChinaIp(String ip) {
-        long val = getIpNumber(ip);
-        for (IpEntity entity : IP_LIST) {
-            if (entity.getFrom() <= val && entity.getEnd() >= val) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    private static String getIp(Request request) {
-        //todo
-        return request.getLocalAddr();
-    }
-
-
-    @Override
-    public void run() {
-        String items[] = getIpString().split("\n");
-        for (String item : items) {
-            String arr[] = item.split("\t");
-            String startIp = arr[0];
-            String endIp = arr[1];
-            IpEntity entity = new IpEntity();
-            entity.setFrom(getIpNumber(startIp));
-            entity.setEnd(getIpNumber(endIp));
-            IP_LIST.add(entity);
-        }
-    }
-
-    public static void main(String[] args) {
-        System.out.println(IP_LIST.size());
+        IpRangeTable table = ipTable;
+        return table != null && table.contains(ip);
     }
 
-    public static long getIpNumber(String IPAddress) {
-        long value = 0;
-        String arr[] = IPAddress.split("\\.");
-        for (int i = 3; i >= 0; i--) {
-            long val = Long.parseLong(arr[i]);
-            value += Math.pow(256, Math.abs(i - 3)) * val;
+    /**
+     * 外部文件的修改时间变化时重新加载，加载失败时继续使用原来的地址段，外部文件不存在时使用默认的地址段
+     */
+    public static synchronized void reload() {
+        try {
+            if (StringUtils.isNotBlank(ApiContext.ipLookupFile)) {
+                File file = new File(ApiContext.ipLookupFile);
+                long modified = file.lastModified();
+                if (modified != 0) {
+                    if (modified != fileModified) {
+                        try (InputStream in = new FileInputStream(file)) {
+                            ipTable = load(in);
+                        }
+                        fileModified = modified;
+                        LoggerUtil.commonLog.info("ip lookup table loaded from {}, ipv4 ranges:{}, ipv6 ranges:{}",
+                                file.getPath(), ipTable.getIpv4RangeCount(), ipTable.getIpv6RangeCount());
+                    }
+                    return;
+                }
+            }
+            if (ipTable == null) {
+                try (InputStream in = IpLookupController.class.getResourceAsStream(DEFAULT_RESOURCE)) {
+                    ipTable = load(in);
+                }
+            }
+        } catch (Exception e) {
+            LoggerUtil.commonLog.error("load ip lookup table error", e);
         }
-        return value;
     }
 
-    private static String getIpString() {
-        StringBuilder ipString = new StringBuilder(
-                "1.0.1.0\t1.0.3.255\t768\n");
-        ipString.append("1.0.8.0\t1.0.15.255\t2048\n");
-        ipString.append(
-                "1.0.32.0\t1.0.63.255\t8192\n");
-        ipString.append(
-                "1.1.0.0\t1.1.0.255\t256\n");
-        ipString.append(
-                "1.1.2.0\t1.1.63.255\t15872\n");
-        ipString.append(
-                "1.2.0.0\t1.2.2.255\t768\n");
-        ipString.append(
-                "1.2.4.0\t1.2.127.255\t31744\n");
-        ipString.append(
-                "1.3.0.0\t1.3.255.255\t65536\n");
-        ipString.append(
-                "1.4.1.0\t1.4.127.255\t32512\n");
-        ipString.append(
-                "1.8.0.0\t1.8.255.255\t65536\n");
-        ipString.append(
-                "1.10.0.0\t1.10.9.255\t2560\n");
-        ipString.append(
-                "1.10.11.0\t1.10.127.255\t29952\n");
-        ipString.append(
-                "1.12.0.0\t1.15.255.255\t262144\n");
-        ipString.append(
-                "1.24.0.0\t1.31.255.255\t524288\n");
-        ipString.append(
-                "1.45.0.0\t1.45.255.255\t65536\n");
-        ipString.append(
-                "1.48.0.0\t1.51.255.255\t262144\n");
-        ipString.append(
-                "1.56.0.0\t1.63.255.255\t524288\n");
-        ipString.append(
-                "1.68.0.0\t1.71.255.255\t262144\n");
-        ipString.append(
-                "1.80.0.0\t1.95.255.255\t1048576\n");
-        ipString.append(
-                "1.116.0.0\t1.119.255.255\t262144\n");
-        ipString.append(
-                "1.180.0.0\t1.185.255.255\t393216\n");
-        ipString.append(
-                "1.188.0.0\t1.199.255.255\t786432\n");
-        ipString.append(
-                "1.202.0.0\t1.207.255.255\t393216\n");
-        ipString.append(
-                "5.182.60.0\t5.182.63.255\t1024\n");
-        ipString.append(
-                "14.0.0.0\t14.0.7.255\t2048\n");
-        ipString.append(
-                "14.0.12.0\t14.0.15.255\t1024\n");
-        ipString.append(
-                "14.1.0.0\t14.1.3.255\t1024\n");
-        ipString.append(
-                "14.1.24.0\t14.1.27.255\t1024\n");
-        ipString.append(
-                "14.1.96.0\t14.1.99.255\t1024\n");
-        ipString.append(
-                "14.1.108.0\t14.1.111.255\t1024\n");
-        ipString.append(
-                "14.16.0.0\t14.31.255.255\t1048576\n");
-        ipString.append(
-                "14.102.128.0\t14.102.131.255\t1024\n");
-        ipString.append(
-                "14.102.156.0\t14.102.159.255\t1024\n");
-        ipString.append(
-                "14.102.180.0\t14.102.183.255\t1024\n");
-        ipString.append(
-                "14.103.0.0\t14.127.255.255\t1638400\n");
-        ipString.append(
-                "14.130.0.0\t14.131.255.255\t131072\n");
-        ipString.append(
-                "14.134.0.0\t14.135.255.255\t131072\n");
-        ipString.append(
-                "14.144.0.0\t14.159.255.255\t1048576\n");
-        ipString.append(
-                "14.192.60.0\t14.192.63.255\t1024\n");
-        ipString.append(
-                "14.192.76.0\t14.192.79.255\t1024\n");
-        ipString.append(
-                "14.196.0.0\t14.197.255.255\t131072\n");
-        ipString.append(
-                "14.204.0.0\t14.205.255.255\t131072\n");
-        ipString.append(
-                "14.208.0.0\t14.223.255.255\t1048576\n");
-        ipString.append(
-                "27.0.128.0\t27.0.135.255\t2048\n");
-        ipString.append(
-                "27.0.160.0\t27.0.167.255\t2048\n");
-        ipString.append(
-                "27.0.188.0\t27.0.191.255\t1024\n");
-        ipString.append(
-                "27.0.204.0\t27.0.215.255\t3072\n");
-        ipString.append(
-                "27.8.0.0\t27.31.255.255\t1572864\n");
-        ipString.append(
-                "27.34.232.0\t27.34.239.255\t2048\n");
-        ipString.append(
-                "27.36.0.0\t27.47.255.255\t786432\n");
-        ipString.append(
-                "27.50.40.0\t27.50.47.255\t2048\n");
-        ipString.append(
-                "27.50.128.0\t27.50.255.255\t32768\n");
-        ipString.append(
-                "27.54.72.0\t27.54.79.255\t2048\n");
-        ipString.append(
-                "27.54.152.0\t27.54.159.255\t2048\n");
-        ipString.append(
-                "27.54.192.0\t27.54.255.255\t16384\n");
-        ipString.append(
-                "27.98.208.0\t27.98.255.255\t12288\n");
-        ipString.append(
-                "27.99.128.0\t27.99.255.255\t32768\n");
-        ipString.append(
-                "27.103.0.0\t27.103.255.255\t65536\n");
-        ipString.append(
-                "27.106.128.0\t27.106.191.255\t16384\n");
-        ipString.append(
-                "27.106.204.0\t27.106.207.255\t1024\n");
-        ipString.append(
-                "27.109.32.0\t27.109.63.255\t8192\n");
-        ipString.append(
-                "27.109.124.0\t27.109.127.255\t1024\n");
-        ipString.append(
-                "27.112.0.0\t27.112.63.255\t16384\n");
-        ipString.append(
-                "27.112.80.0\t27.112.95.255\t4096\n");
-        ipString.append(
-                "27.112.112.0\t27.112.119.255\t2048\n");
-        ipString.append(
-                "27.113.128.0\t27.113.191.255\t16384\n");
-        ipString.append(
-                "27.115.0.0\t27.115.127.255\t32768\n");
-        ipString.append(
-                "27.116.44.0\t27.116.47.255\t1024\n");
-        ipString.append(
-                "27.121.72.0\t27.121.79.255\t2048\n");
-        ipString.append(
-                "27.121.120.0\t27.121.127.255\t2048\n");
-        ipString.append(
-                "27.128.0.0\t27.129.255.255\t131072\n");
-        ipString.append(
-                "27.131.220.0\t27.131.223.255\t1024\n");
-        ipString.append(
-                "27.144.0.0\t27.144.255.255\t65536\n");
-        ipString.append(
-                "27.148.0.0\t27.159.255.255\t786432\n");
-        ipString.append(
-                "27.184.0.0\t27.227.255.255\t2883584\n");
-        ipString.append(
-                "36.0.0.0\t36.0.3.255\t1024\n");
-        ipString.append(
-                "36.0.8.0\t36.1.255.255\t129024\n");
-        ipString.append(
-                "36.4.0.0\t36.7.255.255\t262144\n");
-        ipString.append(
-                "36.16.0.0\t36.37.31.255\t1384448\n");
-        ipString.append(
-                "36.37.36.0\t36.37.37.255\t512\n");
-        ipString.append(
-                "36.37.39.0\t36.37.63.255\t6400\n");
-        ipString.append(
-                "36.40.0.0\t36.49.255.255\t655360\n");
-        ipString.append(
-                "36.51.0.0\t36.51.255.255\t65536\n");
-        ipString.append(
-                "36.56.0.0\t36.63.255.255\t524288\n");
-        ipString.append(
-                "36.96.0.0\t36.223.255.255\t8388608\n");
-        ipString.append(
-                "36.248.0.0\t36.251.255.255\t262144\n");
-        ipString.append(
-                "36.254.0.0\t36.254.255.255\t65536\n");
-        ipString.append(
-                "36.255.116.0\t36.255.119.255\t1024\n");
-        ipString.append(
-                "36.255.128.0\t36.255.131.255\t1024\n");
-        ipString.append(
-                "36.255.164.0\t36.255.167.255\t1024\n");
-        ipString.append(
-                "36.255.172.0\t36.255.179.255\t2048\n");
-        ipString.append(
-                "39.0.0.0\t39.0.0.255\t256\n");
-        ipString.append(
-                "39.0.2.0\t39.0.255.255\t65024\n");
-        ipString.append(
-                "39.64.0.0\t39.108.255.255\t2949120\n");
-        ipString.append(
-                "39.128.0.0\t39.191.255.255\t4194304\n");
-        ipString.append(
-                "40.72.0.0\t40.73.255.255\t131072\n");
-        ipString.append(
-                "40.125.128.0\t40.125.255.255\t32768\n");
-        ipString.append(
-                "40.126.64.0\t40.126.127.255\t16384\n");
-        ipString.append(
-                "42.0.0.0\t42.0.3.255\t1024\n");
-        ipString.append(
-                "42.0.8.0\t42.0.27.255\t5120\n");
-        ipString.append(
-                "42.0.32.0\t42.0.63.255\t8192\n");
-        ipString.append(
-                "42.0.128.0\t42.1.59.255\t48128\n");
-        ipString.append(
-                "42.1.128.0\t42.1.255.255\t32768\n");
-        ipString.append(
-                "42.4.0.0\t42.7.255.255\t262144\n");
-        ipString.append(
-                "42.48.0.0\t42.59.255.255\t786432\n");
-        ipString.append(
-                "42.62.0.0\t42.62.175.255\t45056\n");
-        ipString.append(
-                "42.62.180.0\t42.62.191.255\t3072\n");
-        ipString.append(
-                "42.63.0.0\t42.63.255.255\t65536\n");
-        ipString.append(
-                "42.80.0.0\t42.81.255.255\t131072\n");
-        ipString.append(
-                "42.83.64.0\t42.83.83.255\t5120\n");
-        ipString.append(
-                "42.83.88.0\t42.95.255.255\t829440\n");
-        ipString.append(
-                "42.96.64.0\t42.96.103.255\t10240\n");
-        ipString.append(
-                "42.96.108.0\t42.97.255.255\t103424\n");
-        ipString.append(
-                "42.99.0.0\t42.99.115.255\t29696\n");
-        ipString.append(
-                "42.99.120.0\t42.99.127.255\t2048\n");
-        ipString.append(
-                "42.100.0.0\t42.103.255.255\t262144\n");
-        ipString.append(
-                "42.120.0.0\t42.123.31.255\t204800\n");
-        ipString.append(
-                "42.123.36.0\t42.123.255.255\t56320\n");
-        ipString.append(
-                "42.128.0.0\t42.143.255.255\t1048576\n");
-        ipString.append(
-                "42.156.0.0\t42.156.31.255\t8192\n");
-        ipString.append(
-                "42.156.36.0\t42.187.123.255\t2054144\n");
-        ipString.append(
-                "42.187.128.0\t42.187.255.255\t32768\n");
-        ipString.append(
-                "42.192.0.0\t42.199.255.255\t524288\n");
-        ipString.append(
-                "42.201.0.0\t42.201.127.255\t32768\n");
-        ipString.append(
-                "42.202.0.0\t42.240.255.255\t2555904\n");
-        ipString.append(
-                "42.242.0.0\t42.255.255.255\t917504\n");
-        ipString.append(
-                "43.144.0.0\t43.191.255.255\t3145728\n");
-        ipString.append(
-                "43.224.12.0\t43.224.15.255\t1024\n");
-        ipString.append(
-                "43.224.24.0\t43.224.27.255\t1024\n");
-        ipString.append(
-                "43.224.44.0\t43.224.47.255\t1024\n");
-        ipString.append(
-                "43.224.52.0\t43.224.59.255\t2048\n");
-        ipString.append(
-                "43.224.64.0\t43.224.75.255\t3072\n");
-        ipString.append(
-                "43.224.80.0\t43.224.83.255\t1024\n");
-        ipString.append(
-                "43.224.100.0\t43.224.103.255\t1024\n");
-        ipString.append(
-                "43.224.144.0\t43.224.147.255\t1024\n");
-        ipString.append(
-                "43.224.160.0\t43.224.163.255\t1024\n");
-        ipString.append(
-                "43.224.176.0\t43.224.179.255\t1024\n");
-        ipString.append(
-                "43.224.184.0\t43.224.187.255\t1024\n");
-        ipString.append(
-                "43.224.200.0\t43.224.219.255\t5120\n");
-        ipString.append(
-                "43.224.240.0\t43.224.243.255\t1024\n");
-        ipString.append(
-                "43.225.76.0\t43.225.79.255\t1024\n");
-        ipString.append(
-                "43.225.84.0\t43.225.87.255\t1024\n");
-        ipString.append(
-                "43.225.120.0\t43.225.127.255\t2048\n");
-        ipString.append(
-                "43.225.172.0\t43.225.175.255\t1024\n");
-        ipString.append(
-                "43.225.180.0\t43.225.183.255\t1024\n");
-        ipString.append(
-                "43.225.208.0\t43.225.211.255\t1024\n");
-        ipString.append(
-                "43.225.216.0\t43.225.247.255\t8192\n");
-        ipString.append(
-                "43.225.252.0\t43.225.255.255\t1024\n");
-        ipString.append(
-                "43.226.32.0\t43.226.123.255\t23552\n");
-        ipString.append(
-                "43.226.128.0\t43.226.215.255\t22528\n");
-        ipString.append(
-                "43.226.236.0\t43.227.11.255\t8192\n");
-        ipString.append(
-                "43.227.32.0\t43.227.107.255\t19456\n");
-        ipString.append(
-                "43.227.136.0\t43.227.147.255\t3072\n");
-        ipString.append(
-                "43.227.152.0\t43.227.183.255\t8192\n");
-        ipString.append(
-                "43.227.188.0\t43.227.223.255\t9216\n");
-        ipString.append(
-                "43.227.232.0\t43.227.235.255\t1024\n");
-        ipString.append(
-                "43.227.248.0\t43.228.71.255\t20480\n");
-        ipString.append(
-                "43.228.76.0\t43.228.79.255\t1024\n");
-        ipString.append(
-                "43.228.100.0\t43.228.103.255\t1024\n");
-        ipString.append(
-                "43.228.116.0\t43.228.123.255\t2048\n");
-        ipString.append(
-                "43.228.132.0\t43.228.139.255\t2048\n");
-        ipString.append(
-                "43.228.148.0\t43.228.155.255\t2048\n");
-        ipString.append(
-                "43.228.188.0\t43.228.191.255\t1024\n");
-        ipString.append(
-                "43.228.204.0\t43.228.207.255\t1024\n");
-        ipString.append(
-                "43.228.240.0\t43.228.243.255\t1024\n");
-        ipString.append(
-                "43.229.40.0\t43.229.43.255\t1024\n");
-        ipString.append(
-                "43.229.48.0\t43.229.51.255\t1024\n");
-        ipString.append(
-                "43.229.56.0\t43.229.59.255\t1024\n");
-        ipString.append(
-                "43.229.96.0\t43.229.99.255\t1024\n");
-        ipString.append(
-                "43.229.120.0\t43.229.123.255\t1024\n");
-        ipString.append(
-                "43.229.136.0\t43.229.147.255\t3072\n");
-        ipString.append(
-                "43.229.168.0\t43.229.199.255\t8192\n");
-        ipString.append(
-                "43.229.216.0\t43.229.223.255\t2048\n");
-        ipString.append(
-                "43.229.232.0\t43.229.239.255\t2048\n");
-        ipString.append(
-                "43.230.20.0\t43.230.23.255\t1024\n");
-        ipString.append(
-                "43.230.32.0\t43.230.35.255\t1024\n");
-        ipString.append(
-                "43.230.68.0\t43.230.75.255\t2048\n");
-        ipString.append(
-                "43.230.84.0\t43.230.87.255\t1024\n");
-        ipString.append(
-                "43.230.124.0\t43.230.127.255\t1024\n");
-        ipString.append(
-                "43.230.136.0\t43.230.139.255\t1024\n");
-        ipString.append(
-                "43.230.220.0\t43.230.255.255\t9216\n");
-        ipString.append(
-                "43.231.32.0\t43.231.47.255\t4096\n");
-        ipString.append(
-                "43.231.80.0\t43.231.111.255\t8192\n");
-        ipString.append(
-                "43.231.136.0\t43.231.183.255\t12288\n");
-        ipString.append(
-                "43.236.0.0\t43.239.51.255\t209920\n");
-        ipString.append(
-                "43.239.116.0\t43.239.123.255\t2048\n");
-        ipString.append(
-                "43.239.172.0\t43.239.179.255\t2048\n");
-        ipString.append(
-                "43.240.0.0\t43.240.3.255\t1024\n");
-        ipString.append(
-                "43.240.56.0\t43.240.63.255\t2048\n");
-        ipString.append(
-                "43.240.68.0\t43.240.79.255\t3072\n");
-        ipString.append(
-                "43.240.84.0\t43.240.87.255\t1024\n");
-        ipString.append(
-                "43.240.124.0\t43.240.139.255\t4096\n");
-        ipString.append(
-                "43.240.144.0\t43.240.147.255\t1024\n");
-        ipString.append(
-                "43.240.156.0\t43.240.223.255\t17408\n");
-        ipString.append(
-                "43.240.240.0\t43.241.23.255\t10240\n");
-        ipString.append(
-                "43.241.48.0\t43.241.51.255\t1024\n");
-        ipString.append(
-                "43.241.76.0\t43.241.95.255\t5120\n");
-        ipString.append(
-                "43.241.112.0\t43.241.115.255\t1024\n");
-        ipString.append(
-                "43.241.168.0\t43.241.187.255\t5120\n");
-        ipString.append(
-                "43.241.196.0\t43.241.199.255\t1024\n");
-        ipString.append(
-                "43.241.208.0\t43.241.243.255\t9216\n");
-        ipString.append(
-                "43.241.248.0\t43.241.255.255\t2048\n");
-        ipString.append(
-                "43.242.8.0\t43.242.31.255\t6144\n");
-        ipString.append(
-                "43.242.44.0\t43.242.67.255\t6144\n");
-        ipString.append(
-                "43.242.72.0\t43.242.99.255\t7168\n");
-        ipString.append(
-                "43.242.144.0\t43.242.171.255\t7168\n");
-        ipString.append(
-                "43.242.180.0\t43.242.183.255\t1024\n");
-        ipString.append(
-                "43.242.188.0\t43.242.199.255\t3072\n");
-        ipString.append(
-                "43.242.204.0\t43.242.207.255\t1024\n");
-        ipString.append(
-                "43.242.216.0\t43.242.223.255\t2048\n");
-        ipString.append(
-                "43.242.252.0\t43.242.255.255\t1024\n");
-        ipString.append(
-                "43.243.4.0\t43.243.19.255\t4096\n");
-        ipString.append(
-                "43.243.24.0\t43.243.27.255\t1024\n");
-        ipString.append(
-                "43.243.88.0\t43.243.91.255\t1024\n");
-        ipString.append(
-                "43.243.128.0\t43.243.131.255\t1024\n");
-        ipString.append(
-                "43.243.136.0\t43.243.139.255\t1024\n");
-        ipString.append(
-                "43.243.144.0\t43.243.151.255\t2048\n");
-        ipString.append(
-                "43.243.156.0\t43.243.159.255\t1024\n");
-        ipString.append(
-                "43.243.180.0\t43.243.183.255\t1024\n");
-        ipString.append(
-                "43.243.228.0\t43.243.235.255\t2048\n");
-        ipString.append(
-                "43.243.244.0\t43.243.247.255\t1024\n");
-        ipString.append(
-                "43.246.0.0\t43.246.99.255\t25600\n");
-        ipString.append(
-                "43.246.112.0\t43.246.115.255\t1024\n");
-        ipString.append(
-                "43.246.212.0\t43.246.215.255\t1024\n");
-        ipString.append(
-                "43.246.228.0\t43.246.231.255\t1024\n");
-        ipString.append(
-                "43.247.4.0\t43.247.11.255\t2048\n");
-        ipString.append(
-                "43.247.44.0\t43.247.51.255\t2048\n");
-        ipString.append(
-                "43.247.68.0\t43.247.71.255\t1024\n");
-        ipString.append(
-                "43.247.76.0\t43.247.79.255\t1024\n");
-        ipString.append(
-                "43.247.84.0\t43.247.103.255\t5120\n");
-        ipString.append(
-                "43.247.108.0\t43.247.115.255\t2048\n");
-        ipString.append(
-                "43.247.148.0\t43.247.155.255\t2048\n");
-        ipString.append(
-                "43.247.176.0\t43.247.191.255\t4096\n");
-        ipString.append(
-                "43.247.196.0\t43.248.7.255\t17408\n");
-        ipString.append(
-                "43.248.20.0\t43.248.23.255\t1024\n");
-        ipString.append(
-                "43.248.28.0\t43.248.31.255\t1024\n");
-        ipString.append(
-                "43.248.48.0\t43.248.51.255\t1024\n");
-        ipString.append(
-                "43.248.76.0\t43.248.151.255\t19456\n");
-        ipString.append(
-                "43.248.176.0\t43.248.211.255\t9216\n");
-        ipString.append(
-                "43.248.228.0\t43.248.235.255\t2048\n");
-        ipString.append(
-                "43.248.244.0\t43.248.247.255\t1024\n");
-        ipString.append(
-                "43.249.4.0\t43.249.11.255\t2048\n");
-        ipString.append(
-                "43.249.120.0\t43.249.123.255\t1024\n");
-        ipString.append(
-                "43.249.132.0\t43.249.139.255\t2048\n");
-        ipString.append(
-                "43.249.144.0\t43.249.171.255\t7168\n");
-        ipString.append(
-                "43.249.192.0\t43.249.195.255\t1024\n");
-        ipString.append(
-                "43.249.236.0\t43.249.239.255\t1024\n");
-        ipString.append(
-                "43.250.4.0\t43.250.7.255\t1024\n");
-        ipString.append(
-                "43.250.12.0\t43.250.23.255\t3072\n");
-        ipString.append(
-                "43.250.28.0\t43.250.39.255\t3072\n");
-        ipString.append(
-                "43.250.72.0\t43.250.75.255\t1024\n");
-        ipString.append(
-                "43.250.96.0\t43.250.119.255\t6144\n");
-        ipString.append(
-                "43.250.128.0\t43.250.131.255\t1024\n");
-        ipString.append(
-                "43.250.144.0\t43.250.151.255\t2048\n");
-        ipString.append(
-                "43.250.160.0\t43.250.163.255\t1024\n");
-        ipString.append(
-                "43.250.168.0\t43.250.179.255\t3072\n");
-        ipString.append(
-                "43.250.200.0\t43.250.203.255\t1024\n");
-        ipString.append(
-                "43.250.212.0\t43.250.223.255\t3072\n");
-        ipString.append(
-                "43.250.236.0\t43.250.239.255\t1024\n");
-        ipString.append(
-                "43.250.244.0\t43.250.247.255\t1024\n");
-        ipString.append(
-                "43.251.4.0\t43.251.11.255\t2048\n");
-        ipString.append(
-                "43.251.36.0\t43.251.39.255\t1024\n");
-        ipString.append(
-                "43.251.100.0\t43.251.103.255\t1024\n");
-        ipString.append(
-                "43.251.116.0\t43.251.119.255\t1024\n");
-        ipString.append(
-                "43.251.192.0\t43.251.195.255\t1024\n");
-        ipString.append(
-                "43.251.232.0\t43.251.239.255\t2048\n");
-        ipString.append(
-                "43.251.244.0\t43.251.247.255\t1024\n");
-        ipString.append(
-                "43.252.48.0\t43.252.51.255\t1024\n");
-        ipString.append(
-                "43.252.56.0\t43.252.59.255\t1024\n");
-        ipString.append(
-                "43.252.224.0\t43.252.227.255\t1024\n");
-        ipString.append(
-                "43.254.0.0\t43.254.11.255\t3072\n");
-        ipString.append(
-                "43.254.24.0\t43.254.27.255\t1024\n");
-        ipString.append(
-                "43.254.36.0\t43.254.39.255\t1024\n");
-        ipString.append(
-                "43.254.44.0\t43.254.47.255\t1024\n");
-        ipString.append(
-                "43.254.52.0\t43.254.55.255\t1024\n");
-        ipString.append(
-                "43.254.64.0\t43.254.67.255\t1024\n");
-        ipString.append(
-                "43.254.72.0\t43.254.75.255\t1024\n");
-        ipString.append(
-                "43.254.84.0\t43.254.95.255\t3072\n");
-        ipString.append(
-                "43.254.100.0\t43.254.107.255\t2048\n");
-        ipString.append(
-                "43.254.112.0\t43.254.119.255\t2048\n");
-        ipString.append(
-                "43.254.128.0\t43.254.131.255\t1024\n");
-        ipString.append(
-                "43.254.136.0\t43.254.159.255\t6144\n");
-        ipString.append(
-                "43.254.168.0\t43.254.175.255\t2048\n");
-        ipString.append(
-                "43.254.180.0\t43.254.203.255\t6144\n");
-        ipString.append(
-                "43.254.208.0\t43.254.211.255\t1024\n");
-        ipString.append(
-                "43.254.220.0\t43.254.243.255\t6144\n");
-        ipString.append(
-                "43.254.248.0\t43.255.11.255\t5120\n");
-        ipString.append(
-                "43.255.16.0\t43.255.19.255\t1024\n");
-        ipString.append(
-                "43.255.48.0\t43.255.51.255\t1024\n");
-        ipString.append(
-                "43.255.64.0\t43.255.79.255\t4096\n");
-        ipString.append(
-                "43.255.84.0\t43.255.87.255\t1024\n");
-        ipString.append(
-                "43.255.96.0\t43.255.99.255\t1024\n");
-        ipString.append(
-                "43.255.108.0\t43.255.111.255\t1024\n");
-        ipString.append(
-                "43.255.144.0\t43.255.147.255\t1024\n");
-        ipString.append(
-                "43.255.168.0\t43.255.171.255\t1024\n");
-        ipString.append(
-                "43.255.176.0\t43.255.179.255\t1024\n");
-        ipString.append(
-                "43.255.184.0\t43.255.187.255\t1024\n");
-        ipString.append(
-                "43.255.192.0\t43.255.195.255\t1024\n");
-        ipString.append(
-                "43.255.200.0\t43.255.215.255\t4096\n");
-        ipString.append(
-                "43.255.224.0\t43.255.235.255\t3072\n");
-        ipString.append(
-                "43.255.244.0\t43.255.247.255\t1024\n");
-        ipString.append(
-                "45.40.192.0\t45.40.255.255\t16384\n");
-        ipString.append(
-                "45.65.16.0\t45.65.31.255\t4096\n");
-        ipString.append(
-                "45.82.236.0\t45.82.243.255\t2048\n");
-        ipString.append(
-                "45.112.132.0\t45.112.135.255\t1024\n");
-        ipString.append(
-                "45.112.188.0\t45.112.191.255\t1024\n");
-        ipString.append(
-                "45.112.208.0\t45.112.223.255\t4096\n");
-        ipString.append(
-                "45.112.228.0\t45.112.239.255\t3072\n");
-        ipString.append(
-                "45.113.12.0\t45.113.31.255\t5120\n");
-        ipString.append(
-                "45.113.40.0\t45.113.43.255\t1024\n");
-        ipString.append(
-                "45.113.52.0\t45.113.59.255\t2048\n");
-        ipString.append(
-                "45.113.72.0\t45.113.75.255\t1024\n");
-        ipString.append(
-                "45.113.144.0\t45.113.151.255\t2048\n");
-        ipString.append(
-                "45.113.168.0\t45.113.171.255\t1024\n");
-        ipString.append(
-                "45.113.176.0\t45.113.179.255\t1024\n");
-        ipString.append(
-                "45.113.184.0\t45.113.187.255\t1024\n");
-        ipString.append(
-                "45.113.200.0\t45.113.223.255\t6144\n");
-        ipString.append(
-                "45.113.240.0\t45.113.243.255\t1024\n");
-        ipString.append(
-                "45.113.252.0\t45.114.3.255\t2048\n");
-        ipString.append(
-                "45.114.12.0\t45.114.15.255\t1024\n");
-        ipString.append(
-                "45.114.32.0\t45.114.35.255\t1024\n");
-        ipString.append(
-                "45.114.40.0\t45.114.43.255\t1024\n");
-        ipString.append(
-                "45.114.52.0\t45.114.55.255\t1024\n");
-        ipString.append(
-                "45.114.96.0\t45.114.99.255\t1024\n");
-        ipString.append(
-                "45.114.124.0\t45.114.127.255\t1024\n");
-        ipString.append(
-                "45.114.136.0\t45.114.139.255\t1024\n");
-        ipString.append(
-                "45.114.196.0\t45.114.203.255\t2048\n");
-        ipString.append(
-                "45.114.228.0\t45.114.231.255\t1024\n");
-        ipString.append(
-                "45.114.252.0\t45.114.255.255\t1024\n");
-        ipString.append(
-                "45.115.44.0\t45.115.47.255\t1024\n");
-        ipString.append(
-                "45.115.100.0\t45.115.103.255\t1024\n");
-        ipString.append(
-                "45.115.120.0\t45.115.123.255\t1024\n");
-        ipString.append(
-                "45.115.132.0\t45.115.135.255\t1024\n");
-        ipString.append(
-                "45.115.144.0\t45.115.147.255\t1024\n");
-        ipString.append(
-                "45.115.156.0\t45.115.159.255\t1024\n");
-        ipString.append(
-                "45.115.164.0\t45.115.167.255\t1024\n");
-        ipString.append(
-                "45.115.200.0\t45.115.203.255\t1024\n");
-        ipString.append(
-                "45.115.212.0\t45.115.215.255\t1024\n");
-        ipString.append(
-                "45.115.228.0\t45.115.231.255\t1024\n");
-        ipString.append(
-                "45.115.236.0\t45.115.239.255\t1024\n");
-        ipString.append(
-                "45.115.244.0\t45.115.251.255\t2048\n");
-        ipString.append(
-                "45.116.16.0\t45.116.19.255\t1024\n");
-        ipString.append(
-                "45.116.24.0\t45.116.27.255\t1024\n");
-        ipString.append(
-                "45.116.32.0\t45.116.39.255\t2048\n");
-        ipString.append(
-                "45.116.52.0\t45.116.55.255\t1024\n");
-        ipString.append(
-                "45.116.96.0\t45.116.103.255\t2048\n");
-        ipString.append(
-                "45.116.140.0\t45.116.143.255\t1024\n");
-        ipString.append(
-                "45.116.152.0\t45.116.155.255\t1024\n");
-        ipString.append(
-                "45.116.208.0\t45.116.211.255\t1024\n");
-        ipString.append(
-                "45.117.8.0\t45.117.11.255\t1024\n");
-        ipString.append(
-                "45.117.20.0\t45.117.23.255\t1024\n");
-        ipString.append(
-                "45.117.68.0\t45.117.71.255\t1024\n");
-        ipString.append(
-                "45.117.124.0\t45.117.127.255\t1024\n");
-        ipString.append(
-                "45.117.252.0\t45.117.255.255\t1024\n");
-        ipString.append(
-                "45.119.52.0\t45.119.55.255\t1024\n");
-        ipString.append(
-                "45.119.60.0\t45.119.75.255\t4096\n");
-        ipString.append(
-                "45.119.104.0\t45.119.107.255\t1024\n");
-        ipString.append(
-                "45.119.116.0\t45.119.119.255\t1024\n");
-        ipString.append(
-                "45.119.232.0\t45.119.235.255\t1024\n");
-        ipString.append(
-                "45.120.100.0\t45.120.103.255\t1024\n");
-        ipString.append(
-                "45.120.140.0\t45.120.143.255\t1024\n");
-        ipString.append(
-                "45.120.164.0\t45.120.167.255\t1024\n");
-        ipString.append(
-                "45.120.220.0\t45.120.223.255\t1024\n");
-        ipString.append(
-                "45.120.240.0\t45.120.243.255\t1024\n");
-        ipString.append(
-                "45.121.52.0\t45.121.55.255\t1024\n");
-        ipString.append(
-                "45.121.64.0\t45.121.75.255\t3072\n");
-        ipString.append(
-                "45.121.92.0\t45.121.99.255\t2048\n");
-        ipString.append(
-                "45.121.172.0\t45.121.179.255\t2048\n");
-        ipString.append(
-                "45.121.212.0\t45.121.215.255\t1024\n");
-        ipString.append(
-                "45.121.240.0\t45.122.43.255\t15360\n");
-        ipString.append(
-                "45.122.60.0\t45.122.119.255\t15360\n");
-        ipString.append(
-                "45.122.160.0\t45.122.219.255\t15360\n");
-        ipString.append(
-                "45.123.28.0\t45.123.39.255\t3072\n");
-        ipString.append(
-                "45.123.44.0\t45.123.91.255\t12288\n");
-        ipString.append(
-                "45.123.120.0\t45.123.123.255\t1024\n");
-        ipString.append(
-                "45.123.128.0\t45.123.139.255\t3072\n");
-        ipString.append(
-                "45.123.148.0\t45.123.159.255\t3072\n");
-        ipString.append(
-                "45.123.164.0\t45.123.187.255\t6144\n");
-        ipString.append(
-                "45.123.204.0\t45.123.207.255\t1024\n");
-        ipString.append(
-                "45.123.212.0\t45.123.215.255\t1024\n");
-        ipString.append(
-                "45.123.224.0\t45.124.3.255\t9216\n");
-        ipString.append(
-                "45.124.20.0\t45.124.23.255\t1024\n");
-        ipString.append(
-                "45.124.28.0\t45.124.39.255\t3072\n");
-        ipString.append(
-                "45.124.44.0\t45.124.47.255\t1024\n");
-        ipString.append(
-                "45.124.68.0\t45.124.71.255\t1024\n");
-        ipString.append(
-                "45.124.76.0\t45.124.83.255\t2048\n");
-        ipString.append(
-                "45.124.100.0\t45.124.103.255\t1024\n");
-        ipString.append(
-                "45.124.124.0\t45.124.127.255\t1024\n");
-        ipString.append(
-                "45.124.172.0\t45.124.179.255\t2048\n");
-        ipString.append(
-                "45.124.208.0\t45.124.211.255\t1024\n");
-        ipString.append(
-                "45.124.248.0\t45.124.251.255\t1024\n");
-        ipString.append(
-                "45.125.12.0\t45.125.19.255\t2048\n");
-        ipString.append(
-                "45.125.24.0\t45.125.31.255\t2048\n");
-        ipString.append(
-                "45.125.44.0\t45.125.47.255\t1024\n");
-        ipString.append(
-                "45.125.52.0\t45.125.59.255\t2048\n");
-        ipString.append(
-                "45.125.76.0\t45.125.107.255\t8192\n");
-        ipString.append(
-                "45.125.136.0\t45.125.139.255\t1024\n");
-        ipString.append(
-                "45.126.48.0\t45.126.55.255\t2048\n");
-        ipString.append(
-                "45.126.100.0\t45.126.103.255\t1024\n");
-        ipString.append(
-                "45.126.108.0\t45.126.123.255\t4096\n");
-        ipString.append(
-                "45.126.212.0\t45.126.215.255\t1024\n");
-        ipString.append(
-                "45.126.220.0\t45.126.223.255\t1024\n");
-        ipString.append(
-                "45.127.8.0\t45.127.15.255\t2048\n");
-        ipString.append(
-                "45.127.96.0\t45.127.99.255\t1024\n");
-        ipString.append(
-                "45.127.128.0\t45.127.131.255\t1024\n");
-        ipString.append(
-                "45.127.144.0\t45.127.151.255\t2048\n");
-        ipString.append(
-                "45.127.156.0\t45.127.159.255\t1024\n");
-        ipString.append(
-                "45.127.216.0\t45.127.219.255\t1024\n");
-        ipString.append(
-                "45.149.16.0\t45.149.19.255\t1024\n");
-        ipString.append(
-                "45.152.24.0\t45.152.27.255\t1024\n");
-        ipString.append(
-                "45.248.8.0\t45.248.11.255\t1024\n");
-        ipString.append(
-                "45.248.80.0\t45.248.91.255\t3072\n");
-        ipString.append(
-                "45.248.96.0\t45.248.111.255\t4096\n");
-        ipString.append(
-                "45.248.128.0\t45.248.135.255\t2048\n");
-        ipString.append(
-                "45.248.204.0\t45.249.7.255\t15360\n");
-        ipString.append(
-                "45.249.12.0\t45.249.39.255\t7168\n");
-        ipString.append(
-                "45.249.92.0\t45.249.95.255\t1024\n");
-        ipString.append(
-                "45.249.112.0\t45.249.115.255\t1024\n");
-        ipString.append(
-                "45.249.188.0\t45.249.215.255\t7168\n");
-        ipString.append(
-                "45.250.12.0\t45.250.19.255\t2048\n");
-        ipString.append(
-                "45.250.28.0\t45.250.43.255\t4096\n");
-        ipString.append(
-                "45.250.76.0\t45.250.99.255\t6144\n");
-        ipString.append(
-                "45.250.104.0\t45.250.155.255\t13312\n");
-        ipString.append(
-                "45.250.164.0\t45.250.167.255\t1024\n");
-        ipString.append(
-                "45.250.180.0\t45.250.195.255\t4096\n");
-        ipString.append(
-                "45.251.0.0\t45.251.3.255\t1024\n");
-        ipString.append(
-                "45.251.8.0\t45.251.11.255\t1024\n");
-        ipString.append(
-                "45.251.16.0\t45.251.23.255\t2048\n");
-        ipString.append(
-                "45.251.52.0\t45.251.55.255\t1024\n");
-        ipString.append(
-                "45.251.84.0\t45.251.103.255\t5120\n");
-        ipString.append(
-                "45.251.120.0\t45.251.127.255\t2048\n");
-        ipString.append(
-                "45.251.136.0\t45.251.227.255\t23552\n");
-        ipString.append(
-                "45.251.240.0\t45.251.243.255\t1024\n");
-        ipString.append(
-                "45.252.0.0\t45.252.51.255\t13312\n");
-        ipString.append(
-                "45.252.60.0\t45.252.63.255\t1024\n");
-        ipString.append(
-                "45.252.84.0\t45.252.179.255\t24576\n");
-        ipString.append(
-                "45.252.192.0\t45.252.235.255\t11264\n");
-        ipString.append(
-                "45.253.0.0\t45.253.87.255\t22528\n");
-        ipString.append(
-                "45.253.92.0\t45.253.123.255\t8192\n");
-        ipString.append(
-                "45.253.132.0\t45.253.247.255\t29696\n");
-        ipString.append(
-                "45.254.0.0\t45.254.31.255\t8192\n");
-        ipString.append(
-                "45.254.40.0\t45.254.43.255\t1024\n");
-        ipString.append(
-                "45.254.48.0\t45.254.231.255\t47104\n");
-        ipString.append(
-                "45.254.236.0\t45.254.243.255\t2048\n");
-        ipString.append(
-                "45.254.248.0\t45.254.251.255\t1024\n");
-        ipString.append(
-                "45.255.0.0\t45.255.127.255\t32768\n");
-        ipString.append(
-                "45.255.132.0\t45.255.251.255\t30720\n");
-        ipString.append(
-                "47.92.0.0\t47.127.255.255\t2359296\n");
-        ipString.append(
-                "49.4.0.0\t49.7.255.255\t262144\n");
-        ipString.append(
-                "49.51.0.0\t49.55.255.255\t327680\n");
-        ipString.append(
-                "49.64.0.0\t49.95.255.255\t2097152\n");
-        ipString.append(
-                "49.112.0.0\t49.123.255.255\t786432\n");
-        ipString.append(
-                "49.128.0.0\t49.128.0.255\t256\n");
-        ipString.append(
-                "49.128.2.0\t49.128.7.255\t1536\n");
-        ipString.append(
-                "49.140.0.0\t49.141.255.255\t131072\n");
-        ipString.append(
-                "49.152.0.0\t49.155.255.255\t262144\n");
-        ipString.append(
-                "49.208.0.0\t49.211.255.255\t262144\n");
-        ipString.append(
-                "49.220.0.0\t49.223.255.255\t262144\n");
-        ipString.append(
-                "49.232.0.0\t49.235.255.255\t262144\n");
-        ipString.append(
-                "49.239.0.0\t49.239.63.255\t16384\n");
-        ipString.append(
-                "49.239.192.0\t49.239.255.255\t16384\n");
-        ipString.append(
-                "49.246.224.0\t49.246.255.255\t8192\n");
-        ipString.append(
-                "52.80.0.0\t52.83.255.255\t262144\n");
-        ipString.append(
-                "52.130.0.0\t52.131.255.255\t131072\n");
-        ipString.append(
-                "54.222.0.0\t54.223.255.255\t131072\n");
-        ipString.append(
-                "58.14.0.0\t58.25.255.255\t786432\n");
-        ipString.append(
-                "58.30.0.0\t58.63.255.255\t2228224\n");
-        ipString.append(
-                "58.65.232.0\t58.65.239.255\t2048\n");
-        ipString.append(
-                "58.66.0.0\t58.67.255.255\t131072\n");
-        ipString.append(
-                "58.68.128.0\t58.68.255.255\t32768\n");
-        ipString.append(
-                "58.82.0.0\t58.82.127.255\t32768\n");
-        ipString.append(
-                "58.83.0.0\t58.83.255.255\t65536\n");
-        ipString.append(
-                "58.87.64.0\t58.87.127.255\t16384\n");
-        ipString.append(
-                "58.99.128.0\t58.101.255.255\t163840\n");
-        ipString.append(
-                "58.116.0.0\t58.119.255.255\t262144\n");
-        ipString.append(
-                "58.128.0.0\t58.135.255.255\t524288\n");
-        ipString.append(
-                "58.144.0.0\t58.144.255.255\t65536\n");
-        ipString.append(
-                "58.154.0.0\t58.155.255.255\t131072\n");
-        ipString.append(
-                "58.192.0.0\t58.223.255.255\t2097152\n");
-        ipString.append(
-                "58.240.0.0\t58.255.255.255\t1048576\n");
-        ipString.append(
-                "59.32.0.0\t59.83.255.255\t3407872\n");
-        ipString.append(
-                "59.107.0.0\t59.111.255.255\t327680\n");
-        ipString.append(
-                "59.151.0.0\t59.151.127.255\t32768\n");
-        ipString.append(
-                "59.152.16.0\t59.152.39.255\t6144\n");
-        ipString.append(
-                "59.152.64.0\t59.152.79.255\t4096\n");
-        ipString.append(
-                "59.152.112.0\t59.152.119.255\t2048\n");
-        ipString.append(
-                "59.153.4.0\t59.153.7.255\t1024\n");
-        ipString.append(
-                "59.153.32.0\t59.153.35.255\t1024\n");
-        ipString.append(
-                "59.153.60.0\t59.153.75.255\t4096\n");
-        ipString.append(
-                "59.153.92.0\t59.153.95.255\t1024\n");
-        ipString.append(
-                "59.153.116.0\t59.153.119.255\t1024\n");
-        ipString.append(
-                "59.153.136.0\t59.153.139.255\t1024\n");
-        ipString.append(
-                "59.153.152.0\t59.153.155.255\t1024\n");
-        ipString.append(
-                "59.153.164.0\t59.153.195.255\t8192\n");
-        ipString.append(
-                "59.155.0.0\t59.155.255.255\t65536\n");
-        ipString.append(
-                "59.172.0.0\t59.175.255.255\t262144\n");
-        ipString.append(
-                "59.191.0.0\t59.191.127.255\t32768\n");
-        ipString.append(
-                "59.192.0.0\t60.31.255.255\t6291456\n");
-        ipString.append(
-                "60.55.0.0\t60.55.255.255\t65536\n");
-        ipString.append(
-                "60.63.0.0\t60.63.255.255\t65536\n");
-        ipString.append(
-                "60.160.0.0\t60.191.255.255\t2097152\n");
-        ipString.append(
-                "60.194.0.0\t60.195.255.255\t131072\n");
-        ipString.append(
-                "60.200.0.0\t60.223.255.255\t1572864\n");
-        ipString.append(
-                "60.232.0.0\t60.233.255.255\t131072\n");
-        ipString.append(
-                "60.235.0.0\t60.235.255.255\t65536\n");
-        ipString.append(
-                "60.245.128.0\t60.245.255.255\t32768\n");
-        ipString.append(
-                "60.247.0.0\t60.247.255.255\t65536\n");
-        ipString.append(
-                "60.252.0.0\t60.252.255.255\t65536\n");
-        ipString.append(
-                "60.253.128.0\t60.253.255.255\t32768\n");
-        ipString.append(
-                "60.255.0.0\t60.255.255.255\t65536\n");
-        ipString.append(
-                "61.4.80.0\t61.4.95.255\t4096\n");
-        ipString.append(
-                "61.4.176.0\t61.4.191.255\t4096\n");
-        ipString.append(
-                "61.8.160.0\t61.8.175.255\t4096\n");
-        ipString.append(
-                "61.14.212.0\t61.14.223.255\t3072\n");
-        ipString.append(
-                "61.14.240.0\t61.14.247.255\t2048\n");
-        ipString.append(
-                "61.28.0.0\t61.28.127.255\t32768\n");
-        ipString.append(
-                "61.29.128.0\t61.29.251.255\t31744\n");
-        ipString.append(
-                "61.29.254.0\t61.29.255.255\t512\n");
-        ipString.append(
-                "61.45.128.0\t61.45.191.255\t16384\n");
-        ipString.append(
-                "61.45.224.0\t61.45.239.255\t4096\n");
-        ipString.append(
-                "61.47.128.0\t61.47.191.255\t16384\n");
-        ipString.append(
-                "61.48.0.0\t61.55.255.255\t524288\n");
-        ipString.append(
-                "61.87.192.0\t61.87.255.255\t16384\n");
-        ipString.append(
-                "61.128.0.0\t61.191.255.255\t4194304\n");
-        ipString.append(
-                "61.232.0.0\t61.237.255.255\t393216\n");
-        ipString.append(
-                "61.240.0.0\t61.243.255.255\t262144\n");
-        ipString.append(
-                "62.234.0.0\t62.234.255.255\t65536\n");
-        ipString.append(
-                "68.79.0.0\t68.79.63.255\t16384\n");
-        ipString.append(
-                "69.230.192.0\t69.230.255.255\t16384\n");
-        ipString.append(
-                "69.231.128.0\t69.231.191.255\t16384\n");
-        ipString.append(
-                "69.234.192.0\t69.234.255.255\t16384\n");
-        ipString.append(
-                "69.235.128.0\t69.235.191.255\t16384\n");
-        ipString.append(
-                "71.131.192.0\t71.132.63.255\t32768\n");
-        ipString.append(
-                "71.136.64.0\t71.136.127.255\t16384\n");
-        ipString.append(
-                "71.137.0.0\t71.137.63.255\t16384\n");
-        ipString.append(
-                "81.68.0.0\t81.71.255.255\t262144\n");
-        ipString.append(
-                "82.156.0.0\t82.157.255.255\t131072\n");
-        ipString.append(
-                "85.209.40.0\t85.209.43.255\t1024\n");
-        ipString.append(
-                "91.234.36.0\t91.234.36.255\t256\n");
-        ipString.append(
-                "94.191.0.0\t94.191.127.255\t32768\n");
-        ipString.append(
-                "101.0.0.0\t101.0.3.255\t1024\n");
-        ipString.append(
-                "101.1.0.0\t101.1.3.255\t1024\n");
-        ipString.append(
-                "101.2.172.0\t101.2.175.255\t1024\n");
-        ipString.append(
-                "101.4.0.0\t101.7.255.255\t262144\n");
-        ipString.append(
-                "101.16.0.0\t101.31.255.255\t1048576\n");
-        ipString.append(
-                "101.33.128.0\t101.36.95.255\t188416\n");
-        ipString.append(
-                "101.36.128.0\t101.49.255.255\t884736\n");
-        ipString.append(
-                "101.50.8.0\t101.50.15.255\t2048\n");
-        ipString.append(
-                "101.50.56.0\t101.50.59.255\t1024\n");
-        ipString.append(
-                "101.52.0.0\t101.52.255.255\t65536\n");
-        ipString.append(
-                "101.53.100.0\t101.53.103.255\t1024\n");
-        ipString.append(
-                "101.54.0.0\t101.54.255.255\t65536\n");
-        ipString.append(
-                "101.55.224.0\t101.55.231.255\t2048\n");
-        ipString.append(
-                "101.64.0.0\t101.78.3.255\t918528\n");
-        ipString.append(
-                "101.78.32.0\t101.78.63.255\t8192\n");
-        ipString.append(
-                "101.80.0.0\t101.96.11.255\t1051648\n");
-        ipString.append(
-                "101.96.16.0\t101.96.31.255\t4096\n");
-        ipString.append(
-                "101.96.128.0\t101.96.255.255\t32768\n");
-        ipString.append(
-                "101.99.96.0\t101.99.127.255\t8192\n");
-        ipString.append(
-                "101.101.64.0\t101.101.95.255\t8192\n");
-        ipString.append(
-                "101.101.100.0\t101.101.100.255\t256\n");
-        ipString.append(
-                "101.101.102.0\t101.101.127.255\t6656\n");
-        ipString.append(
-                "101.102.64.0\t101.102.95.255\t8192\n");
-        ipString.append(
-                "101.102.100.0\t101.102.102.255\t768\n");
-        ipString.append(
-                "101.102.104.0\t101.102.127.255\t6144\n");
-        ipString.append(
-                "101.104.0.0\t101.107.255.255\t262144\n");
-        ipString.append(
-                "101.110.64.0\t101.110.111.255\t12288\n");
-        ipString.append(
-                "101.110.116.0\t101.110.127.255\t3072\n");
-        ipString.append(
-                "101.120.0.0\t101.126.255.255\t458752\n");
-        ipString.append(
-                "101.128.0.0\t101.128.3.255\t1024\n");
-        ipString.append(
-                "101.128.8.0\t101.128.63.255\t14336\n");
-        ipString.append(
-                "101.129.0.0\t101.135.255.255\t458752\n");
-        ipString.append(
-                "101.144.0.0\t101.159.255.255\t1048576\n");
-        ipString.append(
-                "101.192.0.0\t101.201.255.255\t655360\n");
-        ipString.append(
-                "101.203.128.0\t101.203.167.255\t10240\n");
-        ipString.append(
-                "101.203.172.0\t101.203.191.255\t5120\n");
-        ipString.append(
-                "101.204.0.0\t101.207.255.255\t262144\n");
-        ipString.append(
-                "101.224.0.0\t101.233.255.255\t655360\n");
-        ipString.append(
-                "101.234.64.0\t101.234.71.255\t2048\n");
-        ipString.append(
-                "101.234.76.0\t101.234.127.255\t13312\n");
-        ipString.append(
-                "101.236.0.0\t101.249.255.255\t917504\n");
-        ipString.append(
-                "101.251.0.0\t101.251.3.255\t1024\n");
-        ipString.append(
-                "101.251.8.0\t101.254.255.255\t260096\n");
-        ipString.append(
-                "103.1.8.0\t103.1.11.255\t1024\n");
-        ipString.append(
-                "103.1.20.0\t103.1.27.255\t2048\n");
-        ipString.append(
-                "103.1.72.0\t103.1.75.255\t1024\n");
-        ipString.append(
-                "103.1.88.0\t103.1.91.255\t1024\n");
-        ipString.append(
-                "103.1.168.0\t103.1.171.255\t1024\n");
-        ipString.append(
-                "103.2.108.0\t103.2.111.255\t1024\n");
-        ipString.append(
-                "103.2.156.0\t103.2.159.255\t1024\n");
-        ipString.append(
-                "103.2.164.0\t103.2.167.255\t1024\n");
-        ipString.append(
-                "103.2.200.0\t103.2.215.255\t4096\n");
-        ipString.append(
-                "103.3.84.0\t103.3.143.255\t15360\n");
-        ipString.append(
-                "103.3.148.0\t103.3.159.255\t3072\n");
-        ipString.append(
-                "103.4.56.0\t103.4.59.255\t1024\n");
-        ipString.append(
-                "103.4.168.0\t103.4.171.255\t1024\n");
-        ipString.append(
-                "103.4.184.0\t103.4.187.255\t1024\n");
-        ipString.append(
-                "103.4.224.0\t103.4.227.255\t1024\n");
-        ipString.append(
-                "103.5.36.0\t103.5.39.255\t1024\n");
-        ipString.append(
-                "103.5.52.0\t103.5.59.255\t2048\n");
-        ipString.append(
-                "103.5.152.0\t103.5.155.255\t1024\n");
-        ipString.append(
-                "103.5.168.0\t103.5.171.255\t1024\n");
-        ipString.append(
-                "103.5.192.0\t103.5.195.255\t1024\n");
-        ipString.append(
-                "103.5.252.0\t103.5.255.255\t1024\n");
-        ipString.append(
-                "103.6.76.0\t103.6.79.255\t1024\n");
-        ipString.append(
-                "103.6.108.0\t103.6.111.255\t1024\n");
-        ipString.append(
-                "103.6.220.0\t103.6.223.255\t1024\n");
-        ipString.append(
-                "103.6.228.0\t103.6.231.255\t1024\n");
-        ipString.append(
-                "103.7.28.0\t103.7.31.255\t1024\n");
-        ipString.append(
-                "103.7.140.0\t103.7.143.255\t1024\n");
-        ipString.append(
-                "103.7.212.0\t103.7.223.255\t3072\n");
-        ipString.append(
-                "103.8.0.0\t103.8.11.255\t3072\n");
-        ipString.append(
-                "103.8.32.0\t103.8.35.255\t1024\n");
-        ipString.append(
-                "103.8.52.0\t103.8.55.255\t1024\n");
-        ipString.append(
-                "103.8.68.0\t103.8.71.255\t1024\n");
-        ipString.append(
-                "103.8.108.0\t103.8.111.255\t1024\n");
-        ipString.append(
-                "103.8.156.0\t103.8.159.255\t1024\n");
-        ipString.append(
-                "103.8.200.0\t103.8.207.255\t2048\n");
-        ipString.append(
-                "103.8.220.0\t103.8.223.255\t1024\n");
-        ipString.append(
-                "103.9.8.0\t103.9.11.255\t1024\n");
-        ipString.append(
-                "103.9.24.0\t103.9.27.255\t1024\n");
-        ipString.append(
-                "103.9.108.0\t103.9.111.255\t1024\n");
-        ipString.append(
-                "103.9.152.0\t103.9.155.255\t1024\n");
-        ipString.append(
-                "103.9.192.0\t103.9.195.255\t1024\n");
-        ipString.append(
-                "103.9.248.0\t103.10.3.255\t3072\n");
-        ipString.append(
-                "103.10.16.0\t103.10.19.255\t1024\n");
-        ipString.append(
-                "103.10.84.0\t103.10.87.255\t1024\n");
-        ipString.append(
-                "103.10.140.0\t103.10.143.255\t1024\n");
-        ipString.append(
-                "103.11.16.0\t103.11.19.255\t1024\n");
-        ipString.append(
-                "103.11.168.0\t103.11.171.255\t1024\n");
-        ipString.append(
-                "103.11.180.0\t103.11.183.255\t1024\n");
-        ipString.append(
-                "103.12.32.0\t103.12.35.255\t1024\n");
-        ipString.append(
-                "103.12.68.0\t103.12.71.255\t1024\n");
-        ipString.append(
-                "103.12.92.0\t103.12.95.255\t1024\n");
-        ipString.append(
-                "103.12.136.0\t103.12.139.255\t1024\n");
-        ipString.append(
-                "103.12.184.0\t103.12.187.255\t1024\n");
-        ipString.append(
-                "103.12.232.0\t103.12.235.255\t1024\n");
-        ipString.append(
-                "103.13.12.0\t103.13.15.255\t1024\n");
-        ipString.append(
-                "103.13.124.0\t103.13.127.255\t1024\n");
-        ipString.append(
-                "103.13.144.0\t103.13.147.255\t1024\n");
-        ipString.append(
-                "103.13.196.0\t103.13.199.255\t1024\n");
-        ipString.append(
-                "103.13.220.0\t103.13.223.255\t1024\n");
-        ipString.append(
-                "103.13.244.0\t103.13.247.255\t1024\n");
-        ipString.append(
-                "103.14.84.0\t103.14.87.255\t1024\n");
-        ipString.append(
-                "103.14.100.0\t103.14.103.255\t1024\n");
-        ipString.append(
-                "103.14.132.0\t103.14.139.255\t2048\n");
-        ipString.append(
-                "103.14.156.0\t103.14.159.255\t1024\n");
-        ipString.append(
-                "103.14.240.0\t103.14.243.255\t1024\n");
-        ipString.append(
-                "103.15.4.0\t103.15.11.255\t2048\n");
-        ipString.append(
-                "103.15.16.0\t103.15.19.255\t1024\n");
-        ipString.append(
-                "103.15.96.0\t103.15.99.255\t1024\n");
-        ipString.append(
-                "103.15.200.0\t103.15.203.255\t1024\n");
-        ipString.append(
-                "103.16.52.0\t103.16.55.255\t1024\n");
-        ipString.append(
-                "103.16.80.0\t103.16.91.255\t3072\n");
-        ipString.append(
-                "103.16.108.0\t103.16.111.255\t1024\n");
-        ipString.append(
-                "103.16.124.0\t103.16.127.255\t1024\n");
-        ipString.append(
-                "103.17.40.0\t103.17.43.255\t1024\n");
-        ipString.append(
-                "103.17.64.0\t103.17.67.255\t1024\n");
-        ipString.append(
-                "103.17.120.0\t103.17.123.255\t1024\n");
-        ipString.append(
-                "103.17.136.0\t103.17.139.255\t1024\n");
-        ipString.append(
-                "103.17.160.0\t103.17.163.255\t1024\n");
-        ipString.append(
-                "103.17.204.0\t103.17.207.255\t1024\n");
-        ipString.append(
-                "103.17.228.0\t103.17.231.255\t1024\n");
-        ipString.append(
-                "103.18.192.0\t103.18.195.255\t1024\n");
-        ipString.append(
-                "103.18.208.0\t103.18.215.255\t2048\n");
-        ipString.append(
-                "103.18.224.0\t103.18.227.255\t1024\n");
-        ipString.append(
-                "103.19.12.0\t103.19.15.255\t1024\n");
-        ipString.append(
-                "103.19.40.0\t103.19.47.255\t2048\n");
-        ipString.append(
-                "103.19.64.0\t103.19.75.255\t3072\n");
-        ipString.append(
-                "103.19.232.0\t103.19.235.255\t1024\n");
-        ipString.append(
-                "103.20.12.0\t103.20.15.255\t1024\n");
-        ipString.append(
-                "103.20.32.0\t103.20.35.255\t1024\n");
-        ipString.append(
-                "103.20.44.0\t103.20.47.255\t1024\n");
-        ipString.append(
-                "103.20.68.0\t103.20.71.255\t1024\n");
-        ipString.append(
-                "103.20.112.0\t103.20.115.255\t1024\n");
-        ipString.append(
-                "103.20.128.0\t103.20.131.255\t1024\n");
-        ipString.append(
-                "103.20.160.0\t103.20.163.255\t1024\n");
-        ipString.append(
-                "103.20.248.0\t103.20.251.255\t1024\n");
-        ipString.append(
-                "103.21.112.0\t103.21.119.255\t2048\n");
-        ipString.append(
-                "103.21.136.0\t103.21.143.255\t2048\n");
-        ipString.append(
-                "103.21.176.0\t103.21.179.255\t1024\n");
-        ipString.append(
-                "103.21.208.0\t103.21.211.255\t1024\n");
-        ipString.append(
-                "103.21.240.0\t103.21.243.255\t1024\n");
-        ipString.append(
-                "103.22.0.0\t103.22.95.255\t24576\n");
-        ipString.append(
-                "103.22.100.0\t103.22.127.255\t7168\n");
-        ipString.append(
-                "103.22.188.0\t103.22.191.255\t1024\n");
-        ipString.append(
-                "103.22.228.0\t103.22.231.255\t1024\n");
-        ipString.append(
-                "103.22.252.0\t103.22.255.255\t1024\n");
-        ipString.append(
-                "103.23.8.0\t103.23.11.255\t1024\n");
-        ipString.append(
-                "103.23.56.0\t103.23.59.255\t1024\n");
-        ipString.append(
-                "103.23.160.0\t103.23.167.255\t2048\n");
-        ipString.append(
-                "103.23.176.0\t103.23.179.255\t1024\n");
-        ipString.append(
-                "103.23.228.0\t103.23.231.255\t1024\n");
-        ipString.append(
-                "103.24.24.0\t103.24.27.255\t1024\n");
-        ipString.append(
-                "103.24.116.0\t103.24.119.255\t1024\n");
-        ipString.append(
-                "103.24.128.0\t103.24.131.255\t1024\n");
-        ipString.append(
-                "103.24.144.0\t103.24.147.255\t1024\n");
-        ipString.append(
-                "103.24.176.0\t103.24.179.255\t1024\n");
-        ipString.append(
-                "103.24.184.0\t103.24.187.255\t1024\n");
-        ipString.append(
-                "103.24.220.0\t103.24.223.255\t1024\n");
-        ipString.append(
-                "103.24.228.0\t103.24.231.255\t1024\n");
-        ipString.append(
-                "103.24.248.0\t103.24.255.255\t2048\n");
-        ipString.append(
-                "103.25.8.0\t103.25.9.255\t512\n");
-        ipString.append(
-                "103.25.20.0\t103.25.43.255\t6144\n");
-        ipString.append(
-                "103.25.48.0\t103.25.51.255\t1024\n");
-        ipString.append(
-                "103.25.64.0\t103.25.71.255\t2048\n");
-        ipString.append(
-                "103.25.148.0\t103.25.151.255\t1024\n");
-        ipString.append(
-                "103.25.156.0\t103.25.159.255\t1024\n");
-        ipString.append(
-                "103.25.216.0\t103.25.219.255\t1024\n");
-        ipString.append(
-                "103.26.0.0\t103.26.3.255\t1024\n");
-        ipString.append(
-                "103.26.64.0\t103.26.67.255\t1024\n");
-        ipString.append(
-                "103.26.76.0\t103.26.79.255\t1024\n");
-        ipString.append(
-                "103.26.132.0\t103.26.135.255\t1024\n");
-        ipString.append(
-                "103.26.156.0\t103.26.163.255\t2048\n");
-        ipString.append(
-                "103.26.228.0\t103.26.231.255\t1024\n");
-        ipString.append(
-                "103.26.240.0\t103.26.243.255\t1024\n");
-        ipString.append(
-                "103.27.4.0\t103.27.7.255\t1024\n");
-        ipString.append(
-                "103.27.12.0\t103.27.15.255\t1024\n");
-        ipString.append(
-                "103.27.24.0\t103.27.27.255\t1024\n");
-        ipString.append(
-                "103.27.56.0\t103.27.59.255\t1024\n");
-        ipString.append(
-                "103.27.96.0\t103.27.99.255\t1024\n");
-        ipString.append(
-                "103.27.184.0\t103.27.187.255\t1024\n");
-        ipString.append(
-                "103.27.208.0\t103.27.215.255\t2048\n");
-        ipString.append(
-                "103.27.240.0\t103.27.243.255\t1024\n");
-        ipString.append(
-                "103.28.4.0\t103.28.11.255\t2048\n");
-        ipString.append(
-                "103.28.184.0\t103.28.187.255\t1024\n");
-        ipString.append(
-                "103.28.204.0\t103.28.207.255\t1024\n");
-        ipString.append(
-                "103.28.212.0\t103.28.215.255\t1024\n");
-        ipString.append(
-                "103.29.16.0\t103.29.19.255\t1024\n");
-        ipString.append(
-                "103.29.128.0\t103.29.139.255\t3072\n");
-        ipString.append(
-                "103.30.20.0\t103.30.23.255\t1024\n");
-        ipString.append(
-                "103.30.96.0\t103.30.99.255\t1024\n");
-        ipString.append(
-                "103.30.148.0\t103.30.151.255\t1024\n");
-        ipString.append(
-                "103.30.200.0\t103.30.203.255\t1024\n");
-        ipString.append(
-                "103.30.228.0\t103.30.231.255\t1024\n");
-        ipString.append(
-                "103.30.236.0\t103.30.239.255\t1024\n");
-        ipString.append(
-                "103.31.0.0\t103.31.3.255\t1024\n");
-        ipString.append(
-                "103.31.48.0\t103.31.71.255\t6144\n");
-        ipString.append(
-                "103.31.148.0\t103.31.151.255\t1024\n");
-        ipString.append(
-                "103.31.160.0\t103.31.163.255\t1024\n");
-        ipString.append(
-                "103.31.168.0\t103.31.171.255\t1024\n");
-        ipString.append(
-                "103.31.200.0\t103.31.203.255\t1024\n");
-        ipString.append(
-                "103.31.236.0\t103.31.239.255\t1024\n");
-        ipString.append(
-                "103.32.0.0\t103.35.51.255\t209920\n");
-        ipString.append(
-                "103.35.104.0\t103.35.107.255\t1024\n");
-        ipString.append(
-                "103.35.116.0\t103.35.119.255\t1024\n");
-        ipString.append(
-                "103.35.180.0\t103.35.183.255\t1024\n");
-        ipString.append(
-                "103.35.200.0\t103.35.203.255\t1024\n");
-        ipString.append(
-                "103.35.220.0\t103.35.223.255\t1024\n");
-        ipString.append(
-                "103.36.28.0\t103.36.31.255\t1024\n");
-        ipString.append(
-                "103.36.36.0\t103.36.39.255\t1024\n");
-        ipString.append(
-                "103.36.56.0\t103.36.67.255\t3072\n");
-        ipString.append(
-                "103.36.72.0\t103.36.75.255\t1024\n");
-        ipString.append(
-                "103.36.96.0\t103.36.99.255\t1024\n");
-        ipString.append(
-                "103.36.132.0\t103.36.139.255\t2048\n");
-        ipString.append(
-                "103.36.160.0\t103.36.247.255\t22528\n");
-        ipString.append(
-                "103.37.12.0\t103.37.19.255\t2048\n");
-        ipString.append(
-                "103.37.24.0\t103.37.27.255\t1024\n");
-        ipString.append(
-                "103.37.44.0\t103.37.47.255\t1024\n");
-        ipString.append(
-                "103.37.52.0\t103.37.59.255\t2048\n");
-        ipString.append(
-                "103.37.72.0\t103.37.75.255\t1024\n");
-        ipString.append(
-                "103.37.100.0\t103.37.107.255\t2048\n");
-        ipString.append(
-                "103.37.124.0\t103.37.127.255\t1024\n");
-        ipString.append(
-                "103.37.136.0\t103.37.167.255\t8192\n");
-        ipString.append(
-                "103.37.172.0\t103.37.179.255\t2048\n");
-        ipString.append(
-                "103.37.188.0\t103.37.191.255\t1024\n");
-        ipString.append(
-                "103.37.208.0\t103.37.223.255\t4096\n");
-        ipString.append(
-                "103.37.248.0\t103.38.3.255\t3072\n");
-        ipString.append(
-                "103.38.32.0\t103.38.35.255\t1024\n");
-        ipString.append(
-                "103.38.40.0\t103.38.47.255\t2048\n");
-        ipString.append(
-                "103.38.56.0\t103.38.59.255\t1024\n");
-        ipString.append(
-                "103.38.76.0\t103.38.79.255\t1024\n");
-        ipString.append(
-                "103.38.84.0\t103.38.87.255\t1024\n");
-        ipString.append(
-                "103.38.92.0\t103.38.99.255\t2048\n");
-        ipString.append(
-                "103.38.116.0\t103.38.119.255\t1024\n");
-        ipString.append(
-                "103.38.132.0\t103.38.135.255\t1024\n");
-        ipString.append(
-                "103.38.140.0\t103.38.143.255\t1024\n");
-        ipString.append(
-                "103.38.224.0\t103.38.235.255\t3072\n");
-        ipString.append(
-                "103.39.64.0\t103.39.67.255\t1024\n");
-        ipString.append(
-                "103.39.88.0\t103.39.91.255\t1024\n");
-        ipString.append(
-                "103.39.100.0\t103.39.111.255\t3072\n");
-        ipString.append(
-                "103.39.160.0\t103.39.191.255\t8192\n");
-        ipString.append(
-                "103.39.200.0\t103.39.235.255\t9216\n");
-        ipString.append(
-                "103.40.12.0\t103.40.47.255\t9216\n");
-        ipString.append(
-                "103.40.88.0\t103.40.91.255\t1024\n");
-        ipString.append(
-                "103.40.100.0\t103.40.103.255\t1024\n");
-        ipString.append(
-                "103.40.192.0\t103.40.195.255\t1024\n");
-        ipString.append(
-                "103.40.212.0\t103.40.215.255\t1024\n");
-        ipString.append(
-                "103.40.220.0\t103.40.223.255\t1024\n");
-        ipString.append(
-                "103.40.228.0\t103.41.3.255\t8192\n");
-        ipString.append(
-                "103.41.16.0\t103.41.19.255\t1024\n");
-        ipString.append(
-                "103.41.52.0\t103.41.55.255\t1024\n");
-        ipString.append(
-                "103.41.116.0\t103.41.119.255\t1024\n");
-        ipString.append(
-                "103.41.140.0\t103.41.143.255\t1024\n");
-        ipString.append(
-                "103.41.148.0\t103.41.155.255\t2048\n");
-        ipString.append(
-                "103.41.160.0\t103.41.167.255\t2048\n");
-        ipString.append(
-                "103.41.220.0\t103.41.235.255\t4096\n");
-        ipString.append(
-                "103.42.8.0\t103.42.11.255\t1024\n");
-        ipString.append(
-                "103.42.24.0\t103.42.35.255\t3072\n");
-        ipString.append(
-                "103.42.64.0\t103.42.71.255\t2048\n");
-        ipString.append(
-                "103.42.76.0\t103.42.79.255\t1024\n");
-        ipString.append(
-                "103.42.104.0\t103.42.107.255\t1024\n");
-        ipString.append(
-                "103.42.180.0\t103.42.183.255\t1024\n");
-        ipString.append(
-                "103.42.232.0\t103.42.235.255\t1024\n");
-        ipString.append(
-                "103.43.16.0\t103.43.19.255\t1024\n");
-        ipString.append(
-                "103.43.84.0\t103.43.87.255\t1024\n");
-        ipString.append(
-                "103.43.96.0\t103.43.107.255\t3072\n");
-        ipString.append(
-                "103.43.124.0\t103.43.127.255\t1024\n");
-        ipString.append(
-                "103.43.184.0\t103.43.187.255\t1024\n");
-        ipString.append(
-                "103.43.192.0\t103.43.199.255\t2048\n");
-        ipString.append(
-                "103.43.208.0\t103.43.211.255\t1024\n");
-        ipString.append(
-                "103.43.220.0\t103.43.227.255\t2048\n");
-        ipString.append(
-                "103.43.240.0\t103.43.243.255\t1024\n");
-        ipString.append(
-                "103.44.56.0\t103.44.59.255\t1024\n");
-        ipString.append(
-                "103.44.80.0\t103.44.83.255\t1024\n");
-        ipString.append(
-                "103.44.88.0\t103.44.91.255\t1024\n");
-        ipString.append(
-                "103.44.120.0\t103.44.127.255\t2048\n");
-        ipString.append(
-                "103.44.132.0\t103.44.135.255\t1024\n");
-        ipString.append(
-                "103.44.144.0\t103.44.147.255\t1024\n");
-        ipString.append(
-                "103.44.168.0\t103.44.171.255\t1024\n");
-        ipString.append(
-                "103.44.176.0\t103.44.207.255\t8192\n");
-        ipString.append(
-                "103.44.224.0\t103.44.227.255\t1024\n");
-        ipString.append(
-                "103.44.236.0\t103.45.63.255\t21504\n");
-        ipString.append(
-                "103.45.72.0\t103.45.227.255\t39936\n");
-        ipString.append(
-                "103.45.248.0\t103.45.251.255\t1024\n");
-        ipString.append(
-                "103.46.0.0\t103.46.3.255\t1024\n");
-        ipString.append(
-                "103.46.12.0\t103.46.139.255\t32768\n");
-        ipString.append(
-                "103.46.152.0\t103.46.183.255\t8192\n");
-        ipString.append(
-                "103.46.244.0\t103.46.251.255\t2048\n");
-        ipString.append(
-                "103.47.4.0\t103.47.7.255\t1024\n");
-        ipString.append(
-                "103.47.20.0\t103.47.23.255\t1024\n");
-        ipString.append(
-                "103.47.36.0\t103.47.43.255\t2048\n");
-        ipString.append(
-                "103.47.48.0\t103.47.51.255\t1024\n");
-        ipString.append(
-                "103.47.80.0\t103.47.83.255\t1024\n");
-        ipString.append(
-                "103.47.96.0\t103.47.99.255\t1024\n");
-        ipString.append(
-                "103.47.108.0\t103.47.111.255\t1024\n");
-        ipString.append(
-                "103.47.116.0\t103.47.123.255\t2048\n");
-        ipString.append(
-                "103.47.136.0\t103.47.143.255\t2048\n");
-        ipString.append(
-                "103.47.212.0\t103.47.215.255\t1024\n");
-        ipString.append(
-                "103.48.52.0\t103.48.55.255\t1024\n");
-        ipString.append(
-                "103.48.92.0\t103.48.95.255\t1024\n");
-        ipString.append(
-                "103.48.144.0\t103.48.159.255\t4096\n");
-        ipString.append(
-                "103.48.202.0\t103.48.203.255\t512\n");
-        ipString.append(
-                "103.48.216.0\t103.48.247.255\t8192\n");
-        ipString.append(
-                "103.49.12.0\t103.49.15.255\t1024\n");
-        ipString.append(
-                "103.49.20.0\t103.49.23.255\t1024\n");
-        ipString.append(
-                "103.49.72.0\t103.49.79.255\t2048\n");
-        ipString.append(
-                "103.49.92.0\t103.49.99.255\t2048\n");
-        ipString.append(
-                "103.49.108.0\t103.49.111.255\t1024\n");
-        ipString.append(
-                "103.49.128.0\t103.49.131.255\t1024\n");
-        ipString.append(
-                "103.49.176.0\t103.49.183.255\t2048\n");
-        ipString.append(
-                "103.49.196.0\t103.49.199.255\t1024\n");
-        ipString.append(
-                "103.50.36.0\t103.50.39.255\t1024\n");
-        ipString.append(
-                "103.50.44.0\t103.50.75.255\t8192\n");
-        ipString.append(
-                "103.50.108.0\t103.50.127.255\t5120\n");
-        ipString.append(
-                "103.50.132.0\t103.50.143.255\t3072\n");
-        ipString.append(
-                "103.50.172.0\t103.50.203.255\t8192\n");
-        ipString.append(
-                "103.50.220.0\t103.50.251.255\t8192\n");
-        ipString.append(
-                "103.52.40.0\t103.52.43.255\t1024\n");
-        ipString.append(
-                "103.52.72.0\t103.52.87.255\t4096\n");
-        ipString.append(
-                "103.52.96.0\t103.52.107.255\t3072\n");
-        ipString.append(
-                "103.52.160.0\t103.52.167.255\t2048\n");
-        ipString.append(
-                "103.52.172.0\t103.52.179.255\t2048\n");
-        ipString.append(
-                "103.52.184.0\t103.52.187.255\t1024\n");
-        ipString.append(
-                "103.52.196.0\t103.52.199.255\t1024\n");
-        ipString.append(
-                "103.53.64.0\t103.53.71.255\t2048\n");
-        ipString.append(
-                "103.53.92.0\t103.53.95.255\t1024\n");
-        ipString.append(
-                "103.53.100.0\t103.53.103.255\t1024\n");
-        ipString.append(
-                "103.53.124.0\t103.53.147.255\t6144\n");
-        ipString.append(
-                "103.53.180.0\t103.53.183.255\t1024\n");
-        ipString.append(
-                "103.53.204.0\t103.53.219.255\t4096\n");
-        ipString.append(
-                "103.53.236.0\t103.53.239.255\t1024\n");
-        ipString.append(
-                "103.53.248.0\t103.53.251.255\t1024\n");
-        ipString.append(
-                "103.54.8.0\t103.54.11.255\t1024\n");
-        ipString.append(
-                "103.54.48.0\t103.54.51.255\t1024\n");
-        ipString.append(
-                "103.54.160.0\t103.54.167.255\t2048\n");
-        ipString.append(
-                "103.54.212.0\t103.54.215.255\t1024\n");
-        ipString.append(
-                "103.54.240.0\t103.54.243.255\t1024\n");
-        ipString.append(
-                "103.55.24.0\t103.55.27.255\t1024\n");
-        ipString.append(
-                "103.55.80.0\t103.55.83.255\t1024\n");
-        ipString.append(
-                "103.55.120.0\t103.55.123.255\t1024\n");
-        ipString.append(
-                "103.55.152.0\t103.55.155.255\t1024\n");
-        ipString.append(
-                "103.55.172.0\t103.55.175.255\t1024\n");
-        ipString.append(
-                "103.55.204.0\t103.55.211.255\t2048\n");
-        ipString.append(
-                "103.55.228.0\t103.55.231.255\t1024\n");
-        ipString.append(
-                "103.55.236.0\t103.55.239.255\t1024\n");
-        ipString.append(
-                "103.56.8.0\t103.56.11.255\t1024\n");
-        ipString.append(
-                "103.56.16.0\t103.56.23.255\t2048\n");
-        ipString.append(
-                "103.56.32.0\t103.56.35.255\t1024\n");
-        ipString.append(
-                "103.56.56.0\t103.56.63.255\t2048\n");
-        ipString.append(
-                "103.56.72.0\t103.56.79.255\t2048\n");
-        ipString.append(
-                "103.56.100.0\t103.56.107.255\t2048\n");
-        ipString.append(
-                "103.56.140.0\t103.56.143.255\t1024\n");
-        ipString.append(
-                "103.56.152.0\t103.56.155.255\t1024\n");
-        ipString.append(
-                "103.56.184.0\t103.56.187.255\t1024\n");
-        ipString.append(
-                "103.56.200.0\t103.56.203.255\t1024\n");
-        ipString.append(
-                "103.57.12.0\t103.57.15.255\t1024\n");
-        ipString.append(
-                "103.57.52.0\t103.57.59.255\t2048\n");
-        ipString.append(
-                "103.57.76.0\t103.57.79.255\t1024\n");
-        ipString.append(
-                "103.57.136.0\t103.57.139.255\t1024\n");
-        ipString.append(
-                "103.57.196.0\t103.57.199.255\t1024\n");
-        ipString.append(
-                "103.58.24.0\t103.58.27.255\t1024\n");
-        ipString.append(
-                "103.59.76.0\t103.59.79.255\t1024\n");
-        ipString.append(
-                "103.59.100.0\t103.59.103.255\t1024\n");
-        ipString.append(
-                "103.59.112.0\t103.59.131.255\t5120\n");
-        ipString.append(
-                "103.59.148.0\t103.59.151.255\t1024\n");
-        ipString.append(
-                "103.59.164.0\t103.59.167.255\t1024\n");
-        ipString.append(
-                "103.60.32.0\t103.60.35.255\t1024\n");
-        ipString.append(
-                "103.60.44.0\t103.60.47.255\t1024\n");
-        ipString.append(
-                "103.60.164.0\t103.60.167.255\t1024\n");
-        ipString.append(
-                "103.60.228.0\t103.60.231.255\t1024\n");
-        ipString.append(
-                "103.60.236.0\t103.60.239.255\t1024\n");
-        ipString.append(
-                "103.61.60.0\t103.61.63.255\t1024\n");
-        ipString.append(
-                "103.61.104.0\t103.61.107.255\t1024\n");
-        ipString.append(
-                "103.61.140.0\t103.61.143.255\t1024\n");
-        ipString.append(
-                "103.61.152.0\t103.61.163.255\t3072\n");
-        ipString.append(
-                "103.61.172.0\t103.61.179.255\t2048\n");
-        ipString.append(
-                "103.61.188.0\t103.61.191.255\t1024\n");
-        ipString.append(
-                "103.62.24.0\t103.62.27.255\t1024\n");
-        ipString.append(
-                "103.62.52.0\t103.62.55.255\t1024\n");
-        ipString.append(
-                "103.62.72.0\t103.62.91.255\t5120\n");
-        ipString.append(
-                "103.62.96.0\t103.62.135.255\t10240\n");
-        ipString.append(
-                "103.62.156.0\t103.62.195.255\t10240\n");
-        ipString.append(
-                "103.62.204.0\t103.62.227.255\t6144\n");
-        ipString.append(
-                "103.63.32.0\t103.63.91.255\t15360\n");
-        ipString.append(
-                "103.63.140.0\t103.63.147.255\t2048\n");
-        ipString.append(
-                "103.63.152.0\t103.63.155.255\t1024\n");
-        ipString.append(
-                "103.63.160.0\t103.63.187.255\t7168\n");
-        ipString.append(
-                "103.63.192.0\t103.63.211.255\t5120\n");
-        ipString.append(
-                "103.63.240.0\t103.64.7.255\t6144\n");
-        ipString.append(
-                "103.64.24.0\t103.64.127.255\t26624\n");
-        ipString.append(
-                "103.64.140.0\t103.64.147.255\t2048\n");
-        ipString.append(
-                "103.64.152.0\t103.65.19.255\t31744\n");
-        ipString.append(
-                "103.65.36.0\t103.65.43.255\t2048\n");
-        ipString.append(
-                "103.65.48.0\t103.65.95.255\t12288\n");
-        ipString.append(
-                "103.65.100.0\t103.65.115.255\t4096\n");
-        ipString.append(
-                "103.65.144.0\t103.65.175.255\t8192\n");
-        ipString.append(
-                "103.66.32.0\t103.66.35.255\t1024\n");
-        ipString.append(
-                "103.66.40.0\t103.66.43.255\t1024\n");
-        ipString.append(
-                "103.66.92.0\t103.66.95.255\t1024\n");
-        ipString.append(
-                "103.66.108.0\t103.66.111.255\t1024\n");
-        ipString.append(
-                "103.66.200.0\t103.66.203.255\t1024\n");
-        ipString.append(
-                "103.66.216.0\t103.66.219.255\t1024\n");
-        ipString.append(
-                "103.66.240.0\t103.67.11.255\t7168\n");
-        ipString.append(
-                "103.67.100.0\t103.67.151.255\t13312\n");
-        ipString.append(
-                "103.67.172.0\t103.67.175.255\t1024\n");
-        ipString.append(
-                "103.67.192.0\t103.67.195.255\t1024\n");
-        ipString.append(
-                "103.67.212.0\t103.67.215.255\t1024\n");
-        ipString.append(
-                "103.67.252.0\t103.67.255.255\t1024\n");
-        ipString.append(
-                "103.68.64.0\t103.68.67.255\t1024\n");
-        ipString.append(
-                "103.68.88.0\t103.68.91.255\t1024\n");
-        ipString.append(
-                "103.68.100.0\t103.68.103.255\t1024\n");
-        ipString.append(
-                "103.68.128.0\t103.68.131.255\t1024\n");
-        ipString.append(
-                "103.68.192.0\t103.68.195.255\t1024\n");
-        ipString.append(
-                "103.69.16.0\t103.69.19.255\t1024\n");
-        ipString.append(
-                "103.69.116.0\t103.69.119.255\t1024\n");
-        ipString.append(
-                "103.69.132.0\t103.69.135.255\t1024\n");
-        ipString.append(
-                "103.69.152.0\t103.69.155.255\t1024\n");
-        ipString.append(
-                "103.69.212.0\t103.69.215.255\t1024\n");
-        ipString.append(
-                "103.70.8.0\t103.70.11.255\t1024\n");
-        ipString.append(
-                "103.70.148.0\t103.70.151.255\t1024\n");
-        ipString.append(
-                "103.70.184.0\t103.70.187.255\t1024\n");
-        ipString.append(
-                "103.70.220.0\t103.70.227.255\t2048\n");
-        ipString.append(
-                "103.70.236.0\t103.70.239.255\t1024\n");
-        ipString.append(
-                "103.70.252.0\t103.71.3.255\t2048\n");
-        ipString.append(
-                "103.71.32.0\t103.71.35.255\t1024\n");
-        ipString.append(
-                "103.71.48.0\t103.71.51.255\t1024\n");
-        ipString.append(
-                "103.71.68.0\t103.71.75.255\t2048\n");
-        ipString.append(
-                "103.71.80.0\t103.71.91.255\t3072\n");
-        ipString.append(
-                "103.71.120.0\t103.71.131.255\t3072\n");
-        ipString.append(
-                "103.71.144.0\t103.71.147.255\t1024\n");
-        ipString.append(
-                "103.71.196.0\t103.71.203.255\t2048\n");
-        ipString.append(
-                "103.71.232.0\t103.71.235.255\t1024\n");
-        ipString.append(
-                "103.72.12.0\t103.72.55.255\t11264\n");
-        ipString.append(
-                "103.72.112.0\t103.72.135.255\t6144\n");
-        ipString.append(
-                "103.72.148.0\t103.72.151.255\t1024\n");
-        ipString.append(
-                "103.72.172.0\t103.72.175.255\t1024\n");
-        ipString.append(
-                "103.72.180.0\t103.72.183.255\t1024\n");
-        ipString.append(
-                "103.72.224.0\t103.73.31.255\t16384\n");
-        ipString.append(
-                "103.73.48.0\t103.73.51.255\t1024\n");
-        ipString.append(
-                "103.73.88.0\t103.73.91.255\t1024\n");
-        ipString.append(
-                "103.73.96.0\t103.73.99.255\t1024\n");
-        ipString.append(
-                "103.73.116.0\t103.73.123.255\t2048\n");
-        ipString.append(
-                "103.73.128.0\t103.73.147.255\t5120\n");
-        ipString.append(
-                "103.73.168.0\t103.73.171.255\t1024\n");
-        ipString.append(
-                "103.73.176.0\t103.73.179.255\t1024\n");
-        ipString.append(
-                "103.73.204.0\t103.73.211.255\t2048\n");
-        ipString.append(
-                "103.73.240.0\t103.73.251.255\t3072\n");
-        ipString.append(
-                "103.74.24.0\t103.74.51.255\t7168\n");
-        ipString.append(
-                "103.74.56.0\t103.74.63.255\t2048\n");
-        ipString.append(
-                "103.74.80.0\t103.74.83.255\t1024\n");
-        ipString.append(
-                "103.74.124.0\t103.74.127.255\t1024\n");
-        ipString.append(
-                "103.74.148.0\t103.74.159.255\t3072\n");
-        ipString.append(
-                "103.74.204.0\t103.74.207.255\t1024\n");
-        ipString.append(
-                "103.74.232.0\t103.74.235.255\t1024\n");
-        ipString.append(
-                "103.75.16.0\t103.75.19.255\t1024\n");
-        ipString.append(
-                "103.75.88.0\t103.75.95.255\t2048\n");
-        ipString.append(
-                "103.75.104.0\t103.75.115.255\t3072\n");
-        ipString.append(
-                "103.75.120.0\t103.75.123.255\t1024\n");
-        ipString.append(
-                "103.75.128.0\t103.75.131.255\t1024\n");
-        ipString.append(
-                "103.75.144.0\t103.75.147.255\t1024\n");
-        ipString.append(
-                "103.75.152.0\t103.75.155.255\t1024\n");
-        ipString.append(
-                "103.75.236.0\t103.75.236.255\t256\n");
-        ipString.append(
-                "103.76.60.0\t103.76.75.255\t4096\n");
-        ipString.append(
-                "103.76.84.0\t103.76.87.255\t1024\n");
-        ipString.append(
-                "103.76.92.0\t103.76.95.255\t1024\n");
-        ipString.append(
-                "103.76.216.0\t103.76.227.255\t3072\n");
-        ipString.append(
-                "103.77.28.0\t103.77.31.255\t1024\n");
-        ipString.append(
-                "103.77.52.0\t103.77.59.255\t2048\n");
-        ipString.append(
-                "103.77.72.0\t103.77.75.255\t1024\n");
-        ipString.append(
-                "103.77.88.0\t103.77.95.255\t2048\n");
-        ipString.append(
-                "103.77.132.0\t103.77.135.255\t1024\n");
-        ipString.append(
-                "103.77.148.0\t103.77.151.255\t1024\n");
-        ipString.append(
-                "103.77.220.0\t103.77.223.255\t1024\n");
-        ipString.append(
-                "103.78.56.0\t103.78.71.255\t4096\n");
-        ipString.append(
-                "103.78.124.0\t103.78.127.255\t1024\n");
-        ipString.append(
-                "103.78.172.0\t103.78.179.255\t2048\n");
-        ipString.append(
-                "103.78.196.0\t103.78.199.255\t1024\n");
-        ipString.append(
-                "103.78.228.0\t103.78.231.255\t1024\n");
-        ipString.append(
-                "103.79.24.0\t103.79.31.255\t2048\n");
-        ipString.append(
-                "103.79.36.0\t103.79.47.255\t3072\n");
-        ipString.append(
-                "103.79.52.0\t103.79.71.255\t5120\n");
-        ipString.append(
-                "103.79.80.0\t103.79.87.255\t2048\n");
-        ipString.append(
-                "103.79.120.0\t103.79.123.255\t1024\n");
-        ipString.append(
-                "103.79.136.0\t103.79.139.255\t1024\n");
-        ipString.append(
-                "103.79.188.0\t103.79.215.255\t7168\n");
-        ipString.append(
-                "103.79.240.0\t103.79.243.255\t1024\n");
-        ipString.append(
-                "103.80.24.0\t103.80.31.255\t2048\n");
-        ipString.append(
-                "103.80.44.0\t103.80.47.255\t1024\n");
-        ipString.append(
-                "103.80.72.0\t103.80.75.255\t1024\n");
-        ipString.append(
-                "103.80.176.0\t103.80.187.255\t3072\n");
-        ipString.append(
-                "103.80.192.0\t103.80.195.255\t1024\n");
-        ipString.append(
-                "103.80.200.0\t103.80.203.255\t1024\n");
-        ipString.append(
-                "103.80.232.0\t103.80.235.255\t1024\n");
-        ipString.append(
-                "103.81.4.0\t103.81.11.255\t2048\n");
-        ipString.append(
-                "103.81.16.0\t103.81.23.255\t2048\n");
-        ipString.append(
-                "103.81.44.0\t103.81.51.255\t2048\n");
-        ipString.append(
-                "103.81.96.0\t103.81.99.255\t1024\n");
-        ipString.append(
-                "103.81.120.0\t103.81.123.255\t1024\n");
-        ipString.append(
-                "103.81.148.0\t103.81.151.255\t1024\n");
-        ipString.append(
-                "103.81.164.0\t103.81.171.255\t2048\n");
-        ipString.append(
-                "103.81.183.0\t103.81.187.255\t1280\n");
-        ipString.append(
-                "103.81.200.0\t103.81.203.255\t1024\n");
-        ipString.append(
-                "103.81.232.0\t103.81.235.255\t1024\n");
-        ipString.append(
-                "103.82.52.0\t103.82.55.255\t1024\n");
-        ipString.append(
-                "103.82.60.0\t103.82.63.255\t1024\n");
-        ipString.append(
-                "103.82.68.0\t103.82.71.255\t1024\n");
-        ipString.append(
-                "103.82.84.0\t103.82.87.255\t1024\n");
-        ipString.append(
-                "103.82.104.0\t103.82.107.255\t1024\n");
-        ipString.append(
-                "103.82.224.0\t103.82.227.255\t1024\n");
-        ipString.append(
-                "103.82.236.0\t103.82.239.255\t1024\n");
-        ipString.append(
-                "103.83.44.0\t103.83.47.255\t1024\n");
-        ipString.append(
-                "103.83.52.0\t103.83.55.255\t1024\n");
-        ipString.append(
-                "103.83.60.0\t103.83.67.255\t2048\n");
-        ipString.append(
-                "103.83.72.0\t103.83.75.255\t1024\n");
-        ipString.append(
-                "103.83.112.0\t103.83.115.255\t1024\n");
-        ipString.append(
-                "103.83.120.0\t103.83.123.255\t1024\n");
-        ipString.append(
-                "103.83.180.0\t103.83.183.255\t1024\n");
-        ipString.append(
-                "103.84.0.0\t103.84.3.255\t1024\n");
-        ipString.append(
-                "103.84.12.0\t103.84.31.255\t5120\n");
-        ipString.append(
-                "103.84.48.0\t103.84.51.255\t1024\n");
-        ipString.append(
-                "103.84.64.0\t103.84.67.255\t1024\n");
-        ipString.append(
-                "103.84.72.0\t103.84.75.255\t1024\n");
-        ipString.append(
-                "103.84.92.0\t103.84.95.255\t1024\n");
-        ipString.append(
-                "103.84.108.0\t103.84.111.255\t1024\n");
-        ipString.append(
-                "103.84.136.0\t103.84.139.255\t1024\n");
-        ipString.append(
-                "103.85.20.0\t103.85.27.255\t2048\n");
-        ipString.append(
-                "103.85.44.0\t103.85.51.255\t2048\n");
-        ipString.append(
-                "103.85.84.0\t103.85.87.255\t1024\n");
-        ipString.append(
-                "103.85.136.0\t103.85.139.255\t1024\n");
-        ipString.append(
-                "103.85.144.0\t103.85.147.255\t1024\n");
-        ipString.append(
-                "103.85.164.0\t103.85.179.255\t4096\n");
-        ipString.append(
-                "103.85.224.0\t103.85.227.255\t1024\n");
-        ipString.append(
-                "103.86.28.0\t103.86.35.255\t2048\n");
-        ipString.append(
-                "103.86.44.0\t103.86.47.255\t1024\n");
-        ipString.append(
-                "103.86.60.0\t103.86.63.255\t1024\n");
-        ipString.append(
-                "103.86.80.0\t103.86.87.255\t2048\n");
-        ipString.append(
-                "103.86.204.0\t103.87.7.255\t15360\n");
-        ipString.append(
-                "103.87.20.0\t103.87.23.255\t1024\n");
-        ipString.append(
-                "103.87.32.0\t103.87.35.255\t1024\n");
-        ipString.append(
-                "103.87.72.0\t103.87.75.255\t1024\n");
-        ipString.append(
-                "103.87.96.0\t103.87.99.255\t1024\n");
-        ipString.append(
-                "103.87.132.0\t103.87.135.255\t1024\n");
-        ipString.append(
-                "103.87.180.0\t103.87.183.255\t1024\n");
-        ipString.append(
-                "103.87.224.0\t103.87.227.255\t1024\n");
-        ipString.append(
-                "103.88.4.0\t103.88.23.255\t5120\n");
-        ipString.append(
-                "103.88.32.0\t103.88.39.255\t2048\n");
-        ipString.append(
-                "103.88.60.0\t103.88.67.255\t2048\n");
-        ipString.append(
-                "103.88.72.0\t103.88.75.255\t1024\n");
-        ipString.append(
-                "103.88.96.0\t103.88.99.255\t1024\n");
-        ipString.append(
-                "103.88.164.0\t103.88.167.255\t1024\n");
-        ipString.append(
-                "103.88.176.0\t103.88.179.255\t1024\n");
-        ipString.append(
-                "103.88.184.0\t103.88.191.255\t2048\n");
-        ipString.append(
-                "103.88.212.0\t103.88.215.255\t1024\n");
-        ipString.append(
-                "103.89.28.0\t103.89.31.255\t1024\n");
-        ipString.append(
-                "103.89.96.0\t103.89.119.255\t6144\n");
-        ipString.append(
-                "103.89.148.0\t103.89.151.255\t1024\n");
-        ipString.append(
-                "103.89.172.0\t103.89.175.255\t1024\n");
-        ipString.append(
-                "103.89.184.0\t103.89.231.255\t12288\n");
-        ipString.append(
-                "103.90.52.0\t103.90.55.255\t1024\n");
-        ipString.append(
-                "103.90.92.0\t103.90.95.255\t1024\n");
-        ipString.append(
-                "103.90.100.0\t103.90.135.255\t9216\n");
-        ipString.append(
-                "103.90.152.0\t103.90.155.255\t1024\n");
-        ipString.append(
-                "103.90.168.0\t103.90.171.255\t1024\n");
-        ipString.append(
-                "103.90.173.0\t103.90.173.255\t256\n");
-        ipString.append(
-                "103.90.176.0\t103.90.179.255\t1024\n");
-        ipString.append(
-                "103.90.188.0\t103.90.195.255\t2048\n");
-        ipString.append(
-                "103.91.36.0\t103.91.43.255\t2048\n");
-        ipString.append(
-                "103.91.108.0\t103.91.111.255\t1024\n");
-        ipString.append(
-                "103.91.152.0\t103.91.155.255\t1024\n");
-        ipString.append(
-                "103.91.176.0\t103.91.179.255\t1024\n");
-        ipString.append(
-                "103.91.200.0\t103.91.203.255\t1024\n");
-        ipString.append(
-                "103.91.208.0\t103.91.215.255\t2048\n");
-        ipString.append(
-                "103.91.219.0\t103.91.219.255\t256\n");
-        ipString.append(
-                "103.91.236.0\t103.91.239.255\t1024\n");
-        ipString.append(
-                "103.91.252.0\t103.92.15.255\t5120\n");
-        ipString.append(
-                "103.92.48.0\t103.92.83.255\t9216\n");
-        ipString.append(
-                "103.92.86.0\t103.92.86.255\t256\n");
-        ipString.append(
-                "103.92.88.0\t103.92.91.255\t1024\n");
-        ipString.append(
-                "103.92.108.0\t103.92.111.255\t1024\n");
-        ipString.append(
-                "103.92.124.0\t103.92.128.255\t1280\n");
-        ipString.append(
-                "103.92.132.0\t103.92.135.255\t1024\n");
-        ipString.append(
-                "103.92.156.0\t103.92.159.255\t1024\n");
-        ipString.append(
-                "103.92.164.0\t103.92.195.255\t8192\n");
-        ipString.append(
-                "103.92.236.0\t103.93.7.255\t7168\n");
-        ipString.append(
-                "103.93.28.0\t103.93.31.255\t1024\n");
-        ipString.append(
-                "103.93.76.0\t103.93.79.255\t1024\n");
-        ipString.append(
-                "103.93.84.0\t103.93.87.255\t1024\n");
-        ipString.append(
-                "103.93.152.0\t103.93.155.255\t1024\n");
-        ipString.append(
-                "103.93.180.0\t103.93.183.255\t1024\n");
-        ipString.append(
-                "103.93.204.0\t103.93.207.255\t1024\n");
-        ipString.append(
-                "103.94.12.0\t103.94.15.255\t1024\n");
-        ipString.append(
-                "103.94.20.0\t103.94.23.255\t1024\n");
-        ipString.append(
-                "103.94.28.0\t103.94.47.255\t5120\n");
-        ipString.append(
-                "103.94.72.0\t103.94.75.255\t1024\n");
-        ipString.append(
-                "103.94.88.0\t103.94.91.255\t1024\n");
-        ipString.append(
-                "103.94.116.0\t103.94.119.255\t1024\n");
-        ipString.append(
-                "103.94.160.0\t103.94.163.255\t1024\n");
-        ipString.append(
-                "103.94.180.0\t103.94.183.255\t1024\n");
-        ipString.append(
-                "103.94.200.0\t103.94.203.255\t1024\n");
-        ipString.append(
-                "103.95.28.0\t103.95.31.255\t1024\n");
-        ipString.append(
-                "103.95.52.0\t103.95.55.255\t1024\n");
-        ipString.append(
-                "103.95.64.0\t103.95.71.255\t2048\n");
-        ipString.append(
-                "103.95.88.0\t103.95.95.255\t2048\n");
-        ipString.append(
-                "103.95.116.0\t103.95.119.255\t1024\n");
-        ipString.append(
-                "103.95.128.0\t103.95.131.255\t1024\n");
-        ipString.append(
-                "103.95.136.0\t103.95.147.255\t3072\n");
-        ipString.append(
-                "103.95.152.0\t103.95.155.255\t1024\n");
-        ipString.append(
-                "103.95.207.0\t103.95.207.255\t256\n");
-        ipString.append(
-                "103.95.216.0\t103.95.227.255\t3072\n");
-        ipString.append(
-                "103.95.236.0\t103.96.3.255\t6144\n");
-        ipString.append(
-                "103.96.8.0\t103.96.11.255\t1024\n");
-        ipString.append(
-                "103.96.80.0\t103.96.83.255\t1024\n");
-        ipString.append(
-                "103.96.124.0\t103.96.127.255\t1024\n");
-        ipString.append(
-                "103.96.136.0\t103.96.140.255\t1280\n");
-        ipString.append(
-                "103.96.148.0\t103.96.219.255\t18432\n");
-        ipString.append(
-                "103.97.8.0\t103.97.43.255\t9216\n");
-        ipString.append(
-                "103.97.56.0\t103.97.75.255\t5120\n");
-        ipString.append(
-                "103.97.80.0\t103.97.83.255\t1024\n");
-        ipString.append(
-                "103.97.112.0\t103.97.119.255\t2048\n");
-        ipString.append(
-                "103.97.128.0\t103.97.131.255\t1024\n");
-        ipString.append(
-                "103.97.144.0\t103.97.151.255\t2048\n");
-        ipString.append(
-                "103.97.188.0\t103.97.195.255\t2048\n");
-        ipString.append(
-                "103.97.224.0\t103.97.229.255\t1536\n");
-        ipString.append(
-                "103.98.28.0\t103.98.29.255\t512\n");
-        ipString.append(
-                "103.98.40.0\t103.98.51.255\t3072\n");
-        ipString.append(
-                "103.98.56.0\t103.98.59.255\t1024\n");
-        ipString.append(
-                "103.98.80.0\t103.98.83.255\t1024\n");
-        ipString.append(
-                "103.98.88.0\t103.98.103.255\t4096\n");
-        ipString.append(
-                "103.98.124.0\t103.98.127.255\t1024\n");
-        ipString.append(
-                "103.98.136.0\t103.98.147.255\t3072\n");
-        ipString.append(
-                "103.98.164.0\t103.98.171.255\t2048\n");
-        ipString.append(
-                "103.98.180.0\t103.98.183.255\t1024\n");
-        ipString.append(
-                "103.98.196.0\t103.98.199.255\t1024\n");
-        ipString.append(
-                "103.98.216.0\t103.98.235.255\t5120\n");
-        ipString.append(
-                "103.98.240.0\t103.98.255.255\t4096\n");
-        ipString.append(
-                "103.99.40.0\t103.99.41.255\t512\n");
-        ipString.append(
-                "103.99.52.0\t103.99.63.255\t3072\n");
-        ipString.append(
-                "103.99.76.0\t103.99.79.255\t1024\n");
-        ipString.append(
-                "103.99.104.0\t103.99.107.255\t1024\n");
-        ipString.append(
-                "103.99.116.0\t103.99.123.255\t2048\n");
-        ipString.append(
-                "103.99.152.0\t103.99.155.255\t1024\n");
-        ipString.append(
-                "103.99.220.0\t103.99.223.255\t1024\n");
-        ipString.append(
-                "103.99.232.0\t103.99.239.255\t2048\n");
-        ipString.append(
-                "103.100.0.0\t103.100.3.255\t1024\n");
-        ipString.append(
-                "103.100.32.0\t103.100.35.255\t1024\n");
-        ipString.append(
-                "103.100.40.0\t103.100.43.255\t1024\n");
-        ipString.append(
-                "103.100.48.0\t103.100.71.255\t6144\n");
-        ipString.append(
-                "103.100.88.0\t103.100.91.255\t1024\n");
-        ipString.append(
-                "103.100.116.0\t103.100.119.255\t1024\n");
-        ipString.append(
-                "103.100.140.0\t103.100.147.255\t2048\n");
-        ipString.append(
-                "103.100.236.0\t103.100.243.255\t2048\n");
-        ipString.append(
-                "103.100.248.0\t103.100.255.255\t2048\n");
-        ipString.append(
-                "103.101.4.0\t103.101.15.255\t3072\n");
-        ipString.append(
-                "103.101.28.0\t103.101.31.255\t1024\n");
-        ipString.append(
-                "103.101.60.0\t103.101.63.255\t1024\n");
-        ipString.append(
-                "103.101.120.0\t103.101.127.255\t2048\n");
-        ipString.append(
-                "103.101.144.0\t103.101.151.255\t2048\n");
-        ipString.append(
-                "103.101.153.0\t103.101.153.255\t256\n");
-        ipString.append(
-                "103.101.180.0\t103.101.187.255\t2048\n");
-        ipString.append(
-                "103.102.76.0\t103.102.83.255\t2048\n");
-        ipString.append(
-                "103.102.168.0\t103.102.175.255\t2048\n");
-        ipString.append(
-                "103.102.180.0\t103.102.203.255\t6144\n");
-        ipString.append(
-                "103.102.208.0\t103.102.215.255\t2048\n");
-        ipString.append(
-                "103.103.12.0\t103.103.19.255\t2048\n");
-        ipString.append(
-                "103.103.36.0\t103.103.39.255\t1024\n");
-        ipString.append(
-                "103.103.68.0\t103.103.75.255\t2048\n");
-        ipString.append(
-                "103.103.176.0\t103.103.179.255\t1024\n");
-        ipString.append(
-                "103.103.188.0\t103.103.191.255\t1024\n");
-        ipString.append(
-                "103.103.200.0\t103.103.207.255\t2048\n");
-        ipString.append(
-                "103.103.220.0\t103.103.235.255\t4096\n");
-        ipString.append(
-                "103.103.248.0\t103.104.7.255\t4096\n");
-        ipString.append(
-                "103.104.36.0\t103.104.43.255\t2048\n");
-        ipString.append(
-                "103.104.64.0\t103.104.67.255\t1024\n");
-        ipString.append(
-                "103.104.104.0\t103.104.107.255\t1024\n");
-        ipString.append(
-                "103.104.152.0\t103.104.155.255\t1024\n");
-        ipString.append(
-                "103.104.168.0\t103.104.175.255\t2048\n");
-        ipString.append(
-                "103.104.188.0\t103.104.191.255\t1024\n");
-        ipString.append(
-                "103.104.198.0\t103.104.199.255\t512\n");
-        ipString.append(
-                "103.104.252.0\t103.105.7.255\t3072\n");
-        ipString.append(
-                "103.105.12.0\t103.105.19.255\t2048\n");
-        ipString.append(
-                "103.105.23.0\t103.105.23.255\t256\n");
-        ipString.append(
-                "103.105.56.0\t103.105.63.255\t2048\n");
-        ipString.append(
-                "103.105.116.0\t103.105.119.255\t1024\n");
-        ipString.append(
-                "103.105.132.0\t103.105.135.255\t1024\n");
-        ipString.append(
-                "103.105.180.0\t103.105.187.255\t2048\n");
-        ipString.append(
-                "103.105.200.0\t103.105.207.255\t2048\n");
-        ipString.append(
-                "103.105.220.0\t103.105.223.255\t1024\n");
-        ipString.append(
-                "103.106.36.0\t103.106.47.255\t3072\n");
-        ipString.append(
-                "103.106.60.0\t103.106.63.255\t1024\n");
-        ipString.append(
-                "103.106.68.0\t103.106.71.255\t1024\n");
-        ipString.append(
-                "103.106.96.0\t103.106.99.255\t1024\n");
-        ipString.append(
-                "103.106.120.0\t103.106.123.255\t1024\n");
-        ipString.append(
-                "103.106.128.0\t103.106.135.255\t2048\n");
-        ipString.append(
-                "103.106.160.0\t103.106.163.255\t1024\n");
-        ipString.append(
-                "103.106.188.0\t103.106.191.255\t1024\n");
-        ipString.append(
-                "103.106.196.0\t103.106.199.255\t1024\n");
-        ipString.append(
-                "103.106.202.0\t103.106.203.255\t512\n");
-        ipString.append(
-                "103.106.212.0\t103.106.215.255\t1024\n");
-        ipString.append(
-                "103.106.244.0\t103.106.247.255\t1024\n");
-        ipString.append(
-                "103.106.252.0\t103.107.3.255\t2048\n");
-        ipString.append(
-                "103.107.8.0\t103.107.8.255\t256\n");
-        ipString.append(
-                "103.107.28.0\t103.107.35.255\t2048\n");
-        ipString.append(
-                "103.107.44.0\t103.107.47.255\t1024\n");
-        ipString.append(
-                "103.107.72.0\t103.107.75.255\t1024\n");
-        ipString.append(
-                "103.107.108.0\t103.107.111.255\t1024\n");
-        ipString.append(
-                "103.107.164.0\t103.107.171.255\t2048\n");
-        ipString.append(
-                "103.107.188.0\t103.107.195.255\t2048\n");
-        ipString.append(
-                "103.107.208.0\t103.107.223.255\t4096\n");
-        ipString.append(
-                "103.108.52.0\t103.108.55.255\t1024\n");
-        ipString.append(
-                "103.108.160.0\t103.108.167.255\t2048\n");
-        ipString.append(
-                "103.108.184.0\t103.108.185.255\t512\n");
-        ipString.append(
-                "103.108.188.0\t103.108.189.255\t512\n");
-        ipString.append(
-                "103.108.192.0\t103.108.199.255\t2048\n");
-        ipString.append(
-                "103.108.208.0\t103.108.215.255\t2048\n");
-        ipString.append(
-                "103.108.224.0\t103.108.227.255\t1024\n");
-        ipString.append(
-                "103.108.244.0\t103.108.247.255\t1024\n");
-        ipString.append(
-                "103.108.251.0\t103.108.251.255\t256\n");
-        ipString.append(
-                "103.109.20.0\t103.109.23.255\t1024\n");
-        ipString.append(
-                "103.109.48.0\t103.109.51.255\t1024\n");
-        ipString.append(
-                "103.109.88.0\t103.109.91.255\t1024\n");
-        ipString.append(
-                "103.109.106.0\t103.109.107.255\t512\n");
-        ipString.append(
-                "103.109.248.0\t103.109.251.255\t1024\n");
-        ipString.append(
-                "103.110.80.0\t103.110.81.255\t512\n");
-        ipString.append(
-                "103.110.92.0\t103.110.95.255\t1024\n");
-        ipString.append(
-                "103.110.116.0\t103.110.119.255\t1024\n");
-        ipString.append(
-                "103.110.127.0\t103.110.129.255\t768\n");
-        ipString.append(
-                "103.110.132.0\t103.110.139.255\t2048\n");
-        ipString.append(
-                "103.110.152.0\t103.110.159.255\t2048\n");
-        ipString.append(
-                "103.110.188.0\t103.110.191.255\t1024\n");
-        ipString.append(
-                "103.110.204.0\t103.110.207.255\t1024\n");
-        ipString.append(
-                "103.111.64.0\t103.111.67.255\t1024\n");
-        ipString.append(
-                "103.111.172.0\t103.111.175.255\t1024\n");
-        ipString.append(
-                "103.111.252.0\t103.111.255.255\t1024\n");
-        ipString.append(
-                "103.112.28.0\t103.112.31.255\t1024\n");
-        ipString.append(
-                "103.112.68.0\t103.112.75.255\t2048\n");
-        ipString.append(
-                "103.112.88.0\t103.112.99.255\t3072\n");
-        ipString.append(
-                "103.112.108.0\t103.112.119.255\t3072\n");
-        ipString.append(
-                "103.112.140.0\t103.112.143.255\t1024\n");
-        ipString.append(
-                "103.112.172.0\t103.112.175.255\t1024\n");
-        ipString.append(
-                "103.112.184.0\t103.112.187.255\t1024\n");
-        ipString.append(
-                "103.112.208.0\t103.112.211.255\t1024\n");
-        ipString.append(
-                "103.113.4.0\t103.113.7.255\t1024\n");
-        ipString.append(
-                "103.113.92.0\t103.113.95.255\t1024\n");
-        ipString.append(
-                "103.113.144.0\t103.113.147.255\t1024\n");
-        ipString.append(
-                "103.113.220.0\t103.113.223.255\t1024\n");
-        ipString.append(
-                "103.113.232.0\t103.113.239.255\t2048\n");
-        ipString.append(
-                "103.114.4.0\t103.114.7.255\t1024\n");
-        ipString.append(
-                "103.114.28.0\t103.114.31.255\t1024\n");
-        ipString.append(
-                "103.114.68.0\t103.114.75.255\t2048\n");
-        ipString.append(
-                "103.114.100.0\t103.114.103.255\t1024\n");
-        ipString.append(
-                "103.114.132.0\t103.114.135.255\t1024\n");
-        ipString.append(
-                "103.114.148.0\t103.114.151.255\t1024\n");
-        ipString.append(
-                "103.114.156.0\t103.114.159.255\t1024\n");
-        ipString.append(
-                "103.114.176.0\t103.114.179.255\t1024\n");
-        ipString.append(
-                "103.114.212.0\t103.114.215.255\t1024\n");
-        ipString.append(
-                "103.114.236.0\t103.114.243.255\t2048\n");
-        ipString.append(
-                "103.115.16.0\t103.115.19.255\t1024\n");
-        ipString.append(
-                "103.115.40.0\t103.115.71.255\t8192\n");
-        ipString.append(
-                "103.115.92.0\t103.115.95.255\t1024\n");
-        ipString.append(
-                "103.115.120.0\t103.115.123.255\t1024\n");
-        ipString.append(
-                "103.115.148.0\t103.115.151.255\t1024\n");
-        ipString.append(
-                "103.115.204.0\t103.115.205.255\t512\n");
-        ipString.append(
-                "103.115.248.0\t103.115.251.255\t1024\n");
-        ipString.append(
-                "103.116.20.0\t103.116.23.255\t1024\n");
-        ipString.append(
-                "103.116.40.0\t103.116.43.255\t1024\n");
-        ipString.append(
-                "103.116.64.0\t103.116.67.255\t1024\n");
-        ipString.append(
-                "103.116.72.0\t103.116.79.255\t2048\n");
-        ipString.append(
-                "103.116.92.0\t103.116.95.255\t1024\n");
-        ipString.append(
-                "103.116.120.0\t103.116.123.255\t1024\n");
-        ipString.append(
-                "103.116.128.0\t103.116.133.255\t1536\n");
-        ipString.append(
-                "103.116.148.0\t103.116.151.255\t1024\n");
-        ipString.append(
-                "103.116.184.0\t103.116.187.255\t1024\n");
-        ipString.append(
-                "103.116.206.0\t103.116.207.255\t512\n");
-        ipString.append(
-                "103.116.220.0\t103.116.231.255\t3072\n");
-        ipString.append(
-                "103.117.16.0\t103.117.19.255\t1024\n");
-        ipString.append(
-                "103.117.72.0\t103.117.75.255\t1024\n");
-        ipString.append(
-                "103.117.88.0\t103.117.91.255\t1024\n");
-        ipString.append(
-                "103.117.132.0\t103.117.139.255\t2048\n");
-        ipString.append(
-                "103.117.188.0\t103.117.191.255\t1024\n");
-        ipString.append(
-                "103.117.220.0\t103.117.223.255\t1024\n");
-        ipString.append(
-                "103.118.36.0\t103.118.39.255\t1024\n");
-        ipString.append(
-                "103.118.52.0\t103.118.75.255\t6144\n");
-        ipString.append(
-                "103.118.88.0\t103.118.91.255\t1024\n");
-        ipString.append(
-                "103.118.173.0\t103.118.173.255\t256\n");
-        ipString.append(
-                "103.118.192.0\t103.118.223.255\t8192\n");
-        ipString.append(
-                "103.118.240.0\t103.119.3.255\t5120\n");
-        ipString.append(
-                "103.119.12.0\t103.119.19.255\t2048\n");
-        ipString.append(
-                "103.119.28.0\t103.119.31.255\t1024\n");
-        ipString.append(
-                "103.119.44.0\t103.119.47.255\t1024\n");
-        ipString.append(
-                "103.119.104.0\t103.119.107.255\t1024\n");
-        ipString.append(
-                "103.119.115.0\t103.119.115.255\t256\n");
-        ipString.append(
-                "103.119.156.0\t103.119.159.255\t1024\n");
-        ipString.append(
-                "103.119.180.0\t103.119.183.255\t1024\n");
-        ipString.append(
-                "103.119.200.0\t103.119.203.255\t1024\n");
-        ipString.append(
-                "103.119.224.0\t103.119.227.255\t1024\n");
-        ipString.append(
-                "103.120.52.0\t103.120.55.255\t1024\n");
-        ipString.append(
-                "103.120.72.0\t103.120.75.255\t1024\n");
-        ipString.append(
-                "103.120.88.0\t103.120.91.255\t1024\n");
-        ipString.append(
-                "103.120.96.0\t103.120.103.255\t2048\n");
-        ipString.append(
-                "103.120.140.0\t103.120.143.255\t1024\n");
-        ipString.append(
-                "103.120.196.0\t103.120.199.255\t1024\n");
-        ipString.append(
-                "103.120.224.0\t103.120.227.255\t1024\n");
-        ipString.append(
-                "103.121.52.0\t103.121.55.255\t1024\n");
-        ipString.append(
-                "103.121.92.0\t103.121.95.255\t1024\n");
-        ipString.append(
-                "103.121.160.0\t103.121.167.255\t2048\n");
-        ipString.append(
-                "103.121.250.0\t103.121.250.255\t256\n");
-        ipString.append(
-                "103.121.252.0\t103.121.255.255\t1024\n");
-        ipString.append(
-                "103.122.48.0\t103.122.51.255\t1024\n");
-        ipString.append(
-                "103.122.176.0\t103.122.179.255\t1024\n");
-        ipString.append(
-                "103.122.192.0\t103.122.195.255\t1024\n");
-        ipString.append(
-                "103.122.240.0\t103.122.243.255\t1024\n");
-        ipString.append(
-                "103.123.4.0\t103.123.7.255\t1024\n");
-        ipString.append(
-                "103.123.56.0\t103.123.59.255\t1024\n");
-        ipString.append(
-                "103.123.88.0\t103.123.95.255\t2048\n");
-        ipString.append(
-                "103.123.116.0\t103.123.119.255\t1024\n");
-        ipString.append(
-                "103.123.160.0\t103.123.163.255\t1024\n");
-        ipString.append(
-                "103.123.176.0\t103.123.179.255\t1024\n");
-        ipString.append(
-                "103.123.200.0\t103.123.215.255\t4096\n");
-        ipString.append(
-                "103.124.24.0\t103.124.27.255\t1024\n");
-        ipString.append(
-                "103.124.48.0\t103.124.51.255\t1024\n");
-        ipString.append(
-                "103.124.64.0\t103.124.67.255\t1024\n");
-        ipString.append(
-                "103.124.212.0\t103.124.219.255\t2048\n");
-        ipString.append(
-                "103.125.20.0\t103.125.23.255\t1024\n");
-        ipString.append(
-                "103.125.44.0\t103.125.47.255\t1024\n");
-        ipString.append(
-                "103.125.132.0\t103.125.135.255\t1024\n");
-        ipString.append(
-                "103.125.164.0\t103.125.167.255\t1024\n");
-        ipString.append(
-                "103.125.196.0\t103.125.199.255\t1024\n");
-        ipString.append(
-                "103.125.236.0\t103.125.239.255\t1024\n");
-        ipString.append(
-                "103.125.248.0\t103.125.251.255\t1024\n");
-        ipString.append(
-                "103.126.0.0\t103.126.3.255\t1024\n");
-        ipString.append(
-                "103.126.16.0\t103.126.19.255\t1024\n");
-        ipString.append(
-                "103.126.44.0\t103.126.47.255\t1024\n");
-        ipString.append(
-                "103.126.100.0\t103.126.103.255\t1024\n");
-        ipString.append(
-                "103.126.124.0\t103.126.135.255\t3072\n");
-        ipString.append(
-                "103.126.208.0\t103.126.211.255\t1024\n");
-        ipString.append(
-                "103.129.52.0\t103.129.55.255\t1024\n");
-        ipString.append(
-                "103.130.132.0\t103.130.135.255\t1024\n");
-        ipString.append(
-                "103.130.152.0\t103.130.152.255\t256\n");
-        ipString.append(
-                "103.130.160.0\t103.130.163.255\t1024\n");
-        ipString.append(
-                "103.130.228.0\t103.130.231.255\t1024\n");
-        ipString.append(
-                "103.131.20.0\t103.131.23.255\t1024\n");
-        ipString.append(
-                "103.131.36.0\t103.131.39.255\t1024\n");
-        ipString.append(
-                "103.131.152.0\t103.131.155.255\t1024\n");
-        ipString.append(
-                "103.131.168.0\t103.131.171.255\t1024\n");
-        ipString.append(
-                "103.131.176.0\t103.131.179.255\t1024\n");
-        ipString.append(
-                "103.131.224.0\t103.131.231.255\t2048\n");
-        ipString.append(
-                "103.131.240.0\t103.131.243.255\t1024\n");
-        ipString.append(
-                "103.132.60.0\t103.132.83.255\t6144\n");
-        ipString.append(
-                "103.132.104.0\t103.132.123.255\t5120\n");
-        ipString.append(
-                "103.132.160.0\t103.132.167.255\t2048\n");
-        ipString.append(
-                "103.132.188.0\t103.132.191.255\t1024\n");
-        ipString.append(
-                "103.132.208.0\t103.132.215.255\t2048\n");
-        ipString.append(
-                "103.132.234.0\t103.132.235.255\t512\n");
-        ipString.append(
-                "103.133.12.0\t103.133.15.255\t1024\n");
-        ipString.append(
-                "103.133.40.0\t103.133.43.255\t1024\n");
-        ipString.append(
-                "103.133.128.0\t103.133.131.255\t1024\n");
-        ipString.append(
-                "103.133.136.0\t103.133.139.255\t1024\n");
-        ipString.append(
-                "103.133.176.0\t103.133.179.255\t1024\n");
-        ipString.append(
-                "103.133.232.0\t103.133.235.255\t1024\n");
-        ipString.append(
-                "103.134.12.0\t103.134.12.255\t256\n");
-        ipString.append(
-                "103.134.196.0\t103.134.199.255\t1024\n");
-        ipString.append(
-                "103.135.80.0\t103.135.83.255\t1024\n");
-        ipString.append(
-                "103.135.124.0\t103.135.127.255\t1024\n");
-        ipString.append(
-                "103.135.148.0\t103.135.151.255\t1024\n");
-        ipString.append(
-                "103.135.156.0\t103.135.167.255\t3072\n");
-        ipString.append(
-                "103.135.176.0\t103.135.179.255\t1024\n");
-        ipString.append(
-                "103.135.184.0\t103.135.187.255\t1024\n");
-        ipString.append(
-                "103.135.192.0\t103.135.199.255\t2048\n");
-        ipString.append(
-                "103.135.236.0\t103.135.239.255\t1024\n");
-        ipString.append(
-                "103.136.128.0\t103.136.131.255\t1024\n");
-        ipString.append(
-                "103.136.232.0\t103.136.235.255\t1024\n");
-        ipString.append(
-                "103.137.58.0\t103.137.60.255\t768\n");
-        ipString.append(
-                "103.137.76.0\t103.137.79.255\t1024\n");
-        ipString.append(
-                "103.137.136.0\t103.137.137.255\t512\n");
-        ipString.append(
-                "103.137.149.0\t103.137.149.255\t256\n");
-        ipString.append(
-                "103.137.180.0\t103.137.183.255\t1024\n");
-        ipString.append(
-                "103.137.236.0\t103.137.239.255\t1024\n");
-        ipString.append(
-                "103.138.2.0\t103.138.3.255\t512\n");
-        ipString.append(
-                "103.138.12.0\t103.138.13.255\t512\n");
-        ipString.append(
-                "103.138.80.0\t103.138.83.255\t1024\n");
-        ipString.append(
-                "103.138.134.0\t103.138.135.255\t512\n");
-        ipString.append(
-                "103.138.156.0\t103.138.157.255\t512\n");
-        ipString.append(
-                "103.138.208.0\t103.138.209.255\t512\n");
-        ipString.append(
-                "103.138.220.0\t103.138.221.255\t512\n");
-        ipString.append(
-                "103.138.246.0\t103.138.249.255\t1024\n");
-        ipString.append(
-                "103.139.0.0\t103.139.3.255\t1024\n");
-        ipString.append(
-                "103.139.22.0\t103.139.23.255\t512\n");
-        ipString.append(
-                "103.139.113.0\t103.139.113.255\t256\n");
-        ipString.append(
-                "103.139.134.0\t103.139.137.255\t1024\n");
-        ipString.append(
-                "103.139.172.0\t103.139.173.255\t512\n");
-        ipString.append(
-                "103.139.200.0\t103.139.201.255\t512\n");
-        ipString.append(
-                "103.139.204.0\t103.139.205.255\t512\n");
-        ipString.append(
-                "103.139.212.0\t103.139.213.255\t512\n");
-        ipString.append(
-                "103.140.8.0\t103.140.9.255\t512\n");
-        ipString.append(
-                "103.140.14.0\t103.140.15.255\t512\n");
-        ipString.append(
-                "103.140.70.0\t103.140.71.255\t512\n");
-        ipString.append(
-                "103.140.126.0\t103.140.127.255\t512\n");
-        ipString.append(
-                "103.140.140.0\t103.140.141.255\t512\n");
-        ipString.append(
-                "103.140.144.0\t103.140.145.255\t512\n");
-        ipString.append(
-                "103.140.152.0\t103.140.153.255\t512\n");
-        ipString.append(
-                "103.140.192.0\t103.140.195.255\t1024\n");
-        ipString.append(
-                "103.140.228.0\t103.140.229.255\t512\n");
-        ipString.append(
-                "103.141.10.0\t103.141.11.255\t512\n");
-        ipString.append(
-                "103.141.58.0\t103.141.59.255\t512\n");
-        ipString.append(
-                "103.141.128.0\t103.141.129.255\t512\n");
-        ipString.append(
-                "103.141.186.0\t103.141.187.255\t512\n");
-        ipString.append(
-                "103.141.242.0\t103.141.243.255\t512\n");
-        ipString.append(
-                "103.142.28.0\t103.142.29.255\t512\n");
-        ipString.append(
-                "103.142.58.0\t103.142.59.255\t512\n");
-        ipString.append(
-                "103.142.82.0\t103.142.83.255\t512\n");
-        ipString.append(
-                "103.142.96.0\t103.142.97.255\t512\n");
-        ipString.append(
-                "103.142.102.0\t103.142.103.255\t512\n");
-        ipString.append(
-                "103.142.122.0\t103.142.123.255\t512\n");
-        ipString.append(
-                "103.142.128.0\t103.142.129.255\t512\n");
-        ipString.append(
-                "103.142.140.0\t103.142.141.255\t512\n");
-        ipString.append(
-                "103.142.154.0\t103.142.157.255\t1024\n");
-        ipString.append(
-                "103.142.172.0\t103.142.173.255\t512\n");
-        ipString.append(
-                "103.142.180.0\t103.142.181.255\t512\n");
-        ipString.append(
-                "103.142.186.0\t103.142.187.255\t512\n");
-        ipString.append(
-                "103.142.190.0\t103.142.191.255\t512\n");
-        ipString.append(
-                "103.142.220.0\t103.142.221.255\t512\n");
-        ipString.append(
-                "103.142.230.0\t103.142.230.255\t256\n");
-        ipString.append(
-                "103.142.234.0\t103.142.235.255\t512\n");
-        ipString.append(
-                "103.142.238.0\t103.142.239.255\t512\n");
-        ipString.append(
-                "103.142.248.0\t103.142.249.255\t512\n");
-        ipString.append(
-                "103.143.16.0\t103.143.19.255\t1024\n");
-        ipString.append(
-                "103.143.31.0\t103.143.31.255\t256\n");
-        ipString.append(
-                "103.143.74.0\t103.143.75.255\t512\n");
-        ipString.append(
-                "103.143.120.0\t103.143.121.255\t512\n");
-        ipString.append(
-                "103.143.124.0\t103.143.125.255\t512\n");
-        ipString.append(
-                "103.143.132.0\t103.143.135.255\t1024\n");
-        ipString.append(
-                "103.143.174.0\t103.143.175.255\t512\n");
-        ipString.append(
-                "103.143.228.0\t103.143.229.255\t512\n");
-        ipString.append(
-                "103.144.40.0\t103.144.41.255\t512\n");
-        ipString.append(
-                "103.144.52.0\t103.144.53.255\t512\n");
-        ipString.append(
-                "103.144.66.0\t103.144.67.255\t512\n");
-        ipString.append(
-                "103.144.70.0\t103.144.73.255\t1024\n");
-        ipString.append(
-                "103.144.108.0\t103.144.109.255\t512\n");
-        ipString.append(
-                "103.144.136.0\t103.144.137.255\t512\n");
-        ipString.append(
-                "103.144.148.0\t103.144.149.255\t512\n");
-        ipString.append(
-                "103.144.158.0\t103.144.159.255\t512\n");
-        ipString.append(
-                "103.144.240.0\t103.144.241.255\t512\n");
-        ipString.append(
-                "103.145.38.0\t103.145.43.255\t1536\n");
-        ipString.append(
-                "103.145.60.0\t103.145.61.255\t512\n");
-        ipString.append(
-                "103.145.72.0\t103.145.73.255\t512\n");
-        ipString.append(
-                "103.145.80.0\t103.145.81.255\t512\n");
-        ipString.append(
-                "103.145.86.0\t103.145.87.255\t512\n");
-        ipString.append(
-                "103.145.92.0\t103.145.95.255\t1024\n");
-        ipString.append(
-                "103.145.98.0\t103.145.99.255\t512\n");
-        ipString.append(
-                "103.145.106.0\t103.145.107.255\t512\n");
-        ipString.append(
-                "103.145.122.0\t103.145.123.255\t512\n");
-        ipString.append(
-                "103.145.188.0\t103.145.191.255\t1024\n");
-        ipString.append(
-                "103.146.6.0\t103.146.7.255\t512\n");
-        ipString.append(
-                "103.146.72.0\t103.146.73.255\t512\n");
-        ipString.append(
-                "103.146.88.0\t103.146.91.255\t1024\n");
-        ipString.append(
-                "103.146.124.0\t103.146.127.255\t1024\n");
-        ipString.append(
-                "103.146.138.0\t103.146.139.255\t512\n");
-        ipString.append(
-                "103.146.230.0\t103.146.231.255\t512\n");
-        ipString.append(
-                "103.146.236.0\t103.146.237.255\t512\n");
-        ipString.append(
-                "103.146.252.0\t103.146.253.255\t512\n");
-        ipString.append(
-                "103.147.12.0\t103.147.13.255\t512\n");
-        ipString.append(
-                "103.147.124.0\t103.147.125.255\t512\n");
-        ipString.append(
-                "103.147.198.0\t103.147.199.255\t512\n");
-        ipString.append(
-                "103.147.206.0\t103.147.207.255\t512\n");
-        ipString.append(
-                "103.148.174.0\t103.148.175.255\t512\n");
-        ipString.append(
-                "103.149.6.0\t103.149.7.255\t512\n");
-        ipString.append(
-                "103.149.17.0\t103.149.17.255\t256\n");
-        ipString.append(
-                "103.149.44.0\t103.149.45.255\t512\n");
-        ipString.append(
-                "103.149.110.0\t103.149.111.255\t512\n");
-        ipString.append(
-                "103.149.132.0\t103.149.133.255\t512\n");
-        ipString.append(
-                "103.149.144.0\t103.149.145.255\t512\n");
-        ipString.append(
-                "103.149.156.0\t103.149.157.255\t512\n");
-        ipString.append(
-                "103.149.181.0\t103.149.181.255\t256\n");
-        ipString.append(
-                "103.149.210.0\t103.149.211.255\t512\n");
-        ipString.append(
-                "103.149.214.0\t103.149.215.255\t512\n");
-        ipString.append(
-                "103.149.220.0\t103.149.221.255\t512\n");
-        ipString.append(
-                "103.149.242.0\t103.149.249.255\t2048\n");
-        ipString.append(
-                "103.150.24.0\t103.150.25.255\t512\n");
-        ipString.append(
-                "103.150.66.0\t103.150.67.255\t512\n");
-        ipString.append(
-                "103.150.72.0\t103.150.73.255\t512\n");
-        ipString.append(
-                "103.150.122.0\t103.150.123.255\t512\n");
-        ipString.append(
-                "103.150.126.0\t103.150.131.255\t1536\n");
-        ipString.append(
-                "103.150.146.0\t103.150.147.255\t512\n");
-        ipString.append(
-                "103.150.164.0\t103.150.165.255\t512\n");
-        ipString.append(
-                "103.150.172.0\t103.150.173.255\t512\n");
-        ipString.append(
-                "103.150.180.0\t103.150.181.255\t512\n");
-        ipString.append(
-                "103.150.200.0\t103.150.201.255\t512\n");
-        ipString.append(
-                "103.150.210.0\t103.150.211.255\t512\n");
-        ipString.append(
-                "103.150.214.0\t103.150.217.255\t1024\n");
-        ipString.append(
-                "103.150.244.0\t103.150.245.255\t512\n");
-        ipString.append(
-                "103.151.4.0\t103.151.5.255\t512\n");
-        ipString.append(
-                "103.151.44.0\t103.151.45.255\t512\n");
-        ipString.append(
-                "103.151.138.0\t103.151.139.255\t512\n");
-        ipString.append(
-                "103.151.142.0\t103.151.143.255\t512\n");
-        ipString.append(
-                "103.151.148.0\t103.151.151.255\t1024\n");
-        ipString.append(
-                "103.151.158.0\t103.151.159.255\t512\n");
-        ipString.append(
-                "103.151.178.0\t103.151.179.255\t512\n");
-        ipString.append(
-                "103.151.206.0\t103.151.207.255\t512\n");
-        ipString.append(
-                "103.151.216.0\t103.151.217.255\t512\n");
-        ipString.append(
-                "103.151.228.0\t103.151.229.255\t512\n");
-        ipString.append(
-                "103.152.14.0\t103.152.15.255\t512\n");
-        ipString.append(
-                "103.152.24.0\t103.152.25.255\t512\n");
-        ipString.append(
-                "103.152.28.0\t103.152.31.255\t1024\n");
-        ipString.append(
-                "103.152.56.0\t103.152.57.255\t512\n");
-        ipString.append(
-                "103.152.76.0\t103.152.77.255\t512\n");
-        ipString.append(
-                "103.152.98.0\t103.152.99.255\t512\n");
-        ipString.append(
-                "103.152.112.0\t103.152.113.255\t512\n");
-        ipString.append(
-                "103.152.120.0\t103.152.123.255\t1024\n");
-        ipString.append(
-                "103.152.132.0\t103.152.133.255\t512\n");
-        ipString.append(
-                "103.152.152.0\t103.152.153.255\t512\n");
-        ipString.append(
-                "103.152.168.0\t103.152.171.255\t1024\n");
-        ipString.append(
-                "103.152.186.0\t103.152.187.255\t512\n");
-        ipString.append(
-                "103.152.190.0\t103.152.193.255\t1024\n");
-        ipString.append(
-                "103.152.200.0\t103.152.201.255\t512\n");
-        ipString.append(
-                "103.152.208.0\t103.152.209.255\t512\n");
-        ipString.append(
-                "103.152.224.0\t103.152.227.255\t1024\n");
-        ipString.append(
-                "103.152.246.0\t103.152.247.255\t512\n");
-        ipString.append(
-                "103.152.250.0\t103.152.251.255\t512\n");
-        ipString.append(
-                "103.153.4.0\t103.153.5.255\t512\n");
-        ipString.append(
-                "103.153.36.0\t103.153.37.255\t512\n");
-        ipString.append(
-                "103.153.98.0\t103.153.101.255\t1024\n");
-        ipString.append(
-                "103.153.114.0\t103.153.115.255\t512\n");
-        ipString.append(
-                "103.153.122.0\t103.153.123.255\t512\n");
-        ipString.append(
-                "103.153.128.0\t103.153.129.255\t512\n");
-        ipString.append(
-                "103.153.132.0\t103.153.133.255\t512\n");
-        ipString.append(
-                "103.153.138.0\t103.153.139.255\t512\n");
-        ipString.append(
-                "103.153.146.0\t103.153.147.255\t512\n");
-        ipString.append(
-                "103.153.160.0\t103.153.161.255\t512\n");
-        ipString.append(
-                "103.154.18.0\t103.154.19.255\t512\n");
-        ipString.append(
-                "103.154.30.0\t103.154.33.255\t1024\n");
-        ipString.append(
-                "103.154.40.0\t103.154.41.255\t512\n");
-        ipString.append(
-                "103.154.66.0\t103.154.67.255\t512\n");
-        ipString.append(
-                "103.154.162.0\t103.154.165.255\t1024\n");
-        ipString.append(
-                "103.154.168.0\t103.154.169.255\t512\n");
-        ipString.append(
-                "103.154.242.0\t103.154.243.255\t512\n");
-        ipString.append(
-                "103.155.14.0\t103.155.17.255\t1024\n");
-        ipString.append(
-                "103.155.34.0\t103.155.35.255\t512\n");
-        ipString.append(
-                "103.155.48.0\t103.155.49.255\t512\n");
-        ipString.append(
-                "103.155.76.0\t103.155.77.255\t512\n");
-        ipString.append(
-                "103.155.100.0\t103.155.101.255\t512\n");
-        ipString.append(
-                "103.155.110.0\t103.155.111.255\t512\n");
-        ipString.append(
-                "103.155.120.0\t103.155.121.255\t512\n");
-        ipString.append(
-                "103.155.214.0\t103.155.215.255\t512\n");
-        ipString.append(
-                "103.155.248.0\t103.155.249.255\t512\n");
-        ipString.append(
-                "103.156.24.0\t103.156.25.255\t512\n");
-        ipString.append(
-                "103.156.28.0\t103.156.29.255\t512\n");
-        ipString.append(
-                "103.156.68.0\t103.156.69.255\t512\n");
-        ipString.append(
-                "103.156.78.0\t103.156.79.255\t512\n");
-        ipString.append(
-                "103.156.104.0\t103.156.105.255\t512\n");
-        ipString.append(
-                "103.156.158.0\t103.156.159.255\t512\n");
-        ipString.append(
-                "103.156.166.0\t103.156.167.255\t512\n");
-        ipString.append(
-                "103.156.174.0\t103.156.175.255\t512\n");
-        ipString.append(
-                "103.156.186.0\t103.156.187.255\t512\n");
-        ipString.append(
-                "103.156.228.0\t103.156.229.255\t512\n");
-        ipString.append(
-                "103.157.30.0\t103.157.31.255\t512\n");
-        ipString.append(
-                "103.157.138.0\t103.157.139.255\t512\n");
-        ipString.append(
-                "103.157.174.0\t103.157.175.255\t512\n");
-        ipString.append(
-                "103.157.212.0\t103.157.213.255\t512\n");
-        ipString.append(
-                "103.157.234.0\t103.157.235.255\t512\n");
-        ipString.append(
-                "103.157.254.0\t103.158.1.255\t1024\n");
-        ipString.append(
-                "103.158.8.0\t103.158.9.255\t512\n");
-        ipString.append(
-                "103.158.13.0\t103.158.13.255\t256\n");
-        ipString.append(
-                "103.158.16.0\t103.158.17.255\t512\n");
-        ipString.append(
-                "103.158.190.0\t103.158.191.255\t512\n");
-        ipString.append(
-                "103.158.200.0\t103.158.201.255\t512\n");
-        ipString.append(
-                "103.158.224.0\t103.158.225.255\t512\n");
-        ipString.append(
-                "103.159.80.0\t103.159.81.255\t512\n");
-        ipString.append(
-                "103.159.122.0\t103.159.125.255\t1024\n");
-        ipString.append(
-                "103.159.134.0\t103.159.135.255\t512\n");
-        ipString.append(
-                "103.159.142.0\t103.159.143.255\t512\n");
-        ipString.append(
-                "103.160.32.0\t103.160.35.255\t1024\n");
-        ipString.append(
-                "103.160.112.0\t103.160.115.255\t1024\n");
-        ipString.append(
-                "103.160.244.0\t103.160.245.255\t512\n");
-        ipString.append(
-                "103.160.254.0\t103.160.255.255\t512\n");
-        ipString.append(
-                "103.161.14.0\t103.161.15.255\t512\n");
-        ipString.append(
-                "103.161.102.0\t103.161.103.255\t512\n");
-        ipString.append(
-                "103.161.138.0\t103.161.139.255\t512\n");
-        ipString.append(
-                "103.161.208.0\t103.161.209.255\t512\n");
-        ipString.append(
-                "103.161.220.0\t103.161.221.255\t512\n");
-        ipString.append(
-                "103.161.254.0\t103.161.255.255\t512\n");
-        ipString.append(
-                "103.162.10.0\t103.162.11.255\t512\n");
-        ipString.append(
-                "103.162.32.0\t103.162.33.255\t512\n");
-        ipString.append(
-                "103.162.38.0\t103.162.39.255\t512\n");
-        ipString.append(
-                "103.162.116.0\t103.162.117.255\t512\n");
-        ipString.append(
-                "103.163.28.0\t103.163.29.255\t512\n");
-        ipString.append(
-                "103.163.32.0\t103.163.33.255\t512\n");
-        ipString.append(
-                "103.163.46.0\t103.163.47.255\t512\n");
-        ipString.append(
-                "103.163.74.0\t103.163.75.255\t512\n");
-        ipString.append(
-                "103.163.180.0\t103.163.181.255\t512\n");
-        ipString.append(
-                "103.164.4.0\t103.164.5.255\t512\n");
-        ipString.append(
-                "103.164.32.0\t103.164.33.255\t512\n");
-        ipString.append(
-                "103.164.40.0\t103.164.43.255\t1024\n");
-        ipString.append(
-                "103.164.64.0\t103.164.65.255\t512\n");
-        ipString.append(
-                "103.164.76.0\t103.164.77.255\t512\n");
-        ipString.append(
-                "103.164.178.0\t103.164.179.255\t512\n");
-        ipString.append(
-                "103.164.226.0\t103.164.227.255\t512\n");
-        ipString.append(
-                "103.165.44.0\t103.165.45.255\t512\n");
-        ipString.append(
-                "103.165.52.0\t103.165.53.255\t512\n");
-        ipString.append(
-                "103.165.82.0\t103.165.83.255\t512\n");
-        ipString.append(
-                "103.165.110.0\t103.165.111.255\t512\n");
-        ipString.append(
-                "103.166.20.0\t103.166.21.255\t512\n");
-        ipString.append(
-                "103.166.50.0\t103.166.55.255\t1536\n");
-        ipString.append(
-                "103.166.84.0\t103.166.85.255\t512\n");
-        ipString.append(
-                "103.166.138.0\t103.166.139.255\t512\n");
-        ipString.append(
-                "103.166.242.0\t103.166.243.255\t512\n");
-        ipString.append(
-                "103.166.246.0\t103.166.247.255\t512\n");
-        ipString.append(
-                "103.167.0.0\t103.167.1.255\t512\n");
-        ipString.append(
-                "103.167.36.0\t103.167.37.255\t512\n");
-        ipString.append(
-                "103.168.98.0\t103.168.99.255\t512\n");
-        ipString.append(
-                "103.168.170.0\t103.168.171.255\t512\n");
-        ipString.append(
-                "103.169.50.0\t103.169.51.255\t512\n");
-        ipString.append(
-                "103.169.62.0\t103.169.63.255\t512\n");
-        ipString.append(
-                "103.169.108.0\t103.169.109.255\t512\n");
-        ipString.append(
-                "103.169.162.0\t103.169.163.255\t512\n");
-        ipString.append(
-                "103.169.202.0\t103.169.203.255\t512\n");
-        ipString.append(
-                "103.169.216.0\t103.169.217.255\t512\n");
-        ipString.append(
-                "103.170.4.0\t103.170.5.255\t512\n");
-        ipString.append(
-                "103.170.72.0\t103.170.73.255\t512\n");
-        ipString.append(
-                "103.170.134.0\t103.170.135.255\t512\n");
-        ipString.append(
-                "103.170.210.0\t103.170.213.255\t1024\n");
-        ipString.append(
-                "103.171.32.0\t103.171.33.255\t512\n");
-        ipString.append(
-                "103.171.166.0\t103.171.167.255\t512\n");
-        ipString.append(
-                "103.171.214.0\t103.171.215.255\t512\n");
-        ipString.append(
-                "103.172.32.0\t103.172.33.255\t512\n");
-        ipString.append(
-                "103.172.160.0\t103.172.161.255\t512\n");
-        ipString.append(
-                "103.172.191.0\t103.172.191.255\t256\n");
-        ipString.append(
-                "103.173.102.0\t103.173.103.255\t512\n");
-        ipString.append(
-                "103.192.0.0\t103.192.31.255\t8192\n");
-        ipString.append(
-                "103.192.48.0\t103.192.59.255\t3072\n");
-        ipString.append(
-                "103.192.84.0\t103.192.115.255\t8192\n");
-        ipString.append(
-                "103.192.128.0\t103.192.147.255\t5120\n");
-        ipString.append(
-                "103.192.164.0\t103.192.167.255\t1024\n");
-        ipString.append(
-                "103.192.188.0\t103.192.191.255\t1024\n");
-        ipString.append(
-                "103.192.208.0\t103.192.219.255\t3072\n");
-        ipString.append(
-                "103.192.252.0\t103.192.255.255\t1024\n");
-        ipString.append(
-                "103.193.40.0\t103.193.47.255\t2048\n");
-        ipString.append(
-                "103.193.120.0\t103.193.123.255\t1024\n");
-        ipString.append(
-                "103.193.140.0\t103.193.147.255\t2048\n");
-        ipString.append(
-                "103.193.160.0\t103.193.163.255\t1024\n");
-        ipString.append(
-                "103.193.188.0\t103.193.195.255\t2048\n");
-        ipString.append(
-                "103.193.212.0\t103.193.243.255\t8192\n");
-        ipString.append(
-                "103.194.16.0\t103.194.19.255\t1024\n");
-        ipString.append(
-                "103.195.104.0\t103.195.107.255\t1024\n");
-        ipString.append(
-                "103.195.112.0\t103.195.115.255\t1024\n");
-        ipString.append(
-                "103.195.136.0\t103.195.139.255\t1024\n");
-        ipString.append(
-                "103.195.148.0\t103.195.155.255\t2048\n");
-        ipString.append(
-                "103.195.160.0\t103.195.163.255\t1024\n");
-        ipString.append(
-                "103.196.64.0\t103.196.67.255\t1024\n");
-        ipString.append(
-                "103.196.72.0\t103.196.75.255\t1024\n");
-        ipString.append(
-                "103.196.88.0\t103.196.99.255\t3072\n");
-        ipString.append(
-                "103.196.168.0\t103.196.171.255\t1024\n");
-        ipString.append(
-                "103.196.204.0\t103.196.207.255\t1024\n");
-        ipString.append(
-                "103.197.180.0\t103.197.183.255\t1024\n");
-        ipString.append(
-                "103.197.228.0\t103.197.231.255\t1024\n");
-        ipString.append(
-                "103.198.20.0\t103.198.23.255\t1024\n");
-        ipString.append(
-                "103.198.60.0\t103.198.67.255\t2048\n");
-        ipString.append(
-                "103.198.72.0\t103.198.75.255\t1024\n");
-        ipString.append(
-                "103.198.124.0\t103.198.127.255\t1024\n");
-        ipString.append(
-                "103.198.156.0\t103.198.159.255\t1024\n");
-        ipString.append(
-                "103.198.180.0\t103.198.183.255\t1024\n");
-        ipString.append(
-                "103.198.196.0\t103.198.199.255\t1024\n");
-        ipString.append(
-                "103.198.216.0\t103.198.247.255\t8192\n");
-        ipString.append(
-                "103.199.164.0\t103.199.167.255\t1024\n");
-        ipString.append(
-                "103.199.196.0\t103.199.199.255\t1024\n");
-        ipString.append(
-                "103.199.228.0\t103.199.231.255\t1024\n");
-        ipString.append(
-                "103.199.248.0\t103.199.255.255\t2048\n");
-        ipString.append(
-                "103.200.28.0\t103.200.31.255\t1024\n");
-        ipString.append(
-                "103.200.52.0\t103.200.55.255\t1024\n");
-        ipString.append(
-                "103.200.64.0\t103.200.71.255\t2048\n");
-        ipString.append(
-                "103.200.136.0\t103.200.195.255\t15360\n");
-        ipString.append(
-                "103.200.220.0\t103.201.23.255\t15360\n");
-        ipString.append(
-                "103.201.28.0\t103.201.67.255\t10240\n");
-        ipString.append(
-                "103.201.76.0\t103.201.123.255\t12288\n");
-        ipString.append(
-                "103.201.152.0\t103.202.47.255\t38912\n");
-        ipString.append(
-                "103.202.56.0\t103.202.147.255\t23552\n");
-        ipString.append(
-                "103.202.152.0\t103.202.207.255\t14336\n");
-        ipString.append(
-                "103.202.212.0\t103.202.215.255\t1024\n");
-        ipString.append(
-                "103.202.228.0\t103.202.231.255\t1024\n");
-        ipString.append(
-                "103.202.236.0\t103.203.35.255\t14336\n");
-        ipString.append(
-                "103.203.56.0\t103.203.59.255\t1024\n");
-        ipString.append(
-                "103.203.96.0\t103.203.131.255\t9216\n");
-        ipString.append(
-                "103.203.140.0\t103.203.143.255\t1024\n");
-        ipString.append(
-                "103.203.164.0\t103.203.171.255\t2048\n");
-        ipString.append(
-                "103.203.192.0\t103.203.195.255\t1024\n");
-        ipString.append(
-                "103.203.200.0\t103.203.203.255\t1024\n");
-        ipString.append(
-                "103.203.212.0\t103.203.219.255\t2048\n");
-        ipString.append(
-                "103.204.24.0\t103.204.27.255\t1024\n");
-        ipString.append(
-                "103.204.72.0\t103.204.75.255\t1024\n");
-        ipString.append(
-                "103.204.88.0\t103.204.91.255\t1024\n");
-        ipString.append(
-                "103.204.112.0\t103.204.115.255\t1024\n");
-        ipString.append(
-                "103.204.136.0\t103.204.155.255\t5120\n");
-        ipString.append(
-                "103.204.196.0\t103.204.199.255\t1024\n");
-        ipString.append(
-                "103.204.232.0\t103.204.239.255\t2048\n");
-        ipString.append(
-                "103.205.4.0\t103.205.11.255\t2048\n");
-        ipString.append(
-                "103.205.40.0\t103.205.47.255\t2048\n");
-        ipString.append(
-                "103.205.52.0\t103.205.55.255\t1024\n");
-        ipString.append(
-                "103.205.108.0\t103.205.111.255\t1024\n");
-        ipString.append(
-                "103.205.116.0\t103.205.123.255\t2048\n");
-        ipString.append(
-                "103.205.136.0\t103.205.139.255\t1024\n");
-        ipString.append(
-                "103.205.162.0\t103.205.162.255\t256\n");
-        ipString.append(
-                "103.205.188.0\t103.205.203.255\t4096\n");
-        ipString.append(
-                "103.205.236.0\t103.205.239.255\t1024\n");
-        ipString.append(
-                "103.205.248.0\t103.206.3.255\t3072\n");
-        ipString.append(
-                "103.206.44.0\t103.206.47.255\t1024\n");
-        ipString.append(
-                "103.206.148.0\t103.206.151.255\t1024\n");
-        ipString.append(
-                "103.207.48.0\t103.207.51.255\t1024\n");
-        ipString.append(
-                "103.207.104.0\t103.207.107.255\t1024\n");
-        ipString.append(
-                "103.207.164.0\t103.207.167.255\t1024\n");
-        ipString.append(
-                "103.207.184.0\t103.207.215.255\t8192\n");
-        ipString.append(
-                "103.207.220.0\t103.207.223.255\t1024\n");
-        ipString.append(
-                "103.207.228.0\t103.207.235.255\t2048\n");
-        ipString.append(
-                "103.208.12.0\t103.208.19.255\t2048\n");
-        ipString.append(
-                "103.208.28.0\t103.208.31.255\t1024\n");
-        ipString.append(
-                "103.208.40.0\t103.208.51.255\t3072\n");
-        ipString.append(
-                "103.208.148.0\t103.208.151.255\t1024\n");
-        ipString.append(
-                "103.209.112.0\t103.209.115.255\t1024\n");
-        ipString.append(
-                "103.209.136.0\t103.209.139.255\t1024\n");
-        ipString.append(
-                "103.209.200.0\t103.209.203.255\t1024\n");
-        ipString.append(
-                "103.209.208.0\t103.209.211.255\t1024\n");
-        ipString.append(
-                "103.209.216.0\t103.209.219.255\t1024\n");
-        ipString.append(
-                "103.210.0.0\t103.210.3.255\t1024\n");
-        ipString.append(
-                "103.210.96.0\t103.210.99.255\t1024\n");
-        ipString.append(
-                "103.210.156.0\t103.210.191.255\t9216\n");
-        ipString.append(
-                "103.210.216.0\t103.210.219.255\t1024\n");
-        ipString.append(
-                "103.211.44.0\t103.211.47.255\t1024\n");
-        ipString.append(
-                "103.211.96.0\t103.211.103.255\t2048\n");
-        ipString.append(
-                "103.211.156.0\t103.211.159.255\t1024\n");
-        ipString.append(
-                "103.211.164.0\t103.211.167.255\t1024\n");
-        ipString.append(
-                "103.211.192.0\t103.211.195.255\t1024\n");
-        ipString.append(
-                "103.211.220.0\t103.211.227.255\t2048\n");
-        ipString.append(
-                "103.211.248.0\t103.211.251.255\t1024\n");
-        ipString.append(
-                "103.212.0.0\t103.212.15.255\t4096\n");
-        ipString.append(
-                "103.212.32.0\t103.212.35.255\t1024\n");
-        ipString.append(
-                "103.212.44.0\t103.212.51.255\t2048\n");
-        ipString.append(
-                "103.212.84.0\t103.212.87.255\t1024\n");
-        ipString.append(
-                "103.212.100.0\t103.212.111.255\t3072\n");
-        ipString.append(
-                "103.212.148.0\t103.212.151.255\t1024\n");
-        ipString.append(
-                "103.212.164.0\t103.212.167.255\t1024\n");
-        ipString.append(
-                "103.212.196.0\t103.212.203.255\t2048\n");
-        ipString.append(
-                "103.212.228.0\t103.212.231.255\t1024\n");
-        ipString.append(
-                "103.212.252.0\t103.212.255.255\t1024\n");
-        ipString.append(
-                "103.213.40.0\t103.213.99.255\t15360\n");
-        ipString.append(
-                "103.213.132.0\t103.213.191.255\t15360\n");
-        ipString.append(
-                "103.213.248.0\t103.213.251.255\t1024\n");
-        ipString.append(
-                "103.214.48.0\t103.214.51.255\t1024\n");
-        ipString.append(
-                "103.214.84.0\t103.214.87.255\t1024\n");
-        ipString.append(
-                "103.214.168.0\t103.214.171.255\t1024\n");
-        ipString.append(
-                "103.214.212.0\t103.214.215.255\t1024\n");
-        ipString.append(
-                "103.214.240.0\t103.214.247.255\t2048\n");
-        ipString.append(
-                "103.215.28.0\t103.215.39.255\t3072\n");
-        ipString.append(
-                "103.215.44.0\t103.215.51.255\t2048\n");
-        ipString.append(
-                "103.215.100.0\t103.215.111.255\t3072\n");
-        ipString.append(
-                "103.215.116.0\t103.215.123.255\t2048\n");
-        ipString.append(
-                "103.215.140.0\t103.215.143.255\t1024\n");
-        ipString.append(
-                "103.216.4.0\t103.216.47.255\t11264\n");
-        ipString.append(
-                "103.216.64.0\t103.216.67.255\t1024\n");
-        ipString.append(
-                "103.216.108.0\t103.216.111.255\t1024\n");
-        ipString.append(
-                "103.216.136.0\t103.216.139.255\t1024\n");
-        ipString.append(
-                "103.216.152.0\t103.216.155.255\t1024\n");
-        ipString.append(
-                "103.216.224.0\t103.216.231.255\t2048\n");
-        ipString.append(
-                "103.216.240.0\t103.217.63.255\t20480\n");
-        ipString.append(
-                "103.217.168.0\t103.217.171.255\t1024\n");
-        ipString.append(
-                "103.217.180.0\t103.217.207.255\t7168\n");
-        ipString.append(
-                "103.218.0.0\t103.218.3.255\t1024\n");
-        ipString.append(
-                "103.218.8.0\t103.218.23.255\t4096\n");
-        ipString.append(
-                "103.218.28.0\t103.218.95.255\t17408\n");
-        ipString.append(
-                "103.218.192.0\t103.218.219.255\t7168\n");
-        ipString.append(
-                "103.219.24.0\t103.219.39.255\t4096\n");
-        ipString.append(
-                "103.219.64.0\t103.219.67.255\t1024\n");
-        ipString.append(
-                "103.219.84.0\t103.219.103.255\t5120\n");
-        ipString.append(
-                "103.219.176.0\t103.219.179.255\t1024\n");
-        ipString.append(
-                "103.219.184.0\t103.219.187.255\t1024\n");
-        ipString.append(
-                "103.220.48.0\t103.220.67.255\t5120\n");
-        ipString.append(
-                "103.220.92.0\t103.220.111.255\t5120\n");
-        ipString.append(
-                "103.220.116.0\t103.220.155.255\t10240\n");
-        ipString.append(
-                "103.220.160.0\t103.220.203.255\t11264\n");
-        ipString.append(
-                "103.220.240.0\t103.221.51.255\t17408\n");
-        ipString.append(
-                "103.221.88.0\t103.221.207.255\t30720\n");
-        ipString.append(
-                "103.222.0.0\t103.222.19.255\t5120\n");
-        ipString.append(
-                "103.222.24.0\t103.222.235.255\t54272\n");
-        ipString.append(
-                "103.222.240.0\t103.222.247.255\t2048\n");
-        ipString.append(
-                "103.223.16.0\t103.223.135.255\t30720\n");
-        ipString.append(
-                "103.223.140.0\t103.223.183.255\t11264\n");
-        ipString.append(
-                "103.223.188.0\t103.224.3.255\t18432\n");
-        ipString.append(
-                "103.224.40.0\t103.224.47.255\t2048\n");
-        ipString.append(
-                "103.224.60.0\t103.224.63.255\t1024\n");
-        ipString.append(
-                "103.224.80.0\t103.224.83.255\t1024\n");
-        ipString.append(
-                "103.224.220.0\t103.224.235.255\t4096\n");
-        ipString.append(
-                "103.225.84.0\t103.225.87.255\t1024\n");
-        ipString.append(
-                "103.226.16.0\t103.226.19.255\t1024\n");
-        ipString.append(
-                "103.226.40.0\t103.226.43.255\t1024\n");
-        ipString.append(
-                "103.226.56.0\t103.226.63.255\t2048\n");
-        ipString.append(
-                "103.226.80.0\t103.226.83.255\t1024\n");
-        ipString.append(
-                "103.226.132.0\t103.226.135.255\t1024\n");
-        ipString.append(
-                "103.226.156.0\t103.226.159.255\t1024\n");
-        ipString.append(
-                "103.226.180.0\t103.226.183.255\t1024\n");
-        ipString.append(
-                "103.226.196.0\t103.226.199.255\t1024\n");
-        ipString.append(
-                "103.227.48.0\t103.227.51.255\t1024\n");
-        ipString.append(
-                "103.227.72.0\t103.227.83.255\t3072\n");
-        ipString.append(
-                "103.227.100.0\t103.227.103.255\t1024\n");
-        ipString.append(
-                "103.227.120.0\t103.227.123.255\t1024\n");
-        ipString.append(
-                "103.227.132.0\t103.227.139.255\t2048\n");
-        ipString.append(
-                "103.227.196.0\t103.227.199.255\t1024\n");
-        ipString.append(
-                "103.227.204.0\t103.227.207.255\t1024\n");
-        ipString.append(
-                "103.227.212.0\t103.227.215.255\t1024\n");
-        ipString.append(
-                "103.227.228.0\t103.227.231.255\t1024\n");
-        ipString.append(
-                "103.228.12.0\t103.228.15.255\t1024\n");
-        ipString.append(
-                "103.228.88.0\t103.228.91.255\t1024\n");
-        ipString.append(
-                "103.228.128.0\t103.228.131.255\t1024\n");
-        ipString.append(
-                "103.228.136.0\t103.228.139.255\t1024\n");
-        ipString.append(
-                "103.228.160.0\t103.228.163.255\t1024\n");
-        ipString.append(
-                "103.228.176.0\t103.228.179.255\t1024\n");
-        ipString.append(
-                "103.228.204.0\t103.228.211.255\t2048\n");
-        ipString.append(
-                "103.228.228.0\t103.228.235.255\t2048\n");
-        ipString.append(
-                "103.229.20.0\t103.229.23.255\t1024\n");
-        ipString.append(
-                "103.229.60.0\t103.229.63.255\t1024\n");
-        ipString.append(
-                "103.229.136.0\t103.229.139.255\t1024\n");
-        ipString.append(
-                "103.229.148.0\t103.229.151.255\t1024\n");
-        ipString.append(
-                "103.229.172.0\t103.229.175.255\t1024\n");
-        ipString.append(
-                "103.229.212.0\t103.229.223.255\t3072\n");
-        ipString.append(
-                "103.229.228.0\t103.229.231.255\t1024\n");
-        ipString.append(
-                "103.229.236.0\t103.229.243.255\t2048\n");
-        ipString.append(
-                "103.230.0.0\t103.230.3.255\t1024\n");
-        ipString.append(
-                "103.230.28.0\t103.230.31.255\t1024\n");
-        ipString.append(
-                "103.230.44.0\t103.230.47.255\t1024\n");
-        ipString.append(
-                "103.230.96.0\t103.230.99.255\t1024\n");
-        ipString.append(
-                "103.230.196.0\t103.230.207.255\t3072\n");
-        ipString.append(
-                "103.230.212.0\t103.230.215.255\t1024\n");
-        ipString.append(
-                "103.230.236.0\t103.230.239.255\t1024\n");
-        ipString.append(
-                "103.231.16.0\t103.231.23.255\t2048\n");
-        ipString.append(
-                "103.231.64.0\t103.231.71.255\t2048\n");
-        ipString.append(
-                "103.231.180.0\t103.231.187.255\t2048\n");
-        ipString.append(
-                "103.231.244.0\t103.231.247.255\t1024\n");
-        ipString.append(
-                "103.232.4.0\t103.232.7.255\t1024\n");
-        ipString.append(
-                "103.232.144.0\t103.232.147.255\t1024\n");
-        ipString.append(
-                "103.232.188.0\t103.232.191.255\t1024\n");
-        ipString.append(
-                "103.232.212.0\t103.232.215.255\t1024\n");
-        ipString.append(
-                "103.233.4.0\t103.233.7.255\t1024\n");
-        ipString.append(
-                "103.233.44.0\t103.233.47.255\t1024\n");
-        ipString.append(
-                "103.233.52.0\t103.233.55.255\t1024\n");
-        ipString.append(
-                "103.233.104.0\t103.233.107.255\t1024\n");
-        ipString.append(
-                "103.233.128.0\t103.233.131.255\t1024\n");
-        ipString.append(
-                "103.233.136.0\t103.233.139.255\t1024\n");
-        ipString.append(
-                "103.233.228.0\t103.233.231.255\t1024\n");
-        ipString.append(
-                "103.234.0.0\t103.234.3.255\t1024\n");
-        ipString.append(
-                "103.234.20.0\t103.234.23.255\t1024\n");
-        ipString.append(
-                "103.234.56.0\t103.234.59.255\t1024\n");
-        ipString.append(
-                "103.234.128.0\t103.234.131.255\t1024\n");
-        ipString.append(
-                "103.234.172.0\t103.234.175.255\t1024\n");
-        ipString.append(
-                "103.234.180.0\t103.234.183.255\t1024\n");
-        ipString.append(
-                "103.234.244.0\t103.234.247.255\t1024\n");
-        ipString.append(
-                "103.235.16.0\t103.235.19.255\t1024\n");
-        ipString.append(
-                "103.235.48.0\t103.235.51.255\t1024\n");
-        ipString.append(
-                "103.235.56.0\t103.235.63.255\t2048\n");
-        ipString.append(
-                "103.235.80.0\t103.235.87.255\t2048\n");
-        ipString.append(
-                "103.235.128.0\t103.235.151.255\t6144\n");
-        ipString.append(
-                "103.235.184.0\t103.235.187.255\t1024\n");
-        ipString.append(
-                "103.235.192.0\t103.235.195.255\t1024\n");
-        ipString.append(
-                "103.235.200.0\t103.235.203.255\t1024\n");
-        ipString.append(
-                "103.235.220.0\t103.236.99.255\t34816\n");
-        ipString.append(
-                "103.236.120.0\t103.236.123.255\t1024\n");
-        ipString.append(
-                "103.236.184.0\t103.236.187.255\t1024\n");
-        ipString.append(
-                "103.236.220.0\t103.236.223.255\t1024\n");
-        ipString.append(
-                "103.236.232.0\t103.236.235.255\t1024\n");
-        ipString.append(
-                "103.236.240.0\t103.237.15.255\t8192\n");
-        ipString.append(
-                "103.237.24.0\t103.237.31.255\t2048\n");
-        ipString.append(
-                "103.237.68.0\t103.237.71.255\t1024\n");
-        ipString.append(
-                "103.237.88.0\t103.237.91.255\t1024\n");
-        ipString.append(
-                "103.237.152.0\t103.237.155.255\t1024\n");
-        ipString.append(
-                "103.237.176.0\t103.238.7.255\t22528\n");
-        ipString.append(
-                "103.238.16.0\t103.238.59.255\t11264\n");
-        ipString.append(
-                "103.238.88.0\t103.238.99.255\t3072\n");
-        ipString.append(
-                "103.238.132.0\t103.238.135.255\t1024\n");
-        ipString.append(
-                "103.238.140.0\t103.238.147.255\t2048\n");
-        ipString.append(
-                "103.238.160.0\t103.238.191.255\t8192\n");
-        ipString.append(
-                "103.238.196.0\t103.238.199.255\t1024\n");
-        ipString.append(
-                "103.238.204.0\t103.238.207.255\t1024\n");
-        ipString.append(
-                "103.238.252.0\t103.239.3.255\t2048\n");
-        ipString.append(
-                "103.239.44.0\t103.239.47.255\t1024\n");
-        ipString.append(
-                "103.239.68.0\t103.239.71.255\t1024\n");
-        ipString.append(
-                "103.239.96.0\t103.239.99.255\t1024\n");
-        ipString.append(
-                "103.239.152.0\t103.239.159.255\t2048\n");
-        ipString.append(
-                "103.239.176.0\t103.239.187.255\t3072\n");
-        ipString.append(
-                "103.239.192.0\t103.239.199.255\t2048\n");
-        ipString.append(
-                "103.239.204.0\t103.239.211.255\t2048\n");
-        ipString.append(
-                "103.239.224.0\t103.239.227.255\t1024\n");
-        ipString.append(
-                "103.239.244.0\t103.239.247.255\t1024\n");
-        ipString.append(
-                "103.240.16.0\t103.240.19.255\t1024\n");
-        ipString.append(
-                "103.240.36.0\t103.240.39.255\t1024\n");
-        ipString.append(
-                "103.240.72.0\t103.240.75.255\t1024\n");
-        ipString.append(
-                "103.240.84.0\t103.240.87.255\t1024\n");
-        ipString.append(
-                "103.240.124.0\t103.240.127.255\t1024\n");
-        ipString.append(
-                "103.240.172.0\t103.240.175.255\t1024\n");
-        ipString.append(
-                "103.240.188.0\t103.240.191.255\t1024\n");
-        ipString.append(
-                "103.240.244.0\t103.240.247.255\t1024\n");
-        ipString.append(
-                "103.241.12.0\t103.241.15.255\t1024\n");
-        ipString.append(
-                "103.241.72.0\t103.241.75.255\t1024\n");
-        ipString.append(
-                "103.241.92.0\t103.241.99.255\t2048\n");
-        ipString.append(
-                "103.241.160.0\t103.241.163.255\t1024\n");
-        ipString.append(
-                "103.241.184.0\t103.241.191.255\t2048\n");
-        ipString.append(
-                "103.241.220.0\t103.241.223.255\t1024\n");
-        ipString.append(
-                "103.242.64.0\t103.242.67.255\t1024\n");
-        ipString.append(
-                "103.242.128.0\t103.242.135.255\t2048\n");
-        ipString.append(
-                "103.242.160.0\t103.242.163.255\t1024\n");
-        ipString.append(
-                "103.242.168.0\t103.242.179.255\t3072\n");
-        ipString.append(
-                "103.242.200.0\t103.242.203.255\t1024\n");
-        ipString.append(
-                "103.242.212.0\t103.242.215.255\t1024\n");
-        ipString.append(
-                "103.242.220.0\t103.242.223.255\t1024\n");
-        ipString.append(
-                "103.242.240.0\t103.242.243.255\t1024\n");
-        ipString.append(
-                "103.243.136.0\t103.243.139.255\t1024\n");
-        ipString.append(
-                "103.243.252.0\t103.243.255.255\t1024\n");
-        ipString.append(
-                "103.244.16.0\t103.244.19.255\t1024\n");
-        ipString.append(
-                "103.244.58.0\t103.244.87.255\t7680\n");
-        ipString.append(
-                "103.244.116.0\t103.244.119.255\t1024\n");
-        ipString.append(
-                "103.244.164.0\t103.244.167.255\t1024\n");
-        ipString.append(
-                "103.244.232.0\t103.244.235.255\t1024\n");
-        ipString.append(
-                "103.244.252.0\t103.244.255.255\t1024\n");
-        ipString.append(
-                "103.245.23.0\t103.245.23.255\t256\n");
-        ipString.append(
-                "103.245.52.0\t103.245.55.255\t1024\n");
-        ipString.append(
-                "103.245.60.0\t103.245.63.255\t1024\n");
-        ipString.append(
-                "103.245.80.0\t103.245.83.255\t1024\n");
-        ipString.append(
-                "103.245.124.0\t103.245.131.255\t2048\n");
-        ipString.append(
-                "103.246.8.0\t103.246.15.255\t2048\n");
-        ipString.append(
-                "103.246.120.0\t103.246.127.255\t2048\n");
-        ipString.append(
-                "103.246.132.0\t103.246.135.255\t1024\n");
-        ipString.append(
-                "103.246.152.0\t103.246.159.255\t2048\n");
-        ipString.append(
-                "103.247.168.0\t103.247.179.255\t3072\n");
-        ipString.append(
-                "103.247.200.0\t103.247.203.255\t1024\n");
-        ipString.append(
-                "103.247.212.0\t103.247.215.255\t1024\n");
-        ipString.append(
-                "103.248.0.0\t103.248.1.255\t512\n");
-        ipString.append(
-                "103.248.64.0\t103.248.67.255\t1024\n");
-        ipString.append(
-                "103.248.100.0\t103.248.103.255\t1024\n");
-        ipString.append(
-                "103.248.124.0\t103.248.127.255\t1024\n");
-        ipString.append(
-                "103.248.152.0\t103.248.155.255\t1024\n");
-        ipString.append(
-                "103.248.168.0\t103.248.171.255\t1024\n");
-        ipString.append(
-                "103.248.192.0\t103.248.195.255\t1024\n");
-        ipString.append(
-                "103.248.212.0\t103.248.215.255\t1024\n");
-        ipString.append(
-                "103.248.224.0\t103.248.227.255\t1024\n");
-        ipString.append(
-                "103.249.8.0\t103.249.15.255\t2048\n");
-        ipString.append(
-                "103.249.52.0\t103.249.55.255\t1024\n");
-        ipString.append(
-                "103.249.104.0\t103.249.107.255\t1024\n");
-        ipString.append(
-                "103.249.128.0\t103.249.131.255\t1024\n");
-        ipString.append(
-                "103.249.136.0\t103.249.139.255\t1024\n");
-        ipString.append(
-                "103.249.144.0\t103.249.147.255\t1024\n");
-        ipString.append(
-                "103.249.164.0\t103.249.179.255\t4096\n");
-        ipString.append(
-                "103.249.188.0\t103.249.195.255\t2048\n");
-        ipString.append(
-                "103.249.244.0\t103.249.247.255\t1024\n");
-        ipString.append(
-                "103.249.252.0\t103.249.255.255\t1024\n");
-        ipString.append(
-                "103.250.32.0\t103.250.35.255\t1024\n");
-        ipString.append(
-                "103.250.104.0\t103.250.107.255\t1024\n");
-        ipString.append(
-                "103.250.124.0\t103.250.127.255\t1024\n");
-        ipString.append(
-                "103.250.180.0\t103.250.183.255\t1024\n");
-        ipString.append(
-                "103.250.192.0\t103.250.195.255\t1024\n");
-        ipString.append(
-                "103.250.216.0\t103.250.219.255\t1024\n");
-        ipString.append(
-                "103.250.224.0\t103.250.227.255\t1024\n");
-        ipString.append(
-                "103.250.236.0\t103.250.239.255\t1024\n");
-        ipString.append(
-                "103.250.248.0\t103.250.255.255\t2048\n");
-        ipString.append(
-                "103.251.32.0\t103.251.35.255\t1024\n");
-        ipString.append(
-                "103.251.84.0\t103.251.87.255\t1024\n");
-        ipString.append(
-                "103.251.96.0\t103.251.99.255\t1024\n");
-        ipString.append(
-                "103.251.124.0\t103.251.131.255\t2048\n");
-        ipString.append(
-                "103.251.160.0\t103.251.163.255\t1024\n");
-        ipString.append(
-                "103.251.192.0\t103.251.195.255\t1024\n");
-        ipString.append(
-                "103.251.204.0\t103.251.207.255\t1024\n");
-        ipString.append(
-                "103.251.240.0\t103.251.243.255\t1024\n");
-        ipString.append(
-                "103.252.28.0\t103.252.31.255\t1024\n");
-        ipString.append(
-                "103.252.36.0\t103.252.39.255\t1024\n");
-        ipString.append(
-                "103.252.64.0\t103.252.67.255\t1024\n");
-        ipString.append(
-                "103.252.96.0\t103.252.99.255\t1024\n");
-        ipString.append(
-                "103.252.104.0\t103.252.107.255\t1024\n");
-        ipString.append(
-                "103.252.172.0\t103.252.175.255\t1024\n");
-        ipString.append(
-                "103.252.204.0\t103.252.211.255\t2048\n");
-        ipString.append(
-                "103.252.232.0\t103.252.235.255\t1024\n");
-        ipString.append(
-                "103.252.248.0\t103.252.251.255\t1024\n");
-        ipString.append(
-                "103.253.4.0\t103.253.7.255\t1024\n");
-        ipString.append(
-                "103.253.60.0\t103.253.63.255\t1024\n");
-        ipString.append(
-                "103.253.204.0\t103.253.207.255\t1024\n");
-        ipString.append(
-                "103.253.220.0\t103.253.227.255\t2048\n");
-        ipString.append(
-                "103.253.232.0\t103.253.235.255\t1024\n");
-        ipString.append(
-                "103.254.8.0\t103.254.11.255\t1024\n");
-        ipString.append(
-                "103.254.20.0\t103.254.23.255\t1024\n");
-        ipString.append(
-                "103.254.64.0\t103.254.79.255\t4096\n");
-        ipString.append(
-                "103.254.112.0\t103.254.115.255\t1024\n");
-        ipString.append(
-                "103.254.176.0\t103.254.179.255\t1024\n");
-        ipString.append(
-                "103.254.188.0\t103.254.191.255\t1024\n");
-        ipString.append(
-                "103.254.196.0\t103.254.196.255\t256\n");
-        ipString.append(
-                "103.254.220.0\t103.254.223.255\t1024\n");
-        ipString.append(
-                "103.255.56.0\t103.255.59.255\t1024\n");
-        ipString.append(
-                "103.255.68.0\t103.255.71.255\t1024\n");
-        ipString.append(
-                "103.255.88.0\t103.255.95.255\t2048\n");
-        ipString.append(
-                "103.255.136.0\t103.255.143.255\t2048\n");
-        ipString.append(
-                "103.255.184.0\t103.255.187.255\t1024\n");
-        ipString.append(
-                "103.255.200.0\t103.255.203.255\t1024\n");
-        ipString.append(
-                "103.255.212.0\t103.255.215.255\t1024\n");
-        ipString.append(
-                "103.255.228.0\t103.255.231.255\t1024\n");
-        ipString.append(
-                "106.0.0.0\t106.0.0.255\t256\n");
-        ipString.append(
-                "106.0.2.0\t106.0.31.255\t7680\n");
-        ipString.append(
-                "106.0.44.0\t106.0.47.255\t1024\n");
-        ipString.append(
-                "106.0.64.0\t106.0.127.255\t16384\n");
-        ipString.append(
-                "106.2.0.0\t106.9.255.255\t524288\n");
-        ipString.append(
-                "106.11.0.0\t106.50.255.255\t2621440\n");
-        ipString.append(
-                "106.52.0.0\t106.63.255.255\t786432\n");
-        ipString.append(
-                "106.74.0.0\t106.75.255.255\t131072\n");
-        ipString.append(
-                "106.80.0.0\t106.95.255.255\t1048576\n");
-        ipString.append(
-                "106.108.0.0\t106.127.255.255\t1310720\n");
-        ipString.append(
-                "106.224.0.0\t106.239.255.255\t1048576\n");
-        ipString.append(
-                "109.244.0.0\t109.244.255.255\t65536\n");
-        ipString.append(
-                "110.6.0.0\t110.7.255.255\t131072\n");
-        ipString.append(
-                "110.16.0.0\t110.19.255.255\t262144\n");
-        ipString.append(
-                "110.34.40.0\t110.34.47.255\t2048\n");
-        ipString.append(
-                "110.40.0.0\t110.43.255.255\t262144\n");
-        ipString.append(
-                "110.44.12.0\t110.44.15.255\t1024\n");
-        ipString.append(
-                "110.44.144.0\t110.44.159.255\t4096\n");
-        ipString.append(
-                "110.48.0.0\t110.48.255.255\t65536\n");
-        ipString.append(
-                "110.51.0.0\t110.53.255.255\t196608\n");
-        ipString.append(
-                "110.56.0.0\t110.65.255.255\t655360\n");
-        ipString.append(
-                "110.72.0.0\t110.73.255.255\t131072\n");
-        ipString.append(
-                "110.75.0.0\t110.76.63.255\t81920\n");
-        ipString.append(
-                "110.76.132.0\t110.76.135.255\t1024\n");
-        ipString.append(
-                "110.76.156.0\t110.76.159.255\t1024\n");
-        ipString.append(
-                "110.76.184.0\t110.76.187.255\t1024\n");
-        ipString.append(
-                "110.76.192.0\t110.77.127.255\t49152\n");
-        ipString.append(
-                "110.80.0.0\t110.91.255.255\t786432\n");
-        ipString.append(
-                "110.92.68.0\t110.92.71.255\t1024\n");
-        ipString.append(
-                "110.93.32.0\t110.93.63.255\t8192\n");
-        ipString.append(
-                "110.94.0.0\t110.127.255.255\t2228224\n");
-        ipString.append(
-                "110.152.0.0\t110.157.255.255\t393216\n");
-        ipString.append(
-                "110.165.32.0\t110.165.63.255\t8192\n");
-        ipString.append(
-                "110.166.0.0\t110.167.255.255\t131072\n");
-        ipString.append(
-                "110.172.192.0\t110.173.47.255\t28672\n");
-        ipString.append(
-                "110.173.64.0\t110.173.127.255\t16384\n");
-        ipString.append(
-                "110.173.192.0\t110.173.223.255\t8192\n");
-        ipString.append(
-                "110.176.0.0\t110.223.255.255\t3145728\n");
-        ipString.append(
-                "110.228.0.0\t110.231.255.255\t262144\n");
-        ipString.append(
-                "110.232.32.0\t110.232.63.255\t8192\n");
-        ipString.append(
-                "110.236.0.0\t110.237.255.255\t131072\n");
-        ipString.append(
-                "110.240.0.0\t111.63.255.255\t5242880\n");
-        ipString.append(
-                "111.66.0.0\t111.66.255.255\t65536\n");
-        ipString.append(
-                "111.67.192.0\t111.67.207.255\t4096\n");
-        ipString.append(
-                "111.68.64.0\t111.68.95.255\t8192\n");
-        ipString.append(
-                "111.72.0.0\t111.79.255.255\t524288\n");
-        ipString.append(
-                "111.85.0.0\t111.85.255.255\t65536\n");
-        ipString.append(
-                "111.91.192.0\t111.91.223.255\t8192\n");
-        ipString.append(
-                "111.92.248.0\t111.92.255.255\t2048\n");
-        ipString.append(
-                "111.112.0.0\t111.117.255.255\t393216\n");
-        ipString.append(
-                "111.118.200.0\t111.118.207.255\t2048\n");
-        ipString.append(
-                "111.119.64.0\t111.119.159.255\t24576\n");
-        ipString.append(
-                "111.120.0.0\t111.124.255.255\t327680\n");
-        ipString.append(
-                "111.126.0.0\t111.167.255.255\t2752512\n");
-        ipString.append(
-                "111.170.0.0\t111.170.255.255\t65536\n");
-        ipString.append(
-                "111.172.0.0\t111.183.255.255\t786432\n");
-        ipString.append(
-                "111.186.0.0\t111.187.255.255\t131072\n");
-        ipString.append(
-                "111.192.0.0\t111.215.255.255\t1572864\n");
-        ipString.append(
-                "111.221.28.0\t111.221.28.255\t256\n");
-        ipString.append(
-                "111.221.128.0\t111.222.255.255\t98304\n");
-        ipString.append(
-                "111.223.4.0\t111.223.19.255\t4096\n");
-        ipString.append(
-                "111.223.240.0\t111.223.243.255\t1024\n");
-        ipString.append(
-                "111.223.248.0\t111.223.251.255\t1024\n");
-        ipString.append(
-                "111.224.0.0\t111.231.255.255\t524288\n");
-        ipString.append(
-                "111.235.96.0\t111.235.127.255\t8192\n");
-        ipString.append(
-                "111.235.156.0\t111.235.191.255\t9216\n");
-        ipString.append(
-                "112.0.0.0\t112.67.255.255\t4456448\n");
-        ipString.append(
-                "112.73.0.0\t112.75.255.255\t196608\n");
-        ipString.append(
-                "112.80.0.0\t112.103.255.255\t1572864\n");
-        ipString.append(
-                "112.109.128.0\t112.109.255.255\t32768\n");
-        ipString.append(
-                "112.111.0.0\t112.117.255.255\t458752\n");
-        ipString.append(
-                "112.122.0.0\t112.132.255.255\t720896\n");
-        ipString.append(
-                "112.137.48.0\t112.137.55.255\t2048\n");
-        ipString.append(
-                "112.192.0.0\t112.195.255.255\t262144\n");
-        ipString.append(
-                "112.224.0.0\t113.9.255.255\t2752512\n");
-        ipString.append(
-                "113.11.192.0\t113.11.223.255\t8192\n");
-        ipString.append(
-                "113.12.0.0\t113.18.255.255\t458752\n");
-        ipString.append(
-                "113.21.232.0\t113.21.239.255\t2048\n");
-        ipString.append(
-                "113.24.0.0\t113.27.255.255\t262144\n");
-        ipString.append(
-                "113.31.0.0\t113.31.255.255\t65536\n");
-        ipString.append(
-                "113.44.0.0\t113.51.255.255\t524288\n");
-        ipString.append(
-                "113.52.160.0\t113.52.191.255\t8192\n");
-        ipString.append(
-                "113.52.228.0\t113.52.231.255\t1024\n");
-        ipString.append(
-                "113.54.0.0\t113.59.127.255\t360448\n");
-        ipString.append(
-                "113.59.224.0\t113.59.227.255\t1024\n");
-        ipString.append(
-                "113.62.0.0\t113.129.255.255\t4456448\n");
-        ipString.append(
-                "113.130.96.0\t113.130.119.255\t6144\n");
-        ipString.append(
-                "113.132.0.0\t113.143.255.255\t786432\n");
-        ipString.append(
-                "113.194.0.0\t113.195.255.255\t131072\n");
-        ipString.append(
-                "113.197.100.0\t113.197.103.255\t1024\n");
-        ipString.append(
-                "113.200.0.0\t113.202.255.255\t196608\n");
-        ipString.append(
-                "113.204.0.0\t113.207.255.255\t262144\n");
-        ipString.append(
-                "113.208.96.0\t113.209.255.255\t106496\n");
-        ipString.append(
-                "113.212.0.0\t113.212.63.255\t16384\n");
-        ipString.append(
-                "113.212.88.0\t113.212.91.255\t1024\n");
-        ipString.append(
-                "113.212.100.0\t113.212.103.255\t1024\n");
-        ipString.append(
-                "113.212.184.0\t113.212.191.255\t2048\n");
-        ipString.append(
-                "113.213.0.0\t113.213.127.255\t32768\n");
-        ipString.append(
-                "113.214.0.0\t113.215.255.255\t131072\n");
-        ipString.append(
-                "113.218.0.0\t113.251.255.255\t2228224\n");
-        ipString.append(
-                "114.28.0.0\t114.28.255.255\t65536\n");
-        ipString.append(
-                "114.31.64.0\t114.31.71.255\t2048\n");
-        ipString.append(
-                "114.54.0.0\t114.55.255.255\t131072\n");
-        ipString.append(
-                "114.60.0.0\t114.68.255.255\t589824\n");
-        ipString.append(
-                "114.79.64.0\t114.79.127.255\t16384\n");
-        ipString.append(
-                "114.80.0.0\t114.107.255.255\t1835008\n");
-        ipString.append(
-                "114.110.0.0\t114.110.15.255\t4096\n");
-        ipString.append(
-                "114.110.64.0\t114.110.127.255\t16384\n");
-        ipString.append(
-                "114.111.0.0\t114.111.31.255\t8192\n");
-        ipString.append(
-                "114.111.160.0\t114.111.191.255\t8192\n");
-        ipString.append(
-                "114.112.0.0\t114.119.127.255\t491520\n");
-        ipString.append(
-                "114.119.192.0\t114.119.255.255\t16384\n");
-        ipString.append(
-                "114.132.0.0\t114.132.255.255\t65536\n");
-        ipString.append(
-                "114.135.0.0\t114.135.255.255\t65536\n");
-        ipString.append(
-                "114.138.0.0\t114.139.255.255\t131072\n");
-        ipString.append(
-                "114.141.64.0\t114.141.71.255\t2048\n");
-        ipString.append(
-                "114.141.80.0\t114.141.87.255\t2048\n");
-        ipString.append(
-                "114.141.128.0\t114.141.191.255\t16384\n");
-        ipString.append(
-                "114.196.0.0\t114.197.255.255\t131072\n");
-        ipString.append(
-                "114.198.248.0\t114.198.255.255\t2048\n");
-        ipString.append(
-                "114.208.0.0\t114.255.255.255\t3145728\n");
-        ipString.append(
-                "115.24.0.0\t115.29.255.255\t393216\n");
-        ipString.append(
-                "115.31.64.0\t115.31.79.255\t4096\n");
-        ipString.append(
-                "115.32.0.0\t115.35.255.255\t262144\n");
-        ipString.append(
-                "115.42.56.0\t115.42.59.255\t1024\n");
-        ipString.append(
-                "115.44.0.0\t115.63.255.255\t1310720\n");
-        ipString.append(
-                "115.69.64.0\t115.69.79.255\t4096\n");
-        ipString.append(
-                "115.84.0.0\t115.84.63.255\t16384\n");
-        ipString.append(
-                "115.84.192.0\t115.84.223.255\t8192\n");
-        ipString.append(
-                "115.85.192.0\t115.85.255.255\t16384\n");
-        ipString.append(
-                "115.100.0.0\t115.107.255.255\t524288\n");
-        ipString.append(
-                "115.120.0.0\t115.123.255.255\t262144\n");
-        ipString.append(
-                "115.124.16.0\t115.124.31.255\t4096\n");
-        ipString.append(
-                "115.148.0.0\t115.159.255.255\t786432\n");
-        ipString.append(
-                "115.166.64.0\t115.166.95.255\t8192\n");
-        ipString.append(
-                "115.168.0.0\t115.175.255.255\t524288\n");
-        ipString.append(
-                "115.180.0.0\t115.183.255.255\t262144\n");
-        ipString.append(
-                "115.187.0.0\t115.187.15.255\t4096\n");
-        ipString.append(
-                "115.190.0.0\t115.239.255.255\t3276800\n");
-        ipString.append(
-                "116.0.8.0\t116.0.15.255\t2048\n");
-        ipString.append(
-                "116.0.24.0\t116.0.31.255\t2048\n");
-        ipString.append(
-                "116.1.0.0\t116.11.255.255\t720896\n");
-        ipString.append(
-                "116.13.0.0\t116.13.255.255\t65536\n");
-        ipString.append(
-                "116.16.0.0\t116.31.255.255\t1048576\n");
-        ipString.append(
-                "116.50.0.0\t116.50.15.255\t4096\n");
-        ipString.append(
-                "116.52.0.0\t116.57.255.255\t393216\n");
-        ipString.append(
-                "116.58.128.0\t116.58.143.255\t4096\n");
-        ipString.append(
-                "116.58.208.0\t116.58.223.255\t4096\n");
-        ipString.append(
-                "116.60.0.0\t116.63.255.255\t262144\n");
-        ipString.append(
-                "116.66.0.0\t116.66.127.255\t32768\n");
-        ipString.append(
-                "116.66.176.0\t116.66.179.255\t1024\n");
-        ipString.append(
-                "116.68.136.0\t116.68.143.255\t2048\n");
-        ipString.append(
-                "116.68.176.0\t116.68.183.255\t2048\n");
-        ipString.append(
-                "116.69.0.0\t116.70.127.255\t98304\n");
-        ipString.append(
-                "116.76.0.0\t116.79.255.255\t262144\n");
-        ipString.append(
-                "116.85.0.0\t116.85.255.255\t65536\n");
-        ipString.append(
-                "116.89.144.0\t116.89.159.255\t4096\n");
-        ipString.append(
-                "116.89.240.0\t116.89.243.255\t1024\n");
-        ipString.append(
-                "116.90.80.0\t116.90.95.255\t4096\n");
-        ipString.append(
-                "116.90.184.0\t116.90.191.255\t2048\n");
-        ipString.append(
-                "116.95.0.0\t116.95.255.255\t65536\n");
-        ipString.append(
-                "116.112.0.0\t116.117.255.255\t393216\n");
-        ipString.append(
-                "116.128.0.0\t116.192.255.255\t4259840\n");
-        ipString.append(
-                "116.193.16.0\t116.193.63.255\t12288\n");
-        ipString.append(
-                "116.193.152.0\t116.193.155.255\t1024\n");
-        ipString.append(
-                "116.193.164.0\t116.193.167.255\t1024\n");
-        ipString.append(
-                "116.193.176.0\t116.193.183.255\t2048\n");
-        ipString.append(
-                "116.194.0.0\t116.196.255.255\t196608\n");
-        ipString.append(
-                "116.197.160.0\t116.197.167.255\t2048\n");
-        ipString.append(
-                "116.198.0.0\t116.199.159.255\t106496\n");
-        ipString.append(
-                "116.204.0.0\t116.204.127.255\t32768\n");
-        ipString.append(
-                "116.204.132.0\t116.204.135.255\t1024\n");
-        ipString.append(
-                "116.204.168.0\t116.204.171.255\t1024\n");
-        ipString.append(
-                "116.204.216.0\t116.204.219.255\t1024\n");
-        ipString.append(
-                "116.204.232.0\t116.204.235.255\t1024\n");
-        ipString.append(
-                "116.205.0.0\t116.205.255.255\t65536\n");
-        ipString.append(
-                "116.206.92.0\t116.206.95.255\t1024\n");
-        ipString.append(
-                "116.206.176.0\t116.206.179.255\t1024\n");
-        ipString.append(
-                "116.207.0.0\t116.211.255.255\t327680\n");
-        ipString.append(
-                "116.212.160.0\t116.212.175.255\t4096\n");
-        ipString.append(
-                "116.213.44.0\t116.213.47.255\t1024\n");
-        ipString.append(
-                "116.213.64.0\t116.213.255.255\t49152\n");
-        ipString.append(
-                "116.214.32.0\t116.214.79.255\t12288\n");
-        ipString.append(
-                "116.214.128.0\t116.219.255.255\t360448\n");
-        ipString.append(
-                "116.224.0.0\t116.239.255.255\t1048576\n");
-        ipString.append(
-                "116.242.0.0\t116.249.255.255\t524288\n");
-        ipString.append(
-                "116.251.64.0\t116.251.127.255\t16384\n");
-        ipString.append(
-                "116.252.0.0\t116.253.255.255\t131072\n");
-        ipString.append(
-                "116.254.104.0\t116.254.111.255\t2048\n");
-        ipString.append(
-                "116.254.128.0\t116.254.255.255\t32768\n");
-        ipString.append(
-                "116.255.128.0\t116.255.255.255\t32768\n");
-        ipString.append(
-                "117.8.0.0\t117.15.255.255\t524288\n");
-        ipString.append(
-                "117.21.0.0\t117.45.255.255\t1638400\n");
-        ipString.append(
-                "117.48.0.0\t117.51.255.255\t262144\n");
-        ipString.append(
-                "117.53.48.0\t117.53.63.255\t4096\n");
-        ipString.append(
-                "117.53.176.0\t117.53.191.255\t4096\n");
-        ipString.append(
-                "117.57.0.0\t117.58.127.255\t98304\n");
-        ipString.append(
-                "117.59.0.0\t117.73.255.255\t983040\n");
-        ipString.append(
-                "117.74.64.0\t117.74.95.255\t8192\n");
-        ipString.append(
-                "117.74.128.0\t117.95.255.255\t1409024\n");
-        ipString.append(
-                "117.100.0.0\t117.101.255.255\t131072\n");
-        ipString.append(
-                "117.103.16.0\t117.103.31.255\t4096\n");
-        ipString.append(
-                "117.103.40.0\t117.103.47.255\t2048\n");
-        ipString.append(
-                "117.103.72.0\t117.103.79.255\t2048\n");
-        ipString.append(
-                "117.103.128.0\t117.103.143.255\t4096\n");
-        ipString.append(
-                "117.104.168.0\t117.104.175.255\t2048\n");
-        ipString.append(
-                "117.106.0.0\t117.107.255.255\t131072\n");
-        ipString.append(
-                "117.112.0.0\t117.119.255.255\t524288\n");
-        ipString.append(
-                "117.120.64.0\t117.121.199.255\t100352\n");
-        ipString.append(
-                "117.122.128.0\t117.122.255.255\t32768\n");
-        ipString.append(
-                "117.124.0.0\t117.191.255.255\t4456448\n");
-        ipString.append(
-                "118.24.0.0\t118.26.35.255\t140288\n");
-        ipString.append(
-                "118.26.40.0\t118.26.103.255\t16384\n");
-        ipString.append(
-                "118.26.112.0\t118.26.143.255\t8192\n");
-        ipString.append(
-                "118.26.160.0\t118.26.255.255\t24576\n");
-        ipString.append(
-                "118.28.0.0\t118.31.255.255\t262144\n");
-        ipString.append(
-                "118.64.0.0\t118.66.255.255\t196608\n");
-        ipString.append(
-                "118.67.112.0\t118.67.127.255\t4096\n");
-        ipString.append(
-                "118.72.0.0\t118.81.255.255\t655360\n");
-        ipString.append(
-                "118.84.0.0\t118.85.255.255\t131072\n");
-        ipString.append(
-                "118.88.32.0\t118.89.255.255\t122880\n");
-        ipString.append(
-                "118.91.240.0\t118.91.255.255\t4096\n");
-        ipString.append(
-                "118.102.16.0\t118.102.39.255\t6144\n");
-        ipString.append(
-                "118.103.164.0\t118.103.179.255\t4096\n");
-        ipString.append(
-                "118.107.180.0\t118.107.183.255\t1024\n");
-        ipString.append(
-                "118.112.0.0\t118.126.255.255\t983040\n");
-        ipString.append(
-                "118.127.128.0\t118.127.159.255\t8192\n");
-        ipString.append(
-                "118.132.0.0\t118.135.255.255\t262144\n");
-        ipString.append(
-                "118.144.0.0\t118.147.255.255\t262144\n");
-        ipString.append(
-                "118.178.0.0\t118.178.255.255\t65536\n");
-        ipString.append(
-                "118.180.0.0\t118.184.255.255\t327680\n");
-        ipString.append(
-                "118.186.0.0\t118.188.255.255\t196608\n");
-        ipString.append(
-                "118.190.0.0\t118.191.12.255\t68864\n");
-        ipString.append(
-                "118.191.16.0\t118.191.23.255\t2048\n");
-        ipString.append(
-                "118.191.64.0\t118.191.83.255\t5120\n");
-        ipString.append(
-                "118.191.128.0\t118.191.159.255\t8192\n");
-        ipString.append(
-                "118.191.176.0\t118.191.208.255\t8448\n");
-        ipString.append(
-                "118.191.216.0\t118.191.219.255\t1024\n");
-        ipString.append(
-                "118.191.223.0\t118.191.224.255\t512\n");
-        ipString.append(
-                "118.191.240.0\t118.193.15.255\t73728\n");
-        ipString.append(
-                "118.193.48.0\t118.193.55.255\t2048\n");
-        ipString.append(
-                "118.193.96.0\t118.194.227.255\t99328\n");
-        ipString.append(
-                "118.194.240.0\t118.194.247.255\t2048\n");
-        ipString.append(
-                "118.195.0.0\t118.199.255.255\t327680\n");
-        ipString.append(
-                "118.202.0.0\t118.207.255.255\t393216\n");
-        ipString.append(
-                "118.212.0.0\t118.213.255.255\t131072\n");
-        ipString.append(
-                "118.215.192.0\t118.215.255.255\t16384\n");
-        ipString.append(
-                "118.224.0.0\t118.230.255.255\t458752\n");
-        ipString.append(
-                "118.239.0.0\t118.239.255.255\t65536\n");
-        ipString.append(
-                "118.242.0.0\t118.242.255.255\t65536\n");
-        ipString.append(
-                "118.244.0.0\t119.2.31.255\t925696\n");
-        ipString.append(
-                "119.2.128.0\t119.7.255.255\t360448\n");
-        ipString.append(
-                "119.10.0.0\t119.10.127.255\t32768\n");
-        ipString.append(
-                "119.15.136.0\t119.15.143.255\t2048\n");
-        ipString.append(
-                "119.16.0.0\t119.16.255.255\t65536\n");
-        ipString.append(
-                "119.18.192.0\t119.18.215.255\t6144\n");
-        ipString.append(
-                "119.18.224.0\t119.23.255.255\t335872\n");
-        ipString.append(
-                "119.27.64.0\t119.29.255.255\t180224\n");
-        ipString.append(
-                "119.30.48.0\t119.30.63.255\t4096\n");
-        ipString.append(
-                "119.31.192.0\t119.31.223.255\t8192\n");
-        ipString.append(
-                "119.32.0.0\t119.40.79.255\t544768\n");
-        ipString.append(
-                "119.40.128.0\t119.42.31.255\t106496\n");
-        ipString.append(
-                "119.42.52.0\t119.42.55.255\t1024\n");
-        ipString.append(
-                "119.42.128.0\t119.42.143.255\t4096\n");
-        ipString.append(
-                "119.42.224.0\t119.42.255.255\t8192\n");
-        ipString.append(
-                "119.44.0.0\t119.45.255.255\t131072\n");
-        ipString.append(
-                "119.48.0.0\t119.55.255.255\t524288\n");
-        ipString.append(
-                "119.57.0.0\t119.58.255.255\t131072\n");
-        ipString.append(
-                "119.59.128.0\t119.62.255.255\t229376\n");
-        ipString.append(
-                "119.63.32.0\t119.63.63.255\t8192\n");
-        ipString.append(
-                "119.75.208.0\t119.75.223.255\t4096\n");
-        ipString.append(
-                "119.78.0.0\t119.80.255.255\t196608\n");
-        ipString.append(
-                "119.82.208.0\t119.82.223.255\t4096\n");
-        ipString.append(
-                "119.84.0.0\t119.91.255.255\t524288\n");
-        ipString.append(
-                "119.96.0.0\t119.103.255.255\t524288\n");
-        ipString.append(
-                "119.108.0.0\t119.109.255.255\t131072\n");
-        ipString.append(
-                "119.112.0.0\t119.147.255.255\t2359296\n");
-        ipString.append(
-                "119.148.160.0\t119.148.191.255\t8192\n");
-        ipString.append(
-                "119.151.192.0\t119.151.255.255\t16384\n");
-        ipString.append(
-                "119.160.200.0\t119.160.207.255\t2048\n");
-        ipString.append(
-                "119.161.120.0\t119.167.255.255\t428032\n");
-        ipString.append(
-                "119.176.0.0\t119.191.255.255\t1048576\n");
-        ipString.append(
-                "119.232.0.0\t119.233.255.255\t131072\n");
-        ipString.append(
-                "119.235.128.0\t119.235.191.255\t16384\n");
-        ipString.append(
-                "119.248.0.0\t119.251.255.255\t262144\n");
-        ipString.append(
-                "119.252.96.0\t119.252.103.255\t2048\n");
-        ipString.append(
-                "119.252.240.0\t120.15.255.255\t1249280\n");
-        ipString.append(
-                "120.24.0.0\t120.27.255.255\t262144\n");
-        ipString.append(
-                "120.30.0.0\t120.49.255.255\t1310720\n");
-        ipString.append(
-                "120.52.0.0\t120.55.255.255\t262144\n");
-        ipString.append(
-                "120.64.0.0\t120.71.255.255\t524288\n");
-        ipString.append(
-                "120.72.32.0\t120.72.63.255\t8192\n");
-        ipString.append(
-                "120.72.128.0\t120.72.255.255\t32768\n");
-        ipString.append(
-                "120.76.0.0\t120.87.255.255\t786432\n");
-        ipString.append(
-                "120.88.8.0\t120.88.15.255\t2048\n");
-        ipString.append(
-                "120.90.0.0\t120.92.255.255\t196608\n");
-        ipString.append(
-                "120.94.0.0\t120.95.255.255\t131072\n");
-        ipString.append(
-                "120.128.0.0\t120.135.255.255\t524288\n");
-        ipString.append(
-                "120.136.16.0\t120.136.23.255\t2048\n");
-        ipString.append(
-                "120.136.128.0\t120.136.191.255\t16384\n");
-        ipString.append(
-                "120.137.0.0\t120.137.127.255\t32768\n");
-        ipString.append(
-                "120.143.128.0\t120.143.159.255\t8192\n");
-        ipString.append(
-                "120.192.0.0\t120.255.255.255\t4194304\n");
-        ipString.append(
-                "121.0.8.0\t121.0.31.255\t6144\n");
-        ipString.append(
-                "121.4.0.0\t121.5.255.255\t131072\n");
-        ipString.append(
-                "121.8.0.0\t121.43.255.255\t2359296\n");
-        ipString.append(
-                "121.46.0.0\t121.46.63.255\t16384\n");
-        ipString.append(
-                "121.46.76.0\t121.46.79.255\t1024\n");
-        ipString.append(
-                "121.46.128.0\t121.49.255.255\t229376\n");
-        ipString.append(
-                "121.50.8.0\t121.50.15.255\t2048\n");
-        ipString.append(
-                "121.51.0.0\t121.51.255.255\t65536\n");
-        ipString.append(
-                "121.52.160.0\t121.52.191.255\t8192\n");
-        ipString.append(
-                "121.52.208.0\t121.52.255.255\t12288\n");
-        ipString.append(
-                "121.54.176.0\t121.54.183.255\t2048\n");
-        ipString.append(
-                "121.54.188.0\t121.54.191.255\t1024\n");
-        ipString.append(
-                "121.55.0.0\t121.55.63.255\t16384\n");
-        ipString.append(
-                "121.56.0.0\t121.58.127.255\t163840\n");
-        ipString.append(
-                "121.58.136.0\t121.58.167.255\t8192\n");
-        ipString.append(
-                "121.59.0.0\t121.63.255.255\t327680\n");
-        ipString.append(
-                "121.68.0.0\t121.71.255.255\t262144\n");
-        ipString.append(
-                "121.76.0.0\t121.77.255.255\t131072\n");
-        ipString.append(
-                "121.79.128.0\t121.79.191.255\t16384\n");
-        ipString.append(
-                "121.89.0.0\t121.89.255.255\t65536\n");
-        ipString.append(
-                "121.100.128.0\t121.101.63.255\t49152\n");
-        ipString.append(
-                "121.101.208.0\t121.101.223.255\t4096\n");
-        ipString.append(
-                "121.192.0.0\t121.199.255.255\t524288\n");
-        ipString.append(
-                "121.200.192.0\t121.200.199.255\t2048\n");
-        ipString.append(
-                "121.201.0.0\t121.201.255.255\t65536\n");
-        ipString.append(
-                "121.204.0.0\t121.207.255.255\t262144\n");
-        ipString.append(
-                "121.224.0.0\t121.239.255.255\t1048576\n");
-        ipString.append(
-                "121.248.0.0\t121.251.255.255\t262144\n");
-        ipString.append(
-                "121.255.0.0\t121.255.255.255\t65536\n");
-        ipString.append(
-                "122.0.64.0\t122.0.255.255\t49152\n");
-        ipString.append(
-                "122.4.0.0\t122.9.255.255\t393216\n");
-        ipString.append(
-                "122.10.128.0\t122.10.133.255\t1536\n");
-        ipString.append(
-                "122.10.136.0\t122.10.137.255\t512\n");
-        ipString.append(
-                "122.10.164.0\t122.10.195.255\t8192\n");
-        ipString.append(
-                "122.10.200.0\t122.10.219.255\t5120\n");
-        ipString.append(
-                "122.10.228.0\t122.10.243.255\t4096\n");
-        ipString.append(
-                "122.11.0.0\t122.11.127.255\t32768\n");
-        ipString.append(
-                "122.12.0.0\t122.14.255.255\t196608\n");
-        ipString.append(
-                "122.48.0.0\t122.49.63.255\t81920\n");
-        ipString.append(
-                "122.51.0.0\t122.51.255.255\t65536\n");
-        ipString.append(
-                "122.64.0.0\t122.97.255.255\t2228224\n");
-        ipString.append(
-                "122.102.0.0\t122.102.15.255\t4096\n");
-        ipString.append(
-                "122.102.64.0\t122.102.95.255\t8192\n");
-        ipString.append(
-                "122.112.0.0\t122.115.255.255\t262144\n");
-        ipString.append(
-                "122.119.0.0\t122.119.255.255\t65536\n");
-        ipString.append(
-                "122.128.100.0\t122.128.103.255\t1024\n");
-        ipString.append(
-                "122.128.120.0\t122.128.127.255\t2048\n");
-        ipString.append(
-                "122.136.0.0\t122.143.255.255\t524288\n");
-        ipString.append(
-                "122.144.128.0\t122.144.255.255\t32768\n");
-        ipString.append(
-                "122.152.192.0\t122.152.255.255\t16384\n");
-        ipString.append(
-                "122.156.0.0\t122.159.255.255\t262144\n");
-        ipString.append(
-                "122.188.0.0\t122.195.255.255\t524288\n");
-        ipString.append(
-                "122.198.0.0\t122.198.255.255\t65536\n");
-        ipString.append(
-                "122.200.40.0\t122.200.47.255\t2048\n");
-        ipString.append(
-                "122.200.64.0\t122.200.127.255\t16384\n");
-        ipString.append(
-                "122.201.48.0\t122.201.63.255\t4096\n");
-        ipString.append(
-                "122.204.0.0\t122.207.255.255\t262144\n");
-        ipString.append(
-                "122.224.0.0\t122.247.255.255\t1572864\n");
-        ipString.append(
-                "122.248.24.0\t122.248.31.255\t2048\n");
-        ipString.append(
-                "122.248.48.0\t122.248.63.255\t4096\n");
-        ipString.append(
-                "122.255.64.0\t122.255.71.255\t2048\n");
-        ipString.append(
-                "123.0.128.0\t123.0.191.255\t16384\n");
-        ipString.append(
-                "123.4.0.0\t123.15.255.255\t786432\n");
-        ipString.append(
-                "123.49.128.0\t123.49.255.255\t32768\n");
-        ipString.append(
-                "123.50.160.0\t123.50.191.255\t8192\n");
-        ipString.append(
-                "123.52.0.0\t123.58.191.255\t442368\n");
-        ipString.append(
-                "123.58.224.0\t123.62.255.255\t270336\n");
-        ipString.append(
-                "123.64.0.0\t123.98.127.255\t2260992\n");
-        ipString.append(
-                "123.99.128.0\t123.100.31.255\t40960\n");
-        ipString.append(
-                "123.101.0.0\t123.101.255.255\t65536\n");
-        ipString.append(
-                "123.103.0.0\t123.103.127.255\t32768\n");
-        ipString.append(
-                "123.108.128.0\t123.108.143.255\t4096\n");
-        ipString.append(
-                "123.108.208.0\t123.108.223.255\t4096\n");
-        ipString.append(
-                "123.112.0.0\t123.135.255.255\t1572864\n");
-        ipString.append(
-                "123.136.80.0\t123.136.95.255\t4096\n");
-        ipString.append(
-                "123.137.0.0\t123.139.255.255\t196608\n");
-        ipString.append(
-                "123.144.0.0\t123.175.255.255\t2097152\n");
-        ipString.append(
-                "123.176.60.0\t123.176.63.255\t1024\n");
-        ipString.append(
-                "123.176.80.0\t123.176.95.255\t4096\n");
-        ipString.append(
-                "123.177.0.0\t123.191.255.255\t983040\n");
-        ipString.append(
-                "123.196.0.0\t123.197.255.255\t131072\n");
-        ipString.append(
-                "123.199.128.0\t123.199.255.255\t32768\n");
-        ipString.append(
-                "123.206.0.0\t123.207.255.255\t131072\n");
-        ipString.append(
-                "123.232.0.0\t123.235.255.255\t262144\n");
-        ipString.append(
-                "123.242.0.0\t123.242.127.255\t32768\n");
-        ipString.append(
-                "123.242.192.0\t123.242.199.255\t2048\n");
-        ipString.append(
-                "123.244.0.0\t123.247.255.255\t262144\n");
-        ipString.append(
-                "123.249.0.0\t123.249.255.255\t65536\n");
-        ipString.append(
-                "123.253.108.0\t123.253.111.255\t1024\n");
-        ipString.append(
-                "123.253.240.0\t123.253.243.255\t1024\n");
-        ipString.append(
-                "123.254.96.0\t123.254.103.255\t2048\n");
-        ipString.append(
-                "124.6.64.0\t124.6.127.255\t16384\n");
-        ipString.append(
-                "124.14.0.0\t124.17.255.255\t262144\n");
-        ipString.append(
-                "124.20.0.0\t124.23.255.255\t262144\n");
-        ipString.append(
-                "124.28.192.0\t124.29.127.255\t49152\n");
-        ipString.append(
-                "124.31.0.0\t124.31.255.255\t65536\n");
-        ipString.append(
-                "124.40.112.0\t124.40.223.255\t28672\n");
-        ipString.append(
-                "124.40.240.0\t124.40.243.255\t1024\n");
-        ipString.append(
-                "124.42.0.0\t124.42.255.255\t65536\n");
-        ipString.append(
-                "124.47.0.0\t124.47.63.255\t16384\n");
-        ipString.append(
-                "124.64.0.0\t124.66.127.255\t163840\n");
-        ipString.append(
-                "124.67.0.0\t124.79.255.255\t851968\n");
-        ipString.append(
-                "124.88.0.0\t124.95.255.255\t524288\n");
-        ipString.append(
-                "124.108.8.0\t124.108.15.255\t2048\n");
-        ipString.append(
-                "124.108.40.0\t124.108.47.255\t2048\n");
-        ipString.append(
-                "124.109.96.0\t124.109.103.255\t2048\n");
-        ipString.append(
-                "124.112.0.0\t124.119.255.255\t524288\n");
-        ipString.append(
-                "124.126.0.0\t124.135.255.255\t655360\n");
-        ipString.append(
-                "124.147.128.0\t124.147.255.255\t32768\n");
-        ipString.append(
-                "124.150.137.0\t124.150.137.255\t256\n");
-        ipString.append(
-                "124.151.0.0\t124.152.255.255\t131072\n");
-        ipString.append(
-                "124.160.0.0\t124.167.255.255\t524288\n");
-        ipString.append(
-                "124.172.0.0\t124.175.255.255\t262144\n");
-        ipString.append(
-                "124.192.0.0\t124.193.255.255\t131072\n");
-        ipString.append(
-                "124.196.0.0\t124.196.255.255\t65536\n");
-        ipString.append(
-                "124.200.0.0\t124.207.255.255\t524288\n");
-        ipString.append(
-                "124.220.0.0\t124.240.191.255\t1359872\n");
-        ipString.append(
-                "124.242.0.0\t124.242.255.255\t65536\n");
-        ipString.append(
-                "124.243.192.0\t124.243.255.255\t16384\n");
-        ipString.append(
-                "124.248.0.0\t124.248.127.255\t32768\n");
-        ipString.append(
-                "124.249.0.0\t124.251.255.255\t196608\n");
-        ipString.append(
-                "124.254.0.0\t124.254.63.255\t16384\n");
-        ipString.append(
-                "125.31.192.0\t125.47.255.255\t1064960\n");
-        ipString.append(
-                "125.58.128.0\t125.58.255.255\t32768\n");
-        ipString.append(
-                "125.61.128.0\t125.62.63.255\t49152\n");
-        ipString.append(
-                "125.64.0.0\t125.98.255.255\t2293760\n");
-        ipString.append(
-                "125.104.0.0\t125.127.255.255\t1572864\n");
-        ipString.append(
-                "125.169.0.0\t125.169.255.255\t65536\n");
-        ipString.append(
-                "125.171.0.0\t125.171.255.255\t65536\n");
-        ipString.append(
-                "125.208.0.0\t125.208.63.255\t16384\n");
-        ipString.append(
-                "125.210.0.0\t125.211.255.255\t131072\n");
-        ipString.append(
-                "125.213.0.0\t125.213.127.255\t32768\n");
-        ipString.append(
-                "125.214.96.0\t125.214.127.255\t8192\n");
-        ipString.append(
-                "125.215.0.0\t125.215.63.255\t16384\n");
-        ipString.append(
-                "125.216.0.0\t125.223.255.255\t524288\n");
-        ipString.append(
-                "125.254.128.0\t125.254.255.255\t32768\n");
-        ipString.append(
-                "128.108.0.0\t128.108.255.255\t65536\n");
-        ipString.append(
-                "129.28.0.0\t129.28.255.255\t65536\n");
-        ipString.append(
-                "129.204.0.0\t129.204.255.255\t65536\n");
-        ipString.append(
-                "129.211.0.0\t129.211.255.255\t65536\n");
-        ipString.append(
-                "132.232.0.0\t132.232.255.255\t65536\n");
-        ipString.append(
-                "134.175.0.0\t134.175.255.255\t65536\n");
-        ipString.append(
-                "137.59.59.0\t137.59.59.255\t256\n");
-        ipString.append(
-                "137.59.88.0\t137.59.91.255\t1024\n");
-        ipString.append(
-                "139.5.56.0\t139.5.63.255\t2048\n");
-        ipString.append(
-                "139.5.80.0\t139.5.83.255\t1024\n");
-        ipString.append(
-                "139.5.92.0\t139.5.95.255\t1024\n");
-        ipString.append(
-                "139.5.108.0\t139.5.111.255\t1024\n");
-        ipString.append(
-                "139.5.128.0\t139.5.131.255\t1024\n");
-        ipString.append(
-                "139.5.160.0\t139.5.163.255\t1024\n");
-        ipString.append(
-                "139.5.192.0\t139.5.195.255\t1024\n");
-        ipString.append(
-                "139.5.204.0\t139.5.215.255\t3072\n");
-        ipString.append(
-                "139.5.244.0\t139.5.247.255\t1024\n");
-        ipString.append(
-                "139.9.0.0\t139.9.255.255\t65536\n");
-        ipString.append(
-                "139.129.0.0\t139.129.255.255\t65536\n");
-        ipString.append(
-                "139.148.0.0\t139.148.255.255\t65536\n");
-        ipString.append(
-                "139.155.0.0\t139.155.255.255\t65536\n");
-        ipString.append(
-                "139.159.0.0\t139.159.255.255\t65536\n");
-        ipString.append(
-                "139.170.0.0\t139.170.255.255\t65536\n");
-        ipString.append(
-                "139.176.0.0\t139.176.255.255\t65536\n");
-        ipString.append(
-                "139.183.0.0\t139.183.255.255\t65536\n");
-        ipString.append(
-                "139.186.0.0\t139.186.255.255\t65536\n");
-        ipString.append(
-                "139.189.0.0\t139.189.255.255\t65536\n");
-        ipString.append(
-                "139.196.0.0\t139.215.255.255\t1310720\n");
-        ipString.append(
-                "139.217.0.0\t139.217.255.255\t65536\n");
-        ipString.append(
-                "139.219.0.0\t139.221.255.255\t196608\n");
-        ipString.append(
-                "139.224.0.0\t139.224.255.255\t65536\n");
-        ipString.append(
-                "139.226.0.0\t139.227.255.255\t131072\n");
-        ipString.append(
-                "140.75.0.0\t140.75.255.255\t65536\n");
-        ipString.append(
-                "140.143.0.0\t140.143.255.255\t65536\n");
-        ipString.append(
-                "140.179.0.0\t140.179.255.255\t65536\n");
-        ipString.append(
-                "140.205.0.0\t140.207.255.255\t196608\n");
-        ipString.append(
-                "140.210.0.0\t140.210.255.255\t65536\n");
-        ipString.append(
-                "140.224.0.0\t140.224.255.255\t65536\n");
-        ipString.append(
-                "140.237.0.0\t140.237.255.255\t65536\n");
-        ipString.append(
-                "140.240.0.0\t140.240.255.255\t65536\n");
-        ipString.append(
-                "140.243.0.0\t140.243.255.255\t65536\n");
-        ipString.append(
-                "140.246.0.0\t140.246.255.255\t65536\n");
-        ipString.append(
-                "140.249.0.0\t140.250.255.255\t131072\n");
-        ipString.append(
-                "140.255.0.0\t140.255.255.255\t65536\n");
-        ipString.append(
-                "142.70.0.0\t142.70.255.255\t65536\n");
-        ipString.append(
-                "142.86.0.0\t142.86.255.255\t65536\n");
-        ipString.append(
-                "144.0.0.0\t144.0.255.255\t65536\n");
-        ipString.append(
-                "144.7.0.0\t144.7.255.255\t65536\n");
-        ipString.append(
-                "144.12.0.0\t144.12.255.255\t65536\n");
-        ipString.append(
-                "144.48.8.0\t144.48.11.255\t1024\n");
-        ipString.append(
-                "144.48.64.0\t144.48.67.255\t1024\n");
-        ipString.append(
-                "144.48.88.0\t144.48.91.255\t1024\n");
-        ipString.append(
-                "144.48.156.0\t144.48.159.255\t1024\n");
-        ipString.append(
-                "144.48.180.0\t144.48.187.255\t2048\n");
-        ipString.append(
-                "144.48.204.0\t144.48.215.255\t3072\n");
-        ipString.append(
-                "144.48.220.0\t144.48.223.255\t1024\n");
-        ipString.append(
-                "144.48.252.0\t144.48.255.255\t1024\n");
-        ipString.append(
-                "144.52.0.0\t144.52.255.255\t65536\n");
-        ipString.append(
-                "144.123.0.0\t144.123.255.255\t65536\n");
-        ipString.append(
-                "144.255.0.0\t144.255.255.255\t65536\n");
-        ipString.append(
-                "146.56.192.0\t146.56.255.255\t16384\n");
-        ipString.append(
-                "146.196.56.0\t146.196.59.255\t1024\n");
-        ipString.append(
-                "146.196.68.0\t146.196.75.255\t2048\n");
-        ipString.append(
-                "146.196.92.0\t146.196.95.255\t1024\n");
-        ipString.append(
-                "146.196.112.0\t146.196.119.255\t2048\n");
-        ipString.append(
-                "146.196.124.0\t146.196.127.255\t1024\n");
-        ipString.append(
-                "148.70.0.0\t148.70.255.255\t65536\n");
-        ipString.append(
-                "149.41.0.0\t149.41.255.255\t65536\n");
-        ipString.append(
-                "150.0.0.0\t150.0.255.255\t65536\n");
-        ipString.append(
-                "150.115.0.0\t150.115.255.255\t65536\n");
-        ipString.append(
-                "150.121.0.0\t150.122.255.255\t131072\n");
-        ipString.append(
-                "150.129.136.0\t150.129.139.255\t1024\n");
-        ipString.append(
-                "150.129.192.0\t150.129.195.255\t1024\n");
-        ipString.append(
-                "150.129.216.0\t150.129.219.255\t1024\n");
-        ipString.append(
-                "150.129.252.0\t150.129.255.255\t1024\n");
-        ipString.append(
-                "150.138.0.0\t150.139.255.255\t131072\n");
-        ipString.append(
-                "150.158.0.0\t150.158.255.255\t65536\n");
-        ipString.append(
-                "150.223.0.0\t150.223.255.255\t65536\n");
-        ipString.append(
-                "150.242.0.0\t150.242.11.255\t3072\n");
-        ipString.append(
-                "150.242.28.0\t150.242.31.255\t1024\n");
-        ipString.append(
-                "150.242.44.0\t150.242.59.255\t4096\n");
-        ipString.append(
-                "150.242.76.0\t150.242.83.255\t2048\n");
-        ipString.append(
-                "150.242.92.0\t150.242.99.255\t2048\n");
-        ipString.append(
-                "150.242.112.0\t150.242.123.255\t3072\n");
-        ipString.append(
-                "150.242.152.0\t150.242.171.255\t5120\n");
-        ipString.append(
-                "150.242.184.0\t150.242.195.255\t3072\n");
-        ipString.append(
-                "150.242.212.0\t150.242.215.255\t1024\n");
-        ipString.append(
-                "150.242.224.0\t150.242.227.255\t1024\n");
-        ipString.append(
-                "150.242.232.0\t150.242.251.255\t5120\n");
-        ipString.append(
-                "150.248.0.0\t150.248.255.255\t65536\n");
-        ipString.append(
-                "150.255.0.0\t150.255.255.255\t65536\n");
-        ipString.append(
-                "152.104.128.0\t152.104.255.255\t32768\n");
-        ipString.append(
-                "152.136.0.0\t152.136.255.255\t65536\n");
-        ipString.append(
-                "153.0.0.0\t153.0.255.255\t65536\n");
-        ipString.append(
-                "153.3.0.0\t153.3.255.255\t65536\n");
-        ipString.append(
-                "153.34.0.0\t153.37.255.255\t262144\n");
-        ipString.append(
-                "153.99.0.0\t153.99.255.255\t65536\n");
-        ipString.append(
-                "153.101.0.0\t153.101.255.255\t65536\n");
-        ipString.append(
-                "153.118.0.0\t153.119.255.255\t131072\n");
-        ipString.append(
-                "154.8.128.0\t154.8.255.255\t32768\n");
-        ipString.append(
-                "157.0.0.0\t157.0.255.255\t65536\n");
-        ipString.append(
-                "157.18.0.0\t157.18.255.255\t65536\n");
-        ipString.append(
-                "157.61.0.0\t157.61.255.255\t65536\n");
-        ipString.append(
-                "157.119.0.0\t157.119.3.255\t1024\n");
-        ipString.append(
-                "157.119.8.0\t157.119.19.255\t3072\n");
-        ipString.append(
-                "157.119.28.0\t157.119.31.255\t1024\n");
-        ipString.append(
-                "157.119.132.0\t157.119.167.255\t9216\n");
-        ipString.append(
-                "157.119.172.0\t157.119.175.255\t1024\n");
-        ipString.append(
-                "157.119.192.0\t157.119.199.255\t2048\n");
-        ipString.append(
-                "157.119.240.0\t157.119.243.255\t1024\n");
-        ipString.append(
-                "157.119.252.0\t157.119.255.255\t1024\n");
-        ipString.append(
-                "157.122.0.0\t157.122.255.255\t65536\n");
-        ipString.append(
-                "157.148.0.0\t157.148.255.255\t65536\n");
-        ipString.append(
-                "157.156.0.0\t157.156.255.255\t65536\n");
-        ipString.append(
-                "157.255.0.0\t157.255.255.255\t65536\n");
-        ipString.append(
-                "158.60.0.0\t158.60.255.255\t65536\n");
-        ipString.append(
-                "158.79.0.0\t158.79.255.255\t65536\n");
-        ipString.append(
-                "159.27.0.0\t159.27.255.255\t65536\n");
-        ipString.append(
-                "159.75.0.0\t159.75.255.255\t65536\n");
-        ipString.append(
-                "159.226.0.0\t159.226.255.255\t65536\n");
-        ipString.append(
-                "160.19.208.0\t160.19.219.255\t3072\n");
-        ipString.append(
-                "160.20.48.0\t160.20.51.255\t1024\n");
-        ipString.append(
-                "160.202.60.0\t160.202.63.255\t1024\n");
-        ipString.append(
-                "160.202.148.0\t160.202.155.255\t2048\n");
-        ipString.append(
-                "160.202.168.0\t160.202.171.255\t1024\n");
-        ipString.append(
-                "160.202.212.0\t160.202.255.255\t11264\n");
-        ipString.append(
-                "160.238.64.0\t160.238.67.255\t1024\n");
-        ipString.append(
-                "161.120.0.0\t161.120.255.255\t65536\n");
-        ipString.append(
-                "161.189.0.0\t161.189.255.255\t65536\n");
-        ipString.append(
-                "161.207.0.0\t161.207.255.255\t65536\n");
-        ipString.append(
-                "162.14.0.0\t162.14.255.255\t65536\n");
-        ipString.append(
-                "162.105.0.0\t162.105.255.255\t65536\n");
-        ipString.append(
-                "163.0.0.0\t163.0.255.255\t65536\n");
-        ipString.append(
-                "163.47.4.0\t163.47.7.255\t1024\n");
-        ipString.append(
-                "163.53.0.0\t163.53.15.255\t4096\n");
-        ipString.append(
-                "163.53.36.0\t163.53.67.255\t8192\n");
-        ipString.append(
-                "163.53.88.0\t163.53.139.255\t13312\n");
-        ipString.append(
-                "163.53.160.0\t163.53.175.255\t4096\n");
-        ipString.append(
-                "163.53.188.0\t163.53.191.255\t1024\n");
-        ipString.append(
-                "163.53.220.0\t163.53.223.255\t1024\n");
-        ipString.append(
-                "163.53.240.0\t163.53.243.255\t1024\n");
-        ipString.append(
-                "163.125.0.0\t163.125.255.255\t65536\n");
-        ipString.append(
-                "163.142.0.0\t163.142.255.255\t65536\n");
-        ipString.append(
-                "163.177.0.0\t163.177.255.255\t65536\n");
-        ipString.append(
-                "163.179.0.0\t163.179.255.255\t65536\n");
-        ipString.append(
-                "163.204.0.0\t163.204.255.255\t65536\n");
-        ipString.append(
-                "163.228.0.0\t163.228.255.255\t65536\n");
-        ipString.append(
-                "164.52.0.0\t164.52.127.255\t32768\n");
-        ipString.append(
-                "166.111.0.0\t166.111.255.255\t65536\n");
-        ipString.append(
-                "167.139.0.0\t167.139.255.255\t65536\n");
-        ipString.append(
-                "167.189.0.0\t167.189.255.255\t65536\n");
-        ipString.append(
-                "167.220.244.0\t167.220.247.255\t1024\n");
-        ipString.append(
-                "168.160.0.0\t168.160.255.255\t65536\n");
-        ipString.append(
-                "170.179.0.0\t170.179.255.255\t65536\n");
-        ipString.append(
-                "171.8.0.0\t171.15.255.255\t524288\n");
-        ipString.append(
-                "171.34.0.0\t171.47.255.255\t917504\n");
-        ipString.append(
-                "171.80.0.0\t171.95.255.255\t1048576\n");
-        ipString.append(
-                "171.104.0.0\t171.127.255.255\t1572864\n");
-        ipString.append(
-                "171.208.0.0\t171.223.255.255\t1048576\n");
-        ipString.append(
-                "172.81.192.0\t172.81.255.255\t16384\n");
-        ipString.append(
-                "175.0.0.0\t175.27.255.255\t1835008\n");
-        ipString.append(
-                "175.30.0.0\t175.31.255.255\t131072\n");
-        ipString.append(
-                "175.42.0.0\t175.44.255.255\t196608\n");
-        ipString.append(
-                "175.46.0.0\t175.95.255.255\t3276800\n");
-        ipString.append(
-                "175.102.0.0\t175.102.255.255\t65536\n");
-        ipString.append(
-                "175.106.128.0\t175.106.255.255\t32768\n");
-        ipString.append(
-                "175.111.144.0\t175.111.175.255\t8192\n");
-        ipString.append(
-                "175.111.184.0\t175.111.187.255\t1024\n");
-        ipString.append(
-                "175.146.0.0\t175.155.255.255\t655360\n");
-        ipString.append(
-                "175.158.96.0\t175.158.99.255\t1024\n");
-        ipString.append(
-                "175.160.0.0\t175.175.255.255\t1048576\n");
-        ipString.append(
-                "175.176.156.0\t175.176.159.255\t1024\n");
-        ipString.append(
-                "175.176.176.0\t175.176.179.255\t1024\n");
-        ipString.append(
-                "175.176.188.0\t175.176.195.255\t2048\n");
-        ipString.append(
-                "175.178.0.0\t175.178.255.255\t65536\n");
-        ipString.append(
-                "175.184.128.0\t175.184.191.255\t16384\n");
-        ipString.append(
-                "175.185.0.0\t175.191.255.255\t458752\n");
-        ipString.append(
-                "178.236.224.0\t178.236.239.255\t4096\n");
-        ipString.append(
-                "180.76.0.0\t180.79.255.255\t262144\n");
-        ipString.append(
-                "180.84.0.0\t180.86.255.255\t196608\n");
-        ipString.append(
-                "180.88.0.0\t180.91.255.255\t262144\n");
-        ipString.append(
-                "180.94.56.0\t180.94.63.255\t2048\n");
-        ipString.append(
-                "180.94.96.0\t180.94.111.255\t4096\n");
-        ipString.append(
-                "180.94.120.0\t180.94.127.255\t2048\n");
-        ipString.append(
-                "180.95.128.0\t180.127.255.255\t2129920\n");
-        ipString.append(
-                "180.129.128.0\t180.130.255.255\t98304\n");
-        ipString.append(
-                "180.136.0.0\t180.143.255.255\t524288\n");
-        ipString.append(
-                "180.148.16.0\t180.148.23.255\t2048\n");
-        ipString.append(
-                "180.148.152.0\t180.148.159.255\t2048\n");
-        ipString.append(
-                "180.148.216.0\t180.148.255.255\t10240\n");
-        ipString.append(
-                "180.149.128.0\t180.149.159.255\t8192\n");
-        ipString.append(
-                "180.149.236.0\t180.149.239.255\t1024\n");
-        ipString.append(
-                "180.150.160.0\t180.150.191.255\t8192\n");
-        ipString.append(
-                "180.152.0.0\t180.175.255.255\t1572864\n");
-        ipString.append(
-                "180.178.112.0\t180.178.119.255\t2048\n");
-        ipString.append(
-                "180.178.192.0\t180.178.255.255\t16384\n");
-        ipString.append(
-                "180.184.0.0\t180.188.127.255\t294912\n");
-        ipString.append(
-                "180.189.148.0\t180.189.151.255\t1024\n");
-        ipString.append(
-                "180.200.252.0\t180.203.255.255\t197632\n");
-        ipString.append(
-                "180.208.0.0\t180.209.255.255\t131072\n");
-        ipString.append(
-                "180.210.212.0\t180.210.215.255\t1024\n");
-        ipString.append(
-                "180.210.224.0\t180.210.255.255\t8192\n");
-        ipString.append(
-                "180.212.0.0\t180.213.255.255\t131072\n");
-        ipString.append(
-                "180.222.224.0\t180.223.255.255\t73728\n");
-        ipString.append(
-                "180.233.0.0\t180.233.95.255\t24576\n");
-        ipString.append(
-                "180.233.144.0\t180.233.147.255\t1024\n");
-        ipString.append(
-                "180.235.64.0\t180.235.95.255\t8192\n");
-        ipString.append(
-                "180.235.112.0\t180.235.115.255\t1024\n");
-        ipString.append(
-                "182.16.144.0\t182.16.151.255\t2048\n");
-        ipString.append(
-                "182.16.192.0\t182.16.223.255\t8192\n");
-        ipString.append(
-                "182.18.0.0\t182.18.127.255\t32768\n");
-        ipString.append(
-                "182.23.184.0\t182.23.191.255\t2048\n");
-        ipString.append(
-                "182.23.200.0\t182.23.207.255\t2048\n");
-        ipString.append(
-                "182.32.0.0\t182.47.255.255\t1048576\n");
-        ipString.append(
-                "182.48.96.0\t182.48.127.255\t8192\n");
-        ipString.append(
-                "182.49.0.0\t182.50.15.255\t69632\n");
-        ipString.append(
-                "182.50.112.0\t182.50.127.255\t4096\n");
-        ipString.append(
-                "182.51.0.0\t182.51.255.255\t65536\n");
-        ipString.append(
-                "182.54.0.0\t182.54.127.255\t32768\n");
-        ipString.append(
-                "182.54.244.0\t182.54.247.255\t1024\n");
-        ipString.append(
-                "182.61.0.0\t182.61.255.255\t65536\n");
-        ipString.append(
-                "182.80.0.0\t182.92.255.255\t851968\n");
-        ipString.append(
-                "182.96.0.0\t182.151.255.255\t3670016\n");
-        ipString.append(
-                "182.157.0.0\t182.157.255.255\t65536\n");
-        ipString.append(
-                "182.160.64.0\t182.160.95.255\t8192\n");
-        ipString.append(
-                "182.174.0.0\t182.175.255.255\t131072\n");
-        ipString.append(
-                "182.200.0.0\t182.207.255.255\t524288\n");
-        ipString.append(
-                "182.236.128.0\t182.236.255.255\t32768\n");
-        ipString.append(
-                "182.237.24.0\t182.237.31.255\t2048\n");
-        ipString.append(
-                "182.238.0.0\t182.239.31.255\t73728\n");
-        ipString.append(
-                "182.240.0.0\t182.247.255.255\t524288\n");
-        ipString.append(
-                "182.254.0.0\t182.254.255.255\t65536\n");
-        ipString.append(
-                "182.255.32.0\t182.255.39.255\t2048\n");
-        ipString.append(
-                "182.255.60.0\t182.255.63.255\t1024\n");
-        ipString.append(
-                "183.0.0.0\t183.71.255.255\t4718592\n");
-        ipString.append(
-                "183.78.160.0\t183.78.167.255\t2048\n");
-        ipString.append(
-                "183.78.180.0\t183.78.183.255\t1024\n");
-        ipString.append(
-                "183.81.172.0\t183.81.175.255\t1024\n");
-        ipString.append(
-                "183.81.180.0\t183.81.183.255\t1024\n");
-        ipString.append(
-                "183.84.0.0\t183.85.255.255\t131072\n");
-        ipString.append(
-                "183.91.128.0\t183.91.131.255\t1024\n");
-        ipString.append(
-                "183.91.136.0\t183.91.159.255\t6144\n");
-        ipString.append(
-                "183.92.0.0\t183.95.255.255\t262144\n");
-        ipString.append(
-                "183.128.0.0\t183.170.255.255\t2818048\n");
-        ipString.append(
-                "183.172.0.0\t183.175.255.255\t262144\n");
-        ipString.append(
-                "183.182.0.0\t183.182.31.255\t8192\n");
-        ipString.append(
-                "183.184.0.0\t183.255.255.255\t4718592\n");
-        ipString.append(
-                "185.2.48.0\t185.2.51.255\t1024\n");
-        ipString.append(
-                "185.145.244.0\t185.145.244.255\t256\n");
-        ipString.append(
-                "185.192.56.0\t185.192.59.255\t1024\n");
-        ipString.append(
-                "185.202.100.0\t185.202.103.255\t1024\n");
-        ipString.append(
-                "185.203.36.0\t185.203.39.255\t1024\n");
-        ipString.append(
-                "185.243.40.0\t185.243.43.255\t1024\n");
-        ipString.append(
-                "188.131.128.0\t188.131.255.255\t32768\n");
-        ipString.append(
-                "192.51.188.0\t192.51.188.255\t256\n");
-        ipString.append(
-                "192.55.46.0\t192.55.46.255\t256\n");
-        ipString.append(
-                "192.55.68.0\t192.55.71.255\t1024\n");
-        ipString.append(
-                "192.76.164.0\t192.76.164.255\t256\n");
-        ipString.append(
-                "192.76.171.0\t192.76.171.255\t256\n");
-        ipString.append(
-                "192.83.216.0\t192.83.216.255\t256\n");
-        ipString.append(
-                "192.94.78.0\t192.94.78.255\t256\n");
-        ipString.append(
-                "192.102.204.0\t192.102.205.255\t512\n");
-        ipString.append(
-                "192.124.154.0\t192.124.154.255\t256\n");
-        ipString.append(
-                "192.140.128.0\t192.140.139.255\t3072\n");
-        ipString.append(
-                "192.140.156.0\t192.140.215.255\t15360\n");
-        ipString.append(
-                "192.144.128.0\t192.144.255.255\t32768\n");
-        ipString.append(
-                "192.197.113.0\t192.197.113.255\t256\n");
-        ipString.append(
-                "193.5.24.0\t193.5.25.255\t512\n");
-        ipString.append(
-                "193.5.46.0\t193.5.47.255\t512\n");
-        ipString.append(
-                "193.112.0.0\t193.112.255.255\t65536\n");
-        ipString.append(
-                "193.243.150.0\t193.243.151.255\t512\n");
-        ipString.append(
-                "193.243.164.0\t193.243.165.255\t512\n");
-        ipString.append(
-                "194.105.58.0\t194.105.59.255\t512\n");
-        ipString.append(
-                "194.105.62.0\t194.105.63.255\t512\n");
-        ipString.append(
-                "194.110.134.0\t194.110.135.255\t512\n");
-        ipString.append(
-                "194.110.138.0\t194.110.139.255\t512\n");
-        ipString.append(
-                "194.246.40.0\t194.246.43.255\t1024\n");
-        ipString.append(
-                "195.74.88.0\t195.74.89.255\t512\n");
-        ipString.append(
-                "195.78.48.0\t195.78.49.255\t512\n");
-        ipString.append(
-                "198.175.100.0\t198.175.103.255\t1024\n");
-        ipString.append(
-                "199.212.57.0\t199.212.57.255\t256\n");
-        ipString.append(
-                "202.0.100.0\t202.0.101.255\t512\n");
-        ipString.append(
-                "202.0.122.0\t202.0.123.255\t512\n");
-        ipString.append(
-                "202.0.176.0\t202.0.179.255\t1024\n");
-        ipString.append(
-                "202.3.128.0\t202.3.129.255\t512\n");
-        ipString.append(
-                "202.3.134.0\t202.3.134.255\t256\n");
-        ipString.append(
-                "202.4.128.0\t202.4.159.255\t8192\n");
-        ipString.append(
-                "202.4.252.0\t202.4.255.255\t1024\n");
-        ipString.append(
-                "202.5.208.0\t202.5.219.255\t3072\n");
-        ipString.append(
-                "202.6.6.0\t202.6.7.255\t512\n");
-        ipString.append(
-                "202.6.66.0\t202.6.67.255\t512\n");
-        ipString.append(
-                "202.6.72.0\t202.6.73.255\t512\n");
-        ipString.append(
-                "202.6.87.0\t202.6.89.255\t768\n");
-        ipString.append(
-                "202.6.92.0\t202.6.93.255\t512\n");
-        ipString.append(
-                "202.6.103.0\t202.6.103.255\t256\n");
-        ipString.append(
-                "202.6.108.0\t202.6.108.255\t256\n");
-        ipString.append(
-                "202.6.110.0\t202.6.111.255\t512\n");
-        ipString.append(
-                "202.6.114.0\t202.6.114.255\t256\n");
-        ipString.append(
-                "202.6.176.0\t202.6.191.255\t4096\n");
-        ipString.append(
-                "202.8.0.0\t202.8.0.255\t256\n");
-        ipString.append(
-                "202.8.2.0\t202.8.5.255\t1024\n");
-        ipString.append(
-                "202.8.12.0\t202.8.12.255\t256\n");
-        ipString.append(
-                "202.8.24.0\t202.8.24.255\t256\n");
-        ipString.append(
-                "202.8.77.0\t202.8.77.255\t256\n");
-        ipString.append(
-                "202.8.120.0\t202.8.123.255\t1024\n");
-        ipString.append(
-                "202.8.128.0\t202.8.159.255\t8192\n");
-        ipString.append(
-                "202.8.192.0\t202.8.207.255\t4096\n");
-        ipString.append(
-                "202.9.32.0\t202.9.32.255\t256\n");
-        ipString.append(
-                "202.9.34.0\t202.9.35.255\t512\n");
-        ipString.append(
-                "202.9.48.0\t202.9.49.255\t512\n");
-        ipString.append(
-                "202.9.51.0\t202.9.54.255\t1024\n");
-        ipString.append(
-                "202.9.57.0\t202.9.59.255\t768\n");
-        ipString.append(
-                "202.10.64.0\t202.10.79.255\t4096\n");
-        ipString.append(
-                "202.10.112.0\t202.10.127.255\t4096\n");
-        ipString.append(
-                "202.12.1.0\t202.12.2.255\t512\n");
-        ipString.append(
-                "202.12.17.0\t202.12.19.255\t768\n");
-        ipString.append(
-                "202.12.72.0\t202.12.72.255\t256\n");
-        ipString.append(
-                "202.12.84.0\t202.12.85.255\t512\n");
-        ipString.append(
-                "202.12.96.0\t202.12.96.255\t256\n");
-        ipString.append(
-                "202.12.98.0\t202.12.99.255\t512\n");
-        ipString.append(
-                "202.12.106.0\t202.12.106.255\t256\n");
-        ipString.append(
-                "202.12.111.0\t202.12.111.255\t256\n");
-        ipString.append(
-                "202.12.116.0\t202.12.116.255\t256\n");
-        ipString.append(
-                "202.14.64.0\t202.14.65.255\t512\n");
-        ipString.append(
-                "202.14.69.0\t202.14.69.255\t256\n");
-        ipString.append(
-                "202.14.73.0\t202.14.76.255\t1024\n");
-        ipString.append(
-                "202.14.78.0\t202.14.79.255\t512\n");
-        ipString.append(
-                "202.14.88.0\t202.14.88.255\t256\n");
-        ipString.append(
-                "202.14.97.0\t202.14.97.255\t256\n");
-        ipString.append(
-                "202.14.104.0\t202.14.105.255\t512\n");
-        ipString.append(
-                "202.14.108.0\t202.14.109.255\t512\n");
-        ipString.append(
-                "202.14.111.0\t202.14.111.255\t256\n");
-        ipString.append(
-                "202.14.114.0\t202.14.115.255\t512\n");
-        ipString.append(
-                "202.14.118.0\t202.14.119.255\t512\n");
-        ipString.append(
-                "202.14.124.0\t202.14.125.255\t512\n");
-        ipString.append(
-                "202.14.127.0\t202.14.127.255\t256\n");
-        ipString.append(
-                "202.14.129.0\t202.14.129.255\t256\n");
-        ipString.append(
-                "202.14.135.0\t202.14.136.255\t512\n");
-        ipString.append(
-                "202.14.149.0\t202.14.149.255\t256\n");
-        ipString.append(
-                "202.14.151.0\t202.14.151.255\t256\n");
-        ipString.append(
-                "202.14.157.0\t202.14.159.255\t768\n");
-        ipString.append(
-                "202.14.169.0\t202.14.176.255\t2048\n");
-        ipString.append(
-                "202.14.184.0\t202.14.185.255\t512\n");
-        ipString.append(
-                "202.14.208.0\t202.14.209.255\t512\n");
-        ipString.append(
-                "202.14.213.0\t202.14.213.255\t256\n");
-        ipString.append(
-                "202.14.219.0\t202.14.220.255\t512\n");
-        ipString.append(
-                "202.14.222.0\t202.14.223.255\t512\n");
-        ipString.append(
-                "202.14.225.0\t202.14.227.255\t768\n");
-        ipString.append(
-                "202.14.231.0\t202.14.231.255\t256\n");
-        ipString.append(
-                "202.14.235.0\t202.14.239.255\t1280\n");
-        ipString.append(
-                "202.14.246.0\t202.14.246.255\t256\n");
-        ipString.append(
-                "202.14.251.0\t202.14.251.255\t256\n");
-        ipString.append(
-                "202.20.66.0\t202.20.66.255\t256\n");
-        ipString.append(
-                "202.20.79.0\t202.20.79.255\t256\n");
-        ipString.append(
-                "202.20.87.0\t202.20.90.255\t1024\n");
-        ipString.append(
-                "202.20.94.0\t202.20.95.255\t512\n");
-        ipString.append(
-                "202.20.114.0\t202.20.114.255\t256\n");
-        ipString.append(
-                "202.20.117.0\t202.20.117.255\t256\n");
-        ipString.append(
-                "202.20.120.0\t202.20.120.255\t256\n");
-        ipString.append(
-                "202.20.125.0\t202.20.127.255\t768\n");
-        ipString.append(
-                "202.21.48.0\t202.21.63.255\t4096\n");
-        ipString.append(
-                "202.21.131.0\t202.21.132.255\t512\n");
-        ipString.append(
-                "202.21.141.0\t202.21.142.255\t512\n");
-        ipString.append(
-                "202.21.147.0\t202.21.148.255\t512\n");
-        ipString.append(
-                "202.21.150.0\t202.21.154.255\t1280\n");
-        ipString.append(
-                "202.21.156.0\t202.21.156.255\t256\n");
-        ipString.append(
-                "202.22.248.0\t202.22.255.255\t2048\n");
-        ipString.append(
-                "202.27.12.0\t202.27.12.255\t256\n");
-        ipString.append(
-                "202.27.14.0\t202.27.14.255\t256\n");
-        ipString.append(
-                "202.27.136.0\t202.27.137.255\t512\n");
-        ipString.append(
-                "202.36.226.0\t202.36.226.255\t256\n");
-        ipString.append(
-                "202.38.0.0\t202.38.3.255\t1024\n");
-        ipString.append(
-                "202.38.8.0\t202.38.15.255\t2048\n");
-        ipString.append(
-                "202.38.48.0\t202.38.138.255\t23296\n");
-        ipString.append(
-                "202.38.140.0\t202.38.143.255\t1024\n");
-        ipString.append(
-                "202.38.146.0\t202.38.147.255\t512\n");
-        ipString.append(
-                "202.38.149.0\t202.38.156.255\t2048\n");
-        ipString.append(
-                "202.38.158.0\t202.38.161.255\t1024\n");
-        ipString.append(
-                "202.38.164.0\t202.38.171.255\t2048\n");
-        ipString.append(
-                "202.38.176.0\t202.38.177.255\t512\n");
-        ipString.append(
-                "202.38.184.0\t202.38.255.255\t18432\n");
-        ipString.append(
-                "202.40.4.0\t202.40.5.255\t512\n");
-        ipString.append(
-                "202.40.7.0\t202.40.7.255\t256\n");
-        ipString.append(
-                "202.40.15.0\t202.40.15.255\t256\n");
-        ipString.append(
-                "202.40.135.0\t202.40.136.255\t512\n");
-        ipString.append(
-                "202.40.140.0\t202.40.140.255\t256\n");
-        ipString.append(
-                "202.40.143.0\t202.40.145.255\t768\n");
-        ipString.append(
-                "202.40.150.0\t202.40.150.255\t256\n");
-        ipString.append(
-                "202.40.155.0\t202.40.156.255\t512\n");
-        ipString.append(
-                "202.40.158.0\t202.40.159.255\t512\n");
-        ipString.append(
-                "202.40.162.0\t202.40.162.255\t256\n");
-        ipString.append(
-                "202.41.8.0\t202.41.9.255\t512\n");
-        ipString.append(
-                "202.41.11.0\t202.41.13.255\t768\n");
-        ipString.append(
-                "202.41.128.0\t202.41.128.255\t256\n");
-        ipString.append(
-                "202.41.130.0\t202.41.131.255\t512\n");
-        ipString.append(
-                "202.41.152.0\t202.41.159.255\t2048\n");
-        ipString.append(
-                "202.41.192.0\t202.41.192.255\t256\n");
-        ipString.append(
-                "202.41.196.0\t202.41.203.255\t2048\n");
-        ipString.append(
-                "202.41.240.0\t202.41.255.255\t4096\n");
-        ipString.append(
-                "202.43.76.0\t202.43.79.255\t1024\n");
-        ipString.append(
-                "202.43.144.0\t202.43.159.255\t4096\n");
-        ipString.append(
-                "202.44.16.0\t202.44.31.255\t4096\n");
-        ipString.append(
-                "202.44.48.0\t202.44.51.255\t1024\n");
-        ipString.append(
-                "202.44.67.0\t202.44.67.255\t256\n");
-        ipString.append(
-                "202.44.74.0\t202.44.74.255\t256\n");
-        ipString.append(
-                "202.44.97.0\t202.44.97.255\t256\n");
-        ipString.append(
-                "202.44.129.0\t202.44.129.255\t256\n");
-        ipString.append(
-                "202.44.132.0\t202.44.133.255\t512\n");
-        ipString.append(
-                "202.44.146.0\t202.44.147.255\t512\n");
-        ipString.append(
-                "202.45.0.0\t202.45.2.255\t768\n");
-        ipString.append(
-                "202.45.15.0\t202.45.31.255\t4352\n");
-        ipString.append(
-                "202.46.16.0\t202.46.18.255\t768\n");
-        ipString.append(
-                "202.46.20.0\t202.46.21.255\t512\n");
-        ipString.append(
-                "202.46.32.0\t202.46.63.255\t8192\n");
-        ipString.append(
-                "202.46.128.0\t202.46.128.255\t256\n");
-        ipString.append(
-                "202.46.224.0\t202.46.239.255\t4096\n");
-        ipString.append(
-                "202.47.82.0\t202.47.83.255\t512\n");
-        ipString.append(
-                "202.47.96.0\t202.47.111.255\t4096\n");
-        ipString.append(
-                "202.47.126.0\t202.47.126.255\t256\n");
-        ipString.append(
-                "202.47.128.0\t202.47.128.255\t256\n");
-        ipString.append(
-                "202.47.130.0\t202.47.131.255\t512\n");
-        ipString.append(
-                "202.52.33.0\t202.52.34.255\t512\n");
-        ipString.append(
-                "202.52.47.0\t202.52.47.255\t256\n");
-        ipString.append(
-                "202.52.143.0\t202.52.144.255\t512\n");
-        ipString.append(
-                "202.53.140.0\t202.53.140.255\t256\n");
-        ipString.append(
-                "202.53.143.0\t202.53.143.255\t256\n");
-        ipString.append(
-                "202.57.192.0\t202.57.207.255\t4096\n");
-        ipString.append(
-                "202.57.212.0\t202.57.219.255\t2048\n");
-        ipString.append(
-                "202.57.240.0\t202.58.0.255\t4352\n");
-        ipString.append(
-                "202.58.101.0\t202.58.101.255\t256\n");
-        ipString.append(
-                "202.58.104.0\t202.58.107.255\t1024\n");
-        ipString.append(
-                "202.58.112.0\t202.58.115.255\t1024\n");
-        ipString.append(
-                "202.59.0.0\t202.59.1.255\t512\n");
-        ipString.append(
-                "202.59.212.0\t202.59.215.255\t1024\n");
-        ipString.append(
-                "202.59.236.0\t202.59.236.255\t256\n");
-        ipString.append(
-                "202.59.240.0\t202.59.240.255\t256\n");
-        ipString.append(
-                "202.60.48.0\t202.60.55.255\t2048\n");
-        ipString.append(
-                "202.60.96.0\t202.60.103.255\t2048\n");
-        ipString.append(
-                "202.60.112.0\t202.60.127.255\t4096\n");
-        ipString.append(
-                "202.60.132.0\t202.60.159.255\t7168\n");
-        ipString.append(
-                "202.61.68.0\t202.61.71.255\t1024\n");
-        ipString.append(
-                "202.61.76.0\t202.61.79.255\t1024\n");
-        ipString.append(
-                "202.61.88.0\t202.61.91.255\t1024\n");
-        ipString.append(
-                "202.61.123.0\t202.61.123.255\t256\n");
-        ipString.append(
-                "202.61.127.0\t202.61.127.255\t256\n");
-        ipString.append(
-                "202.62.112.0\t202.62.115.255\t1024\n");
-        ipString.append(
-                "202.62.248.0\t202.62.252.255\t1280\n");
-        ipString.append(
-                "202.62.255.0\t202.62.255.255\t256\n");
-        ipString.append(
-                "202.63.80.0\t202.63.95.255\t4096\n");
-        ipString.append(
-                "202.63.160.0\t202.63.191.255\t8192\n");
-        ipString.append(
-                "202.63.248.0\t202.63.251.255\t1024\n");
-        ipString.append(
-                "202.63.253.0\t202.63.253.255\t256\n");
-        ipString.append(
-                "202.65.0.0\t202.65.9.255\t2560\n");
-        ipString.append(
-                "202.65.96.0\t202.65.111.255\t4096\n");
-        ipString.append(
-                "202.66.168.0\t202.66.171.255\t1024\n");
-        ipString.append(
-                "202.67.0.0\t202.67.3.255\t1024\n");
-        ipString.append(
-                "202.69.4.0\t202.69.7.255\t1024\n");
-        ipString.append(
-                "202.69.16.0\t202.69.31.255\t4096\n");
-        ipString.append(
-                "202.70.0.0\t202.70.31.255\t8192\n");
-        ipString.append(
-                "202.70.96.0\t202.70.111.255\t4096\n");
-        ipString.append(
-                "202.70.192.0\t202.70.207.255\t4096\n");
-        ipString.append(
-                "202.71.32.0\t202.71.47.255\t4096\n");
-        ipString.append(
-                "202.72.40.0\t202.72.47.255\t2048\n");
-        ipString.append(
-                "202.72.80.0\t202.72.95.255\t4096\n");
-        ipString.append(
-                "202.72.112.0\t202.72.127.255\t4096\n");
-        ipString.append(
-                "202.73.128.0\t202.73.131.255\t1024\n");
-        ipString.append(
-                "202.73.240.0\t202.73.255.255\t4096\n");
-        ipString.append(
-                "202.74.8.0\t202.74.15.255\t2048\n");
-        ipString.append(
-                "202.74.36.0\t202.74.36.255\t256\n");
-        ipString.append(
-                "202.74.42.0\t202.74.42.255\t256\n");
-        ipString.append(
-                "202.74.52.0\t202.74.52.255\t256\n");
-        ipString.append(
-                "202.74.80.0\t202.74.95.255\t4096\n");
-        ipString.append(
-                "202.74.254.0\t202.74.255.255\t512\n");
-        ipString.append(
-                "202.75.208.0\t202.75.223.255\t4096\n");
-        ipString.append(
-                "202.75.252.0\t202.75.255.255\t1024\n");
-        ipString.append(
-                "202.76.252.0\t202.76.255.255\t1024\n");
-        ipString.append(
-                "202.77.80.0\t202.77.87.255\t2048\n");
-        ipString.append(
-                "202.77.92.0\t202.77.95.255\t1024\n");
-        ipString.append(
-                "202.78.8.0\t202.78.15.255\t2048\n");
-        ipString.append(
-                "202.79.224.0\t202.79.231.255\t2048\n");
-        ipString.append(
-                "202.79.248.0\t202.79.251.255\t1024\n");
-        ipString.append(
-                "202.80.192.0\t202.80.207.255\t4096\n");
-        ipString.append(
-                "202.81.0.0\t202.81.3.255\t1024\n");
-        ipString.append(
-                "202.81.176.0\t202.81.191.255\t4096\n");
-        ipString.append(
-                "202.83.252.0\t202.84.17.255\t5632\n");
-        ipString.append(
-                "202.84.22.0\t202.84.22.255\t256\n");
-        ipString.append(
-                "202.84.24.0\t202.84.31.255\t2048\n");
-        ipString.append(
-                "202.85.208.0\t202.85.223.255\t4096\n");
-        ipString.append(
-                "202.86.249.0\t202.86.249.255\t256\n");
-        ipString.append(
-                "202.86.252.0\t202.86.255.255\t1024\n");
-        ipString.append(
-                "202.87.80.0\t202.87.95.255\t4096\n");
-        ipString.append(
-                "202.88.32.0\t202.88.35.255\t1024\n");
-        ipString.append(
-                "202.89.8.0\t202.89.15.255\t2048\n");
-        ipString.append(
-                "202.89.96.0\t202.89.99.255\t1024\n");
-        ipString.append(
-                "202.89.108.0\t202.89.111.255\t1024\n");
-        ipString.append(
-                "202.89.119.0\t202.89.119.255\t256\n");
-        ipString.append(
-                "202.89.232.0\t202.89.239.255\t2048\n");
-        ipString.append(
-                "202.90.0.0\t202.90.3.255\t1024\n");
-        ipString.append(
-                "202.90.16.0\t202.90.31.255\t4096\n");
-        ipString.append(
-                "202.90.37.0\t202.90.37.255\t256\n");
-        ipString.append(
-                "202.90.96.0\t202.90.127.255\t8192\n");
-        ipString.append(
-                "202.90.193.0\t202.90.193.255\t256\n");
-        ipString.append(
-                "202.90.196.0\t202.90.196.255\t256\n");
-        ipString.append(
-                "202.90.205.0\t202.90.205.255\t256\n");
-        ipString.append(
-                "202.90.224.0\t202.90.239.255\t4096\n");
-        ipString.append(
-                "202.91.0.0\t202.91.3.255\t1024\n");
-        ipString.append(
-                "202.91.36.0\t202.91.39.255\t1024\n");
-        ipString.append(
-                "202.91.96.0\t202.91.111.255\t4096\n");
-        ipString.append(
-                "202.91.128.0\t202.91.131.255\t1024\n");
-        ipString.append(
-                "202.91.176.0\t202.91.191.255\t4096\n");
-        ipString.append(
-                "202.91.224.0\t202.92.3.255\t9216\n");
-        ipString.append(
-                "202.92.8.0\t202.92.15.255\t2048\n");
-        ipString.append(
-                "202.92.48.0\t202.92.63.255\t4096\n");
-        ipString.append(
-                "202.92.252.0\t202.93.3.255\t2048\n");
-        ipString.append(
-                "202.93.252.0\t202.93.255.255\t1024\n");
-        ipString.append(
-                "202.94.68.0\t202.94.68.255\t256\n");
-        ipString.append(
-                "202.94.74.0\t202.94.74.255\t256\n");
-        ipString.append(
-                "202.94.81.0\t202.94.81.255\t256\n");
-        ipString.append(
-                "202.94.92.0\t202.94.95.255\t1024\n");
-        ipString.append(
-                "202.95.240.0\t202.95.247.255\t2048\n");
-        ipString.append(
-                "202.95.252.0\t202.122.7.255\t1707008\n");
-        ipString.append(
-                "202.122.32.0\t202.122.39.255\t2048\n");
-        ipString.append(
-                "202.122.64.0\t202.122.95.255\t8192\n");
-        ipString.append(
-                "202.122.112.0\t202.122.128.255\t4352\n");
-        ipString.append(
-                "202.122.132.0\t202.122.132.255\t256\n");
-        ipString.append(
-                "202.123.96.0\t202.123.111.255\t4096\n");
-        ipString.append(
-                "202.123.116.0\t202.123.123.255\t2048\n");
-        ipString.append(
-                "202.124.16.0\t202.124.27.255\t3072\n");
-        ipString.append(
-                "202.125.107.0\t202.125.107.255\t256\n");
-        ipString.append(
-                "202.125.109.0\t202.125.109.255\t256\n");
-        ipString.append(
-                "202.125.112.0\t202.125.127.255\t4096\n");
-        ipString.append(
-                "202.125.176.0\t202.125.191.255\t4096\n");
-        ipString.append(
-                "202.127.0.0\t202.127.7.255\t2048\n");
-        ipString.append(
-                "202.127.12.0\t202.127.31.255\t5120\n");
-        ipString.append(
-                "202.127.40.0\t202.127.63.255\t6144\n");
-        ipString.append(
-                "202.127.112.0\t202.127.167.255\t14336\n");
-        ipString.append(
-                "202.127.192.0\t202.127.209.255\t4608\n");
-        ipString.append(
-                "202.127.212.0\t202.127.255.255\t11264\n");
-        ipString.append(
-                "202.129.208.0\t202.129.208.255\t256\n");
-        ipString.append(
-                "202.130.0.0\t202.130.31.255\t8192\n");
-        ipString.append(
-                "202.130.39.0\t202.130.39.255\t256\n");
-        ipString.append(
-                "202.130.224.0\t202.130.255.255\t8192\n");
-        ipString.append(
-                "202.131.16.0\t202.131.23.255\t2048\n");
-        ipString.append(
-                "202.131.48.0\t202.131.63.255\t4096\n");
-        ipString.append(
-                "202.131.208.0\t202.131.223.255\t4096\n");
-        ipString.append(
-                "202.133.32.0\t202.133.47.255\t4096\n");
-        ipString.append(
-                "202.134.58.0\t202.134.58.255\t256\n");
-        ipString.append(
-                "202.134.128.0\t202.134.143.255\t4096\n");
-        ipString.append(
-                "202.134.208.0\t202.134.223.255\t4096\n");
-        ipString.append(
-                "202.136.48.0\t202.136.63.255\t4096\n");
-        ipString.append(
-                "202.136.208.0\t202.136.239.255\t8192\n");
-        ipString.append(
-                "202.136.248.0\t202.136.251.255\t1024\n");
-        ipString.append(
-                "202.137.231.0\t202.137.231.255\t256\n");
-        ipString.append(
-                "202.140.140.0\t202.140.159.255\t5120\n");
-        ipString.append(
-                "202.141.160.0\t202.141.191.255\t8192\n");
-        ipString.append(
-                "202.142.16.0\t202.142.31.255\t4096\n");
-        ipString.append(
-                "202.143.4.0\t202.143.7.255\t1024\n");
-        ipString.append(
-                "202.143.16.0\t202.143.47.255\t8192\n");
-        ipString.append(
-                "202.143.56.0\t202.143.63.255\t2048\n");
-        ipString.append(
-                "202.143.100.0\t202.143.107.255\t2048\n");
-        ipString.append(
-                "202.144.196.0\t202.144.199.255\t1024\n");
-        ipString.append(
-                "202.146.160.0\t202.146.175.255\t4096\n");
-        ipString.append(
-                "202.146.186.0\t202.146.186.255\t256\n");
-        ipString.append(
-                "202.146.188.0\t202.146.191.255\t1024\n");
-        ipString.append(
-                "202.146.196.0\t202.146.207.255\t3072\n");
-        ipString.append(
-                "202.147.144.0\t202.147.159.255\t4096\n");
-        ipString.append(
-                "202.148.32.0\t202.148.47.255\t4096\n");
-        ipString.append(
-                "202.148.64.0\t202.148.127.255\t16384\n");
-        ipString.append(
-                "202.149.32.0\t202.149.63.255\t8192\n");
-        ipString.append(
-                "202.149.160.0\t202.149.191.255\t8192\n");
-        ipString.append(
-                "202.149.224.0\t202.149.255.255\t8192\n");
-        ipString.append(
-                "202.150.16.0\t202.150.47.255\t8192\n");
-        ipString.append(
-                "202.150.56.0\t202.150.59.255\t1024\n");
-        ipString.append(
-                "202.150.192.0\t202.150.207.255\t4096\n");
-        ipString.append(
-                "202.150.224.0\t202.151.3.255\t9216\n");
-        ipString.append(
-                "202.151.33.0\t202.151.33.255\t256\n");
-        ipString.append(
-                "202.151.128.0\t202.151.159.255\t8192\n");
-        ipString.append(
-                "202.152.176.0\t202.152.191.255\t4096\n");
-        ipString.append(
-                "202.153.0.0\t202.153.3.255\t1024\n");
-        ipString.append(
-                "202.153.7.0\t202.153.7.255\t256\n");
-        ipString.append(
-                "202.153.48.0\t202.153.63.255\t4096\n");
-        ipString.append(
-                "202.157.192.0\t202.157.223.255\t8192\n");
-        ipString.append(
-                "202.158.160.0\t202.158.191.255\t8192\n");
-        ipString.append(
-                "202.158.242.0\t202.158.242.255\t256\n");
-        ipString.append(
-                "202.160.140.0\t202.160.143.255\t1024\n");
-        ipString.append(
-                "202.160.156.0\t202.160.159.255\t1024\n");
-        ipString.append(
-                "202.160.176.0\t202.160.191.255\t4096\n");
-        ipString.append(
-                "202.162.67.0\t202.162.67.255\t256\n");
-        ipString.append(
-                "202.162.75.0\t202.162.75.255\t256\n");
-        ipString.append(
-                "202.164.0.0\t202.164.15.255\t4096\n");
-        ipString.append(
-                "202.164.96.0\t202.164.127.255\t8192\n");
-        ipString.append(
-                "202.165.176.0\t202.165.191.255\t4096\n");
-        ipString.append(
-                "202.165.208.0\t202.165.223.255\t4096\n");
-        ipString.append(
-                "202.165.239.0\t202.165.241.255\t768\n");
-        ipString.append(
-                "202.165.243.0\t202.165.243.255\t256\n");
-        ipString.append(
-                "202.165.245.0\t202.165.245.255\t256\n");
-        ipString.append(
-                "202.165.251.0\t202.165.255.255\t1280\n");
-        ipString.append(
-                "202.166.224.0\t202.166.255.255\t8192\n");
-        ipString.append(
-                "202.168.80.0\t202.168.83.255\t1024\n");
-        ipString.append(
-                "202.168.128.0\t202.168.143.255\t4096\n");
-        ipString.append(
-                "202.168.160.0\t202.168.191.255\t8192\n");
-        ipString.append(
-                "202.170.128.0\t202.170.159.255\t8192\n");
-        ipString.append(
-                "202.170.216.0\t202.170.255.255\t10240\n");
-        ipString.append(
-                "202.171.216.0\t202.171.223.255\t2048\n");
-        ipString.append(
-                "202.171.232.0\t202.171.232.255\t256\n");
-        ipString.append(
-                "202.171.235.0\t202.171.235.255\t256\n");
-        ipString.append(
-                "202.172.0.0\t202.172.3.255\t1024\n");
-        ipString.append(
-                "202.172.7.0\t202.172.7.255\t256\n");
-        ipString.append(
-                "202.173.0.0\t202.173.3.255\t1024\n");
-        ipString.append(
-                "202.173.6.0\t202.173.6.255\t256\n");
-        ipString.append(
-                "202.173.8.0\t202.173.15.255\t2048\n");
-        ipString.append(
-                "202.173.112.0\t202.173.115.255\t1024\n");
-        ipString.append(
-                "202.173.224.0\t202.173.255.255\t8192\n");
-        ipString.append(
-                "202.174.64.0\t202.174.79.255\t4096\n");
-        ipString.append(
-                "202.174.124.0\t202.174.127.255\t1024\n");
-        ipString.append(
-                "202.176.224.0\t202.176.255.255\t8192\n");
-        ipString.append(
-                "202.179.160.0\t202.179.175.255\t4096\n");
-        ipString.append(
-                "202.179.240.0\t202.179.255.255\t4096\n");
-        ipString.append(
-                "202.180.128.0\t202.180.159.255\t8192\n");
-        ipString.append(
-                "202.180.208.0\t202.180.215.255\t2048\n");
-        ipString.append(
-                "202.181.8.0\t202.181.11.255\t1024\n");
-        ipString.append(
-                "202.181.28.0\t202.181.31.255\t1024\n");
-        ipString.append(
-                "202.181.112.0\t202.181.127.255\t4096\n");
-        ipString.append(
-                "202.182.32.0\t202.182.47.255\t4096\n");
-        ipString.append(
-                "202.182.192.0\t202.182.223.255\t8192\n");
-        ipString.append(
-                "202.189.0.0\t202.189.63.255\t16384\n");
-        ipString.append(
-                "202.189.80.0\t202.189.95.255\t4096\n");
-        ipString.append(
-                "202.189.184.0\t202.189.191.255\t2048\n");
-        ipString.append(
-                "202.191.0.0\t202.191.0.255\t256\n");
-        ipString.append(
-                "202.191.68.0\t202.191.95.255\t7168\n");
-        ipString.append(
-                "202.192.0.0\t202.207.255.255\t1048576\n");
-        ipString.append(
-                "203.0.4.0\t203.0.7.255\t1024\n");
-        ipString.append(
-                "203.0.10.0\t203.0.11.255\t512\n");
-        ipString.append(
-                "203.0.18.0\t203.0.18.255\t256\n");
-        ipString.append(
-                "203.0.24.0\t203.0.24.255\t256\n");
-        ipString.append(
-                "203.0.42.0\t203.0.43.255\t512\n");
-        ipString.append(
-                "203.0.45.0\t203.0.47.255\t768\n");
-        ipString.append(
-                "203.0.81.0\t203.0.83.255\t768\n");
-        ipString.append(
-                "203.0.90.0\t203.0.91.255\t512\n");
-        ipString.append(
-                "203.0.96.0\t203.0.97.255\t512\n");
-        ipString.append(
-                "203.0.104.0\t203.0.111.255\t2048\n");
-        ipString.append(
-                "203.0.114.0\t203.0.115.255\t512\n");
-        ipString.append(
-                "203.0.122.0\t203.0.122.255\t256\n");
-        ipString.append(
-                "203.0.128.0\t203.0.128.255\t256\n");
-        ipString.append(
-                "203.0.130.0\t203.0.135.255\t1536\n");
-        ipString.append(
-                "203.0.137.0\t203.0.137.255\t256\n");
-        ipString.append(
-                "203.0.142.0\t203.0.142.255\t256\n");
-        ipString.append(
-                "203.0.144.0\t203.0.144.255\t256\n");
-        ipString.append(
-                "203.0.146.0\t203.0.146.255\t256\n");
-        ipString.append(
-                "203.0.148.0\t203.0.148.255\t256\n");
-        ipString.append(
-                "203.0.150.0\t203.0.152.255\t768\n");
-        ipString.append(
-                "203.0.177.0\t203.0.177.255\t256\n");
-        ipString.append(
-                "203.0.224.0\t203.0.224.255\t256\n");
-        ipString.append(
-                "203.1.4.0\t203.1.7.255\t1024\n");
-        ipString.append(
-                "203.1.18.0\t203.1.18.255\t256\n");
-        ipString.append(
-                "203.1.26.0\t203.1.27.255\t512\n");
-        ipString.append(
-                "203.1.65.0\t203.1.67.255\t768\n");
-        ipString.append(
-                "203.1.70.0\t203.1.71.255\t512\n");
-        ipString.append(
-                "203.1.76.0\t203.1.77.255\t512\n");
-        ipString.append(
-                "203.1.90.0\t203.1.90.255\t256\n");
-        ipString.append(
-                "203.1.97.0\t203.1.103.255\t1792\n");
-        ipString.append(
-                "203.1.108.0\t203.1.108.255\t256\n");
-        ipString.append(
-                "203.1.253.0\t203.1.254.255\t512\n");
-        ipString.append(
-                "203.2.64.0\t203.2.71.255\t2048\n");
-        ipString.append(
-                "203.2.73.0\t203.2.73.255\t256\n");
-        ipString.append(
-                "203.2.112.0\t203.2.119.255\t2048\n");
-        ipString.append(
-                "203.2.126.0\t203.2.127.255\t512\n");
-        ipString.append(
-                "203.2.140.0\t203.2.140.255\t256\n");
-        ipString.append(
-                "203.2.150.0\t203.2.150.255\t256\n");
-        ipString.append(
-                "203.2.152.0\t203.2.157.255\t1536\n");
-        ipString.append(
-                "203.2.160.0\t203.2.167.255\t2048\n");
-        ipString.append(
-                "203.2.180.0\t203.2.181.255\t512\n");
-        ipString.append(
-                "203.2.196.0\t203.2.197.255\t512\n");
-        ipString.append(
-                "203.2.209.0\t203.2.209.255\t256\n");
-        ipString.append(
-                "203.2.214.0\t203.2.215.255\t512\n");
-        ipString.append(
-                "203.2.226.0\t203.2.227.255\t512\n");
-        ipString.append(
-                "203.2.229.0\t203.2.229.255\t256\n");
-        ipString.append(
-                "203.2.236.0\t203.2.237.255\t512\n");
-        ipString.append(
-                "203.3.68.0\t203.3.68.255\t256\n");
-        ipString.append(
-                "203.3.72.0\t203.3.73.255\t512\n");
-        ipString.append(
-                "203.3.75.0\t203.3.75.255\t256\n");
-        ipString.append(
-                "203.3.80.0\t203.3.87.255\t2048\n");
-        ipString.append(
-                "203.3.96.0\t203.3.99.255\t1024\n");
-        ipString.append(
-                "203.3.105.0\t203.3.105.255\t256\n");
-        ipString.append(
-                "203.3.112.0\t203.3.120.255\t2304\n");
-        ipString.append(
-                "203.3.123.0\t203.3.123.255\t256\n");
-        ipString.append(
-                "203.3.135.0\t203.3.135.255\t256\n");
-        ipString.append(
-                "203.3.139.0\t203.3.139.255\t256\n");
-        ipString.append(
-                "203.3.143.0\t203.3.143.255\t256\n");
-        ipString.append(
-                "203.4.132.0\t203.4.134.255\t768\n");
-        ipString.append(
-                "203.4.151.0\t203.4.155.255\t1280\n");
-        ipString.append(
-                "203.4.174.0\t203.4.175.255\t512\n");
-        ipString.append(
-                "203.4.180.0\t203.4.180.255\t256\n");
-        ipString.append(
-                "203.4.186.0\t203.4.186.255\t256\n");
-        ipString.append(
-                "203.4.205.0\t203.4.205.255\t256\n");
-        ipString.append(
-                "203.4.208.0\t203.4.211.255\t1024\n");
-        ipString.append(
-                "203.4.227.0\t203.4.227.255\t256\n");
-        ipString.append(
-                "203.4.230.0\t203.4.231.255\t512\n");
-        ipString.append(
-                "203.5.4.0\t203.5.5.255\t512\n");
-        ipString.append(
-                "203.5.7.0\t203.5.9.255\t768\n");
-        ipString.append(
-                "203.5.11.0\t203.5.11.255\t256\n");
-        ipString.append(
-                "203.5.21.0\t203.5.22.255\t512\n");
-        ipString.append(
-                "203.5.44.0\t203.5.44.255\t256\n");
-        ipString.append(
-                "203.5.46.0\t203.5.47.255\t512\n");
-        ipString.append(
-                "203.5.52.0\t203.5.57.255\t1536\n");
-        ipString.append(
-                "203.5.60.0\t203.5.61.255\t512\n");
-        ipString.append(
-                "203.5.114.0\t203.5.115.255\t512\n");
-        ipString.append(
-                "203.5.118.0\t203.5.118.255\t256\n");
-        ipString.append(
-                "203.5.120.0\t203.5.120.255\t256\n");
-        ipString.append(
-                "203.5.172.0\t203.5.172.255\t256\n");
-        ipString.append(
-                "203.5.180.0\t203.5.182.255\t768\n");
-        ipString.append(
-                "203.5.185.0\t203.5.186.255\t512\n");
-        ipString.append(
-                "203.5.188.0\t203.5.190.255\t768\n");
-        ipString.append(
-                "203.5.195.0\t203.5.195.255\t256\n");
-        ipString.append(
-                "203.5.214.0\t203.5.215.255\t512\n");
-        ipString.append(
-                "203.5.218.0\t203.5.219.255\t512\n");
-        ipString.append(
-                "203.6.131.0\t203.6.131.255\t256\n");
-        ipString.append(
-                "203.6.136.0\t203.6.136.255\t256\n");
-        ipString.append(
-                "203.6.138.0\t203.6.139.255\t512\n");
-        ipString.append(
-                "203.6.142.0\t203.6.142.255\t256\n");
-        ipString.append(
-                "203.6.150.0\t203.6.151.255\t512\n");
-        ipString.append(
-                "203.6.157.0\t203.6.157.255\t256\n");
-        ipString.append(
-                "203.6.159.0\t203.6.159.255\t256\n");
-        ipString.append(
-                "203.6.224.0\t203.6.239.255\t4096\n");
-        ipString.append(
-                "203.6.248.0\t203.6.249.255\t512\n");
-        ipString.append(
-                "203.7.129.0\t203.7.129.255\t256\n");
-        ipString.append(
-                "203.7.138.0\t203.7.139.255\t512\n");
-        ipString.append(
-                "203.7.147.0\t203.7.147.255\t256\n");
-        ipString.append(
-                "203.7.150.0\t203.7.151.255\t512\n");
-        ipString.append(
-                "203.7.158.0\t203.7.158.255\t256\n");
-        ipString.append(
-                "203.7.192.0\t203.7.193.255\t512\n");
-        ipString.append(
-                "203.7.200.0\t203.7.200.255\t256\n");
-        ipString.append(
-                "203.8.0.0\t203.8.0.255\t256\n");
-        ipString.append(
-                "203.8.8.0\t203.8.8.255\t256\n");
-        ipString.append(
-                "203.8.23.0\t203.8.23.255\t256\n");
-        ipString.append(
-                "203.8.70.0\t203.8.70.255\t256\n");
-        ipString.append(
-                "203.8.82.0\t203.8.82.255\t256\n");
-        ipString.append(
-                "203.8.86.0\t203.8.87.255\t512\n");
-        ipString.append(
-                "203.8.91.0\t203.8.91.255\t256\n");
-        ipString.append(
-                "203.8.110.0\t203.8.111.255\t512\n");
-        ipString.append(
-                "203.8.115.0\t203.8.115.255\t256\n");
-        ipString.append(
-                "203.8.166.0\t203.8.167.255\t512\n");
-        ipString.append(
-                "203.8.169.0\t203.8.169.255\t256\n");
-        ipString.append(
-                "203.8.173.0\t203.8.173.255\t256\n");
-        ipString.append(
-                "203.8.184.0\t203.8.184.255\t256\n");
-        ipString.append(
-                "203.8.186.0\t203.8.187.255\t512\n");
-        ipString.append(
-                "203.8.190.0\t203.8.192.255\t768\n");
-        ipString.append(
-                "203.8.197.0\t203.8.199.255\t768\n");
-        ipString.append(
-                "203.8.203.0\t203.8.203.255\t256\n");
-        ipString.append(
-                "203.8.209.0\t203.8.215.255\t1792\n");
-        ipString.append(
-                "203.8.217.0\t203.8.217.255\t256\n");
-        ipString.append(
-                "203.8.220.0\t203.8.220.255\t256\n");
-        ipString.append(
-                "203.9.32.0\t203.9.32.255\t256\n");
-        ipString.append(
-                "203.9.36.0\t203.9.37.255\t512\n");
-        ipString.append(
-                "203.9.57.0\t203.9.57.255\t256\n");
-        ipString.append(
-                "203.9.63.0\t203.9.63.255\t256\n");
-        ipString.append(
-                "203.9.65.0\t203.9.65.255\t256\n");
-        ipString.append(
-                "203.9.70.0\t203.9.72.255\t768\n");
-        ipString.append(
-                "203.9.75.0\t203.9.77.255\t768\n");
-        ipString.append(
-                "203.9.96.0\t203.9.101.255\t1536\n");
-        ipString.append(
-                "203.9.108.0\t203.9.108.255\t256\n");
-        ipString.append(
-                "203.9.158.0\t203.9.158.255\t256\n");
-        ipString.append(
-                "203.10.34.0\t203.10.34.255\t256\n");
-        ipString.append(
-                "203.10.56.0\t203.10.56.255\t256\n");
-        ipString.append(
-                "203.10.74.0\t203.10.75.255\t512\n");
-        ipString.append(
-                "203.10.84.0\t203.10.88.255\t1280\n");
-        ipString.append(
-                "203.10.95.0\t203.10.95.255\t256\n");
-        ipString.append(
-                "203.10.125.0\t203.10.125.255\t256\n");
-        ipString.append(
-                "203.11.70.0\t203.11.70.255\t256\n");
-        ipString.append(
-                "203.11.76.0\t203.11.79.255\t1024\n");
-        ipString.append(
-                "203.11.82.0\t203.11.82.255\t256\n");
-        ipString.append(
-                "203.11.84.0\t203.11.87.255\t1024\n");
-        ipString.append(
-                "203.11.100.0\t203.11.103.255\t1024\n");
-        ipString.append(
-                "203.11.109.0\t203.11.109.255\t256\n");
-        ipString.append(
-                "203.11.117.0\t203.11.117.255\t256\n");
-        ipString.append(
-                "203.11.122.0\t203.11.122.255\t256\n");
-        ipString.append(
-                "203.11.126.0\t203.11.126.255\t256\n");
-        ipString.append(
-                "203.11.136.0\t203.11.139.255\t1024\n");
-        ipString.append(
-                "203.11.141.0\t203.11.143.255\t768\n");
-        ipString.append(
-                "203.11.180.0\t203.11.183.255\t1024\n");
-        ipString.append(
-                "203.11.208.0\t203.11.211.255\t1024\n");
-        ipString.append(
-                "203.12.16.0\t203.12.16.255\t256\n");
-        ipString.append(
-                "203.12.19.0\t203.12.19.255\t256\n");
-        ipString.append(
-                "203.12.24.0\t203.12.24.255\t256\n");
-        ipString.append(
-                "203.12.57.0\t203.12.57.255\t256\n");
-        ipString.append(
-                "203.12.65.0\t203.12.66.255\t512\n");
-        ipString.append(
-                "203.12.70.0\t203.12.71.255\t512\n");
-        ipString.append(
-                "203.12.87.0\t203.12.87.255\t256\n");
-        ipString.append(
-                "203.12.100.0\t203.12.101.255\t512\n");
-        ipString.append(
-                "203.12.103.0\t203.12.103.255\t256\n");
-        ipString.append(
-                "203.12.114.0\t203.12.114.255\t256\n");
-        ipString.append(
-                "203.12.118.0\t203.12.118.255\t256\n");
-        ipString.append(
-                "203.12.130.0\t203.12.130.255\t256\n");
-        ipString.append(
-                "203.12.137.0\t203.12.137.255\t256\n");
-        ipString.append(
-                "203.12.196.0\t203.12.199.255\t1024\n");
-        ipString.append(
-                "203.12.211.0\t203.12.211.255\t256\n");
-        ipString.append(
-                "203.12.219.0\t203.12.219.255\t256\n");
-        ipString.append(
-                "203.12.226.0\t203.12.226.255\t256\n");
-        ipString.append(
-                "203.12.240.0\t203.12.243.255\t1024\n");
-        ipString.append(
-                "203.13.18.0\t203.13.18.255\t256\n");
-        ipString.append(
-                "203.13.24.0\t203.13.24.255\t256\n");
-        ipString.append(
-                "203.13.44.0\t203.13.45.255\t512\n");
-        ipString.append(
-                "203.13.88.0\t203.13.89.255\t512\n");
-        ipString.append(
-                "203.13.92.0\t203.13.95.255\t1024\n");
-        ipString.append(
-                "203.13.173.0\t203.13.173.255\t256\n");
-        ipString.append(
-                "203.13.224.0\t203.13.225.255\t512\n");
-        ipString.append(
-                "203.13.227.0\t203.13.227.255\t256\n");
-        ipString.append(
-                "203.13.233.0\t203.13.233.255\t256\n");
-        ipString.append(
-                "203.14.24.0\t203.14.27.255\t1024\n");
-        ipString.append(
-                "203.14.33.0\t203.14.33.255\t256\n");
-        ipString.append(
-                "203.14.56.0\t203.14.56.255\t256\n");
-        ipString.append(
-                "203.14.61.0\t203.14.62.255\t512\n");
-        ipString.append(
-                "203.14.104.0\t203.14.104.255\t256\n");
-        ipString.append(
-                "203.14.114.0\t203.14.115.255\t512\n");
-        ipString.append(
-                "203.14.118.0\t203.14.118.255\t256\n");
-        ipString.append(
-                "203.14.162.0\t203.14.162.255\t256\n");
-        ipString.append(
-                "203.14.192.0\t203.14.192.255\t256\n");
-        ipString.append(
-                "203.14.194.0\t203.14.195.255\t512\n");
-        ipString.append(
-                "203.14.214.0\t203.14.214.255\t256\n");
-        ipString.append(
-                "203.14.231.0\t203.14.231.255\t256\n");
-        ipString.append(
-                "203.14.246.0\t203.14.246.255\t256\n");
-        ipString.append(
-                "203.15.0.0\t203.15.15.255\t4096\n");
-        ipString.append(
-                "203.15.20.0\t203.15.22.255\t768\n");
-        ipString.append(
-                "203.15.87.0\t203.15.89.255\t768\n");
-        ipString.append(
-                "203.15.105.0\t203.15.105.255\t256\n");
-        ipString.append(
-                "203.15.112.0\t203.15.119.255\t2048\n");
-        ipString.append(
-                "203.15.130.0\t203.15.131.255\t512\n");
-        ipString.append(
-                "203.15.149.0\t203.15.149.255\t256\n");
-        ipString.append(
-                "203.15.151.0\t203.15.151.255\t256\n");
-        ipString.append(
-                "203.15.156.0\t203.15.159.255\t1024\n");
-        ipString.append(
-                "203.15.174.0\t203.15.174.255\t256\n");
-        ipString.append(
-                "203.15.227.0\t203.15.227.255\t256\n");
-        ipString.append(
-                "203.15.232.0\t203.15.241.255\t2560\n");
-        ipString.append(
-                "203.15.246.0\t203.15.246.255\t256\n");
-        ipString.append(
-                "203.16.10.0\t203.16.10.255\t256\n");
-        ipString.append(
-                "203.16.12.0\t203.16.13.255\t512\n");
-        ipString.append(
-                "203.16.16.0\t203.16.23.255\t2048\n");
-        ipString.append(
-                "203.16.27.0\t203.16.27.255\t256\n");
-        ipString.append(
-                "203.16.38.0\t203.16.38.255\t256\n");
-        ipString.append(
-                "203.16.49.0\t203.16.51.255\t768\n");
-        ipString.append(
-                "203.16.58.0\t203.16.58.255\t256\n");
-        ipString.append(
-                "203.16.63.0\t203.16.63.255\t256\n");
-        ipString.append(
-                "203.16.133.0\t203.16.133.255\t256\n");
-        ipString.append(
-                "203.16.161.0\t203.16.162.255\t512\n");
-        ipString.append(
-                "203.16.186.0\t203.16.187.255\t512\n");
-        ipString.append(
-                "203.16.228.0\t203.16.228.255\t256\n");
-        ipString.append(
-                "203.16.238.0\t203.16.238.255\t256\n");
-        ipString.append(
-                "203.16.240.0\t203.16.240.255\t256\n");
-        ipString.append(
-                "203.16.245.0\t203.16.245.255\t256\n");
-        ipString.append(
-                "203.17.2.0\t203.17.2.255\t256\n");
-        ipString.append(
-                "203.17.18.0\t203.17.18.255\t256\n");
-        ipString.append(
-                "203.17.28.0\t203.17.28.255\t256\n");
-        ipString.append(
-                "203.17.39.0\t203.17.39.255\t256\n");
-        ipString.append(
-                "203.17.56.0\t203.17.56.255\t256\n");
-        ipString.append(
-                "203.17.74.0\t203.17.75.255\t512\n");
-        ipString.append(
-                "203.17.88.0\t203.17.89.255\t512\n");
-        ipString.append(
-                "203.17.136.0\t203.17.136.255\t256\n");
-        ipString.append(
-                "203.17.164.0\t203.17.164.255\t256\n");
-        ipString.append(
-                "203.17.187.0\t203.17.187.255\t256\n");
-        ipString.append(
-                "203.17.190.0\t203.17.191.255\t512\n");
-        ipString.append(
-                "203.17.231.0\t203.17.231.255\t256\n");
-        ipString.append(
-                "203.17.233.0\t203.17.233.255\t256\n");
-        ipString.append(
-                "203.17.248.0\t203.17.249.255\t512\n");
-        ipString.append(
-                "203.17.255.0\t203.17.255.255\t256\n");
-        ipString.append(
-                "203.18.2.0\t203.18.4.255\t768\n");
-        ipString.append(
-                "203.18.7.0\t203.18.7.255\t256\n");
-        ipString.append(
-                "203.18.31.0\t203.18.31.255\t256\n");
-        ipString.append(
-                "203.18.37.0\t203.18.37.255\t256\n");
-        ipString.append(
-                "203.18.48.0\t203.18.49.255\t512\n");
-        ipString.append(
-                "203.18.52.0\t203.18.52.255\t256\n");
-        ipString.append(
-                "203.18.72.0\t203.18.75.255\t1024\n");
-        ipString.append(
-                "203.18.80.0\t203.18.81.255\t512\n");
-        ipString.append(
-                "203.18.87.0\t203.18.87.255\t256\n");
-        ipString.append(
-                "203.18.100.0\t203.18.101.255\t512\n");
-        ipString.append(
-                "203.18.105.0\t203.18.105.255\t256\n");
-        ipString.append(
-                "203.18.107.0\t203.18.107.255\t256\n");
-        ipString.append(
-                "203.18.110.0\t203.18.110.255\t256\n");
-        ipString.append(
-                "203.18.129.0\t203.18.129.255\t256\n");
-        ipString.append(
-                "203.18.131.0\t203.18.133.255\t768\n");
-        ipString.append(
-                "203.18.144.0\t203.18.144.255\t256\n");
-        ipString.append(
-                "203.18.153.0\t203.18.153.255\t256\n");
-        ipString.append(
-                "203.18.199.0\t203.18.199.255\t256\n");
-        ipString.append(
-                "203.18.208.0\t203.18.208.255\t256\n");
-        ipString.append(
-                "203.18.211.0\t203.18.211.255\t256\n");
-        ipString.append(
-                "203.18.215.0\t203.18.215.255\t256\n");
-        ipString.append(
-                "203.19.1.0\t203.19.1.255\t256\n");
-        ipString.append(
-                "203.19.18.0\t203.19.18.255\t256\n");
-        ipString.append(
-                "203.19.24.0\t203.19.24.255\t256\n");
-        ipString.append(
-                "203.19.30.0\t203.19.30.255\t256\n");
-        ipString.append(
-                "203.19.32.0\t203.19.39.255\t2048\n");
-        ipString.append(
-                "203.19.41.0\t203.19.41.255\t256\n");
-        ipString.append(
-                "203.19.44.0\t203.19.46.255\t768\n");
-        ipString.append(
-                "203.19.58.0\t203.19.58.255\t256\n");
-        ipString.append(
-                "203.19.60.0\t203.19.61.255\t512\n");
-        ipString.append(
-                "203.19.64.0\t203.19.64.255\t256\n");
-        ipString.append(
-                "203.19.68.0\t203.19.68.255\t256\n");
-        ipString.append(
-                "203.19.72.0\t203.19.72.255\t256\n");
-        ipString.append(
-                "203.19.101.0\t203.19.101.255\t256\n");
-        ipString.append(
-                "203.19.111.0\t203.19.111.255\t256\n");
-        ipString.append(
-                "203.19.131.0\t203.19.131.255\t256\n");
-        ipString.append(
-                "203.19.133.0\t203.19.133.255\t256\n");
-        ipString.append(
-                "203.19.144.0\t203.19.144.255\t256\n");
-        ipString.append(
-                "203.19.147.0\t203.19.147.255\t256\n");
-        ipString.append(
-                "203.19.149.0\t203.19.149.255\t256\n");
-        ipString.append(
-                "203.19.156.0\t203.19.156.255\t256\n");
-        ipString.append(
-                "203.19.176.0\t203.19.176.255\t256\n");
-        ipString.append(
-                "203.19.178.0\t203.19.179.255\t512\n");
-        ipString.append(
-                "203.19.208.0\t203.19.208.255\t256\n");
-        ipString.append(
-                "203.19.228.0\t203.19.231.255\t1024\n");
-        ipString.append(
-                "203.19.233.0\t203.19.233.255\t256\n");
-        ipString.append(
-                "203.19.242.0\t203.19.242.255\t256\n");
-        ipString.append(
-                "203.19.248.0\t203.19.249.255\t512\n");
-        ipString.append(
-                "203.19.255.0\t203.19.255.255\t256\n");
-        ipString.append(
-                "203.20.17.0\t203.20.17.255\t256\n");
-        ipString.append(
-                "203.20.40.0\t203.20.41.255\t512\n");
-        ipString.append(
-                "203.20.44.0\t203.20.44.255\t256\n");
-        ipString.append(
-                "203.20.48.0\t203.20.48.255\t256\n");
-        ipString.append(
-                "203.20.61.0\t203.20.61.255\t256\n");
-        ipString.append(
-                "203.20.65.0\t203.20.65.255\t256\n");
-        ipString.append(
-                "203.20.84.0\t203.20.85.255\t512\n");
-        ipString.append(
-                "203.20.89.0\t203.20.89.255\t256\n");
-        ipString.append(
-                "203.20.106.0\t203.20.107.255\t512\n");
-        ipString.append(
-                "203.20.115.0\t203.20.115.255\t256\n");
-        ipString.append(
-                "203.20.117.0\t203.20.119.255\t768\n");
-        ipString.append(
-                "203.20.122.0\t203.20.122.255\t256\n");
-        ipString.append(
-                "203.20.126.0\t203.20.127.255\t512\n");
-        ipString.append(
-                "203.20.135.0\t203.20.143.255\t2304\n");
-        ipString.append(
-                "203.20.150.0\t203.20.150.255\t256\n");
-        ipString.append(
-                "203.20.230.0\t203.20.230.255\t256\n");
-        ipString.append(
-                "203.20.232.0\t203.20.232.255\t256\n");
-        ipString.append(
-                "203.20.236.0\t203.20.236.255\t256\n");
-        ipString.append(
-                "203.21.0.0\t203.21.2.255\t768\n");
-        ipString.append(
-                "203.21.8.0\t203.21.8.255\t256\n");
-        ipString.append(
-                "203.21.10.0\t203.21.10.255\t256\n");
-        ipString.append(
-                "203.21.18.0\t203.21.18.255\t256\n");
-        ipString.append(
-                "203.21.33.0\t203.21.34.255\t512\n");
-        ipString.append(
-                "203.21.41.0\t203.21.41.255\t256\n");
-        ipString.append(
-                "203.21.44.0\t203.21.44.255\t256\n");
-        ipString.append(
-                "203.21.68.0\t203.21.68.255\t256\n");
-        ipString.append(
-                "203.21.82.0\t203.21.82.255\t256\n");
-        ipString.append(
-                "203.21.96.0\t203.21.99.255\t1024\n");
-        ipString.append(
-                "203.21.124.0\t203.21.124.255\t256\n");
-        ipString.append(
-                "203.21.136.0\t203.21.137.255\t512\n");
-        ipString.append(
-                "203.21.145.0\t203.21.145.255\t256\n");
-        ipString.append(
-                "203.21.206.0\t203.21.206.255\t256\n");
-        ipString.append(
-                "203.22.24.0\t203.22.24.255\t256\n");
-        ipString.append(
-                "203.22.28.0\t203.22.29.255\t512\n");
-        ipString.append(
-                "203.22.31.0\t203.22.31.255\t256\n");
-        ipString.append(
-                "203.22.68.0\t203.22.68.255\t256\n");
-        ipString.append(
-                "203.22.76.0\t203.22.76.255\t256\n");
-        ipString.append(
-                "203.22.78.0\t203.22.78.255\t256\n");
-        ipString.append(
-                "203.22.84.0\t203.22.84.255\t256\n");
-        ipString.append(
-                "203.22.87.0\t203.22.87.255\t256\n");
-        ipString.append(
-                "203.22.92.0\t203.22.95.255\t1024\n");
-        ipString.append(
-                "203.22.99.0\t203.22.99.255\t256\n");
-        ipString.append(
-                "203.22.106.0\t203.22.106.255\t256\n");
-        ipString.append(
-                "203.22.122.0\t203.22.123.255\t512\n");
-        ipString.append(
-                "203.22.131.0\t203.22.131.255\t256\n");
-        ipString.append(
-                "203.22.163.0\t203.22.163.255\t256\n");
-        ipString.append(
-                "203.22.166.0\t203.22.166.255\t256\n");
-        ipString.append(
-                "203.22.170.0\t203.22.170.255\t256\n");
-        ipString.append(
-                "203.22.176.0\t203.22.183.255\t2048\n");
-        ipString.append(
-                "203.22.194.0\t203.22.194.255\t256\n");
-        ipString.append(
-                "203.22.242.0\t203.22.243.255\t512\n");
-        ipString.append(
-                "203.22.245.0\t203.22.246.255\t512\n");
-        ipString.append(
-                "203.22.252.0\t203.22.253.255\t512\n");
-        ipString.append(
-                "203.23.0.0\t203.23.0.255\t256\n");
-        ipString.append(
-                "203.23.47.0\t203.23.47.255\t256\n");
-        ipString.append(
-                "203.23.61.0\t203.23.63.255\t768\n");
-        ipString.append(
-                "203.23.73.0\t203.23.73.255\t256\n");
-        ipString.append(
-                "203.23.85.0\t203.23.85.255\t256\n");
-        ipString.append(
-                "203.23.92.0\t203.23.95.255\t1024\n");
-        ipString.append(
-                "203.23.98.0\t203.23.98.255\t256\n");
-        ipString.append(
-                "203.23.107.0\t203.23.107.255\t256\n");
-        ipString.append(
-                "203.23.112.0\t203.23.112.255\t256\n");
-        ipString.append(
-                "203.23.130.0\t203.23.130.255\t256\n");
-        ipString.append(
-                "203.23.140.0\t203.23.141.255\t512\n");
-        ipString.append(
-                "203.23.172.0\t203.23.172.255\t256\n");
-        ipString.append(
-                "203.23.182.0\t203.23.182.255\t256\n");
-        ipString.append(
-                "203.23.186.0\t203.23.187.255\t512\n");
-        ipString.append(
-                "203.23.192.0\t203.23.192.255\t256\n");
-        ipString.append(
-                "203.23.197.0\t203.23.198.255\t512\n");
-        ipString.append(
-                "203.23.204.0\t203.23.207.255\t1024\n");
-        ipString.append(
-                "203.23.224.0\t203.23.224.255\t256\n");
-        ipString.append(
-                "203.23.226.0\t203.23.231.255\t1536\n");
-        ipString.append(
-                "203.23.249.0\t203.23.249.255\t256\n");
-        ipString.append(
-                "203.23.251.0\t203.23.251.255\t256\n");
-        ipString.append(
-                "203.24.13.0\t203.24.13.255\t256\n");
-        ipString.append(
-                "203.24.18.0\t203.24.18.255\t256\n");
-        ipString.append(
-                "203.24.27.0\t203.24.27.255\t256\n");
-        ipString.append(
-                "203.24.43.0\t203.24.43.255\t256\n");
-        ipString.append(
-                "203.24.56.0\t203.24.56.255\t256\n");
-        ipString.append(
-                "203.24.58.0\t203.24.58.255\t256\n");
-        ipString.append(
-                "203.24.67.0\t203.24.67.255\t256\n");
-        ipString.append(
-                "203.24.74.0\t203.24.74.255\t256\n");
-        ipString.append(
-                "203.24.79.0\t203.24.81.255\t768\n");
-        ipString.append(
-                "203.24.84.0\t203.24.86.255\t768\n");
-        ipString.append(
-                "203.24.90.0\t203.24.90.255\t256\n");
-        ipString.append(
-                "203.24.111.0\t203.24.112.255\t512\n");
-        ipString.append(
-                "203.24.116.0\t203.24.116.255\t256\n");
-        ipString.append(
-                "203.24.122.0\t203.24.123.255\t512\n");
-        ipString.append(
-                "203.24.145.0\t203.24.145.255\t256\n");
-        ipString.append(
-                "203.24.152.0\t203.24.153.255\t512\n");
-        ipString.append(
-                "203.24.157.0\t203.24.157.255\t256\n");
-        ipString.append(
-                "203.24.161.0\t203.24.161.255\t256\n");
-        ipString.append(
-                "203.24.167.0\t203.24.167.255\t256\n");
-        ipString.append(
-                "203.24.186.0\t203.24.187.255\t512\n");
-        ipString.append(
-                "203.24.199.0\t203.24.199.255\t256\n");
-        ipString.append(
-                "203.24.202.0\t203.24.202.255\t256\n");
-        ipString.append(
-                "203.24.212.0\t203.24.213.255\t512\n");
-        ipString.append(
-                "203.24.217.0\t203.24.217.255\t256\n");
-        ipString.append(
-                "203.24.219.0\t203.24.219.255\t256\n");
-        ipString.append(
-                "203.24.244.0\t203.24.244.255\t256\n");
-        ipString.append(
-                "203.25.19.0\t203.25.21.255\t768\n");
-        ipString.append(
-                "203.25.46.0\t203.25.46.255\t256\n");
-        ipString.append(
-                "203.25.48.0\t203.25.55.255\t2048\n");
-        ipString.append(
-                "203.25.64.0\t203.25.65.255\t512\n");
-        ipString.append(
-                "203.25.91.0\t203.25.91.255\t256\n");
-        ipString.append(
-                "203.25.99.0\t203.25.100.255\t512\n");
-        ipString.append(
-                "203.25.106.0\t203.25.106.255\t256\n");
-        ipString.append(
-                "203.25.131.0\t203.25.131.255\t256\n");
-        ipString.append(
-                "203.25.135.0\t203.25.135.255\t256\n");
-        ipString.append(
-                "203.25.138.0\t203.25.138.255\t256\n");
-        ipString.append(
-                "203.25.147.0\t203.25.147.255\t256\n");
-        ipString.append(
-                "203.25.153.0\t203.25.155.255\t768\n");
-        ipString.append(
-                "203.25.164.0\t203.25.164.255\t256\n");
-        ipString.append(
-                "203.25.166.0\t203.25.166.255\t256\n");
-        ipString.append(
-                "203.25.174.0\t203.25.175.255\t512\n");
-        ipString.append(
-                "203.25.180.0\t203.25.180.255\t256\n");
-        ipString.append(
-                "203.25.182.0\t203.25.182.255\t256\n");
-        ipString.append(
-                "203.25.191.0\t203.25.191.255\t256\n");
-        ipString.append(
-                "203.25.199.0\t203.25.200.255\t512\n");
-        ipString.append(
-                "203.25.202.0\t203.25.203.255\t512\n");
-        ipString.append(
-                "203.25.208.0\t203.25.223.255\t4096\n");
-        ipString.append(
-                "203.25.229.0\t203.25.229.255\t256\n");
-        ipString.append(
-                "203.25.235.0\t203.25.236.255\t512\n");
-        ipString.append(
-                "203.25.242.0\t203.25.242.255\t256\n");
-        ipString.append(
-                "203.26.12.0\t203.26.12.255\t256\n");
-        ipString.append(
-                "203.26.34.0\t203.26.34.255\t256\n");
-        ipString.append(
-                "203.26.49.0\t203.26.50.255\t512\n");
-        ipString.append(
-                "203.26.55.0\t203.26.57.255\t768\n");
-        ipString.append(
-                "203.26.60.0\t203.26.60.255\t256\n");
-        ipString.append(
-                "203.26.65.0\t203.26.65.255\t256\n");
-        ipString.append(
-                "203.26.68.0\t203.26.68.255\t256\n");
-        ipString.append(
-                "203.26.76.0\t203.26.76.255\t256\n");
-        ipString.append(
-                "203.26.80.0\t203.26.80.255\t256\n");
-        ipString.append(
-                "203.26.84.0\t203.26.84.255\t256\n");
-        ipString.append(
-                "203.26.97.0\t203.26.97.255\t256\n");
-        ipString.append(
-                "203.26.102.0\t203.26.103.255\t512\n");
-        ipString.append(
-                "203.26.115.0\t203.26.116.255\t512\n");
-        ipString.append(
-                "203.26.129.0\t203.26.129.255\t256\n");
-        ipString.append(
-                "203.26.143.0\t203.26.144.255\t512\n");
-        ipString.append(
-                "203.26.148.0\t203.26.149.255\t512\n");
-        ipString.append(
-                "203.26.154.0\t203.26.154.255\t256\n");
-        ipString.append(
-                "203.26.158.0\t203.26.159.255\t512\n");
-        ipString.append(
-                "203.26.170.0\t203.26.170.255\t256\n");
-        ipString.append(
-                "203.26.173.0\t203.26.173.255\t256\n");
-        ipString.append(
-                "203.26.176.0\t203.26.176.255\t256\n");
-        ipString.append(
-                "203.26.185.0\t203.26.185.255\t256\n");
-        ipString.append(
-                "203.26.202.0\t203.26.203.255\t512\n");
-        ipString.append(
-                "203.26.210.0\t203.26.210.255\t256\n");
-        ipString.append(
-                "203.26.214.0\t203.26.214.255\t256\n");
-        ipString.append(
-                "203.26.222.0\t203.26.222.255\t256\n");
-        ipString.append(
-                "203.26.224.0\t203.26.224.255\t256\n");
-        ipString.append(
-                "203.26.228.0\t203.26.228.255\t256\n");
-        ipString.append(
-                "203.26.232.0\t203.26.232.255\t256\n");
-        ipString.append(
-                "203.27.0.0\t203.27.0.255\t256\n");
-        ipString.append(
-                "203.27.10.0\t203.27.10.255\t256\n");
-        ipString.append(
-                "203.27.15.0\t203.27.16.255\t512\n");
-        ipString.append(
-                "203.27.20.0\t203.27.20.255\t256\n");
-        ipString.append(
-                "203.27.22.0\t203.27.23.255\t512\n");
-        ipString.append(
-                "203.27.40.0\t203.27.40.255\t256\n");
-        ipString.append(
-                "203.27.45.0\t203.27.45.255\t256\n");
-        ipString.append(
-                "203.27.53.0\t203.27.53.255\t256\n");
-        ipString.append(
-                "203.27.65.0\t203.27.66.255\t512\n");
-        ipString.append(
-                "203.27.81.0\t203.27.81.255\t256\n");
-        ipString.append(
-                "203.27.88.0\t203.27.88.255\t256\n");
-        ipString.append(
-                "203.27.102.0\t203.27.102.255\t256\n");
-        ipString.append(
-                "203.27.109.0\t203.27.109.255\t256\n");
-        ipString.append(
-                "203.27.117.0\t203.27.117.255\t256\n");
-        ipString.append(
-                "203.27.121.0\t203.27.123.255\t768\n");
-        ipString.append(
-                "203.27.125.0\t203.27.125.255\t256\n");
-        ipString.append(
-                "203.27.200.0\t203.27.200.255\t256\n");
-        ipString.append(
-                "203.27.202.0\t203.27.202.255\t256\n");
-        ipString.append(
-                "203.27.233.0\t203.27.233.255\t256\n");
-        ipString.append(
-                "203.27.241.0\t203.27.241.255\t256\n");
-        ipString.append(
-                "203.27.250.0\t203.27.250.255\t256\n");
-        ipString.append(
-                "203.28.10.0\t203.28.10.255\t256\n");
-        ipString.append(
-                "203.28.12.0\t203.28.12.255\t256\n");
-        ipString.append(
-                "203.28.33.0\t203.28.35.255\t768\n");
-        ipString.append(
-                "203.28.43.0\t203.28.44.255\t512\n");
-        ipString.append(
-                "203.28.54.0\t203.28.54.255\t256\n");
-        ipString.append(
-                "203.28.56.0\t203.28.56.255\t256\n");
-        ipString.append(
-                "203.28.73.0\t203.28.74.255\t512\n");
-        ipString.append(
-                "203.28.76.0\t203.28.76.255\t256\n");
-        ipString.append(
-                "203.28.86.0\t203.28.86.255\t256\n");
-        ipString.append(
-                "203.28.88.0\t203.28.88.255\t256\n");
-        ipString.append(
-                "203.28.112.0\t203.28.112.255\t256\n");
-        ipString.append(
-                "203.28.131.0\t203.28.131.255\t256\n");
-        ipString.append(
-                "203.28.136.0\t203.28.136.255\t256\n");
-        ipString.append(
-                "203.28.140.0\t203.28.140.255\t256\n");
-        ipString.append(
-                "203.28.145.0\t203.28.145.255\t256\n");
-        ipString.append(
-                "203.28.165.0\t203.28.165.255\t256\n");
-        ipString.append(
-                "203.28.169.0\t203.28.170.255\t512\n");
-        ipString.append(
-                "203.28.178.0\t203.28.179.255\t512\n");
-        ipString.append(
-                "203.28.185.0\t203.28.185.255\t256\n");
-        ipString.append(
-                "203.28.187.0\t203.28.187.255\t256\n");
-        ipString.append(
-                "203.28.196.0\t203.28.196.255\t256\n");
-        ipString.append(
-                "203.28.226.0\t203.28.227.255\t512\n");
-        ipString.append(
-                "203.28.239.0\t203.28.239.255\t256\n");
-        ipString.append(
-                "203.29.2.0\t203.29.2.255\t256\n");
-        ipString.append(
-                "203.29.8.0\t203.29.9.255\t512\n");
-        ipString.append(
-                "203.29.13.0\t203.29.14.255\t512\n");
-        ipString.append(
-                "203.29.28.0\t203.29.28.255\t256\n");
-        ipString.append(
-                "203.29.46.0\t203.29.46.255\t256\n");
-        ipString.append(
-                "203.29.57.0\t203.29.57.255\t256\n");
-        ipString.append(
-                "203.29.61.0\t203.29.61.255\t256\n");
-        ipString.append(
-                "203.29.63.0\t203.29.63.255\t256\n");
-        ipString.append(
-                "203.29.69.0\t203.29.69.255\t256\n");
-        ipString.append(
-                "203.29.73.0\t203.29.73.255\t256\n");
-        ipString.append(
-                "203.29.81.0\t203.29.81.255\t256\n");
-        ipString.append(
-                "203.29.90.0\t203.29.90.255\t256\n");
-        ipString.append(
-                "203.29.95.0\t203.29.95.255\t256\n");
-        ipString.append(
-                "203.29.100.0\t203.29.100.255\t256\n");
-        ipString.append(
-                "203.29.103.0\t203.29.103.255\t256\n");
-        ipString.append(
-                "203.29.112.0\t203.29.112.255\t256\n");
-        ipString.append(
-                "203.29.120.0\t203.29.123.255\t1024\n");
-        ipString.append(
-                "203.29.182.0\t203.29.183.255\t512\n");
-        ipString.append(
-                "203.29.187.0\t203.29.187.255\t256\n");
-        ipString.append(
-                "203.29.189.0\t203.29.190.255\t512\n");
-        ipString.append(
-                "203.29.205.0\t203.29.205.255\t256\n");
-        ipString.append(
-                "203.29.210.0\t203.29.210.255\t256\n");
-        ipString.append(
-                "203.29.217.0\t203.29.217.255\t256\n");
-        ipString.append(
-                "203.29.227.0\t203.29.227.255\t256\n");
-        ipString.append(
-                "203.29.231.0\t203.29.231.255\t256\n");
-        ipString.append(
-                "203.29.233.0\t203.29.234.255\t512\n");
-        ipString.append(
-                "203.29.248.0\t203.29.248.255\t256\n");
-        ipString.append(
-                "203.29.254.0\t203.29.255.255\t512\n");
-        ipString.append(
-                "203.30.16.0\t203.30.17.255\t512\n");
-        ipString.append(
-                "203.30.25.0\t203.30.25.255\t256\n");
-        ipString.append(
-                "203.30.27.0\t203.30.27.255\t256\n");
-        ipString.append(
-                "203.30.29.0\t203.30.29.255\t256\n");
-        ipString.append(
-                "203.30.66.0\t203.30.66.255\t256\n");
-        ipString.append(
-                "203.30.81.0\t203.30.81.255\t256\n");
-        ipString.append(
-                "203.30.87.0\t203.30.87.255\t256\n");
-        ipString.append(
-                "203.30.111.0\t203.30.111.255\t256\n");
-        ipString.append(
-                "203.30.121.0\t203.30.121.255\t256\n");
-        ipString.append(
-                "203.30.123.0\t203.30.123.255\t256\n");
-        ipString.append(
-                "203.30.152.0\t203.30.152.255\t256\n");
-        ipString.append(
-                "203.30.156.0\t203.30.156.255\t256\n");
-        ipString.append(
-                "203.30.162.0\t203.30.162.255\t256\n");
-        ipString.append(
-                "203.30.173.0\t203.30.173.255\t256\n");
-        ipString.append(
-                "203.30.175.0\t203.30.175.255\t256\n");
-        ipString.append(
-                "203.30.187.0\t203.30.187.255\t256\n");
-        ipString.append(
-                "203.30.194.0\t203.30.194.255\t256\n");
-        ipString.append(
-                "203.30.217.0\t203.30.217.255\t256\n");
-        ipString.append(
-                "203.30.220.0\t203.30.220.255\t256\n");
-        ipString.append(
-                "203.30.222.0\t203.30.222.255\t256\n");
-        ipString.append(
-                "203.30.232.0\t203.30.233.255\t512\n");
-        ipString.append(
-                "203.30.235.0\t203.30.235.255\t256\n");
-        ipString.append(
-                "203.30.240.0\t203.30.241.255\t512\n");
-        ipString.append(
-                "203.30.246.0\t203.30.246.255\t256\n");
-        ipString.append(
-                "203.30.250.0\t203.30.251.255\t512\n");
-        ipString.append(
-                "203.31.45.0\t203.31.46.255\t512\n");
-        ipString.append(
-                "203.31.49.0\t203.31.49.255\t256\n");
-        ipString.append(
-                "203.31.51.0\t203.31.51.255\t256\n");
-        ipString.append(
-                "203.31.54.0\t203.31.55.255\t512\n");
-        ipString.append(
-                "203.31.69.0\t203.31.69.255\t256\n");
-        ipString.append(
-                "203.31.72.0\t203.31.72.255\t256\n");
-        ipString.append(
-                "203.31.80.0\t203.31.80.255\t256\n");
-        ipString.append(
-                "203.31.85.0\t203.31.85.255\t256\n");
-        ipString.append(
-                "203.31.97.0\t203.31.97.255\t256\n");
-        ipString.append(
-                "203.31.105.0\t203.31.106.255\t512\n");
-        ipString.append(
-                "203.31.108.0\t203.31.109.255\t512\n");
-        ipString.append(
-                "203.31.124.0\t203.31.124.255\t256\n");
-        ipString.append(
-                "203.31.162.0\t203.31.162.255\t256\n");
-        ipString.append(
-                "203.31.174.0\t203.31.174.255\t256\n");
-        ipString.append(
-                "203.31.177.0\t203.31.177.255\t256\n");
-        ipString.append(
-                "203.31.181.0\t203.31.181.255\t256\n");
-        ipString.append(
-                "203.31.187.0\t203.31.187.255\t256\n");
-        ipString.append(
-                "203.31.189.0\t203.31.189.255\t256\n");
-        ipString.append(
-                "203.31.204.0\t203.31.204.255\t256\n");
-        ipString.append(
-                "203.31.220.0\t203.31.220.255\t256\n");
-        ipString.append(
-                "203.31.222.0\t203.31.223.255\t512\n");
-        ipString.append(
-                "203.31.225.0\t203.31.225.255\t256\n");
-        ipString.append(
-                "203.31.229.0\t203.31.229.255\t256\n");
-        ipString.append(
-                "203.31.248.0\t203.31.249.255\t512\n");
-        ipString.append(
-                "203.31.253.0\t203.31.253.255\t256\n");
-        ipString.append(
-                "203.32.20.0\t203.32.20.255\t256\n");
-        ipString.append(
-                "203.32.48.0\t203.32.49.255\t512\n");
-        ipString.append(
-                "203.32.56.0\t203.32.56.255\t256\n");
-        ipString.append(
-                "203.32.60.0\t203.32.60.255\t256\n");
-        ipString.append(
-                "203.32.62.0\t203.32.62.255\t256\n");
-        ipString.append(
-                "203.32.68.0\t203.32.69.255\t512\n");
-        ipString.append(
-                "203.32.76.0\t203.32.76.255\t256\n");
-        ipString.append(
-                "203.32.81.0\t203.32.81.255\t256\n");
-        ipString.append(
-                "203.32.84.0\t203.32.85.255\t512\n");
-        ipString.append(
-                "203.32.95.0\t203.32.95.255\t256\n");
-        ipString.append(
-                "203.32.102.0\t203.32.102.255\t256\n");
-        ipString.append(
-                "203.32.105.0\t203.32.105.255\t256\n");
-        ipString.append(
-                "203.32.130.0\t203.32.130.255\t256\n");
-        ipString.append(
-                "203.32.133.0\t203.32.133.255\t256\n");
-        ipString.append(
-                "203.32.140.0\t203.32.140.255\t256\n");
-        ipString.append(
-                "203.32.152.0\t203.32.152.255\t256\n");
-        ipString.append(
-                "203.32.186.0\t203.32.187.255\t512\n");
-        ipString.append(
-                "203.32.192.0\t203.32.192.255\t256\n");
-        ipString.append(
-                "203.32.196.0\t203.32.196.255\t256\n");
-        ipString.append(
-                "203.32.203.0\t203.32.205.255\t768\n");
-        ipString.append(
-                "203.32.212.0\t203.32.212.255\t256\n");
-        ipString.append(
-                "203.33.4.0\t203.33.4.255\t256\n");
-        ipString.append(
-                "203.33.7.0\t203.33.15.255\t2304\n");
-        ipString.append(
-                "203.33.21.0\t203.33.21.255\t256\n");
-        ipString.append(
-                "203.33.26.0\t203.33.26.255\t256\n");
-        ipString.append(
-                "203.33.32.0\t203.33.32.255\t256\n");
-        ipString.append(
-                "203.33.63.0\t203.33.64.255\t512\n");
-        ipString.append(
-                "203.33.67.0\t203.33.68.255\t512\n");
-        ipString.append(
-                "203.33.73.0\t203.33.73.255\t256\n");
-        ipString.append(
-                "203.33.79.0\t203.33.79.255\t256\n");
-        ipString.append(
-                "203.33.100.0\t203.33.100.255\t256\n");
-        ipString.append(
-                "203.33.122.0\t203.33.122.255\t256\n");
-        ipString.append(
-                "203.33.129.0\t203.33.129.255\t256\n");
-        ipString.append(
-                "203.33.131.0\t203.33.131.255\t256\n");
-        ipString.append(
-                "203.33.145.0\t203.33.145.255\t256\n");
-        ipString.append(
-                "203.33.156.0\t203.33.156.255\t256\n");
-        ipString.append(
-                "203.33.158.0\t203.33.159.255\t512\n");
-        ipString.append(
-                "203.33.174.0\t203.33.174.255\t256\n");
-        ipString.append(
-                "203.33.185.0\t203.33.185.255\t256\n");
-        ipString.append(
-                "203.33.200.0\t203.33.200.255\t256\n");
-        ipString.append(
-                "203.33.202.0\t203.33.204.255\t768\n");
-        ipString.append(
-                "203.33.206.0\t203.33.207.255\t512\n");
-        ipString.append(
-                "203.33.214.0\t203.33.215.255\t512\n");
-        ipString.append(
-                "203.33.224.0\t203.33.226.255\t768\n");
-        ipString.append(
-                "203.33.233.0\t203.33.233.255\t256\n");
-        ipString.append(
-                "203.33.243.0\t203.33.243.255\t256\n");
-        ipString.append(
-                "203.33.250.0\t203.33.250.255\t256\n");
-        ipString.append(
-                "203.34.4.0\t203.34.4.255\t256\n");
-        ipString.append(
-                "203.34.21.0\t203.34.21.255\t256\n");
-        ipString.append(
-                "203.34.27.0\t203.34.27.255\t256\n");
-        ipString.append(
-                "203.34.39.0\t203.34.39.255\t256\n");
-        ipString.append(
-                "203.34.48.0\t203.34.49.255\t512\n");
-        ipString.append(
-                "203.34.54.0\t203.34.54.255\t256\n");
-        ipString.append(
-                "203.34.56.0\t203.34.57.255\t512\n");
-        ipString.append(
-                "203.34.67.0\t203.34.67.255\t256\n");
-        ipString.append(
-                "203.34.69.0\t203.34.69.255\t256\n");
-        ipString.append(
-                "203.34.76.0\t203.34.76.255\t256\n");
-        ipString.append(
-                "203.34.92.0\t203.34.92.255\t256\n");
-        ipString.append(
-                "203.34.106.0\t203.34.106.255\t256\n");
-        ipString.append(
-                "203.34.113.0\t203.34.113.255\t256\n");
-        ipString.append(
-                "203.34.147.0\t203.34.147.255\t256\n");
-        ipString.append(
-                "203.34.150.0\t203.34.150.255\t256\n");
-        ipString.append(
-                "203.34.152.0\t203.34.153.255\t512\n");
-        ipString.append(
-                "203.34.161.0\t203.34.162.255\t512\n");
-        ipString.append(
-                "203.34.187.0\t203.34.187.255\t256\n");
-        ipString.append(
-                "203.34.192.0\t203.34.199.255\t2048\n");
-        ipString.append(
-                "203.34.204.0\t203.34.207.255\t1024\n");
-        ipString.append(
-                "203.34.232.0\t203.34.232.255\t256\n");
-        ipString.append(
-                "203.34.240.0\t203.34.240.255\t256\n");
-        ipString.append(
-                "203.34.242.0\t203.34.242.255\t256\n");
-        ipString.append(
-                "203.34.245.0\t203.34.245.255\t256\n");
-        ipString.append(
-                "203.34.251.0\t203.34.251.255\t256\n");
-        ipString.append(
-                "203.55.2.0\t203.55.4.255\t768\n");
-        ipString.append(
-                "203.55.10.0\t203.55.10.255\t256\n");
-        ipString.append(
-                "203.55.13.0\t203.55.13.255\t256\n");
-        ipString.append(
-                "203.55.22.0\t203.55.22.255\t256\n");
-        ipString.append(
-                "203.55.30.0\t203.55.30.255\t256\n");
-        ipString.append(
-                "203.55.93.0\t203.55.93.255\t256\n");
-        ipString.append(
-                "203.55.101.0\t203.55.101.255\t256\n");
-        ipString.append(
-                "203.55.109.0\t203.55.110.255\t512\n");
-        ipString.append(
-                "203.55.116.0\t203.55.117.255\t512\n");
-        ipString.append(
-                "203.55.119.0\t203.55.119.255\t256\n");
-        ipString.append(
-                "203.55.128.0\t203.55.129.255\t512\n");
-        ipString.append(
-                "203.55.146.0\t203.55.147.255\t512\n");
-        ipString.append(
-                "203.55.192.0\t203.55.192.255\t256\n");
-        ipString.append(
-                "203.55.196.0\t203.55.196.255\t256\n");
-        ipString.append(
-                "203.55.218.0\t203.55.219.255\t512\n");
-        ipString.append(
-                "203.55.221.0\t203.55.221.255\t256\n");
-        ipString.append(
-                "203.55.224.0\t203.55.224.255\t256\n");
-        ipString.append(
-                "203.56.1.0\t203.56.1.255\t256\n");
-        ipString.append(
-                "203.56.4.0\t203.56.4.255\t256\n");
-        ipString.append(
-                "203.56.12.0\t203.56.12.255\t256\n");
-        ipString.append(
-                "203.56.24.0\t203.56.24.255\t256\n");
-        ipString.append(
-                "203.56.38.0\t203.56.38.255\t256\n");
-        ipString.append(
-                "203.56.40.0\t203.56.40.255\t256\n");
-        ipString.append(
-                "203.56.46.0\t203.56.46.255\t256\n");
-        ipString.append(
-                "203.56.48.0\t203.56.55.255\t2048\n");
-        ipString.append(
-                "203.56.68.0\t203.56.69.255\t512\n");
-        ipString.append(
-                "203.56.82.0\t203.56.85.255\t1024\n");
-        ipString.append(
-                "203.56.95.0\t203.56.95.255\t256\n");
-        ipString.append(
-                "203.56.110.0\t203.56.110.255\t256\n");
-        ipString.append(
-                "203.56.121.0\t203.56.121.255\t256\n");
-        ipString.append(
-                "203.56.161.0\t203.56.161.255\t256\n");
-        ipString.append(
-                "203.56.169.0\t203.56.169.255\t256\n");
-        ipString.append(
-                "203.56.172.0\t203.56.173.255\t512\n");
-        ipString.append(
-                "203.56.175.0\t203.56.175.255\t256\n");
-        ipString.append(
-                "203.56.183.0\t203.56.183.255\t256\n");
-        ipString.append(
-                "203.56.185.0\t203.56.185.255\t256\n");
-        ipString.append(
-                "203.56.187.0\t203.56.187.255\t256\n");
-        ipString.append(
-                "203.56.192.0\t203.56.192.255\t256\n");
-        ipString.append(
-                "203.56.198.0\t203.56.198.255\t256\n");
-        ipString.append(
-                "203.56.201.0\t203.56.201.255\t256\n");
-        ipString.append(
-                "203.56.208.0\t203.56.210.255\t768\n");
-        ipString.append(
-                "203.56.214.0\t203.56.214.255\t256\n");
-        ipString.append(
-                "203.56.216.0\t203.56.216.255\t256\n");
-        ipString.append(
-                "203.56.227.0\t203.56.228.255\t512\n");
-        ipString.append(
-                "203.56.231.0\t203.56.232.255\t512\n");
-        ipString.append(
-                "203.56.240.0\t203.56.240.255\t256\n");
-        ipString.append(
-                "203.56.252.0\t203.56.252.255\t256\n");
-        ipString.append(
-                "203.56.254.0\t203.56.254.255\t256\n");
-        ipString.append(
-                "203.57.5.0\t203.57.6.255\t512\n");
-        ipString.append(
-                "203.57.12.0\t203.57.13.255\t512\n");
-        ipString.append(
-                "203.57.28.0\t203.57.28.255\t256\n");
-        ipString.append(
-                "203.57.39.0\t203.57.39.255\t256\n");
-        ipString.append(
-                "203.57.46.0\t203.57.46.255\t256\n");
-        ipString.append(
-                "203.57.58.0\t203.57.58.255\t256\n");
-        ipString.append(
-                "203.57.61.0\t203.57.61.255\t256\n");
-        ipString.append(
-                "203.57.66.0\t203.57.66.255\t256\n");
-        ipString.append(
-                "203.57.69.0\t203.57.71.255\t768\n");
-        ipString.append(
-                "203.57.73.0\t203.57.73.255\t256\n");
-        ipString.append(
-                "203.57.90.0\t203.57.90.255\t256\n");
-        ipString.append(
-                "203.57.101.0\t203.57.101.255\t256\n");
-        ipString.append(
-                "203.57.109.0\t203.57.109.255\t256\n");
-        ipString.append(
-                "203.57.123.0\t203.57.123.255\t256\n");
-        ipString.append(
-                "203.57.157.0\t203.57.157.255\t256\n");
-        ipString.append(
-                "203.57.200.0\t203.57.200.255\t256\n");
-        ipString.append(
-                "203.57.202.0\t203.57.202.255\t256\n");
-        ipString.append(
-                "203.57.206.0\t203.57.206.255\t256\n");
-        ipString.append(
-                "203.57.222.0\t203.57.222.255\t256\n");
-        ipString.append(
-                "203.57.224.0\t203.57.239.255\t4096\n");
-        ipString.append(
-                "203.57.246.0\t203.57.247.255\t512\n");
-        ipString.append(
-                "203.57.249.0\t203.57.249.255\t256\n");
-        ipString.append(
-                "203.57.253.0\t203.57.255.255\t768\n");
-        ipString.append(
-                "203.62.2.0\t203.62.2.255\t256\n");
-        ipString.append(
-                "203.62.131.0\t203.62.131.255\t256\n");
-        ipString.append(
-                "203.62.139.0\t203.62.139.255\t256\n");
-        ipString.append(
-                "203.62.161.0\t203.62.161.255\t256\n");
-        ipString.append(
-                "203.62.197.0\t203.62.197.255\t256\n");
-        ipString.append(
-                "203.62.228.0\t203.62.231.255\t1024\n");
-        ipString.append(
-                "203.62.234.0\t203.62.234.255\t256\n");
-        ipString.append(
-                "203.62.246.0\t203.62.246.255\t256\n");
-        ipString.append(
-                "203.76.160.0\t203.76.163.255\t1024\n");
-        ipString.append(
-                "203.76.168.0\t203.76.171.255\t1024\n");
-        ipString.append(
-                "203.76.208.0\t203.76.219.255\t3072\n");
-        ipString.append(
-                "203.76.240.0\t203.76.247.255\t2048\n");
-        ipString.append(
-                "203.77.180.0\t203.77.183.255\t1024\n");
-        ipString.append(
-                "203.78.48.0\t203.78.63.255\t4096\n");
-        ipString.append(
-                "203.78.156.0\t203.78.159.255\t1024\n");
-        ipString.append(
-                "203.79.0.0\t203.79.15.255\t4096\n");
-        ipString.append(
-                "203.79.32.0\t203.79.47.255\t4096\n");
-        ipString.append(
-                "203.80.4.0\t203.80.5.255\t512\n");
-        ipString.append(
-                "203.80.32.0\t203.80.47.255\t4096\n");
-        ipString.append(
-                "203.80.57.0\t203.80.57.255\t256\n");
-        ipString.append(
-                "203.80.129.0\t203.80.129.255\t256\n");
-        ipString.append(
-                "203.80.132.0\t203.80.159.255\t7168\n");
-        ipString.append(
-                "203.81.0.0\t203.81.7.255\t2048\n");
-        ipString.append(
-                "203.81.16.0\t203.81.31.255\t4096\n");
-        ipString.append(
-                "203.81.244.0\t203.81.247.255\t1024\n");
-        ipString.append(
-                "203.82.0.0\t203.82.1.255\t512\n");
-        ipString.append(
-                "203.82.16.0\t203.82.23.255\t2048\n");
-        ipString.append(
-                "203.82.112.0\t203.82.127.255\t4096\n");
-        ipString.append(
-                "203.82.224.0\t203.82.239.255\t4096\n");
-        ipString.append(
-                "203.83.0.0\t203.83.3.255\t1024\n");
-        ipString.append(
-                "203.83.8.0\t203.83.15.255\t2048\n");
-        ipString.append(
-                "203.83.56.0\t203.83.63.255\t2048\n");
-        ipString.append(
-                "203.83.224.0\t203.83.239.255\t4096\n");
-        ipString.append(
-                "203.86.0.0\t203.86.127.255\t32768\n");
-        ipString.append(
-                "203.86.250.0\t203.86.250.255\t256\n");
-        ipString.append(
-                "203.86.254.0\t203.86.255.255\t512\n");
-        ipString.append(
-                "203.88.32.0\t203.88.63.255\t8192\n");
-        ipString.append(
-                "203.88.192.0\t203.88.223.255\t8192\n");
-        ipString.append(
-                "203.89.0.0\t203.89.3.255\t1024\n");
-        ipString.append(
-                "203.89.8.0\t203.89.15.255\t2048\n");
-        ipString.append(
-                "203.89.100.0\t203.89.103.255\t1024\n");
-        ipString.append(
-                "203.89.133.0\t203.89.133.255\t256\n");
-        ipString.append(
-                "203.89.136.0\t203.89.139.255\t1024\n");
-        ipString.append(
-                "203.89.144.0\t203.89.144.255\t256\n");
-        ipString.append(
-                "203.90.0.0\t203.90.3.255\t1024\n");
-        ipString.append(
-                "203.90.8.0\t203.90.15.255\t2048\n");
-        ipString.append(
-                "203.90.128.0\t203.90.223.255\t24576\n");
-        ipString.append(
-                "203.91.32.0\t203.91.63.255\t8192\n");
-        ipString.append(
-                "203.91.96.0\t203.91.111.255\t4096\n");
-        ipString.append(
-                "203.91.120.0\t203.91.127.255\t2048\n");
-        ipString.append(
-                "203.92.0.0\t203.92.3.255\t1024\n");
-        ipString.append(
-                "203.92.6.0\t203.92.6.255\t256\n");
-        ipString.append(
-                "203.92.160.0\t203.92.191.255\t8192\n");
-        ipString.append(
-                "203.93.0.0\t203.94.31.255\t73728\n");
-        ipString.append(
-                "203.95.0.0\t203.95.7.255\t2048\n");
-        ipString.append(
-                "203.95.96.0\t203.95.191.255\t24576\n");
-        ipString.append(
-                "203.95.200.0\t203.95.211.255\t3072\n");
-        ipString.append(
-                "203.95.224.0\t203.95.255.255\t8192\n");
-        ipString.append(
-                "203.99.8.0\t203.99.31.255\t6144\n");
-        ipString.append(
-                "203.99.80.0\t203.99.95.255\t4096\n");
-        ipString.append(
-                "203.100.32.0\t203.100.55.255\t6144\n");
-        ipString.append(
-                "203.100.58.0\t203.100.58.255\t256\n");
-        ipString.append(
-                "203.100.60.0\t203.100.60.255\t256\n");
-        ipString.append(
-                "203.100.63.0\t203.100.63.255\t256\n");
-        ipString.append(
-                "203.100.80.0\t203.100.127.255\t12288\n");
-        ipString.append(
-                "203.100.192.0\t203.100.207.255\t4096\n");
-        ipString.append(
-                "203.104.32.0\t203.104.47.255\t4096\n");
-        ipString.append(
-                "203.105.96.0\t203.105.159.255\t16384\n");
-        ipString.append(
-                "203.107.0.0\t203.107.127.255\t32768\n");
-        ipString.append(
-                "203.110.160.0\t203.110.191.255\t8192\n");
-        ipString.append(
-                "203.110.208.0\t203.110.223.255\t4096\n");
-        ipString.append(
-                "203.110.232.0\t203.110.234.255\t768\n");
-        ipString.append(
-                "203.114.80.0\t203.114.95.255\t4096\n");
-        ipString.append(
-                "203.114.244.0\t203.114.247.255\t1024\n");
-        ipString.append(
-                "203.118.192.0\t203.118.223.255\t8192\n");
-        ipString.append(
-                "203.118.241.0\t203.118.241.255\t256\n");
-        ipString.append(
-                "203.118.248.0\t203.118.251.255\t1024\n");
-        ipString.append(
-                "203.119.24.0\t203.119.35.255\t3072\n");
-        ipString.append(
-                "203.119.80.0\t203.119.83.255\t1024\n");
-        ipString.append(
-                "203.119.85.0\t203.119.85.255\t256\n");
-        ipString.append(
-                "203.119.113.0\t203.119.255.255\t36608\n");
-        ipString.append(
-                "203.123.58.0\t203.123.58.255\t256\n");
-        ipString.append(
-                "203.128.32.0\t203.128.63.255\t8192\n");
-        ipString.append(
-                "203.128.96.0\t203.128.127.255\t8192\n");
-        ipString.append(
-                "203.128.224.0\t203.128.231.255\t2048\n");
-        ipString.append(
-                "203.129.8.0\t203.129.15.255\t2048\n");
-        ipString.append(
-                "203.130.32.0\t203.130.63.255\t8192\n");
-        ipString.append(
-                "203.132.32.0\t203.132.63.255\t8192\n");
-        ipString.append(
-                "203.134.240.0\t203.134.247.255\t2048\n");
-        ipString.append(
-                "203.135.96.0\t203.135.127.255\t8192\n");
-        ipString.append(
-                "203.135.160.0\t203.135.175.255\t4096\n");
-        ipString.append(
-                "203.142.219.0\t203.142.219.255\t256\n");
-        ipString.append(
-                "203.142.224.0\t203.142.255.255\t8192\n");
-        ipString.append(
-                "203.144.96.0\t203.144.127.255\t8192\n");
-        ipString.append(
-                "203.145.0.0\t203.145.31.255\t8192\n");
-        ipString.append(
-                "203.148.0.0\t203.148.83.255\t21504\n");
-        ipString.append(
-                "203.148.86.0\t203.148.87.255\t512\n");
-        ipString.append(
-                "203.149.92.0\t203.149.95.255\t1024\n");
-        ipString.append(
-                "203.152.64.0\t203.152.95.255\t8192\n");
-        ipString.append(
-                "203.152.128.0\t203.152.159.255\t8192\n");
-        ipString.append(
-                "203.153.0.0\t203.153.3.255\t1024\n");
-        ipString.append(
-                "203.156.192.0\t203.156.255.255\t16384\n");
-        ipString.append(
-                "203.158.16.0\t203.158.23.255\t2048\n");
-        ipString.append(
-                "203.160.52.0\t203.160.55.255\t1024\n");
-        ipString.append(
-                "203.160.104.0\t203.160.111.255\t2048\n");
-        ipString.append(
-                "203.160.129.0\t203.160.129.255\t256\n");
-        ipString.append(
-                "203.160.192.0\t203.160.223.255\t8192\n");
-        ipString.append(
-                "203.161.0.0\t203.161.3.255\t1024\n");
-        ipString.append(
-                "203.161.180.0\t203.161.180.255\t256\n");
-        ipString.append(
-                "203.161.183.0\t203.161.183.255\t256\n");
-        ipString.append(
-                "203.161.192.0\t203.161.223.255\t8192\n");
-        ipString.append(
-                "203.166.160.0\t203.166.191.255\t8192\n");
-        ipString.append(
-                "203.167.28.0\t203.167.31.255\t1024\n");
-        ipString.append(
-                "203.168.0.0\t203.168.31.255\t8192\n");
-        ipString.append(
-                "203.170.58.0\t203.170.59.255\t512\n");
-        ipString.append(
-                "203.171.0.0\t203.171.3.255\t1024\n");
-        ipString.append(
-                "203.171.208.0\t203.171.208.255\t256\n");
-        ipString.append(
-                "203.171.224.0\t203.171.239.255\t4096\n");
-        ipString.append(
-                "203.174.4.0\t203.174.4.255\t256\n");
-        ipString.append(
-                "203.174.6.0\t203.174.7.255\t512\n");
-        ipString.append(
-                "203.174.96.0\t203.174.127.255\t8192\n");
-        ipString.append(
-                "203.175.128.0\t203.175.159.255\t8192\n");
-        ipString.append(
-                "203.175.192.0\t203.176.95.255\t40960\n");
-        ipString.append(
-                "203.176.168.0\t203.176.175.255\t2048\n");
-        ipString.append(
-                "203.184.80.0\t203.184.95.255\t4096\n");
-        ipString.append(
-                "203.185.189.0\t203.185.189.255\t256\n");
-        ipString.append(
-                "203.187.160.0\t203.187.191.255\t8192\n");
-        ipString.append(
-                "203.189.0.0\t203.189.1.255\t512\n");
-        ipString.append(
-                "203.189.6.0\t203.189.7.255\t512\n");
-        ipString.append(
-                "203.189.112.0\t203.189.115.255\t1024\n");
-        ipString.append(
-                "203.189.192.0\t203.189.223.255\t8192\n");
-        ipString.append(
-                "203.189.232.0\t203.189.235.255\t1024\n");
-        ipString.append(
-                "203.189.240.0\t203.189.243.255\t1024\n");
-        ipString.append(
-                "203.190.96.0\t203.190.111.255\t4096\n");
-        ipString.append(
-                "203.190.249.0\t203.190.249.255\t256\n");
-        ipString.append(
-                "203.191.0.0\t203.191.2.255\t768\n");
-        ipString.append(
-                "203.191.5.0\t203.191.5.255\t256\n");
-        ipString.append(
-                "203.191.7.0\t203.191.7.255\t256\n");
-        ipString.append(
-                "203.191.16.0\t203.191.31.255\t4096\n");
-        ipString.append(
-                "203.191.64.0\t203.191.127.255\t16384\n");
-        ipString.append(
-                "203.191.133.0\t203.191.133.255\t256\n");
-        ipString.append(
-                "203.191.144.0\t203.191.159.255\t4096\n");
-        ipString.append(
-                "203.192.0.0\t203.192.31.255\t8192\n");
-        ipString.append(
-                "203.193.224.0\t203.193.255.255\t8192\n");
-        ipString.append(
-                "203.194.120.0\t203.194.127.255\t2048\n");
-        ipString.append(
-                "203.195.64.0\t203.195.95.255\t8192\n");
-        ipString.append(
-                "203.195.112.0\t203.195.119.255\t2048\n");
-        ipString.append(
-                "203.195.128.0\t203.196.15.255\t36864\n");
-        ipString.append(
-                "203.196.28.0\t203.196.31.255\t1024\n");
-        ipString.append(
-                "203.201.181.0\t203.201.182.255\t512\n");
-        ipString.append(
-                "203.202.236.0\t203.202.239.255\t1024\n");
-        ipString.append(
-                "203.205.64.0\t203.205.95.255\t8192\n");
-        ipString.append(
-                "203.205.128.0\t203.205.255.255\t32768\n");
-        ipString.append(
-                "203.207.64.0\t203.208.19.255\t54272\n");
-        ipString.append(
-                "203.208.32.0\t203.208.63.255\t8192\n");
-        ipString.append(
-                "203.209.224.0\t203.209.255.255\t8192\n");
-        ipString.append(
-                "203.212.0.0\t203.212.15.255\t4096\n");
-        ipString.append(
-                "203.212.80.0\t203.212.95.255\t4096\n");
-        ipString.append(
-                "203.215.232.0\t203.215.239.255\t2048\n");
-        ipString.append(
-                "203.217.164.0\t203.217.167.255\t1024\n");
-        ipString.append(
-                "203.223.0.0\t203.223.23.255\t6144\n");
-        ipString.append(
-                "204.52.191.0\t204.52.191.255\t256\n");
-        ipString.append(
-                "210.2.0.0\t210.2.31.255\t8192\n");
-        ipString.append(
-                "210.5.0.0\t210.5.31.255\t8192\n");
-        ipString.append(
-                "210.5.56.0\t210.5.63.255\t2048\n");
-        ipString.append(
-                "210.5.128.0\t210.5.159.255\t8192\n");
-        ipString.append(
-                "210.7.56.0\t210.7.63.255\t2048\n");
-        ipString.append(
-                "210.12.0.0\t210.13.255.255\t131072\n");
-        ipString.append(
-                "210.14.64.0\t210.14.95.255\t8192\n");
-        ipString.append(
-                "210.14.112.0\t210.15.191.255\t86016\n");
-        ipString.append(
-                "210.16.104.0\t210.16.107.255\t1024\n");
-        ipString.append(
-                "210.16.128.0\t210.16.191.255\t16384\n");
-        ipString.append(
-                "210.21.0.0\t210.22.255.255\t131072\n");
-        ipString.append(
-                "210.23.32.0\t210.23.63.255\t8192\n");
-        ipString.append(
-                "210.25.0.0\t210.47.255.255\t1507328\n");
-        ipString.append(
-                "210.51.0.0\t210.53.255.255\t196608\n");
-        ipString.append(
-                "210.56.192.0\t210.56.223.255\t8192\n");
-        ipString.append(
-                "210.72.0.0\t210.78.255.255\t458752\n");
-        ipString.append(
-                "210.79.64.0\t210.79.127.255\t16384\n");
-        ipString.append(
-                "210.79.224.0\t210.79.255.255\t8192\n");
-        ipString.append(
-                "210.82.0.0\t210.83.255.255\t131072\n");
-        ipString.append(
-                "210.87.128.0\t210.87.191.255\t16384\n");
-        ipString.append(
-                "210.185.192.0\t210.185.255.255\t16384\n");
-        ipString.append(
-                "210.192.96.0\t210.192.127.255\t8192\n");
-        ipString.append(
-                "211.64.0.0\t211.71.255.255\t524288\n");
-        ipString.append(
-                "211.80.0.0\t211.103.255.255\t1572864\n");
-        ipString.append(
-                "211.136.0.0\t211.167.255.255\t2097152\n");
-        ipString.append(
-                "212.64.0.0\t212.64.127.255\t32768\n");
-        ipString.append(
-                "212.129.128.0\t212.129.255.255\t32768\n");
-        ipString.append(
-                "213.139.232.0\t213.139.235.255\t1024\n");
-        ipString.append(
-                "218.0.0.0\t218.31.255.255\t2097152\n");
-        ipString.append(
-                "218.56.0.0\t218.99.255.255\t2883584\n");
-        ipString.append(
-                "218.100.88.0\t218.100.255.255\t43008\n");
-        ipString.append(
-                "218.104.0.0\t218.109.255.255\t393216\n");
-        ipString.append(
-                "218.185.192.0\t218.185.223.255\t8192\n");
-        ipString.append(
-                "218.185.240.0\t218.185.247.255\t2048\n");
-        ipString.append(
-                "218.192.0.0\t218.207.255.255\t1048576\n");
-        ipString.append(
-                "218.240.0.0\t218.247.255.255\t524288\n");
-        ipString.append(
-                "218.249.0.0\t218.249.255.255\t65536\n");
-        ipString.append(
-                "219.72.0.0\t219.72.255.255\t65536\n");
-        ipString.append(
-                "219.82.0.0\t219.82.255.255\t65536\n");
-        ipString.append(
-                "219.83.128.0\t219.83.255.255\t32768\n");
-        ipString.append(
-                "219.90.68.0\t219.90.79.255\t3072\n");
-        ipString.append(
-                "219.128.0.0\t219.159.255.255\t2097152\n");
-        ipString.append(
-                "219.216.0.0\t219.239.255.255\t1572864\n");
-        ipString.append(
-                "219.242.0.0\t219.247.255.255\t393216\n");
-        ipString.append(
-                "220.101.192.0\t220.101.255.255\t16384\n");
-        ipString.append(
-                "220.112.0.0\t220.115.255.255\t262144\n");
-        ipString.append(
-                "220.152.128.0\t220.152.255.255\t32768\n");
-        ipString.append(
-                "220.154.0.0\t220.155.255.255\t131072\n");
-        ipString.append(
-                "220.158.240.0\t220.158.243.255\t1024\n");
-        ipString.append(
-                "220.160.0.0\t220.207.255.255\t3145728\n");
-        ipString.append(
-                "220.231.0.0\t220.231.63.255\t16384\n");
-        ipString.append(
-                "220.231.128.0\t220.231.255.255\t32768\n");
-        ipString.append(
-                "220.232.64.0\t220.232.127.255\t16384\n");
-        ipString.append(
-                "220.234.0.0\t220.234.255.255\t65536\n");
-        ipString.append(
-                "220.242.0.0\t220.243.255.255\t131072\n");
-        ipString.append(
-                "220.247.136.0\t220.247.143.255\t2048\n");
-        ipString.append(
-                "220.248.0.0\t220.252.255.255\t327680\n");
-        ipString.append(
-                "221.0.0.0\t221.12.191.255\t835584\n");
-        ipString.append(
-                "221.13.0.0\t221.15.255.255\t196608\n");
-        ipString.append(
-                "221.122.0.0\t221.123.255.255\t131072\n");
-        ipString.append(
-                "221.128.128.0\t221.131.255.255\t229376\n");
-        ipString.append(
-                "221.133.224.0\t221.133.255.255\t8192\n");
-        ipString.append(
-                "221.136.0.0\t221.137.255.255\t131072\n");
-        ipString.append(
-                "221.172.0.0\t221.183.255.255\t786432\n");
-        ipString.append(
-                "221.192.0.0\t221.199.207.255\t512000\n");
-        ipString.append(
-                "221.199.224.0\t221.239.255.255\t2629632\n");
-        ipString.append(
-                "222.16.0.0\t222.95.255.255\t5242880\n");
-        ipString.append(
-                "222.125.0.0\t222.125.255.255\t65536\n");
-        ipString.append(
-                "222.126.128.0\t222.126.255.255\t32768\n");
-        ipString.append(
-                "222.128.0.0\t222.143.255.255\t1048576\n");
-        ipString.append(
-                "222.160.0.0\t222.163.255.255\t262144\n");
-        ipString.append(
-                "222.168.0.0\t222.223.255.255\t3670016\n");
-        ipString.append(
-                "222.240.0.0\t222.249.255.255\t655360\n");
-        ipString.append(
-                "223.0.0.0\t223.15.255.255\t1048576\n");
-        ipString.append(
-                "223.20.0.0\t223.21.255.255\t131072\n");
-        ipString.append(
-                "223.27.184.0\t223.27.187.255\t1024\n");
-        ipString.append(
-                "223.29.208.0\t223.29.211.255\t1024\n");
-        ipString.append(
-                "223.29.252.0\t223.29.255.255\t1024\n");
-        ipString.append(
-                "223.64.0.0\t223.117.255.255\t3538944\n");
-        ipString.append(
-                "223.120.128.0\t223.120.255.255\t32768\n");
-        ipString.append(
-                "223.121.128.0\t223.129.255.255\t557056\n");
-        ipString.append(
-                "223.144.0.0\t223.163.255.255\t1310720\n");
-        ipString.append(
-                "223.166.0.0\t223.167.255.255\t131072\n");
-        ipString.append(
-                "223.192.0.0\t223.193.255.255\t131072\n");
-        ipString.append(
-                "223.198.0.0\t223.199.255.255\t131072\n");
-        ipString.append(
-                "223.201.0.0\t223.203.255.255\t196608\n");
-        ipString.append(
-                "223.208.0.0\t223.215.255.255\t524288\n");
-        ipString.append(
-                "223.220.0.0\t223.221.255.255\t131072\n");
-        ipString.append(
-                "223.223.176.0\t223.223.207.255\t8192\n");
-        ipString.append(
-                "223.240.0.0\t223.251.255.255\t786432\n");
-        ipString.append(
-                "223.252.128.0\t223.252.255.255\t32768\n");
-        ipString.append(
-                "223.254.0.0\t223.255.127.255\t98304\n");
-        ipString.append(
-                "223.255.236.0\t223.255.239.255\t1024\n");
-        ipString.append(
-                "223.255.252.0\t223.255.253.255\t512");
-        return ipString.toString();
+    private static IpRangeTable load(InputStream in) throws IOException {
+        return IpRangeTable.load(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
     }
 }
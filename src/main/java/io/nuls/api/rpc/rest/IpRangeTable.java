@@ -0,0 +1,371 @@
+package io.nuls.api.rpc.rest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 不可变的ip地址段表，加载时把地址段排序并合并相邻或重叠的段，查询时二分查找
+ * 每行一个地址段："起始地址 结束地址"(空白或tab分隔，之后的列忽略)或CIDR，支持IPv4和IPv6，#开头的行是注释
+ * Immutable sorted and merged IPv4/IPv6 range table with binary search lookups
+ */
+public final class IpRangeTable {
+
+    private static final long IPV4_MASK = 0xFFFFFFFFL;
+
+    private final long[] ipv4Start;
+
+    private final long[] ipv4End;
+    //IPv6地址分成高64位和低64位，按无符号数比较
+    private final long[] ipv6StartHigh;
+
+    private final long[] ipv6StartLow;
+
+    private final long[] ipv6EndHigh;
+
+    private final long[] ipv6EndLow;
+
+    private IpRangeTable(long[] ipv4Ranges, List<long[]> ipv6Ranges) {
+        //起始地址在高32位，翻转符号位后按有符号数排序即按起始地址排序
+        for (int i = 0; i < ipv4Ranges.length; i++) {
+            ipv4Ranges[i] ^= Long.MIN_VALUE;
+        }
+        Arrays.sort(ipv4Ranges);
+        long[] start = new long[ipv4Ranges.length];
+        long[] end = new long[ipv4Ranges.length];
+        int count = 0;
+        for (long range : ipv4Ranges) {
+            long from = (range ^ Long.MIN_VALUE) >>> 32;
+            long to = range & IPV4_MASK;
+            if (count > 0 && from <= end[count - 1] + 1) {
+                end[count - 1] = Math.max(end[count - 1], to);
+            } else {
+                start[count] = from;
+                end[count] = to;
+                count++;
+            }
+        }
+        this.ipv4Start = Arrays.copyOf(start, count);
+        this.ipv4End = Arrays.copyOf(end, count);
+
+        ipv6Ranges.sort(Comparator.<long[]>comparingLong(r -> r[0] ^ Long.MIN_VALUE).thenComparingLong(r -> r[1] ^ Long.MIN_VALUE));
+        List<long[]> merged = new ArrayList<>();
+        for (long[] range : ipv6Ranges) {
+            long[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && isAdjacentOrOverlapping(last, range)) {
+                if (compare(range[2], range[3], last[2], last[3]) > 0) {
+                    last[2] = range[2];
+                    last[3] = range[3];
+                }
+            } else {
+                merged.add(range.clone());
+            }
+        }
+        int size = merged.size();
+        this.ipv6StartHigh = new long[size];
+        this.ipv6StartLow = new long[size];
+        this.ipv6EndHigh = new long[size];
+        this.ipv6EndLow = new long[size];
+        for (int i = 0; i < size; i++) {
+            long[] range = merged.get(i);
+            ipv6StartHigh[i] = range[0];
+            ipv6StartLow[i] = range[1];
+            ipv6EndHigh[i] = range[2];
+            ipv6EndLow[i] = range[3];
+        }
+    }
+
+    /**
+     * 下一个段的起始地址不超过上一个段的结束地址加1
+     */
+    private static boolean isAdjacentOrOverlapping(long[] last, long[] next) {
+        if (compare(next[0], next[1], last[2], last[3]) <= 0) {
+            return true;
+        }
+        long low = last[3] + 1;
+        long high = low == 0 ? last[2] + 1 : last[2];
+        return next[0] == high && next[1] == low;
+    }
+
+    private static int compare(long high1, long low1, long high2, long low2) {
+        int result = Long.compareUnsigned(high1, high2);
+        return result != 0 ? result : Long.compareUnsigned(low1, low2);
+    }
+
+    public static IpRangeTable load(BufferedReader reader) throws IOException {
+        long[] ipv4Ranges = new long[4096];
+        int ipv4Count = 0;
+        List<long[]> ipv6Ranges = new ArrayList<>();
+        long[] address = new long[2];
+        long[] endAddress = new long[2];
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] items = line.split("\\s+");
+            String first = items[0];
+            int slash = first.indexOf('/');
+            if (slash > 0) {
+                int prefix = parsePrefix(first, slash + 1);
+                long ipv4 = parseIpv4(first, 0, slash);
+                if (ipv4 >= 0 && prefix >= 0 && prefix <= 32) {
+                    long mask = prefix == 0 ? 0 : (IPV4_MASK << (32 - prefix)) & IPV4_MASK;
+                    ipv4Ranges = ensureCapacity(ipv4Ranges, ipv4Count);
+                    ipv4Ranges[ipv4Count++] = (ipv4 & mask) << 32 | (ipv4 | ~mask & IPV4_MASK);
+                } else if (prefix >= 0 && parseIpv6(first.substring(0, slash), address)) {
+                    long highMask = prefix == 0 ? 0 : prefix >= 64 ? -1L : -1L << (64 - prefix);
+                    long lowMask = prefix <= 64 ? 0 : prefix == 128 ? -1L : -1L << (128 - prefix);
+                    ipv6Ranges.add(new long[]{address[0] & highMask, address[1] & lowMask, address[0] | ~highMask, address[1] | ~lowMask});
+                } else {
+                    throw new IOException("invalid ip range at line " + lineNumber + ": " + line);
+                }
+                continue;
+            }
+            if (items.length < 2) {
+                throw new IOException("invalid ip range at line " + lineNumber + ": " + line);
+            }
+            long from = parseIpv4(first, 0, first.length());
+            long to = parseIpv4(items[1], 0, items[1].length());
+            if (from >= 0 && to >= from) {
+                ipv4Ranges = ensureCapacity(ipv4Ranges, ipv4Count);
+                ipv4Ranges[ipv4Count++] = from << 32 | to;
+            } else if (parseIpv6(first, address) && parseIpv6(items[1], endAddress)
+                    && compare(address[0], address[1], endAddress[0], endAddress[1]) <= 0) {
+                ipv6Ranges.add(new long[]{address[0], address[1], endAddress[0], endAddress[1]});
+            } else {
+                throw new IOException("invalid ip range at line " + lineNumber + ": " + line);
+            }
+        }
+        return new IpRangeTable(Arrays.copyOf(ipv4Ranges, ipv4Count), ipv6Ranges);
+    }
+
+    private static long[] ensureCapacity(long[] array, int count) {
+        return count < array.length ? array : Arrays.copyOf(array, array.length * 2);
+    }
+
+    private static int parsePrefix(String value, int from) {
+        if (from >= value.length() || value.length() - from > 3) {
+            return -1;
+        }
+        int prefix = 0;
+        for (int i = from; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            prefix = prefix * 10 + (c - '0');
+        }
+        return prefix <= 128 ? prefix : -1;
+    }
+
+    /**
+     * IPv4地址在表中返回true，IPv4映射的IPv6地址(::ffff:a.b.c.d)按IPv4查询，格式错误返回false
+     */
+    public boolean contains(String ip) {
+        if (ip == null || ip.isEmpty()) {
+            return false;
+        }
+        long ipv4 = parseIpv4(ip, 0, ip.length());
+        if (ipv4 >= 0) {
+            return containsIpv4(ipv4);
+        }
+        if (ip.indexOf(':') < 0) {
+            return false;
+        }
+        long[] address = new long[2];
+        if (!parseIpv6(ip, address)) {
+            return false;
+        }
+        if (address[0] == 0 && address[1] >>> 32 == 0xFFFFL) {
+            return containsIpv4(address[1] & IPV4_MASK);
+        }
+        return containsIpv6(address[0], address[1]);
+    }
+
+    public boolean containsIpv4(long ip) {
+        int index = Arrays.binarySearch(ipv4Start, ip);
+        if (index >= 0) {
+            return true;
+        }
+        //插入位置之前的段是起始地址小于ip的最后一个段
+        index = -index - 2;
+        return index >= 0 && ip <= ipv4End[index];
+    }
+
+    public boolean containsIpv6(long high, long low) {
+        int from = 0;
+        int to = ipv6StartHigh.length - 1;
+        int index = -1;
+        while (from <= to) {
+            int mid = (from + to) >>> 1;
+            if (compare(ipv6StartHigh[mid], ipv6StartLow[mid], high, low) <= 0) {
+                index = mid;
+                from = mid + 1;
+            } else {
+                to = mid - 1;
+            }
+        }
+        return index >= 0 && compare(high, low, ipv6EndHigh[index], ipv6EndLow[index]) <= 0;
+    }
+
+    /**
+     * 解析value中[from, to)之间的点分十进制IPv4地址，不创建对象
+     *
+     * @return 格式错误时返回-1
+     */
+    public static long parseIpv4(CharSequence value, int from, int to) {
+        long result = 0;
+        int octet = 0;
+        int digits = 0;
+        int dots = 0;
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                octet = octet * 10 + (c - '0');
+                if (++digits > 3 || octet > 255) {
+                    return -1;
+                }
+            } else if (c == '.') {
+                if (digits == 0 || ++dots > 3) {
+                    return -1;
+                }
+                result = result << 8 | octet;
+                octet = 0;
+                digits = 0;
+            } else {
+                return -1;
+            }
+        }
+        if (digits == 0 || dots != 3) {
+            return -1;
+        }
+        return result << 8 | octet;
+    }
+
+    /**
+     * 解析IPv6地址，支持::缩写和末尾的IPv4地址，忽略方括号和%之后的zone
+     *
+     * @param result 长度为2，依次写入高64位和低64位
+     * @return 格式错误时返回false
+     */
+    public static boolean parseIpv6(String value, long[] result) {
+        int from = 0;
+        int to = value.length();
+        if (to > 1 && value.charAt(0) == '[' && value.charAt(to - 1) == ']') {
+            from++;
+            to--;
+        }
+        int zone = value.indexOf('%', from);
+        if (zone >= 0 && zone < to) {
+            to = zone;
+        }
+        if (to - from < 2) {
+            return false;
+        }
+        int[] groups = new int[8];
+        int count = 0;
+        //::所在的位置，-1表示没有
+        int gap = -1;
+        int i = from;
+        if (value.charAt(i) == ':') {
+            if (value.charAt(i + 1) != ':') {
+                return false;
+            }
+            gap = 0;
+            i += 2;
+        }
+        while (i < to) {
+            if (count == 8) {
+                return false;
+            }
+            int start = i;
+            int group = 0;
+            int digit;
+            while (i < to && i - start < 4 && (digit = hexDigit(value.charAt(i))) >= 0) {
+                group = group << 4 | digit;
+                i++;
+            }
+            if (i < to && value.charAt(i) == '.') {
+                long ipv4 = count <= 6 ? parseIpv4(value, start, to) : -1;
+                if (ipv4 < 0) {
+                    return false;
+                }
+                groups[count++] = (int) (ipv4 >>> 16);
+                groups[count++] = (int) (ipv4 & 0xFFFF);
+                break;
+            }
+            if (i == start) {
+                return false;
+            }
+            groups[count++] = group;
+            if (i == to) {
+                break;
+            }
+            if (value.charAt(i) != ':') {
+                return false;
+            }
+            i++;
+            if (i < to && value.charAt(i) == ':') {
+                if (gap >= 0) {
+                    return false;
+                }
+                gap = count;
+                i++;
+            } else if (i == to) {
+                return false;
+            }
+        }
+        if (gap < 0 ? count != 8 : count == 8) {
+            return false;
+        }
+        long high = 0;
+        long low = 0;
+        int zeros = 8 - count;
+        for (int k = 0; k < 8; k++) {
+            long group;
+            if (gap < 0 || k < gap) {
+                group = groups[k];
+            } else if (k < gap + zeros) {
+                group = 0;
+            } else {
+                group = groups[k - zeros];
+            }
+            if (k < 4) {
+                high = high << 16 | group;
+            } else {
+                low = low << 16 | group;
+            }
+        }
+        result[0] = high;
+        result[1] = low;
+        return true;
+    }
+
+    private static int hexDigit(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
+    public int getIpv4RangeCount() {
+        return ipv4Start.length;
+    }
+
+    public int getIpv6RangeCount() {
+        return ipv6StartHigh.length;
+    }
+}
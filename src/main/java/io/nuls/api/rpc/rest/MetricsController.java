@@ -0,0 +1,22 @@
+package io.nuls.api.rpc.rest;
+
+import io.nuls.api.rpc.jsonRpc.RpcMetrics;
+import io.nuls.core.log.Log;
+import org.glassfish.grizzly.http.server.Response;
+
+import java.io.IOException;
+
+/**
+ * 以Prometheus文本格式输出rpc调用统计，GET nuls/metrics
+ */
+public class MetricsController {
+
+    public static void doGet(Response response) {
+        response.setHeader("Content-Type", "text/plain; version=0.0.4");
+        try {
+            response.getWriter().write(RpcMetrics.toPrometheus());
+        } catch (IOException e) {
+            Log.error(e);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package io.nuls.api.rpc.rest;
+
+import io.nuls.api.ApiContext;
+import io.nuls.api.rpc.sse.SseSubscriber;
+import io.nuls.api.rpc.sse.SubscriptionManager;
+import io.nuls.base.basic.AddressTool;
+import io.nuls.core.model.StringUtils;
+import org.glassfish.grizzly.http.server.Request;
+import org.glassfish.grizzly.http.server.Response;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Server-Sent Events订阅，GET nuls/subscribe?newHeads=true&address=地址1,地址2&contract=合约地址1,合约地址2
+ * 推送的事件：newHeads(新区块头)、addressTx(订阅地址的交易)、tokenTransfer/token721Transfer/token1155Transfer(订阅合约的转账)、rollback(区块回滚)
+ */
+public class SubscribeController {
+
+    public static void doGet(Request request, Response response) throws IOException {
+        boolean newHeads = "true".equalsIgnoreCase(request.getParameter("newHeads"));
+        Set<String> addresses = new HashSet<>();
+        Set<String> contracts = new HashSet<>();
+        String error = parseAddresses(request.getParameter("address"), addresses);
+        if (error == null) {
+            error = parseAddresses(request.getParameter("contract"), contracts);
+        }
+        if (error == null && !newHeads && addresses.isEmpty() && contracts.isEmpty()) {
+            error = "nothing to subscribe";
+        }
+        if (error != null) {
+            response.setStatus(400);
+            response.getWriter().write(error);
+            return;
+        }
+
+        response.setContentType("text/event-stream");
+        response.setHeader("Cache-Control", "no-cache");
+        //nginx等代理不缓冲事件流
+        response.setHeader("X-Accel-Buffering", "no");
+        response.suspend();
+        SseSubscriber subscriber = new SseSubscriber(response, newHeads, addresses, contracts, ApiContext.sseBufferSize);
+        if (!SubscriptionManager.subscribe(subscriber)) {
+            response.setStatus(503);
+            response.resume();
+        }
+    }
+
+    private static String parseAddresses(String value, Set<String> result) {
+        if (StringUtils.isBlank(value)) {
+            return null;
+        }
+        for (String address : value.split(",")) {
+            address = address.trim();
+            if (!AddressTool.validAddress(ApiContext.defaultChainId, address)) {
+                return "invalid address: " + address;
+            }
+            result.add(address);
+            if (result.size() > ApiContext.sseMaxAddresses) {
+                return "too many addresses, max: " + ApiContext.sseMaxAddresses;
+            }
+        }
+        return null;
+    }
+}
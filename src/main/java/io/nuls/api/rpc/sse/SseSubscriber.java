@@ -0,0 +1,160 @@
+package io.nuls.api.rpc.sse;
+
+import org.glassfish.grizzly.WriteHandler;
+import org.glassfish.grizzly.http.server.Response;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 一个Server-Sent Events订阅连接
+ * 发布线程只把事件放入有界队列，由推送线程池写入响应，写入不会阻塞推送线程；队列满说明客户端消费太慢，直接断开，不阻塞同步线程
+ * A subscriber connection with a bounded event buffer, drained by the push executor with a single writer at a time
+ */
+public class SseSubscriber {
+
+    private final Response response;
+
+    private final boolean newHeads;
+
+    private final Set<String> addresses;
+
+    private final Set<String> contracts;
+
+    private final BlockingQueue<String> queue;
+    //同一时间只有一个推送线程写这个连接
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    private final AtomicBoolean finished = new AtomicBoolean();
+    //连接暂时不可写，等待可写通知，这期间仍然占用推送权，由通知或断开重新提交推送任务
+    private final AtomicBoolean waiting = new AtomicBoolean();
+
+    private volatile boolean closed;
+
+    public SseSubscriber(Response response, boolean newHeads, Set<String> addresses, Set<String> contracts, int bufferSize) {
+        this.response = response;
+        this.newHeads = newHeads;
+        this.addresses = addresses;
+        this.contracts = contracts;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, bufferSize));
+    }
+
+    /**
+     * @return 缓冲区已满时返回false
+     */
+    boolean offer(String event) {
+        return !closed && queue.offer(event);
+    }
+
+    void close() {
+        closed = true;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    void schedule(Executor executor) {
+        if (draining.compareAndSet(false, true)) {
+            executor.execute(() -> drain(executor));
+        } else if (closed) {
+            //断开时不再等待可写通知
+            resume(executor);
+        }
+    }
+
+    private void resume(Executor executor) {
+        if (waiting.compareAndSet(true, false)) {
+            executor.execute(() -> drain(executor));
+        }
+    }
+
+    private void drain(Executor executor) {
+        try {
+            if (!closed) {
+                Writer writer = getWriter();
+                String event;
+                while (!closed && canWrite() && (event = queue.poll()) != null) {
+                    writer.write(event);
+                }
+                writer.flush();
+                //连接的待写数据已经超过上限时不再写入，事件留在缓冲区，缓冲区满后断开；连接可写后再继续推送
+                if (!closed && !queue.isEmpty() && !canWrite()) {
+                    waitWritable(executor);
+                    return;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            //客户端已断开
+            closed = true;
+        }
+        finish();
+        draining.set(false);
+        if (!finished.get() && (closed || !queue.isEmpty())) {
+            schedule(executor);
+        }
+    }
+
+    private void waitWritable(Executor executor) {
+        waiting.set(true);
+        notifyCanWrite(new WriteHandler() {
+            @Override
+            public void onWritePossible() {
+                resume(executor);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                closed = true;
+                resume(executor);
+            }
+        });
+        //注册前已经断开时，schedule可能没有看到waiting
+        if (closed) {
+            resume(executor);
+        }
+    }
+
+    private void finish() {
+        if (closed && finished.compareAndSet(false, true)) {
+            queue.clear();
+            SubscriptionManager.unsubscribe(this);
+            resumeResponse();
+        }
+    }
+
+    //以下是对响应的操作，测试中替换为内存实现
+
+    Writer getWriter() throws IOException {
+        return response.getWriter();
+    }
+
+    boolean canWrite() {
+        return response.getOutputBuffer().canWrite();
+    }
+
+    void notifyCanWrite(WriteHandler handler) {
+        response.getOutputBuffer().notifyCanWrite(handler);
+    }
+
+    void resumeResponse() {
+        response.resume();
+    }
+
+    public boolean isNewHeads() {
+        return newHeads;
+    }
+
+    public Set<String> getAddresses() {
+        return addresses;
+    }
+
+    public Set<String> getContracts() {
+        return contracts;
+    }
+}
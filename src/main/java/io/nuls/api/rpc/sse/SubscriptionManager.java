@@ -0,0 +1,214 @@
+package io.nuls.api.rpc.sse;
+
+import io.nuls.api.ApiContext;
+import io.nuls.api.model.po.*;
+import io.nuls.api.utils.LoggerUtil;
+import io.nuls.core.parse.JSONUtils;
+import org.glassfish.jersey.internal.guava.ThreadFactoryBuilder;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 新区块、地址交易和合约token转账的订阅
+ * 同步线程在区块入库后发布事件，每个事件只序列化一次，按地址和合约索引找到订阅者后放入各自的缓冲区
+ * 没有订阅者时发布不做任何事
+ * Publishes newHeads, per-address tx relations, per-contract token transfers and rollbacks to the sse subscribers
+ */
+public class SubscriptionManager {
+
+    private static final Set<SseSubscriber> SUBSCRIBERS = ConcurrentHashMap.newKeySet();
+
+    private static final Map<String, Set<SseSubscriber>> ADDRESS_INDEX = new ConcurrentHashMap<>();
+
+    private static final Map<String, Set<SseSubscriber>> CONTRACT_INDEX = new ConcurrentHashMap<>();
+    //先占用名额再加入，并发订阅不会超过上限
+    private static final AtomicInteger SUBSCRIBER_COUNT = new AtomicInteger();
+    //每个订阅者同一时间最多一个推送任务，队列长度不超过订阅者数量
+    private static final ExecutorService PUSH_EXECUTOR = Executors.newFixedThreadPool(2,
+            new ThreadFactoryBuilder().setNameFormat("sse-push-%d").setDaemon(true).build());
+    //定时发送注释行，代理不会因为空闲断开连接，客户端断开后也能及时发现
+    private static final ScheduledExecutorService HEARTBEAT_EXECUTOR = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("sse-heartbeat-%d").setDaemon(true).build());
+
+    private static final String HEARTBEAT = ": ping\n\n";
+
+    static {
+        HEARTBEAT_EXECUTOR.scheduleWithFixedDelay(() -> {
+            for (SseSubscriber subscriber : SUBSCRIBERS) {
+                deliver(subscriber, HEARTBEAT);
+            }
+        }, 30, 30, TimeUnit.SECONDS);
+    }
+
+    /**
+     * @return 订阅数已达到上限时返回false
+     */
+    public static boolean subscribe(SseSubscriber subscriber) {
+        if (SUBSCRIBER_COUNT.incrementAndGet() > ApiContext.sseMaxSubscribers) {
+            SUBSCRIBER_COUNT.decrementAndGet();
+            return false;
+        }
+        SUBSCRIBERS.add(subscriber);
+        for (String address : subscriber.getAddresses()) {
+            ADDRESS_INDEX.computeIfAbsent(address, k -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        }
+        for (String contract : subscriber.getContracts()) {
+            CONTRACT_INDEX.computeIfAbsent(contract, k -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        }
+        deliver(subscriber, ": subscribed\n\n");
+        return true;
+    }
+
+    static void unsubscribe(SseSubscriber subscriber) {
+        if (SUBSCRIBERS.remove(subscriber)) {
+            SUBSCRIBER_COUNT.decrementAndGet();
+        }
+        removeIndex(ADDRESS_INDEX, subscriber.getAddresses(), subscriber);
+        removeIndex(CONTRACT_INDEX, subscriber.getContracts(), subscriber);
+    }
+
+    /**
+     * 断开订阅者，立即从订阅列表和索引中删除，由推送线程结束响应
+     */
+    static void disconnect(SseSubscriber subscriber) {
+        subscriber.close();
+        unsubscribe(subscriber);
+        subscriber.schedule(PUSH_EXECUTOR);
+    }
+
+    static boolean hasAddressSubscriber(String address) {
+        return ADDRESS_INDEX.containsKey(address);
+    }
+
+    static boolean hasContractSubscriber(String contract) {
+        return CONTRACT_INDEX.containsKey(contract);
+    }
+
+    private static void removeIndex(Map<String, Set<SseSubscriber>> index, Set<String> keys, SseSubscriber subscriber) {
+        for (String key : keys) {
+            index.computeIfPresent(key, (k, set) -> {
+                set.remove(subscriber);
+                return set.isEmpty() ? null : set;
+            });
+        }
+    }
+
+    public static int getSubscriberCount() {
+        return SUBSCRIBERS.size();
+    }
+
+    /**
+     * 一批区块入库后发布
+     */
+    public static void publishBlocks(int chainId, List<BlockHeaderInfo> headerList, Collection<TxRelationInfo> relationList,
+                                     List<TokenTransfer> tokenTransferList, List<Token721Transfer> token721TransferList,
+                                     List<Token1155Transfer> token1155TransferList) {
+        if (SUBSCRIBERS.isEmpty()) {
+            return;
+        }
+        try {
+            for (BlockHeaderInfo header : headerList) {
+                String event = null;
+                for (SseSubscriber subscriber : SUBSCRIBERS) {
+                    if (subscriber.isNewHeads()) {
+                        if (event == null) {
+                            event = toEvent("newHeads", toHead(chainId, header));
+                        }
+                        deliver(subscriber, event);
+                    }
+                }
+            }
+            if (!ADDRESS_INDEX.isEmpty()) {
+                for (TxRelationInfo relation : relationList) {
+                    Set<SseSubscriber> set = ADDRESS_INDEX.get(relation.getAddress());
+                    if (set != null) {
+                        deliver(set, toEvent("addressTx", relation));
+                    }
+                }
+            }
+            if (!CONTRACT_INDEX.isEmpty()) {
+                for (TokenTransfer transfer : tokenTransferList) {
+                    publishTransfer("tokenTransfer", transfer.getContractAddress(), transfer);
+                }
+                for (Token721Transfer transfer : token721TransferList) {
+                    publishTransfer("token721Transfer", transfer.getContractAddress(), transfer);
+                }
+                for (Token1155Transfer transfer : token1155TransferList) {
+                    publishTransfer("token1155Transfer", transfer.getContractAddress(), transfer);
+                }
+            }
+        } catch (Exception e) {
+            //推送失败不能影响同步
+            LoggerUtil.commonLog.error(e);
+        }
+    }
+
+    private static void publishTransfer(String name, String contractAddress, Object transfer) throws Exception {
+        Set<SseSubscriber> set = CONTRACT_INDEX.get(contractAddress);
+        if (set != null) {
+            deliver(set, toEvent(name, transfer));
+        }
+    }
+
+    /**
+     * 回滚一个区块后通知所有订阅者，客户端应丢弃该高度及以上收到的事件
+     */
+    public static void publishRollback(int chainId, long height, String hash) {
+        if (SUBSCRIBERS.isEmpty()) {
+            return;
+        }
+        try {
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("chainId", chainId);
+            data.put("height", height);
+            data.put("hash", hash);
+            String event = toEvent("rollback", data);
+            for (SseSubscriber subscriber : SUBSCRIBERS) {
+                deliver(subscriber, event);
+            }
+        } catch (Exception e) {
+            LoggerUtil.commonLog.error(e);
+        }
+    }
+
+    private static Map<String, Object> toHead(int chainId, BlockHeaderInfo header) {
+        Map<String, Object> head = new LinkedHashMap<>();
+        head.put("chainId", chainId);
+        head.put("height", header.getHeight());
+        head.put("hash", header.getHash());
+        head.put("preHash", header.getPreHash());
+        head.put("createTime", header.getCreateTime());
+        head.put("txCount", header.getTxCount());
+        head.put("packingAddress", header.getPackingAddress());
+        head.put("agentAlias", header.getAgentAlias());
+        head.put("roundIndex", header.getRoundIndex());
+        head.put("totalFee", header.getTotalFee());
+        head.put("reward", header.getReward());
+        head.put("size", header.getSize());
+        return head;
+    }
+
+    private static String toEvent(String name, Object data) throws Exception {
+        return "event: " + name + "\ndata: " + JSONUtils.obj2json(data) + "\n\n";
+    }
+
+    private static void deliver(Set<SseSubscriber> set, String event) {
+        for (SseSubscriber subscriber : set) {
+            deliver(subscriber, event);
+        }
+    }
+
+    /**
+     * 缓冲区满的订阅者直接断开
+     */
+    private static void deliver(SseSubscriber subscriber, String event) {
+        if (!subscriber.offer(event) && !subscriber.isClosed()) {
+            LoggerUtil.commonLog.warn("sse subscriber is too slow, disconnected");
+            disconnect(subscriber);
+            return;
+        }
+        subscriber.schedule(PUSH_EXECUTOR);
+    }
+}
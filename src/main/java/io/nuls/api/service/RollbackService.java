@@ -8,6 +8,7 @@ import io.nuls.api.constant.ApiErrorCode;
 import io.nuls.api.db.*;
 import io.nuls.api.manager.CacheManager;
 import io.nuls.api.model.po.*;
+import io.nuls.api.rpc.sse.SubscriptionManager;
 import io.nuls.api.utils.DBUtil;
 import io.nuls.api.utils.LoggerUtil;
 import io.nuls.base.basic.AddressTool;
@@ -96,6 +97,8 @@ public class RollbackService {
 
     public boolean rollbackBlock(int chainId, long blockHeight) {
         clear();
+        //回滚后增量维护的委托总额不再可信，生成下一轮时重新从数据库初始化
+        CacheManager.getCache(chainId).getAgentDepositCache().invalidate();
 
         LoggerUtil.commonLog.info("-----rollbackBlock height :" + blockHeight);
         BlockHexInfo blockHexInfo = blockService.getBlockHexInfo(chainId, blockHeight);
@@ -105,10 +108,11 @@ public class RollbackService {
             if (syncInfo != null) {
                 if (syncInfo.getBestHeight() > 0) {
                     syncInfo.setBestHeight(syncInfo.getBestHeight() - 1);
-                    syncInfo.setStep(100);
+                    finishStep(syncInfo, syncInfo.getStep());
                     chainService.updateStep(syncInfo);
                 }
             }
+            SubscriptionManager.publishRollback(chainId, blockHeight, null);
             return true;
         }
 
@@ -135,6 +139,7 @@ public class RollbackService {
         roundManager.rollback(chainId, blockInfo);
 
         save(chainId, blockInfo);
+        SubscriptionManager.publishRollback(chainId, blockHeight, blockInfo.getHeader().getHash());
 
         System.out.println("-------------rollbackBlock: " + blockHeight + ", txCount:" + blockInfo.getHeader().getTxCount());
         return true;
@@ -1018,6 +1023,7 @@ public class RollbackService {
         if (blockInfo.getHeader().getHeight() != syncInfo.getBestHeight()) {
             throw new NulsRuntimeException(ApiErrorCode.DATA_ERROR);
         }
+        int step = syncInfo.getStep();
 
         if (syncInfo.isFinish()) {
             token1155Service.rollbackTokenIds(chainId, nrc1155TokenIdMap);
@@ -1061,6 +1067,8 @@ public class RollbackService {
         }
 
         if (syncInfo.getStep() == 30) {
+            //先让缓存失效，回滚写入中断时缓存里不会留下回滚前的余额，写入成功后由saveLedgerList重新放入缓存
+            ledgerService.removeCache(chainId, accountLedgerInfoMap.keySet());
             ledgerService.saveLedgerList(chainId, accountLedgerInfoMap);
             syncInfo.setStep(20);
             chainService.updateStep(syncInfo);
@@ -1090,11 +1098,25 @@ public class RollbackService {
         transactionService.rollbackTx(chainId, blockInfo.getHeader().getTxHashList());
         blockService.deleteBlockHeader(chainId, blockInfo.getHeader().getHeight());
 
-        syncInfo.setStep(100);
         syncInfo.setBestHeight(blockInfo.getHeader().getHeight() - 1);
+        finishStep(syncInfo, step);
         chainService.updateStep(syncInfo);
     }
 
+    /**
+     * 批量提交的窗口没有处理完成时，窗口内剩下的区块还需要按相同的step继续回滚
+     * When a batch window was interrupted, the remaining blocks of the window are rolled back from the same step
+     */
+    private void finishStep(SyncInfo syncInfo, int step) {
+        if (step != 100 && syncInfo.getBatchCount() > 1) {
+            syncInfo.setBatchCount(syncInfo.getBatchCount() - 1);
+            syncInfo.setStep(step);
+        } else {
+            syncInfo.setBatchCount(0);
+            syncInfo.setStep(100);
+        }
+    }
+
     private BlockInfo queryBlock(int chainId, long blockHeight) {
         BlockHeaderInfo headerInfo = blockService.getBlockHeader(chainId, blockHeight);
         if (headerInfo == null) {
@@ -7,9 +7,9 @@ import io.nuls.api.cache.ApiCache;
 import io.nuls.api.constant.ApiConstant;
 import io.nuls.api.constant.ApiErrorCode;
 import io.nuls.api.db.*;
-import io.nuls.api.db.mongo.MongoAccountServiceImpl;
 import io.nuls.api.manager.CacheManager;
 import io.nuls.api.model.po.*;
+import io.nuls.api.rpc.sse.SubscriptionManager;
 import io.nuls.api.task.DaliyTxsAddressStatisticalTask;
 import io.nuls.api.utils.DBUtil;
 import io.nuls.api.utils.LoggerUtil;
@@ -19,9 +19,14 @@ import io.nuls.core.core.annotation.Autowired;
 import io.nuls.core.core.annotation.Component;
 import io.nuls.core.exception.NulsRuntimeException;
 import io.nuls.core.model.StringUtils;
+import io.nuls.core.thread.commom.NulsThreadFactory;
 
 import java.math.BigInteger;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static io.nuls.api.constant.ApiConstant.*;
 
@@ -103,37 +108,122 @@ public class SyncService {
     private List<ChainInfo> chainInfoList = new ArrayList<>();
     //处理每个交易时，过滤交易中的重复地址
     Set<String> addressSet = new HashSet<>();
+    //并发写入追加类数据表的线程数
+    private static final int SAVE_THREAD_COUNT = 8;
+    //并发写入追加类数据表的线程池
+    private ExecutorService saveExecutor = Executors.newFixedThreadPool(SAVE_THREAD_COUNT, new NulsThreadFactory("sync-save"));
 
     public SyncInfo getSyncInfo(int chainId) {
         return chainService.getSyncInfo(chainId);
     }
 
+    //批量提交时已处理但还未入库的区块，窗口内的区块共用上面的各项记录，一起入库
+    private List<BlockInfo> pendingBlockList = new ArrayList<>();
+    //可以合并提交的交易类型，这些交易处理时只读取账户和资产，不依赖窗口内其它区块写入数据库的数据
+    private static final Set<Integer> BATCH_TX_TYPES = new HashSet<>(Arrays.asList(
+            TxType.COIN_BASE, TxType.TRANSFER, TxType.CONTRACT_TRANSFER, TxType.YELLOW_PUNISH, TxType.CONTRACT_RETURN_GAS));
+
     public BlockHeaderInfo getBestBlockHeader(int chainId) {
+        if (!pendingBlockList.isEmpty()) {
+            return pendingBlockList.get(pendingBlockList.size() - 1).getHeader();
+        }
         return blockService.getBestBlockHeader(chainId);
     }
 
 
     public boolean syncNewBlock(int chainId, BlockInfo blockInfo) {
-        clear(chainId);
+        boolean batch = isBatchable(chainId, blockInfo);
+        if (!batch) {
+            //不能合并的区块，先把窗口内已处理的区块入库
+            commitPending(chainId);
+        }
+        if (pendingBlockList.isEmpty()) {
+            clear(chainId);
+        }
         long time1, time2;
         time1 = System.currentTimeMillis();
-        findAddProcessAgentOfBlock(chainId, blockInfo);
-        //处理交易
-        processTxs(chainId, blockInfo.getTxList());
-        //处理交易
-        roundManager.process(chainId, blockInfo);
-        //保存数据
-        save(chainId, blockInfo);
-
-        ApiCache apiCache = CacheManager.getCache(chainId);
-        apiCache.setBestHeader(blockInfo.getHeader());
-        ApiContext.addAndRemoveLastBlockHeader(blockInfo.getHeader());
+        try {
+            findAddProcessAgentOfBlock(chainId, blockInfo);
+            //处理交易
+            processTxs(chainId, blockInfo.getTxList());
+            //处理交易
+            //窗口内的区块对轮次的修改在窗口入库时才写入
+            roundManager.process(chainId, blockInfo, batch);
+            pendingBlockList.add(blockInfo);
+            //保存数据
+            if (!batch || pendingBlockList.size() >= ApiContext.syncBatchSize) {
+                commitPending(chainId);
+            }
+        } catch (RuntimeException e) {
+            //窗口内累计的记录已经不完整，直接丢弃，已写入数据库的部分由同步记录的step回滚
+            pendingBlockList.clear();
+            roundManager.discardPending(chainId);
+            throw e;
+        }
         time2 = System.currentTimeMillis();
-        DaliyTxsAddressStatisticalTask.offer(blockInfo);
         LoggerUtil.commonLog.info("-----height finish:" + blockInfo.getHeader().getHeight() + "-----txCount:" + blockInfo.getHeader().getTxCount() + "-----use:" + (time2 - time1) + "-----");
         return true;
     }
 
+    /**
+     * 将窗口内已处理的区块一起入库
+     * Persist all processed blocks of the current window together
+     */
+    public void commitPending(int chainId) {
+        if (pendingBlockList.isEmpty()) {
+            return;
+        }
+        List<BlockInfo> blockList = new ArrayList<>(pendingBlockList);
+        pendingBlockList.clear();
+        ApiCache apiCache = CacheManager.getCache(chainId);
+        try {
+            save(chainId, blockList);
+        } catch (RuntimeException e) {
+            //入库失败的区块会被回滚，增量维护的委托总额不再可信
+            apiCache.getAgentDepositCache().invalidate();
+            roundManager.discardPending(chainId);
+            throw e;
+        }
+
+        apiCache.setBestHeader(blockList.get(blockList.size() - 1).getHeader());
+        List<BlockHeaderInfo> headerList = new ArrayList<>(blockList.size());
+        for (BlockInfo blockInfo : blockList) {
+            ApiContext.addAndRemoveLastBlockHeader(blockInfo.getHeader());
+            DaliyTxsAddressStatisticalTask.offer(blockInfo);
+            headerList.add(blockInfo.getHeader());
+        }
+        //入库完成后推送给订阅者
+        SubscriptionManager.publishBlocks(chainId, headerList, txRelationInfoSet, tokenTransferList, token721TransferList, token1155TransferList);
+    }
+
+    /**
+     * 判断区块是否可以和前面的区块合并提交
+     * 只在追块且区块里只有普通转账类交易、没有进入新轮次时合并，其它情况逐块提交
+     */
+    private boolean isBatchable(int chainId, BlockInfo blockInfo) {
+        if (ApiContext.syncBatchSize <= 1) {
+            return false;
+        }
+        BlockHeaderInfo header = blockInfo.getHeader();
+        //接近网络最新高度时恢复逐块提交
+        if (ApiContext.networkHeight - header.getHeight() <= ApiContext.syncBatchSize) {
+            return false;
+        }
+        //新的轮次需要从数据库读取节点和委托信息
+        CurrentRound currentRound = CacheManager.getCache(chainId).getCurrentRound();
+        if (currentRound == null || currentRound.getItemList() == null || currentRound.getIndex() != header.getRoundIndex()) {
+            return false;
+        }
+        if (blockInfo.getTxList() == null) {
+            return true;
+        }
+        for (TransactionInfo tx : blockInfo.getTxList()) {
+            if (!BATCH_TX_TYPES.contains(tx.getType())) {
+                return false;
+            }
+        }
+        return true;
+    }
 
 
     /**
@@ -1291,82 +1381,71 @@ public class SyncService {
      * Store entity in the database after parsing the block and all transactions
      */
     public void save(int chainId, BlockInfo blockInfo) {
-        long height = blockInfo.getHeader().getHeight();
-
-        long time1, time2;
+        save(chainId, Collections.singletonList(blockInfo));
+    }
 
-        SyncInfo syncInfo = chainService.saveNewSyncInfo(chainId, height, blockInfo.getHeader());
+    /**
+     * 将窗口内连续的多个区块一起入库，同步记录的step对整个窗口只更新一次
+     * 区块头和区块序列化信息先写入，回滚时按区块序列化信息是否存在判断其它数据是否已写入
+     * 之后互不依赖的追加类数据表并发写入，统计类的表仍然按step顺序逐个写入，便于回滚
+     * Store several consecutive blocks together, the step of the sync info is updated once for the whole window.
+     * Headers and block hex are written first, then the independent append-only collections are written concurrently,
+     * the statistics tables are still written one by one behind the step barriers
+     */
+    public void save(int chainId, List<BlockInfo> blockList) {
+        List<BlockHeaderInfo> headerList = new ArrayList<>(blockList.size());
+        List<BlockHexInfo> hexInfoList = new ArrayList<>(blockList.size());
+        List<TransactionInfo> txList = new ArrayList<>();
+        for (BlockInfo blockInfo : blockList) {
+            headerList.add(blockInfo.getHeader());
+            hexInfoList.add(blockInfo.getBlockHexInfo());
+            txList.addAll(blockInfo.getTxList());
+        }
+        long time1 = System.currentTimeMillis();
+        Map<String, Long> timeMap = Collections.synchronizedMap(new LinkedHashMap<>());
+
+        SyncInfo syncInfo = chainService.saveNewSyncInfo(chainId, headerList);
+        //记录委托变化，要在委托记录入库修改isNew之前
+        ApiCache apiCache = CacheManager.getCache(chainId);
+        apiCache.getAgentDepositCache().apply(syncInfo.getBestHeight(), depositInfoList);
 
         //存储区块头信息
-        time1 = System.currentTimeMillis();
-        blockService.saveBLockHeaderInfo(chainId, blockInfo.getHeader());
-        //存区块序列化完整信息
-        blockService.saveBlockHexInfo(chainId, blockInfo.getBlockHexInfo());
-//        time2 = System.currentTimeMillis();
-//        System.out.println("-----------saveBlockHexInfo, use: " + (time2 - time1) );
-//        time1 = System.currentTimeMillis();
-        //存储交易记录
-        txService.saveTxList(chainId, blockInfo.getTxList());
-//        time2 = System.currentTimeMillis();
-//        System.out.println("-----------saveTxList, use: " + (time2 - time1) );
-//        time1 = System.currentTimeMillis();
+        timeSave(timeMap, "blockHeader", () -> blockService.saveBlockHeaderList(chainId, headerList));
+        //存区块序列化完整信息，回滚时没有区块序列化信息的区块只删除区块头，所以要在其它数据之前写完
+        timeSave(timeMap, "blockHex", () -> blockService.saveBlockHexList(chainId, hexInfoList));
+        //窗口内累计的轮次修改，在区块序列化信息之后写入，回滚时按出块记录判断是否已写入
+        timeSave(timeMap, "round", () -> roundManager.flushPending(chainId));
 
-        // txService.saveCoinDataList(chainId, coinDataList);
+        List<Future<?>> futureList = new ArrayList<>();
+        //存储交易记录
+        futureList.add(submitSave(timeMap, "tx", () -> txService.saveTxList(chainId, txList)));
         //存储交易和地址关系记录
-        txService.saveTxRelationList(chainId, txRelationInfoSet);
-//        time2 = System.currentTimeMillis();
-//        System.out.println("-----------saveTxRelationList, use: " + (time2 - time1) );
-//        time1 = System.currentTimeMillis();
+        futureList.add(submitSave(timeMap, "txRelation", () -> txService.saveTxRelationList(chainId, txRelationInfoSet)));
         //存储跨链交易和地址关系记录
-        txService.saveCrossTxRelationList(chainId, crossTxRelationInfoSet);
-
+        futureList.add(submitSave(timeMap, "crossTxRelation", () -> txService.saveCrossTxRelationList(chainId, crossTxRelationInfoSet)));
         //存储别名记录
-        aliasService.saveAliasList(chainId, aliasInfoList);
-//        time2 = System.currentTimeMillis();
-//        System.out.println("-----------saveAliasList, use: " + (time2 - time1) );
-//        time1 = System.currentTimeMillis();
-
+        futureList.add(submitSave(timeMap, "alias", () -> aliasService.saveAliasList(chainId, aliasInfoList)));
         //存储红黄牌惩罚记录
-        punishService.savePunishList(chainId, punishLogList);
-//        time2 = System.currentTimeMillis();
-//        System.out.println("-----------savePunishList, use: " + (time2 - time1) );
-//        time1 = System.currentTimeMillis();
-
+        futureList.add(submitSave(timeMap, "punish", () -> punishService.savePunishList(chainId, punishLogList)));
         //存储委托/取消委托记录
-        depositService.saveDepositList(chainId, depositInfoList);
-//        time2 = System.currentTimeMillis();
-//        System.out.println("-----------saveDepositList, use: " + (time2 - time1) );
-//        time1 = System.currentTimeMillis();
-
+        futureList.add(submitSave(timeMap, "deposit", () -> depositService.saveDepositList(chainId, depositInfoList)));
         //存储智能合约交易关系记录
-        contractService.saveContractTxInfos(chainId, contractTxInfoList);
-//        time2 = System.currentTimeMillis();
-//        System.out.println("-----------saveContractTxInfos, use: " + (time2 - time1) );
-//        time1 = System.currentTimeMillis();
-
+        futureList.add(submitSave(timeMap, "contractTx", () -> contractService.saveContractTxInfos(chainId, contractTxInfoList)));
         //存储智能合约结果记录
-        contractService.saveContractResults(chainId, contractResultList);
-//        time2 = System.currentTimeMillis();
-//        System.out.println("-----------saveContractResults, use: " + (time2 - time1) );
-//        time1 = System.currentTimeMillis();
-
+        futureList.add(submitSave(timeMap, "contractResult", () -> contractService.saveContractResults(chainId, contractResultList)));
         //存储token转账信息
-        tokenService.saveTokenTransfers(chainId, tokenTransferList);
-
+        futureList.add(submitSave(timeMap, "tokenTransfer", () -> tokenService.saveTokenTransfers(chainId, tokenTransferList)));
         //存储token721转账信息
-        token721Service.saveTokenTransfers(chainId, token721TransferList);
-
+        futureList.add(submitSave(timeMap, "token721Transfer", () -> token721Service.saveTokenTransfers(chainId, token721TransferList)));
         //存储token1155转账信息
-        token1155Service.saveTokenTransfers(chainId, token1155TransferList);
-//        time2 = System.currentTimeMillis();
-//        System.out.println("-----------saveTokenTransfers, use: " + (time2 - time1) );
-//        time1 = System.currentTimeMillis();
-
+        futureList.add(submitSave(timeMap, "token1155Transfer", () -> token1155Service.saveTokenTransfers(chainId, token1155TransferList)));
         //存储链信息
-        chainService.saveChainList(chainInfoList);
-//        time2 = System.currentTimeMillis();
-//        System.out.println("-----------saveChainList, use: " + (time2 - time1) );
-//        time1 = System.currentTimeMillis();
+        futureList.add(submitSave(timeMap, "chain", () -> chainService.saveChainList(chainInfoList)));
+        //追加类的表全部写完后才进入统计类表的写入
+        waitSave(futureList);
+        for (BlockHeaderInfo headerInfo : headerList) {
+            apiCache.getRewardWindow().add(headerInfo.getHeight(), headerInfo.getCreateTime(), headerInfo.getReward());
+        }
 
         /*
             涉及到统计类的表放在最后来存储，便于回滚
@@ -1374,64 +1453,83 @@ public class SyncService {
         //存储共识节点列表
         syncInfo.setStep(10);
         chainService.updateStep(syncInfo);
-        agentService.saveAgentList(chainId, agentInfoList);
-//        time2 = System.currentTimeMillis();
-//        System.out.println("-----------saveAgentList, use: " + (time2 - time1) );
-//        time1 = System.currentTimeMillis();
+        timeSave(timeMap, "agent", () -> agentService.saveAgentList(chainId, agentInfoList));
         //存储账户资产信息
         syncInfo.setStep(20);
         chainService.updateStep(syncInfo);
-        ledgerService.saveLedgerList(chainId, accountLedgerInfoMap);
-//        time2 = System.currentTimeMillis();
-//        System.out.println("-----------saveLedgerList, use: " + (time2 - time1));
-//        time1 = System.currentTimeMillis();
+        timeSave(timeMap, "ledger", () -> ledgerService.saveLedgerList(chainId, accountLedgerInfoMap));
         //存储智能合约信息表
         syncInfo.setStep(30);
         chainService.updateStep(syncInfo);
-        contractService.saveContractInfos(chainId, contractInfoMap);
-//        time2 = System.currentTimeMillis();
-//        System.out.println("-----------saveContractInfos, use: " + (time2 - time1) );
-//        time1 = System.currentTimeMillis();
-
+        timeSave(timeMap, "contract", () -> contractService.saveContractInfos(chainId, contractInfoMap));
         //存储账户token信息
         syncInfo.setStep(40);
         chainService.updateStep(syncInfo);
-        tokenService.saveAccountTokens(chainId, accountTokenMap);
-//        time2 = System.currentTimeMillis();
-//        System.out.println("-----------saveAccountTokens, use: " + (time2 - time1) );
-//        time1 = System.currentTimeMillis();
-
+        timeSave(timeMap, "accountToken", () -> tokenService.saveAccountTokens(chainId, accountTokenMap));
         //存储账户信息表
         syncInfo.setStep(50);
         chainService.updateStep(syncInfo);
-        accountService.saveAccounts(chainId, accountInfoMap);
-//        time2 = System.currentTimeMillis();
-//        System.out.println("-----------saveAccounts, use: " + (time2 - time1) );
-//        time1 = System.currentTimeMillis();
-
+        timeSave(timeMap, "account", () -> accountService.saveAccounts(chainId, accountInfoMap));
         //存储账户token721信息
         syncInfo.setStep(60);
         chainService.updateStep(syncInfo);
-        token721Service.saveAccountTokens(chainId, accountToken721Map);
-
+        timeSave(timeMap, "accountToken721", () -> token721Service.saveAccountTokens(chainId, accountToken721Map));
         //存储token721造币信息
         syncInfo.setStep(70);
         chainService.updateStep(syncInfo);
-        token721Service.saveTokenIds(chainId, token721IdList);
-
+        timeSave(timeMap, "token721Id", () -> token721Service.saveTokenIds(chainId, token721IdList));
         //存储账户token1155信息
         syncInfo.setStep(80);
         chainService.updateStep(syncInfo);
-        token1155Service.saveAccountTokens(chainId, accountToken1155Map);
-
+        timeSave(timeMap, "accountToken1155", () -> token1155Service.saveAccountTokens(chainId, accountToken1155Map));
         //存储token1155 tokenId信息
         syncInfo.setStep(90);
         chainService.updateStep(syncInfo);
-        token1155Service.saveTokenIds(chainId, nrc1155TokenIdMap);
+        timeSave(timeMap, "token1155Id", () -> token1155Service.saveTokenIds(chainId, nrc1155TokenIdMap));
 
         //完成解析
         syncInfo.setStep(100);
         chainService.updateStep(syncInfo);
+        LoggerUtil.commonLog.debug("-----save height:" + syncInfo.getBestHeight() + "-----blockCount:" + blockList.size() + "-----use:" + (System.currentTimeMillis() - time1) + "-----" + timeMap);
+        LoggerUtil.commonLog.debug("-----accountCache:[" + apiCache.getAccountCache() + "]-----ledgerCache:[" + apiCache.getLedgerCache() + "]");
+    }
+
+    private Future<?> submitSave(Map<String, Long> timeMap, String name, Runnable task) {
+        return saveExecutor.submit(() -> timeSave(timeMap, name, task));
+    }
+
+    /**
+     * 执行一个数据表的写入，并记录耗时
+     */
+    private void timeSave(Map<String, Long> timeMap, String name, Runnable task) {
+        long time = System.currentTimeMillis();
+        task.run();
+        timeMap.put(name, System.currentTimeMillis() - time);
+    }
+
+    /**
+     * 等待所有并发写入结束，有写入失败时，等其它写入都结束后再抛出第一个异常
+     */
+    private void waitSave(List<Future<?>> futureList) {
+        RuntimeException error = null;
+        for (Future<?> future : futureList) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                if (error == null) {
+                    error = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause()
+                            : new NulsRuntimeException(ApiErrorCode.DATA_ERROR, e.getCause().getMessage());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (error == null) {
+                    error = new NulsRuntimeException(ApiErrorCode.DATA_ERROR, "save interrupted");
+                }
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
     }
 
     private AccountInfo queryAccountInfo(int chainId, String address) {
@@ -1562,18 +1660,5 @@ public class SyncService {
         nrc1155TokenIdMap.clear();
         token1155TransferList.clear();
         chainInfoList.clear();
-
-        ApiCache apiCache = CacheManager.getCache(chainId);
-        if (apiCache.getAccountMap().size() > MongoAccountServiceImpl.cacheSize * 2) {
-            Set<String> keySet = apiCache.getAccountMap().keySet();
-            int i = 0;
-            for (String key : keySet) {
-                apiCache.getAccountMap().remove(key);
-                i++;
-                if (i >= MongoAccountServiceImpl.cacheSize) {
-                    break;
-                }
-            }
-        }
     }
 }
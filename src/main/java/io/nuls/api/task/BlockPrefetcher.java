@@ -0,0 +1,127 @@
+package io.nuls.api.task;
+
+import io.nuls.api.ApiContext;
+import io.nuls.api.analysis.WalletRpcHandler;
+import io.nuls.api.model.po.BlockInfo;
+import io.nuls.api.utils.LoggerUtil;
+import io.nuls.core.basic.Result;
+import io.nuls.core.thread.commom.NulsThreadFactory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 区块预取器
+ * 当前区块入库的同时，由工作线程提前拉取并解析后续的区块，区块仍然由同步线程按高度顺序取出
+ * Fetches and decodes the upcoming blocks on worker threads while the current block is being persisted,
+ * the sync thread still takes them out strictly in height order
+ */
+public class BlockPrefetcher {
+
+    private int chainId;
+    //预取窗口大小
+    private int windowSize;
+
+    private ExecutorService executorService;
+    //按高度顺序排列的预取窗口，只由同步线程访问
+    private Deque<PrefetchItem> window = new ArrayDeque<>();
+
+    public BlockPrefetcher(int chainId, int windowSize) {
+        this.chainId = chainId;
+        this.windowSize = windowSize;
+        if (windowSize > 1) {
+            int threadCount = Math.min(windowSize, Runtime.getRuntime().availableProcessors());
+            executorService = Executors.newFixedThreadPool(threadCount, new NulsThreadFactory("block-prefetch"));
+        }
+    }
+
+    /**
+     * 取出指定高度的区块，并继续预取后续的区块
+     * Take the block of the given height and keep prefetching the following heights
+     *
+     * @param height 区块高度
+     * @return 和WalletRpcHandler.getBlockInfo相同的结果
+     */
+    public Result<BlockInfo> take(long height) throws InterruptedException {
+        if (executorService == null) {
+            return WalletRpcHandler.getBlockInfo(chainId, height);
+        }
+        PrefetchItem head = window.peekFirst();
+        if (head == null || head.height != height) {
+            reset();
+            fill(height, true);
+            head = window.peekFirst();
+        }
+        window.pollFirst();
+        //当前区块入库期间，后续高度在工作线程中拉取和解析
+        fill(height + 1, false);
+
+        Result<BlockInfo> result;
+        try {
+            result = head.future.get();
+        } catch (ExecutionException e) {
+            LoggerUtil.commonLog.error(e);
+            result = null;
+        }
+        if (result == null || result.isFailed()) {
+            //解析可能依赖前面区块才写入的缓存（例如新注册的资产），丢弃窗口后在当前线程重新拉取
+            reset();
+            result = WalletRpcHandler.getBlockInfo(chainId, height);
+        } else if (result.getData() == null) {
+            //节点还没有这个高度的区块，后面预取的结果也都作废
+            reset();
+        }
+        return result;
+    }
+
+    /**
+     * 丢弃整个预取窗口，分叉回滚或者缓存变化后调用
+     * Drop the whole prefetch window, called after a fork rollback or a cache change
+     */
+    public void reset() {
+        PrefetchItem item;
+        while ((item = window.pollFirst()) != null) {
+            item.future.cancel(true);
+        }
+    }
+
+    public void shutdown() {
+        reset();
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void fill(long fromHeight, boolean force) {
+        long next = window.isEmpty() ? fromHeight : window.peekLast().height + 1;
+        long limit = fromHeight + windowSize;
+        //不超过节点本地的最新高度
+        if (ApiContext.localHeight > 0) {
+            limit = Math.min(limit, ApiContext.localHeight + 1);
+        }
+        if (force && window.isEmpty() && next >= limit) {
+            limit = next + 1;
+        }
+        for (; next < limit; next++) {
+            final long h = next;
+            Future<Result<BlockInfo>> future = executorService.submit(() -> WalletRpcHandler.getBlockInfo(chainId, h));
+            window.addLast(new PrefetchItem(h, future));
+        }
+    }
+
+    private static class PrefetchItem {
+
+        private long height;
+
+        private Future<Result<BlockInfo>> future;
+
+        PrefetchItem(long height, Future<Result<BlockInfo>> future) {
+            this.height = height;
+            this.future = future;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package io.nuls.api.task;
+
+import io.nuls.api.rpc.rest.IpLookupController;
+
+/**
+ * iplookup的地址段文件修改后重新加载
+ */
+public class IpTableReloadTask implements Runnable {
+
+    @Override
+    public void run() {
+        IpLookupController.reload();
+    }
+}
@@ -15,6 +15,8 @@ import java.math.BigInteger;
 
 public class StatisticalRewardTask implements Runnable {
 
+    private static final long STATISTICAL_HEIGHT_STEP = 100000;
+
     private int chainId;
 
     private BlockService blockService;
@@ -48,18 +50,16 @@ public class StatisticalRewardTask implements Runnable {
             }
             //统计已打包区块的交易数量
             //获取上一次统计截止的区块高度，获取当前最新区块高度，累计之间所有区块的交易数量
-            //超过1000条数据后，每次循环统计1000条
+            //交易数在数据库端聚合，每次统计STATISTICAL_HEIGHT_STEP个高度并记录进度
             long startHeight = statisticalInfo.getLastStatisticalHeight();
             long endHeight = headerInfo.getHeight();
-            while (endHeight - startHeight > 1000) {
-                long count = blockService.getBlockPackageTxCount(chainId, startHeight, startHeight + 1000);
-                statisticalInfo.setLastStatisticalHeight(startHeight + 1000);
+            while (endHeight - startHeight > STATISTICAL_HEIGHT_STEP) {
+                long count = blockService.getBlockPackageTxCount(chainId, startHeight, startHeight + STATISTICAL_HEIGHT_STEP);
+                statisticalInfo.setLastStatisticalHeight(startHeight + STATISTICAL_HEIGHT_STEP);
                 statisticalInfo.setTxCount(statisticalInfo.getTxCount() + count);
                 statisticalService.saveChainStatisticalInfo(statisticalInfo);
                 apiCache.getCoinContextInfo().setTxCount(statisticalInfo.getTxCount());
-                startHeight += 1000;
-                Thread.sleep(100);
-//                LoggerUtil.commonLog.info("chain statistical info calc......");
+                startHeight += STATISTICAL_HEIGHT_STEP;
             }
             long count = blockService.getBlockPackageTxCount(chainId, startHeight, endHeight);
             statisticalInfo.setLastStatisticalHeight(endHeight);
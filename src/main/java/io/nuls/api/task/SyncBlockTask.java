@@ -21,6 +21,8 @@ public class SyncBlockTask implements Runnable {
     private SyncService syncService;
 
     private RollbackService rollbackService;
+    //预取后续区块
+    private BlockPrefetcher prefetcher;
     //记录同步出错次数
     private int syncErrorCount = 0;
     private boolean first = true;
@@ -29,6 +31,7 @@ public class SyncBlockTask implements Runnable {
         this.chainId = chainId;
         syncService = SpringLiteContext.getBean(SyncService.class);
         rollbackService = SpringLiteContext.getBean(RollbackService.class);
+        prefetcher = new BlockPrefetcher(chainId, ApiContext.syncPrefetchCount);
         LoggerUtil.commonLog.info("------SyncBlockTask init:" + chainId);
     }
 
@@ -60,8 +63,13 @@ public class SyncBlockTask implements Runnable {
         //If the latest block entity is not completely processed in one transaction, you need to roll back the block entity.
         try {
             SyncInfo syncInfo = syncService.getSyncInfo(chainId);
-            if (syncInfo != null && !syncInfo.isFinish()) {
-                rollbackService.rollbackBlock(chainId, syncInfo.getBestHeight());
+            //批量提交的窗口中断时，需要把窗口内的区块都回滚
+            while (syncInfo != null && !syncInfo.isFinish()) {
+                prefetcher.reset();
+                if (!rollbackService.rollbackBlock(chainId, syncInfo.getBestHeight())) {
+                    return;
+                }
+                syncInfo = syncService.getSyncInfo(chainId);
             }
         } catch (Exception e) {
             syncErrorCount++;
@@ -77,6 +85,7 @@ public class SyncBlockTask implements Runnable {
                 Log.error(e.getMessage(), e);
                 syncErrorCount++;
                 syncable = false;
+                prefetcher.reset();
             }
         }
     }
@@ -99,9 +108,15 @@ public class SyncBlockTask implements Runnable {
         ApiContext.locker.lock();
         try {
             BlockHeaderInfo localBestBlockHeader = syncService.getBestBlockHeader(chainId);
-            return process(localBestBlockHeader);
+            boolean syncable = process(localBestBlockHeader);
+            if (!syncable) {
+                //本轮同步结束，窗口内还没入库的区块先提交
+                syncService.commitPending(chainId);
+            }
+            return syncable;
         } catch (Exception e) {
             LoggerUtil.commonLog.error(e);
+            prefetcher.reset();
             return false;
         } finally {
             ApiContext.locker.unlock();
@@ -117,7 +132,7 @@ public class SyncBlockTask implements Runnable {
             LoggerUtil.commonLog.info("------localBestBlock:" + (nextHeight - 1));
             first = false;
         }
-        Result<BlockInfo> result = WalletRpcHandler.getBlockInfo(chainId, nextHeight);
+        Result<BlockInfo> result = prefetcher.take(nextHeight);
         if (result.isFailed()) {
             LoggerUtil.commonLog.info("------get block info failed: {},{}", chainId, nextHeight);
             return false;
@@ -128,9 +143,22 @@ public class SyncBlockTask implements Runnable {
 //            LoggerUtil.commonLog.info("------block info is null: {},{}", chainId, nextHeight);
             return false;
         }
+        if (checkBlockContinuity(localBestBlockHeader, newBlock.getHeader())) {
+            return syncService.syncNewBlock(chainId, newBlock);
+        }
+        //预取的区块可能在节点切换分叉之前就已拉取，丢弃整个预取窗口后重新拉取一次再判断
+        //The prefetched block may be stale, drop the whole window and fetch it again before rolling back
+        prefetcher.reset();
+        result = WalletRpcHandler.getBlockInfo(chainId, nextHeight);
+        if (result.isFailed() || result.getData() == null) {
+            return false;
+        }
+        newBlock = result.getData();
         if (checkBlockContinuity(localBestBlockHeader, newBlock.getHeader())) {
             return syncService.syncNewBlock(chainId, newBlock);
         } else if (localBestBlockHeader != null) {
+            //回滚前先把窗口内的区块入库，回滚按数据库里的记录处理
+            syncService.commitPending(chainId);
             return rollbackService.rollbackBlock(chainId, localBestBlockHeader.getHeight());
         }
         return false;
@@ -0,0 +1,30 @@
+package io.nuls.api.task;
+
+import io.nuls.api.db.TxRelationShardService;
+import io.nuls.api.db.mongo.MongoTxRelationShardServiceImpl;
+import io.nuls.core.core.ioc.SpringLiteContext;
+import io.nuls.core.log.Log;
+
+/**
+ * 重新分片时把旧表的交易关系分批复制到新表，复制完成后切换
+ */
+public class TxRelationReshardTask implements Runnable {
+
+    private int chainId;
+
+    private TxRelationShardService txRelationShardService;
+
+    public TxRelationReshardTask(int chainId) {
+        this.chainId = chainId;
+    }
+
+    @Override
+    public void run() {
+        try {
+            txRelationShardService = SpringLiteContext.getBean(MongoTxRelationShardServiceImpl.class);
+            txRelationShardService.reshard(chainId);
+        } catch (Exception e) {
+            Log.error(e);
+        }
+    }
+}
@@ -1,25 +1,38 @@
 package io.nuls.api.task;
 
 import io.nuls.api.analysis.WalletRpcHandler;
+import io.nuls.api.cache.PendingTxPool;
 import io.nuls.api.db.TransactionService;
-import io.nuls.api.model.po.TxHexInfo;
+import io.nuls.api.manager.CacheManager;
 import io.nuls.api.utils.LoggerUtil;
 import io.nuls.base.RPCUtil;
 import io.nuls.base.basic.NulsByteBuffer;
 import io.nuls.core.basic.Result;
 import io.nuls.core.core.ioc.SpringLiteContext;
 import io.nuls.core.exception.NulsException;
-import io.nuls.core.model.DateUtils;
 import io.nuls.core.rpc.util.NulsDateUtils;
+import io.nuls.core.thread.commom.NulsThreadFactory;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+/**
+ * 推进未确认交易池的时间轮移除过期交易，并重新验证和广播池中的交易
+ * 验证是逐笔的rpc调用，这里并发执行，验证失败的交易从池中移除后一次性从数据库删除
+ */
 public class UnConfirmTxTask implements Runnable {
 
+    private static final int VALIDATE_THREADS = 4;
+
     private int chainId;
 
     private TransactionService transactionService;
 
+    private ExecutorService validateExecutor = Executors.newFixedThreadPool(VALIDATE_THREADS, new NulsThreadFactory("unconfirm-validate"));
+
     public UnConfirmTxTask(int chainId) {
         this.chainId = chainId;
         transactionService = SpringLiteContext.getBean(TransactionService.class);
@@ -28,27 +41,41 @@ public class UnConfirmTxTask implements Runnable {
     @Override
     public void run() {
         try {
+            PendingTxPool pendingTxPool = CacheManager.getCache(chainId).getPendingTxPool();
+            List<String> deleteList = new ArrayList<>();
+            for (PendingTxPool.PendingTx tx : pendingTxPool.expire(NulsDateUtils.getCurrentTimeMillis())) {
+                deleteList.add(tx.getTxHash());
+            }
 
-            List<TxHexInfo> txHexInfoList = transactionService.getUnConfirmList(chainId);
-            long currentTime = NulsDateUtils.getCurrentTimeMillis();
-            for (int i = txHexInfoList.size() - 1; i >= 0; i--) {
-                TxHexInfo txHexInfo = txHexInfoList.get(i);
-                int txType = extractTxTypeFromTx(txHexInfo.getTxHex());
-                if (txType == 10) {
+            List<PendingTxPool.PendingTx> txList = new ArrayList<>();
+            for (PendingTxPool.PendingTx tx : pendingTxPool.getAll()) {
+                if (extractTxTypeFromTx(tx.getTxHex()) != 10) {
+                    txList.add(tx);
+                }
+            }
+            List<Future<Result>> futures = new ArrayList<>(txList.size());
+            for (PendingTxPool.PendingTx tx : txList) {
+                futures.add(validateExecutor.submit(() -> WalletRpcHandler.validateTx(chainId, tx.getTxHex())));
+            }
+            for (int i = 0; i < txList.size(); i++) {
+                PendingTxPool.PendingTx tx = txList.get(i);
+                Result result;
+                try {
+                    result = futures.get(i).get();
+                } catch (Exception e) {
+                    LoggerUtil.commonLog.error(e);
                     continue;
                 }
-                if (txHexInfo.getTime() < currentTime && txHexInfo.getTime() + DateUtils.TEN_MINUTE_TIME > currentTime) {
-                    Result result = WalletRpcHandler.validateTx(chainId, txHexInfo.getTxHex());
-                    if (!result.isSuccess()) {
-                        transactionService.deleteUnConfirmTx(chainId, txHexInfo.getTxHash());
-                        txHexInfoList.remove(i);
-                    } else {
-                        WalletRpcHandler.broadcastTx(chainId, txHexInfo.getTxHex());
+                if (!result.isSuccess()) {
+                    //等待期间交易可能已经确认，已确认的交易由保存区块时从数据库删除
+                    if (pendingTxPool.remove(tx.getTxHash()) != null) {
+                        deleteList.add(tx.getTxHash());
                     }
-                } else if (txHexInfo.getTime() + DateUtils.TEN_MINUTE_TIME < currentTime) {
-                    transactionService.deleteUnConfirmTx(chainId, txHexInfo.getTxHash());
+                } else {
+                    WalletRpcHandler.broadcastTx(chainId, tx.getTxHex());
                 }
             }
+            transactionService.deleteUnConfirmTxs(chainId, deleteList);
         } catch (Exception e) {
             LoggerUtil.commonLog.error(e);
         }
@@ -1,11 +1,14 @@
 package io.nuls.api.utils;
 
-import static io.nuls.api.constant.DBTableConstant.TX_RELATION_SHARDING_COUNT;
+import io.nuls.api.manager.CacheManager;
 
 public class DBUtil {
 
-    public static int getShardNumber(String value) {
-        return Math.abs(value.hashCode()) % TX_RELATION_SHARDING_COUNT;
+    /**
+     * 地址的交易关系所在的表，按数据库中记录的分片方式计算
+     */
+    public static String getTxRelationTable(int chainId, String address) {
+        return CacheManager.getCache(chainId).getTxRelationShardInfo().getTable(address);
     }
 
     public static String getAssetKey(int chainId, int assetId) {
@@ -0,0 +1,175 @@
+package io.nuls.api.utils;
+
+import io.nuls.api.constant.ApiErrorCode;
+import io.nuls.core.exception.NulsRuntimeException;
+import org.bson.Document;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 实体类和Document之间的转换器
+ * 每个类只在第一次使用时解析一次字段，生成字段的读写句柄，之后的转换不再反射查找字段
+ * 生成的Document和原来的反射实现完全一致：BigInteger存为字符串，指定的主键字段存为"_id"，不存isNew字段
+ * Converter between a model class and Document. The fields of a class are resolved once and cached as method handles,
+ * the produced documents are identical to the former reflection based implementation
+ */
+public final class DocumentCodec<T> {
+
+    private static final Map<Class<?>, DocumentCodec<?>> CODEC_MAP = new ConcurrentHashMap<>();
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final int TYPE_OTHER = 0;
+    private static final int TYPE_BIG_INTEGER = 1;
+    private static final int TYPE_SET = 2;
+
+    private final Class<T> clazz;
+
+    private final MethodHandle constructor;
+    //按getDeclaredFields的顺序排列，保证生成的Document字段顺序不变
+    private final FieldAccessor[] accessors;
+
+    @SuppressWarnings("unchecked")
+    public static <T> DocumentCodec<T> of(Class<T> clazz) {
+        return (DocumentCodec<T>) CODEC_MAP.computeIfAbsent(clazz, DocumentCodec::new);
+    }
+
+    private DocumentCodec(Class<T> clazz) {
+        this.clazz = clazz;
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle ctor = null;
+        try {
+            Constructor<T> declaredConstructor = clazz.getDeclaredConstructor();
+            declaredConstructor.setAccessible(true);
+            ctor = lookup.unreflectConstructor(declaredConstructor).asType(MethodType.methodType(Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            //没有无参构造方法的类只能转成Document，转成实体类时报错
+        }
+        this.constructor = ctor;
+
+        List<FieldAccessor> list = new ArrayList<>();
+        for (Field field : clazz.getDeclaredFields()) {
+            if ("isNew".equals(field.getName())) {
+                continue;
+            }
+            list.add(new FieldAccessor(lookup, field));
+        }
+        this.accessors = list.toArray(new FieldAccessor[0]);
+    }
+
+    /**
+     * @param _id 存为"_id"的字段名，为null时不做映射
+     */
+    public Document toDocument(Object obj, String _id) {
+        Document document = new Document();
+        for (FieldAccessor accessor : accessors) {
+            Object value;
+            try {
+                value = accessor.getter.invokeExact(obj);
+            } catch (Throwable e) {
+                throw new NulsRuntimeException(ApiErrorCode.DATA_PARSE_ERROR, "Model to Document fail");
+            }
+            if (accessor.type == TYPE_BIG_INTEGER) {
+                document.append(accessor.name, value == null ? BigInteger.ZERO.toString() : value.toString());
+            } else if (accessor.name.equals(_id)) {
+                document.append("_id", value);
+            } else {
+                document.append(accessor.name, value);
+            }
+        }
+        return document;
+    }
+
+    /**
+     * @param _id 从"_id"读取的字段名，为null时不做映射
+     */
+    @SuppressWarnings("unchecked")
+    public T toInfo(Document document, String _id) {
+        try {
+            if (constructor == null) {
+                throw new NoSuchMethodException(clazz.getName() + ".<init>()");
+            }
+            Object instance = constructor.invokeExact();
+            for (FieldAccessor accessor : accessors) {
+                Object value;
+                if (accessor.name.equals(_id)) {
+                    value = document.get("_id");
+                } else if (!document.containsKey(accessor.name)) {
+                    continue;
+                } else if (accessor.type == TYPE_BIG_INTEGER) {
+                    value = new BigInteger(document.get(accessor.name).toString());
+                } else if (accessor.type == TYPE_SET) {
+                    value = new HashSet((List) document.get(accessor.name));
+                } else {
+                    value = document.get(accessor.name);
+                }
+                if (accessor.setter == null) {
+                    throw new IllegalAccessException("field " + accessor.name + " is final");
+                }
+                accessor.setter.invokeExact(instance, value);
+            }
+            return (T) instance;
+        } catch (Throwable e) {
+            LoggerUtil.commonLog.error(e);
+            throw new NulsRuntimeException(ApiErrorCode.DATA_PARSE_ERROR, "Document to Model fail");
+        }
+    }
+
+    private static final class FieldAccessor {
+
+        private final String name;
+
+        private final int type;
+        //统一为 (Object)Object
+        private final MethodHandle getter;
+        //统一为 (Object,Object)void，final字段为null
+        private final MethodHandle setter;
+
+        FieldAccessor(MethodHandles.Lookup lookup, Field field) {
+            this.name = field.getName();
+            if (field.getType() == BigInteger.class) {
+                this.type = TYPE_BIG_INTEGER;
+            } else if (field.getType() == Set.class) {
+                this.type = TYPE_SET;
+            } else {
+                this.type = TYPE_OTHER;
+            }
+            field.setAccessible(true);
+            boolean isStatic = Modifier.isStatic(field.getModifiers());
+            try {
+                MethodHandle get = lookup.unreflectGetter(field);
+                if (isStatic) {
+                    get = MethodHandles.dropArguments(get, 0, Object.class);
+                }
+                this.getter = get.asType(GETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                throw new NulsRuntimeException(ApiErrorCode.DATA_PARSE_ERROR, "class to Document fail");
+            }
+            MethodHandle set;
+            try {
+                set = lookup.unreflectSetter(field);
+                if (isStatic) {
+                    set = MethodHandles.dropArguments(set, 0, Object.class);
+                }
+                set = set.asType(SETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                set = null;
+            }
+            this.setter = set;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package io.nuls.api.utils;
+
+import io.nuls.base.basic.AddressTool;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 交易关系表的分片函数，函数名保存在分片记录里，已有的数据总是按写入时的函数查找
+ * Shard functions of the tx relation tables, the name is stored with the shard map
+ */
+public enum ShardFunction {
+
+    /**
+     * 原来的分片方式，String.hashCode取模，只为兼容已有的数据
+     */
+    JAVA_HASH {
+        @Override
+        public int shard(String address, int shardCount) {
+            return Math.abs(address.hashCode()) % shardCount;
+        }
+    },
+
+    /**
+     * 对解码后的地址字节做64位FNV-1a哈希再取模，分布均匀，并且不依赖Java的String实现
+     */
+    ADDRESS_HASH {
+        @Override
+        public int shard(String address, int shardCount) {
+            return (int) Long.remainderUnsigned(fnv1a64(addressBytes(address)), shardCount);
+        }
+    };
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    public abstract int shard(String address, int shardCount);
+
+    public static ShardFunction of(String name) {
+        if (name == null || name.isEmpty()) {
+            return JAVA_HASH;
+        }
+        return valueOf(name.trim().toUpperCase());
+    }
+
+    private static byte[] addressBytes(String address) {
+        try {
+            return AddressTool.getAddress(address);
+        } catch (Exception e) {
+            return address.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    static long fnv1a64(byte[] bytes) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : bytes) {
+            hash ^= (b & 0xff);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
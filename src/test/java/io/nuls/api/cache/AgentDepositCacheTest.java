@@ -0,0 +1,56 @@
+package io.nuls.api.cache;
+
+import io.nuls.api.model.po.DepositInfo;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+public class AgentDepositCacheTest {
+
+    @Test
+    public void testRestoreRoundStart() {
+        AgentDepositCache cache = new AgentDepositCache();
+        DepositInfo d1 = deposit("d1", "agentA", 100, 5);
+        cache.init(10, new ArrayList<>(Collections.singletonList(d1)));
+
+        //11高度新增委托
+        DepositInfo d2 = deposit("d2", "agentA", 50, 11);
+        d2.setNew(true);
+        cache.apply(11, Collections.singletonList(d2));
+
+        //12高度取消d1
+        d1.setDeleteHeight(12);
+        DepositInfo cancel = deposit("c1", "agentA", 100, 12);
+        cancel.setType(1);
+        cancel.setNew(true);
+        cache.apply(12, Arrays.asList(d1, cancel));
+
+        Assert.assertEquals(BigInteger.valueOf(100), cache.getAgentDeposits(10).get("agentA"));
+        Assert.assertEquals(BigInteger.valueOf(150), cache.getAgentDeposits(11).get("agentA"));
+        Assert.assertEquals(BigInteger.valueOf(50), cache.getAgentDeposits(12).get("agentA"));
+        Assert.assertNull(cache.getAgentDeposits(9));
+        Assert.assertNull(cache.getAgentDeposits(13));
+
+        cache.trim(11);
+        Assert.assertNull(cache.getAgentDeposits(10));
+        Map<String, BigInteger> map = cache.getAgentDeposits(11);
+        Assert.assertEquals(BigInteger.valueOf(150), map.get("agentA"));
+
+        cache.invalidate();
+        Assert.assertNull(cache.getAgentDeposits(12));
+    }
+
+    private DepositInfo deposit(String key, String agentHash, long amount, long height) {
+        DepositInfo depositInfo = new DepositInfo();
+        depositInfo.setKey(key);
+        depositInfo.setAgentHash(agentHash);
+        depositInfo.setAmount(BigInteger.valueOf(amount));
+        depositInfo.setBlockHeight(height);
+        return depositInfo;
+    }
+}
@@ -0,0 +1,77 @@
+package io.nuls.api.cache;
+
+import io.nuls.api.model.po.TxRelationInfo;
+import org.bson.types.ObjectId;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class PendingTxPoolTest {
+
+    private static final long NOW = 1_600_000_000_000L;
+
+    private static PendingTxPool.PendingTx tx(String hash, long time, String... addresses) {
+        List<PendingTxPool.PendingRelation> relations = new ArrayList<>();
+        for (String address : addresses) {
+            TxRelationInfo info = new TxRelationInfo();
+            info.setAddress(address);
+            info.setTxHash(hash);
+            info.setCreateTime(time);
+            relations.add(new PendingTxPool.PendingRelation(new ObjectId(), info));
+        }
+        return new PendingTxPool.PendingTx(hash, "00", time, relations);
+    }
+
+    @Test
+    public void testAddAndRemove() {
+        PendingTxPool pool = new PendingTxPool();
+        assertTrue(pool.add(tx("a", NOW, "addr1", "addr2"), NOW));
+        assertFalse(pool.add(tx("a", NOW, "addr1"), NOW));
+        assertFalse(pool.add(tx("old", NOW - PendingTxPool.TTL, "addr1"), NOW));
+        assertEquals(1, pool.getRelations("addr2", info -> true, NOW).size());
+
+        assertNotNull(pool.remove("a"));
+        assertNull(pool.remove("a"));
+        assertEquals(0, pool.size());
+        assertTrue(pool.getRelations("addr1", info -> true, NOW).isEmpty());
+    }
+
+    @Test
+    public void testRelationsSortedDescending() {
+        PendingTxPool pool = new PendingTxPool();
+        pool.add(tx("a", NOW, "addr"), NOW);
+        pool.add(tx("b", NOW + 2000, "addr"), NOW);
+        pool.add(tx("c", NOW + 1000, "addr"), NOW);
+        List<PendingTxPool.PendingRelation> list = pool.getRelations("addr", info -> true, NOW);
+        assertEquals("b", list.get(0).getInfo().getTxHash());
+        assertEquals("c", list.get(1).getInfo().getTxHash());
+        assertEquals("a", list.get(2).getInfo().getTxHash());
+        assertEquals(1, pool.getRelations("addr", info -> info.getCreateTime() > NOW + 1500, NOW).size());
+    }
+
+    @Test
+    public void testExpire() {
+        PendingTxPool pool = new PendingTxPool();
+        for (int i = 0; i < 100; i++) {
+            pool.add(tx("tx" + i, NOW + i * 7000L, "addr"), NOW + i * 7000L);
+        }
+        assertTrue(pool.expire(NOW + PendingTxPool.TTL - 1).isEmpty());
+        //到期但时间轮还没推进到的交易查询时也不返回
+        assertEquals(99, pool.getRelations("addr", info -> true, NOW + PendingTxPool.TTL).size());
+
+        int expired = 0;
+        for (long time = NOW; time <= NOW + 3 * PendingTxPool.TTL; time += 3000) {
+            for (PendingTxPool.PendingTx tx : pool.expire(time)) {
+                assertTrue(tx.getExpireTime() <= time);
+                expired++;
+            }
+        }
+        assertEquals(100, expired);
+        assertEquals(0, pool.size());
+        assertEquals(Collections.emptyList(), pool.getRelations("addr", info -> true, NOW));
+    }
+}
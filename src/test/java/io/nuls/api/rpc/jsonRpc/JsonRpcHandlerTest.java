@@ -0,0 +1,32 @@
+package io.nuls.api.rpc.jsonRpc;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+public class JsonRpcHandlerTest {
+
+    @Test
+    public void testResolveClientIp() {
+        Set<String> none = Collections.emptySet();
+        Assert.assertEquals("10.0.0.1", JsonRpcHandler.resolveClientIp(null, "10.0.0.1", none));
+        Assert.assertEquals("1.2.3.4", JsonRpcHandler.resolveClientIp("1.2.3.4", "10.0.0.1", none));
+        //客户端自己填的地址在前面，取代理追加的最右边的地址
+        Assert.assertEquals("1.2.3.4", JsonRpcHandler.resolveClientIp("127.0.0.1, 1.2.3.4", "10.0.0.1", none));
+        Assert.assertEquals("1.2.3.4", JsonRpcHandler.resolveClientIp("127.0.0.1,1.2.3.4, ", "10.0.0.1", none));
+    }
+
+    @Test
+    public void testResolveClientIpWithTrustedProxies() {
+        Set<String> trusted = new HashSet<>(Arrays.asList("10.0.0.1", "10.0.0.2"));
+        Assert.assertEquals("1.2.3.4", JsonRpcHandler.resolveClientIp("127.0.0.1, 1.2.3.4, 10.0.0.2", "10.0.0.1", trusted));
+        //不是受信任的代理直接连接时不读请求头
+        Assert.assertEquals("5.6.7.8", JsonRpcHandler.resolveClientIp("1.2.3.4", "5.6.7.8", trusted));
+        //全部是受信任的代理时取最左边的
+        Assert.assertEquals("10.0.0.2", JsonRpcHandler.resolveClientIp("10.0.0.2", "10.0.0.1", trusted));
+    }
+}
@@ -0,0 +1,82 @@
+package io.nuls.api.rpc.jsonRpc;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBucketBoundaries() {
+        //小于16时每个值一个桶
+        for (int i = 0; i < 16; i++) {
+            Assert.assertEquals(i, LatencyHistogram.bucketIndex(i));
+            Assert.assertEquals(i, LatencyHistogram.bucketUpperBound(i));
+        }
+        Assert.assertEquals(16, LatencyHistogram.bucketIndex(16));
+        Assert.assertEquals(16, LatencyHistogram.bucketIndex(17));
+        Assert.assertEquals(17, LatencyHistogram.bucketIndex(18));
+        Assert.assertEquals(17, LatencyHistogram.bucketUpperBound(16));
+        Assert.assertEquals(31, LatencyHistogram.bucketUpperBound(LatencyHistogram.bucketIndex(31)));
+        Assert.assertEquals(35, LatencyHistogram.bucketUpperBound(LatencyHistogram.bucketIndex(32)));
+
+        //每个桶的上界落在自己的桶里，上界加一落在下一个桶里，桶宽不超过下界的1/8
+        int last = LatencyHistogram.bucketIndex(Long.MAX_VALUE);
+        long lower = 0;
+        for (int i = 0; i < last; i++) {
+            long upper = LatencyHistogram.bucketUpperBound(i);
+            Assert.assertEquals(i, LatencyHistogram.bucketIndex(upper));
+            Assert.assertEquals(i + 1, LatencyHistogram.bucketIndex(upper + 1));
+            Assert.assertTrue(lower < 16 || upper - lower + 1 <= lower / 8);
+            lower = upper + 1;
+        }
+    }
+
+    @Test
+    public void testAboveLargestBucket() {
+        int last = LatencyHistogram.bucketIndex(Long.MAX_VALUE);
+        Assert.assertEquals(last, LatencyHistogram.bucketIndex(1L << 41));
+        Assert.assertEquals(last, LatencyHistogram.bucketIndex(1L << 50));
+        Assert.assertEquals(Long.MAX_VALUE, LatencyHistogram.bucketUpperBound(last));
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1L << 50);
+        Assert.assertEquals(1L << 50, histogram.getQuantile(0.5));
+        Assert.assertEquals(1L << 50, histogram.getMaxMicros());
+        Assert.assertEquals(0, histogram.getCountAtMost(1L << 45));
+    }
+
+    @Test
+    public void testQuantile() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Assert.assertEquals(0, histogram.getQuantile(0.5));
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+        Assert.assertEquals(1000, histogram.getCount());
+        Assert.assertEquals(500500, histogram.getTotalMicros());
+        //返回分位数所在桶的上界，不超过最大值
+        Assert.assertEquals(511, histogram.getQuantile(0.5));
+        Assert.assertEquals(959, histogram.getQuantile(0.9));
+        Assert.assertEquals(1000, histogram.getQuantile(0.99));
+        Assert.assertEquals(1, histogram.getQuantile(0));
+
+        //跨越边界的桶计入下一个边界
+        Assert.assertEquals(511, histogram.getCountAtMost(511));
+        Assert.assertEquals(479, histogram.getCountAtMost(500));
+        Assert.assertEquals(1000, histogram.getCountAtMost(2000));
+    }
+
+    @Test
+    public void testQuantileWithOutlier() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.record(10);
+        }
+        histogram.record(5000);
+        histogram.record(-1);
+        Assert.assertEquals(10, histogram.getQuantile(0.5));
+        Assert.assertEquals(10, histogram.getQuantile(0.99));
+        Assert.assertEquals(5000, histogram.getQuantile(1));
+        Assert.assertEquals(0, histogram.getQuantile(0.001));
+    }
+}
@@ -0,0 +1,111 @@
+package io.nuls.api.rpc.jsonRpc;
+
+import io.nuls.api.ApiContext;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+public class RpcAdmissionTest {
+
+    private static final long SECOND = 1000000000L;
+
+    @Test
+    public void testTokenBucket() {
+        long now = 5 * SECOND;
+        RpcAdmission.TokenBucket bucket = new RpcAdmission.TokenBucket(now);
+        //每秒10个令牌，最多积累20个
+        for (int i = 0; i < 20; i++) {
+            Assert.assertTrue(bucket.tryAcquire(1, now, 10, 20));
+        }
+        Assert.assertFalse(bucket.tryAcquire(1, now, 10, 20));
+        Assert.assertFalse(bucket.isFull(now));
+
+        now += SECOND / 10;
+        Assert.assertTrue(bucket.tryAcquire(1, now, 10, 20));
+        Assert.assertFalse(bucket.tryAcquire(1, now, 10, 20));
+
+        //慢方法需要足够的令牌
+        now += SECOND / 2;
+        Assert.assertFalse(bucket.tryAcquire(10, now, 10, 20));
+        Assert.assertTrue(bucket.tryAcquire(5, now, 10, 20));
+
+        now += 10 * SECOND;
+        Assert.assertTrue(bucket.isFull(now));
+        Assert.assertTrue(bucket.tryAcquire(20, now, 10, 20));
+        Assert.assertFalse(bucket.tryAcquire(1, now, 10, 20));
+    }
+
+    @Test
+    public void testMaxClients() {
+        int maxClients = ApiContext.rpcRateLimitMaxClients;
+        ApiContext.rpcRateLimitMaxClients = 2;
+        try {
+            RpcAdmission admission = new RpcAdmission(null, null);
+            RpcAdmission.TokenBucket a = admission.getBucket("1.1.1.1");
+            RpcAdmission.TokenBucket b = admission.getBucket("2.2.2.2");
+            //令牌没有补满的桶不能被清理
+            Assert.assertTrue(a.tryAcquire(1, System.nanoTime(), 1, 10));
+            Assert.assertTrue(b.tryAcquire(1, System.nanoTime(), 1, 10));
+
+            RpcAdmission.TokenBucket overflow = admission.getBucket("3.3.3.3");
+            Assert.assertNotSame(a, overflow);
+            Assert.assertNotSame(b, overflow);
+            Assert.assertSame(overflow, admission.getBucket("4.4.4.4"));
+            Assert.assertSame(a, admission.getBucket("1.1.1.1"));
+            Assert.assertEquals(2, admission.getClientCount());
+        } finally {
+            ApiContext.rpcRateLimitMaxClients = maxClients;
+        }
+    }
+
+    @Test
+    public void testSweepIdleClients() {
+        int maxClients = ApiContext.rpcRateLimitMaxClients;
+        ApiContext.rpcRateLimitMaxClients = 2;
+        try {
+            RpcAdmission admission = new RpcAdmission(null, null);
+            admission.getBucket("1.1.1.1");
+            RpcAdmission.TokenBucket b = admission.getBucket("2.2.2.2");
+            Assert.assertTrue(b.tryAcquire(1, System.nanoTime(), 1, 10));
+            //空闲的1.1.1.1被清理，新客户端有自己的桶
+            RpcAdmission.TokenBucket c = admission.getBucket("3.3.3.3");
+            Assert.assertSame(c, admission.getBucket("3.3.3.3"));
+            Assert.assertEquals(2, admission.getClientCount());
+        } finally {
+            ApiContext.rpcRateLimitMaxClients = maxClients;
+        }
+    }
+
+    @Test
+    public void testAdmitBatch() {
+        int rateLimit = ApiContext.rpcRateLimit;
+        int rateBurst = ApiContext.rpcRateBurst;
+        ApiContext.rpcRateLimit = 1;
+        ApiContext.rpcRateBurst = 20;
+        try {
+            RpcAdmission admission = new RpcAdmission(null, null);
+            //整批的令牌超过rpcRateBurst时最多扣rpcRateBurst个，令牌桶满时整批可以执行
+            List<RpcDispatcher.Group> groupList = Collections.nCopies(50, RpcDispatcher.Group.DEFAULT);
+            Assert.assertTrue(admission.admitBatch("1.1.1.1", groupList));
+            Assert.assertFalse(admission.admitBatch("1.1.1.1", Collections.singletonList(RpcDispatcher.Group.FAST)));
+            Assert.assertEquals(1, admission.getRateLimitedCount());
+            //其它客户端不受影响，白名单不限速
+            Assert.assertTrue(admission.admitBatch("2.2.2.2", groupList));
+            Assert.assertTrue(admission.admitBatch("127.0.0.1", groupList));
+            Assert.assertTrue(admission.admitBatch("127.0.0.1", groupList));
+        } finally {
+            ApiContext.rpcRateLimit = rateLimit;
+            ApiContext.rpcRateBurst = rateBurst;
+        }
+    }
+
+    @Test
+    public void testCost() {
+        Assert.assertEquals(1, RpcAdmission.getCost(RpcDispatcher.Group.PRIORITY));
+        Assert.assertEquals(1, RpcAdmission.getCost(RpcDispatcher.Group.FAST));
+        Assert.assertEquals(2, RpcAdmission.getCost(RpcDispatcher.Group.DEFAULT));
+        Assert.assertEquals(10, RpcAdmission.getCost(RpcDispatcher.Group.SLOW));
+    }
+}
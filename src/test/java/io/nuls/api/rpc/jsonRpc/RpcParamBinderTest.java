@@ -0,0 +1,47 @@
+package io.nuls.api.rpc.jsonRpc;
+
+import io.nuls.api.exception.JsonRpcException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class RpcParamBinderTest {
+
+    @RpcParam(name = "chainId", type = RpcParamType.INT)
+    @RpcParam(name = "height", type = RpcParamType.LONG, min = 0)
+    @RpcParam(name = "address", type = RpcParamType.STRING, required = false)
+    public void schema() {
+    }
+
+    @Test
+    public void testBind() throws Exception {
+        RpcParamBinder binder = RpcParamBinder.of(getClass().getMethod("schema"));
+
+        List<Object> params = binder.bind(Arrays.asList(1, "100"));
+        Assert.assertEquals(1, params.get(0));
+        Assert.assertEquals(100L, params.get(1));
+        Assert.assertEquals(2, params.size());
+
+        params = binder.bind(Arrays.asList("2", 5, "NULSd6Hgf15aUZj6918tEwy9aT4JG1ZQotXRF", true));
+        Assert.assertEquals(2, params.get(0));
+        Assert.assertEquals(5L, params.get(1));
+        Assert.assertEquals(true, params.get(3));
+
+        assertParamError(binder, Arrays.asList(1), "Incorrect number of parameters");
+        assertParamError(binder, Arrays.asList("a", 1), "[chainId] is invalid");
+        assertParamError(binder, Arrays.asList(1, -1), "[height] is invalid");
+        assertParamError(binder, Arrays.asList(1, null), "[height] is required");
+        assertParamError(binder, Arrays.asList(1, 1, 3), "[address] is invalid");
+    }
+
+    private void assertParamError(RpcParamBinder binder, List<Object> params, String data) {
+        try {
+            binder.bind(params);
+            Assert.fail();
+        } catch (JsonRpcException e) {
+            Assert.assertEquals(data, e.getError().getData());
+        }
+    }
+}
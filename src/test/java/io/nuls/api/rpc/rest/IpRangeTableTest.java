@@ -0,0 +1,62 @@
+package io.nuls.api.rpc.rest;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+public class IpRangeTableTest {
+
+    @Test
+    public void testDefaultTable() throws Exception {
+        IpRangeTable table;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                getClass().getResourceAsStream("/ip/china-ip.txt"), StandardCharsets.UTF_8))) {
+            table = IpRangeTable.load(reader);
+        }
+        Assert.assertTrue(table.contains("1.0.1.0"));
+        Assert.assertTrue(table.contains("1.0.3.255"));
+        Assert.assertTrue(table.contains("223.255.253.255"));
+        Assert.assertTrue(table.contains("::ffff:1.0.2.3"));
+        Assert.assertFalse(table.contains("1.0.4.0"));
+        Assert.assertFalse(table.contains("8.8.8.8"));
+        Assert.assertFalse(table.contains("255.255.255.255"));
+        Assert.assertFalse(table.contains("1.0.1"));
+        Assert.assertFalse(table.contains("1.0.1.256"));
+        Assert.assertFalse(table.contains(""));
+        Assert.assertFalse(table.contains(null));
+    }
+
+    @Test
+    public void testMergeAndIpv6() throws Exception {
+        IpRangeTable table = IpRangeTable.load(new BufferedReader(new StringReader(
+                "#注释\n10.0.0.0/8\n10.1.0.0\t11.0.0.5\t9\n240e::/20\n2001:db8::1 2001:db8::ff\n2001:db8::100 2001:db8::1ff\n")));
+        Assert.assertEquals(1, table.getIpv4RangeCount());
+        Assert.assertEquals(2, table.getIpv6RangeCount());
+        Assert.assertTrue(table.contains("11.0.0.5"));
+        Assert.assertFalse(table.contains("11.0.0.6"));
+        Assert.assertTrue(table.contains("240e:fff:ffff::"));
+        Assert.assertTrue(table.contains("[2001:DB8::150]"));
+        Assert.assertTrue(table.contains("2001:db8::1ff%eth0"));
+        Assert.assertFalse(table.contains("240f::"));
+        Assert.assertFalse(table.contains("2001:db8::200"));
+        Assert.assertFalse(table.contains("1::2::3"));
+        Assert.assertFalse(table.contains("1:2:3:4:5:6:7:8:9"));
+    }
+
+    @Test
+    public void testParse() {
+        Assert.assertEquals(0xC0A80101L, IpRangeTable.parseIpv4("192.168.1.1", 0, 11));
+        Assert.assertEquals(-1, IpRangeTable.parseIpv4("192.168.1.", 0, 10));
+        long[] address = new long[2];
+        Assert.assertTrue(IpRangeTable.parseIpv6("1:2:3:4:5:6:1.2.3.4", address));
+        Assert.assertEquals(0x0001000200030004L, address[0]);
+        Assert.assertEquals(0x0005000601020304L, address[1]);
+        Assert.assertTrue(IpRangeTable.parseIpv6("::", address));
+        Assert.assertEquals(0, address[0]);
+        Assert.assertEquals(0, address[1]);
+    }
+}
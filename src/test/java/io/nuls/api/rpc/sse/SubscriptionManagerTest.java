@@ -0,0 +1,131 @@
+package io.nuls.api.rpc.sse;
+
+import org.glassfish.grizzly.WriteHandler;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+public class SubscriptionManagerTest {
+
+    private static final String ADDRESS = "tNULSeBaMrbMRiFAUeeAt6swb4xVBNyi81YL24";
+
+    private static final String CONTRACT = "tNULSeBaN32a2hucBY1zPSDdmR93s9dFhKDq4s";
+
+    @Test
+    public void testSlowSubscriberDisconnected() throws Exception {
+        //连接一直不可写，事件留在缓冲区
+        TestSubscriber slow = new TestSubscriber(false, Collections.singleton(ADDRESS), Collections.emptySet(), 2);
+        TestSubscriber fast = new TestSubscriber(true, Collections.emptySet(), Collections.emptySet(), 16);
+        int count = SubscriptionManager.getSubscriberCount();
+        Assert.assertTrue(SubscriptionManager.subscribe(slow));
+        Assert.assertTrue(SubscriptionManager.subscribe(fast));
+        Assert.assertTrue(SubscriptionManager.hasAddressSubscriber(ADDRESS));
+
+        //": subscribed"加上第一个事件填满缓冲区，第二个事件放不下时断开
+        SubscriptionManager.publishRollback(2, 100, "hash100");
+        Assert.assertFalse(slow.isClosed());
+        SubscriptionManager.publishRollback(2, 99, "hash99");
+        Assert.assertTrue(slow.isClosed());
+        Assert.assertFalse(SubscriptionManager.hasAddressSubscriber(ADDRESS));
+
+        waitFor(() -> slow.resumed);
+        Assert.assertEquals("", slow.writer.toString());
+        //其它订阅者不受影响
+        waitFor(() -> fast.writer.toString().contains("hash99"));
+        Assert.assertFalse(fast.isClosed());
+        Assert.assertEquals(count + 1, SubscriptionManager.getSubscriberCount());
+
+        SubscriptionManager.disconnect(fast);
+        waitFor(() -> fast.resumed);
+        Assert.assertEquals(count, SubscriptionManager.getSubscriberCount());
+    }
+
+    @Test
+    public void testDisconnectRemovesIndex() throws Exception {
+        TestSubscriber subscriber = new TestSubscriber(true, Collections.singleton(ADDRESS), Collections.singleton(CONTRACT), 16);
+        int count = SubscriptionManager.getSubscriberCount();
+        Assert.assertTrue(SubscriptionManager.subscribe(subscriber));
+        waitFor(() -> subscriber.writer.toString().contains(": subscribed"));
+        Assert.assertTrue(SubscriptionManager.hasAddressSubscriber(ADDRESS));
+        Assert.assertTrue(SubscriptionManager.hasContractSubscriber(CONTRACT));
+        Assert.assertEquals(count + 1, SubscriptionManager.getSubscriberCount());
+
+        //断开后立即不再持有订阅者
+        SubscriptionManager.disconnect(subscriber);
+        Assert.assertFalse(SubscriptionManager.hasAddressSubscriber(ADDRESS));
+        Assert.assertFalse(SubscriptionManager.hasContractSubscriber(CONTRACT));
+        Assert.assertEquals(count, SubscriptionManager.getSubscriberCount());
+        waitFor(() -> subscriber.resumed);
+        //重复清理不会多减订阅数
+        SubscriptionManager.unsubscribe(subscriber);
+        Assert.assertEquals(count, SubscriptionManager.getSubscriberCount());
+    }
+
+    @Test
+    public void testResumeWhenWritable() throws Exception {
+        TestSubscriber subscriber = new TestSubscriber(false, Collections.emptySet(), Collections.singleton(CONTRACT), 16);
+        Assert.assertTrue(SubscriptionManager.subscribe(subscriber));
+        waitFor(() -> subscriber.handler != null);
+        Assert.assertEquals("", subscriber.writer.toString());
+
+        subscriber.writable = true;
+        subscriber.handler.onWritePossible();
+        waitFor(() -> subscriber.writer.toString().contains(": subscribed"));
+
+        SubscriptionManager.disconnect(subscriber);
+        waitFor(() -> subscriber.resumed);
+        Assert.assertFalse(SubscriptionManager.hasContractSubscriber(CONTRACT));
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            Assert.assertTrue(System.currentTimeMillis() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * 写入内存的订阅者，可以控制连接是否可写
+     */
+    private static class TestSubscriber extends SseSubscriber {
+
+        private final StringWriter writer = new StringWriter();
+
+        private volatile boolean writable;
+
+        private volatile WriteHandler handler;
+
+        private volatile boolean resumed;
+
+        TestSubscriber(boolean writable, Set<String> addresses, Set<String> contracts, int bufferSize) {
+            super(null, true, addresses, contracts, bufferSize);
+            this.writable = writable;
+        }
+
+        @Override
+        Writer getWriter() {
+            return writer;
+        }
+
+        @Override
+        boolean canWrite() {
+            return writable;
+        }
+
+        @Override
+        void notifyCanWrite(WriteHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        void resumeResponse() {
+            resumed = true;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package io.nuls.api.test;
+
+import io.nuls.api.model.po.AccountInfo;
+import io.nuls.api.utils.DocumentTransferTool;
+import org.bson.Document;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 比较原来反射实现的DocumentTransferTool和DocumentCodec，分别测试toDocument和toInfo
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DocumentCodecBenchmark {
+
+    private AccountInfo accountInfo;
+
+    private Document document;
+
+    @Setup
+    public void setup() {
+        accountInfo = DocumentCodecTest.newAccountInfo();
+        document = DocumentTransferTool.toDocument(accountInfo, "address");
+    }
+
+    @Benchmark
+    public Document reflectionToDocument() {
+        return DocumentCodecTest.legacyToDocument(accountInfo, "address");
+    }
+
+    @Benchmark
+    public Document codecToDocument() {
+        return DocumentTransferTool.toDocument(accountInfo, "address");
+    }
+
+    @Benchmark
+    public AccountInfo reflectionToInfo() {
+        return DocumentCodecTest.legacyToInfo(document, "address", AccountInfo.class);
+    }
+
+    @Benchmark
+    public AccountInfo codecToInfo() {
+        return DocumentTransferTool.toInfo(document, "address", AccountInfo.class);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(DocumentCodecBenchmark.class.getSimpleName()).build()).run();
+    }
+}
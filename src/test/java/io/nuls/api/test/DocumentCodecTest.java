@@ -0,0 +1,116 @@
+package io.nuls.api.test;
+
+import io.nuls.api.model.po.AccountInfo;
+import io.nuls.api.model.po.AccountLedgerInfo;
+import io.nuls.api.utils.DocumentTransferTool;
+import org.bson.Document;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * DocumentCodec和原来反射实现的兼容性测试，两者的耗时对比见DocumentCodecBenchmark
+ */
+public class DocumentCodecTest {
+
+    @Test
+    public void testToDocumentCompatible() {
+        AccountInfo accountInfo = newAccountInfo();
+        Assert.assertEquals(legacyToDocument(accountInfo, "address"), DocumentTransferTool.toDocument(accountInfo, "address"));
+        Assert.assertEquals(new ArrayList<>(legacyToDocument(accountInfo, "address").keySet()),
+                new ArrayList<>(DocumentTransferTool.toDocument(accountInfo, "address").keySet()));
+
+        AccountLedgerInfo ledgerInfo = new AccountLedgerInfo("tNULSeBaMrbMRiFAUeeAt6swb4xVBNyi81YL24", 2, 1);
+        Assert.assertEquals(legacyToDocument(ledgerInfo, "key"), DocumentTransferTool.toDocument(ledgerInfo, "key"));
+        Assert.assertEquals(legacyToDocument(ledgerInfo, null), DocumentTransferTool.toDocument(ledgerInfo));
+    }
+
+    @Test
+    public void testToInfoCompatible() {
+        AccountInfo accountInfo = newAccountInfo();
+        Document document = DocumentTransferTool.toDocument(accountInfo, "address");
+        AccountInfo info = DocumentTransferTool.toInfo(document, "address", AccountInfo.class);
+        Assert.assertEquals(legacyToDocument(legacyToInfo(document, "address", AccountInfo.class), "address"),
+                DocumentTransferTool.toDocument(info, "address"));
+        Assert.assertFalse(info.isNew());
+    }
+
+    static AccountInfo newAccountInfo() {
+        AccountInfo accountInfo = new AccountInfo("tNULSeBaMrbMRiFAUeeAt6swb4xVBNyi81YL24");
+        accountInfo.setAlias("alias");
+        accountInfo.setTxCount(12);
+        accountInfo.setTotalIn(BigInteger.valueOf(1000000000L));
+        accountInfo.setTotalOut(BigInteger.valueOf(200000000L));
+        accountInfo.setBalance(BigInteger.valueOf(800000000L));
+        accountInfo.setTotalBalance(BigInteger.valueOf(800000000L));
+        accountInfo.setTotalReward(null);
+        accountInfo.getTokens().add("tNULSeBaN32a2hucBY1zPSDdmR93s9dFhKDq4s,NSWAP");
+        accountInfo.setNew(true);
+        return accountInfo;
+    }
+
+    /**
+     * 原来DocumentTransferTool.toDocument的反射实现
+     */
+    static Document legacyToDocument(Object obj, String _id) {
+        Field[] fields = obj.getClass().getDeclaredFields();
+        Document document = new Document();
+        try {
+            for (Field field : fields) {
+                field.setAccessible(true);
+                if ("isNew".equals(field.getName())) {
+                    continue;
+                }
+                if ("java.math.BigInteger".equals(field.getType().getName())) {
+                    BigInteger value = (BigInteger) field.get(obj);
+                    if (value == null) {
+                        value = BigInteger.ZERO;
+                    }
+                    document.append(field.getName(), value.toString());
+                } else if (field.getName().equals(_id)) {
+                    document.append("_id", field.get(obj));
+                } else {
+                    document.append(field.getName(), field.get(obj));
+                }
+            }
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+        return document;
+    }
+
+    /**
+     * 原来DocumentTransferTool.toInfo的反射实现
+     */
+    static <T> T legacyToInfo(Document document, String _id, Class<T> clazz) {
+        try {
+            T instance = clazz.getDeclaredConstructor().newInstance();
+            Field[] fields = clazz.getDeclaredFields();
+            for (Field field : fields) {
+                field.setAccessible(true);
+                if ("isNew".equals(field.getName())) {
+                    continue;
+                }
+                if (_id.equals(field.getName())) {
+                    field.set(instance, document.get("_id"));
+                } else if (!document.containsKey(field.getName())) {
+                    continue;
+                } else if (field.getType().getName().equals("java.math.BigInteger")) {
+                    field.set(instance, new BigInteger(document.get(field.getName()).toString()));
+                } else if (field.getType().getName().equals("java.util.Set")) {
+                    field.set(instance, new HashSet((List) document.get(field.getName())));
+                } else {
+                    field.set(instance, document.get(field.getName()));
+                }
+            }
+            return instance;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}